@@ -47,7 +47,7 @@ dependencies {
 
 @Suppress("UnstableApiUsage")
 val codeCoverageReport by reporting.reports.creating(JacocoCoverageReport::class) {
-    testType.set(TestSuiteType.UNIT_TEST)
+    // testType.set(TestSuiteType.UNIT_TEST)
 }
 
 tasks.check {
@@ -40,6 +40,7 @@ dependencies {
     testImplementation(versionCatalog["junit.jupiter.params"])
     testImplementation(versionCatalog["mockk"])
     testRuntimeOnly(versionCatalog["junit.jupiter.engine"])
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher:1.10.2")
 }
 
 tasks.register<Test>("testsOn18") {
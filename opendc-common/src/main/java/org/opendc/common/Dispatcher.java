@@ -60,4 +60,23 @@ public interface Dispatcher {
      * @return A {@link DispatcherHandle} representing pending completion of the task.
      */
     DispatcherHandle scheduleCancellable(long delayMs, Runnable command);
+
+    /**
+     * Return the time (in milliseconds since epoch) at which the earliest pending task of this dispatcher is scheduled
+     * to run, or {@link Long#MAX_VALUE} if no task is pending.
+     * <p>
+     * Dispatchers that cannot inspect their pending tasks return the current time, indicating that a task may run at
+     * any moment.
+     */
+    default long getNextDeadline() {
+        return getTimeSource().millis();
+    }
+
+    /**
+     * Return the number of tasks this dispatcher has run so far, or <code>-1</code> if the dispatcher does not keep
+     * track of the tasks it runs.
+     */
+    default long getExecutedTaskCount() {
+        return -1;
+    }
 }
@@ -36,4 +36,6 @@ dependencies {
 
     api(libs.commons.math3)
     implementation(libs.kotlin.logging)
+
+    testImplementation(projects.opendcSimulator.opendcSimulatorCore)
 }
@@ -36,25 +36,12 @@ public class StartStopHostFault(
         victims: List<SimHost>,
         faultDuration: Long,
     ) {
-        val client: ComputeService.ComputeClient = service.newClient()
-
-        for (host in victims) {
-            val guests = host.getGuests()
-
-            val snapshots = guests.map { it.virtualMachine!!.snapshot }
-            val tasks = guests.map { it.task }
-            host.fail()
-
-            for ((task, snapshot) in tasks.zip(snapshots)) {
-                client.rescheduleTask(task, snapshot)
-            }
-        }
+        // Detach the guests of all victims at once and reschedule their tasks as a single batch
+        service.failHosts(victims)
 
         delay(faultDuration)
 
-        for (host in victims) {
-            host.recover()
-        }
+        service.recoverHosts(victims)
     }
 
     override fun toString(): String = "StartStopHostFault"
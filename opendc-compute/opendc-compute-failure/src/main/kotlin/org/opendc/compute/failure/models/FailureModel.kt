@@ -54,6 +54,11 @@ public abstract class FailureModel(
 
     protected val hosts: Set<SimHost> = service.hosts.map { it as SimHost }.toSet()
 
+    /**
+     * The hosts of the service ordered by name, such that victims can be selected by index reproducibly.
+     */
+    protected val indexedHosts: Array<SimHost> = hosts.sortedBy { it.getName() }.toTypedArray()
+
     /**
      * The [Job] that awaits the nearest fault in the system.
      */
@@ -62,7 +67,7 @@ public abstract class FailureModel(
     /**
      * Start the fault injection into the system.
      */
-    public fun start() {
+    public open fun start() {
         if (job != null) {
             return
         }
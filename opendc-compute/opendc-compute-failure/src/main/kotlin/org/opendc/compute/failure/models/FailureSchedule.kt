@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.failure.models
+
+import java.io.File
+
+/**
+ * A precomputed schedule of failures, stored as primitive arrays.
+ *
+ * Failure `i` starts [startTimes]`[i]` milliseconds after the injection is started, lasts [durations]`[i]`
+ * milliseconds, and hits the hosts with the indices `victimIndices[victimOffsets[i] until victimOffsets[i + 1]]`.
+ * Host indices refer to the hosts of the compute service ordered by name, so that a schedule can be reused across
+ * scenarios with the same topology.
+ *
+ * @property startTimes The start time of each failure relative to the start of the injection (in milliseconds).
+ * @property durations The duration of each failure (in milliseconds).
+ * @property victimOffsets The offsets into [victimIndices] at which the victims of each failure start.
+ * @property victimIndices The indices of the victims of all failures, concatenated.
+ */
+public class FailureSchedule(
+    public val startTimes: LongArray,
+    public val durations: LongArray,
+    public val victimOffsets: IntArray,
+    public val victimIndices: IntArray,
+) {
+    init {
+        require(startTimes.size == durations.size) { "Every failure needs both a start time and a duration" }
+        require(victimOffsets.size == startTimes.size + 1) { "Victim offsets must contain one entry per failure plus one" }
+        require(victimOffsets.last() == victimIndices.size) { "Victim offsets do not match the number of victims" }
+    }
+
+    /**
+     * The number of failures in the schedule.
+     */
+    public val size: Int
+        get() = startTimes.size
+
+    /**
+     * Return the number of victims of failure [index].
+     */
+    public fun victimCount(index: Int): Int {
+        return victimOffsets[index + 1] - victimOffsets[index]
+    }
+
+    /**
+     * Return the host index of the [victim]-th victim of failure [index].
+     */
+    public fun victimIndex(
+        index: Int,
+        victim: Int,
+    ): Int {
+        return victimIndices[victimOffsets[index] + victim]
+    }
+
+    /**
+     * Export the schedule to [file] in a plain-text format that can be read back using [read].
+     *
+     * Every line describes a single failure as `start,duration,victim victim ...`.
+     */
+    public fun write(file: File) {
+        file.absoluteFile.parentFile?.mkdirs()
+        file.bufferedWriter().use { writer ->
+            writer.write(HEADER)
+            writer.newLine()
+
+            for (i in 0 until size) {
+                writer.write(startTimes[i].toString())
+                writer.write(",")
+                writer.write(durations[i].toString())
+                writer.write(",")
+                for (j in victimOffsets[i] until victimOffsets[i + 1]) {
+                    if (j > victimOffsets[i]) {
+                        writer.write(" ")
+                    }
+                    writer.write(victimIndices[j].toString())
+                }
+                writer.newLine()
+            }
+        }
+    }
+
+    override fun equals(other: Any?): Boolean {
+        return other is FailureSchedule &&
+            startTimes.contentEquals(other.startTimes) &&
+            durations.contentEquals(other.durations) &&
+            victimOffsets.contentEquals(other.victimOffsets) &&
+            victimIndices.contentEquals(other.victimIndices)
+    }
+
+    override fun hashCode(): Int {
+        var result = startTimes.contentHashCode()
+        result = 31 * result + durations.contentHashCode()
+        result = 31 * result + victimOffsets.contentHashCode()
+        result = 31 * result + victimIndices.contentHashCode()
+        return result
+    }
+
+    override fun toString(): String = "FailureSchedule[failures=$size,victims=${victimIndices.size}]"
+
+    /**
+     * Helper class to incrementally construct a [FailureSchedule] without boxing.
+     */
+    public class Builder {
+        private var startTimes = LongArray(16)
+        private var durations = LongArray(16)
+        private var victimOffsets = IntArray(17)
+        private var victimIndices = IntArray(64)
+        private var size = 0
+
+        /**
+         * The number of failures added to the builder.
+         */
+        public val count: Int
+            get() = size
+
+        /**
+         * Add a failure at [startTime] lasting [duration] milliseconds that hits the first [victimCount] hosts of
+         * [victims].
+         */
+        public fun add(
+            startTime: Long,
+            duration: Long,
+            victims: IntArray,
+            victimCount: Int = victims.size,
+        ): Builder {
+            if (size == startTimes.size) {
+                val newCapacity = size + (size shr 1)
+                startTimes = startTimes.copyOf(newCapacity)
+                durations = durations.copyOf(newCapacity)
+                victimOffsets = victimOffsets.copyOf(newCapacity + 1)
+            }
+
+            val offset = victimOffsets[size]
+            if (offset + victimCount > victimIndices.size) {
+                victimIndices = victimIndices.copyOf(maxOf(offset + victimCount, victimIndices.size * 2))
+            }
+
+            System.arraycopy(victims, 0, victimIndices, offset, victimCount)
+
+            startTimes[size] = startTime
+            durations[size] = duration
+            victimOffsets[size + 1] = offset + victimCount
+            size++
+
+            return this
+        }
+
+        /**
+         * Construct the [FailureSchedule].
+         */
+        public fun build(): FailureSchedule {
+            return FailureSchedule(
+                startTimes.copyOf(size),
+                durations.copyOf(size),
+                victimOffsets.copyOf(size + 1),
+                victimIndices.copyOf(victimOffsets[size]),
+            )
+        }
+    }
+
+    public companion object {
+        private const val HEADER = "# start_time_ms,duration_ms,victim_indices"
+
+        /**
+         * Read a [FailureSchedule] that was exported using [write] from [file].
+         */
+        @JvmStatic
+        public fun read(file: File): FailureSchedule {
+            val builder = Builder()
+            var victims = IntArray(16)
+
+            file.bufferedReader().useLines { lines ->
+                for (line in lines) {
+                    if (line.isBlank() || line.startsWith("#")) {
+                        continue
+                    }
+
+                    val parts = line.split(',', limit = 3)
+                    require(parts.size == 3) { "Invalid failure schedule entry: $line" }
+
+                    val indices = parts[2].trim()
+                    var count = 0
+                    if (indices.isNotEmpty()) {
+                        for (index in indices.split(' ')) {
+                            if (count == victims.size) {
+                                victims = victims.copyOf(count * 2)
+                            }
+                            victims[count++] = index.toInt()
+                        }
+                    }
+
+                    builder.add(parts[0].trim().toLong(), parts[1].trim().toLong(), victims, count)
+                }
+            }
+
+            return builder.build()
+        }
+
+        /**
+         * An empty [FailureSchedule].
+         */
+        @JvmStatic
+        public val EMPTY: FailureSchedule = FailureSchedule(LongArray(0), LongArray(0), IntArray(1), IntArray(0))
+    }
+}
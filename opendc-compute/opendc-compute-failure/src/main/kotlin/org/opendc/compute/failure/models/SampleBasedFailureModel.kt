@@ -65,7 +65,7 @@ public class SampleBasedFailureModel(
             delay(intervalDuration)
 
             val numberOfHosts = min(1.0, max(0.0, nohSampler.sample()))
-            val victims = victimSelector.select(hosts, numberOfHosts)
+            val victims = victimSelector.selectIndices(indexedHosts.size, numberOfHosts).map { indexedHosts[it] }
 
             val durationSample = max(0.0, durationSampler.sample())
             val faultDuration = (durationSample * 3.6e6).toLong()
@@ -74,4 +74,45 @@ public class SampleBasedFailureModel(
             break
         }
     }
+
+    /**
+     * Precompute the failures that occur within [horizon] milliseconds after the start of the injection.
+     *
+     * The distributions are sampled in the same order as [runInjector] does and victims are drawn as indices into the
+     * hosts of the service ordered by name (see [ScheduledFailureModel]), so by default the schedule contains exactly
+     * the failure that [runInjector] injects for the same seed. With a larger [maxFailures], the sampling continues
+     * after the first failure: the next failure is sampled from the moment the previous failure has been recovered.
+     *
+     * @param horizon The length of the schedule in milliseconds.
+     * @param maxFailures The maximum number of failures in the schedule.
+     */
+    public fun createSchedule(
+        horizon: Long,
+        maxFailures: Int = 1,
+    ): FailureSchedule {
+        val builder = FailureSchedule.Builder()
+        val hostCount = hosts.size
+        var time = 0L
+
+        while (builder.count < maxFailures) {
+            val iatSample = max(0.0, iatSampler.sample())
+            time += (iatSample * 3.6e6).roundToLong()
+
+            // Handle long overflow
+            if (time < 0 || time >= horizon) {
+                break
+            }
+
+            val numberOfHosts = min(1.0, max(0.0, nohSampler.sample()))
+            val victims = victimSelector.selectIndices(hostCount, numberOfHosts)
+
+            val durationSample = max(0.0, durationSampler.sample())
+            val faultDuration = (durationSample * 3.6e6).toLong()
+
+            builder.add(time, faultDuration, victims)
+            time += faultDuration
+        }
+
+        return builder.build()
+    }
 }
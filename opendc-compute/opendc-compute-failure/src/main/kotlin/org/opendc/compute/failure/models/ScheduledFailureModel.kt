@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.failure.models
+
+import org.opendc.common.Dispatcher
+import org.opendc.common.DispatcherHandle
+import org.opendc.common.DispatcherProvider
+import org.opendc.compute.simulator.host.SimHost
+import org.opendc.compute.simulator.service.ComputeService
+import java.time.InstantSource
+import java.util.random.RandomGenerator
+import kotlin.coroutines.ContinuationInterceptor
+import kotlin.coroutines.CoroutineContext
+
+/**
+ * A [FailureModel] that injects the failures of a precomputed [FailureSchedule].
+ *
+ * Instead of running a coroutine that samples and suspends between failures, every failure and recovery is scheduled
+ * as a timer on the simulation [Dispatcher]. Victims are looked up by their index in the hosts of the service ordered
+ * by name.
+ *
+ * @param schedule The schedule of failures to inject.
+ */
+public class ScheduledFailureModel(
+    context: CoroutineContext,
+    clock: InstantSource,
+    service: ComputeService,
+    random: RandomGenerator,
+    public val schedule: FailureSchedule,
+) : FailureModel(context, clock, service, random) {
+    private val dispatcher: Dispatcher =
+        (context[ContinuationInterceptor] as? DispatcherProvider)?.dispatcher
+            ?: throw IllegalArgumentException("A DispatcherProvider is required as the ContinuationInterceptor")
+
+    /**
+     * The index of the next failure to inject.
+     */
+    private var nextFailure = 0
+
+    /**
+     * The moment at which the injection was started.
+     */
+    private var startTime = Long.MIN_VALUE
+
+    /**
+     * The handle of the timer of the next failure.
+     */
+    private var failureHandle: DispatcherHandle? = null
+
+    /**
+     * The handles of the timers of the pending recoveries.
+     */
+    private val recoveryHandles = HashSet<DispatcherHandle>()
+
+    private var isClosed = false
+
+    init {
+        for (index in schedule.victimIndices) {
+            require(index in indexedHosts.indices) { "Victim index $index does not refer to a host of the service" }
+        }
+    }
+
+    override fun start() {
+        if (startTime != Long.MIN_VALUE || isClosed) {
+            return
+        }
+
+        startTime = clock.millis()
+        scheduleNextFailure()
+    }
+
+    /**
+     * Injection is driven by dispatcher timers, so there is no injector coroutine.
+     */
+    override suspend fun runInjector() {}
+
+    /**
+     * Schedule a timer for the next failure in the schedule.
+     */
+    private fun scheduleNextFailure() {
+        val index = nextFailure
+        if (index >= schedule.size) {
+            failureHandle = null
+            return
+        }
+
+        val delay = maxOf(0L, startTime + schedule.startTimes[index] - clock.millis())
+        failureHandle = dispatcher.scheduleCancellable(delay) { injectFailure(index) }
+    }
+
+    /**
+     * Inject failure [index] of the schedule and schedule its recovery.
+     */
+    private fun injectFailure(index: Int) {
+        nextFailure = index + 1
+
+        val victimCount = schedule.victimCount(index)
+        val victims = ArrayList<SimHost>(victimCount)
+        for (i in 0 until victimCount) {
+            victims.add(indexedHosts[schedule.victimIndex(index, i)])
+        }
+
+        service.failHosts(victims)
+
+        lateinit var handle: DispatcherHandle
+        handle =
+            dispatcher.scheduleCancellable(schedule.durations[index]) {
+                recoveryHandles.remove(handle)
+                service.recoverHosts(victims)
+            }
+        recoveryHandles.add(handle)
+
+        scheduleNextFailure()
+    }
+
+    override fun close() {
+        isClosed = true
+
+        failureHandle?.cancel()
+        failureHandle = null
+
+        for (handle in recoveryHandles) {
+            handle.cancel()
+        }
+        recoveryHandles.clear()
+
+        super.close()
+    }
+
+    override fun toString(): String = "ScheduledFailureModel[failures=${schedule.size}]"
+}
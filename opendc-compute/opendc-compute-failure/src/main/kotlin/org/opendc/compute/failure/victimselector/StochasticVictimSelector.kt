@@ -79,5 +79,42 @@ public class StochasticVictimSelector(
         return hosts.asSequence().shuffled().take(numberOfHosts).toList()
     }
 
+    /**
+     * The permutation of host indices used by [selectIndices]. It is kept between calls, so that a selection only
+     * costs as many swaps as there are victims.
+     */
+    private var permutation = IntArray(0)
+
+    /**
+     * Select the indices of the victims out of [hostCount] hosts, given the [failureIntensity].
+     *
+     * Unlike [select], this method does not shuffle a list of hosts, but draws the victims from the seeded random
+     * generator using a partial Fisher-Yates shuffle. The result is therefore reproducible for the same seed.
+     */
+    public fun selectIndices(
+        hostCount: Int,
+        failureIntensity: Double,
+    ): IntArray {
+        // clamp value between 0.0 and 1.0
+        val intensity = min(1.0, max(0.0, failureIntensity))
+        val numberOfHosts = (hostCount * intensity).roundToInt()
+
+        var permutation = permutation
+        if (permutation.size != hostCount) {
+            permutation = IntArray(hostCount) { it }
+            this.permutation = permutation
+        }
+
+        val random = random
+        for (i in 0 until numberOfHosts) {
+            val j = i + random.nextInt(hostCount - i)
+            val tmp = permutation[i]
+            permutation[i] = permutation[j]
+            permutation[j] = tmp
+        }
+
+        return permutation.copyOf(numberOfHosts)
+    }
+
     override fun toString(): String = "StochasticVictimSelector"
 }
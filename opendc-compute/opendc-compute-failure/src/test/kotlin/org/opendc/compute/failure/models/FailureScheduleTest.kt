@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.failure.models
+
+import io.mockk.every
+import io.mockk.mockk
+import kotlinx.coroutines.delay
+import org.apache.commons.math3.distribution.ExponentialDistribution
+import org.apache.commons.math3.distribution.UniformRealDistribution
+import org.apache.commons.math3.random.Well19937c
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNotEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import org.opendc.compute.simulator.host.SimHost
+import org.opendc.compute.simulator.service.ComputeService
+import org.opendc.simulator.kotlin.runSimulation
+import java.io.File
+import java.time.InstantSource
+import java.util.Random
+import kotlin.coroutines.CoroutineContext
+import kotlin.coroutines.EmptyCoroutineContext
+
+/**
+ * Test suite for the [FailureSchedule] class.
+ */
+class FailureScheduleTest {
+    /**
+     * The length of the schedules created by the tests: 30 days.
+     */
+    private val horizon = 30 * 24 * 3_600_000L
+
+    @Test
+    fun testCreateScheduleSingleFailureByDefault() {
+        val schedule = createModel(seed = 42).use { it.createSchedule(horizon) }
+
+        assertEquals(1, schedule.size)
+    }
+
+    @Test
+    fun testCreateScheduleMatchesInjector() =
+        runSimulation {
+            val service = createService()
+            val failures = mutableListOf<Pair<Long, List<SimHost>>>()
+            val recoveries = mutableListOf<Long>()
+            every { service.failHosts(any()) } answers {
+                failures.add(currentTime to firstArg<Collection<SimHost>>().toList())
+                0
+            }
+            every { service.recoverHosts(any()) } answers {
+                recoveries.add(currentTime)
+                Unit
+            }
+
+            val schedule = createModel(seed = 42, service).use { it.createSchedule(horizon) }
+
+            val model = createModel(seed = 42, service, coroutineContext, timeSource)
+            model.start()
+            delay(2 * horizon)
+            model.close()
+
+            val indexedHosts = service.hosts.sortedBy { it.getName() }
+            assertEquals(1, schedule.size)
+            assertEquals(listOf(schedule.startTimes[0]), failures.map { it.first })
+            assertEquals(listOf(schedule.startTimes[0] + schedule.durations[0]), recoveries)
+            assertEquals(
+                List(schedule.victimCount(0)) { indexedHosts[schedule.victimIndex(0, it)] },
+                failures[0].second,
+            )
+        }
+
+    @Test
+    fun testCreateScheduleSameSeed() {
+        val first = createSchedule(seed = 42)
+        val second = createSchedule(seed = 42)
+
+        assertTrue(first.size > 0) { "Schedule should contain failures" }
+        assertEquals(first, second)
+        assertEquals(first.hashCode(), second.hashCode())
+    }
+
+    @Test
+    fun testCreateScheduleDifferentSeed() {
+        assertNotEquals(createSchedule(seed = 42), createSchedule(seed = 43))
+    }
+
+    @Test
+    fun testCreateScheduleWithinHorizon() {
+        val schedule = createSchedule(seed = 42)
+
+        for (i in 0 until schedule.size) {
+            assertTrue(schedule.startTimes[i] in 0 until horizon) { "Failure $i starts outside of the horizon" }
+
+            for (victim in 0 until schedule.victimCount(i)) {
+                assertTrue(schedule.victimIndex(i, victim) in 0 until HOST_COUNT) { "Failure $i hits an unknown host" }
+            }
+        }
+    }
+
+    @Test
+    fun testWriteReadRoundtrip(
+        @TempDir dir: File,
+    ) {
+        val schedule = createSchedule(seed = 42)
+        val file = dir.resolve("schedule.csv")
+
+        schedule.write(file)
+
+        assertEquals(schedule, FailureSchedule.read(file))
+    }
+
+    @Test
+    fun testWriteReadRoundtripWithoutVictims(
+        @TempDir dir: File,
+    ) {
+        val schedule =
+            FailureSchedule.Builder()
+                .add(0, 1000, intArrayOf(2, 0))
+                .add(5000, 1000, intArrayOf())
+                .add(10000, 2000, intArrayOf(1))
+                .build()
+        val file = dir.resolve("schedule.csv")
+
+        schedule.write(file)
+
+        assertEquals(schedule, FailureSchedule.read(file))
+    }
+
+    @Test
+    fun testVictimOffsetsDistinguishSchedules() {
+        // Both schedules hit hosts 0 and 1, but assign them to different failures
+        val first =
+            FailureSchedule.Builder()
+                .add(0, 1000, intArrayOf(0, 1))
+                .add(5000, 1000, intArrayOf())
+                .build()
+        val second =
+            FailureSchedule.Builder()
+                .add(0, 1000, intArrayOf(0))
+                .add(5000, 1000, intArrayOf(1))
+                .build()
+
+        assertNotEquals(first, second)
+        assertNotEquals(first.hashCode(), second.hashCode())
+    }
+
+    /**
+     * Helper method to create a schedule of up to 100 failures of a [SampleBasedFailureModel] seeded with [seed].
+     */
+    private fun createSchedule(seed: Long): FailureSchedule {
+        return createModel(seed).use { it.createSchedule(horizon, maxFailures = 100) }
+    }
+
+    /**
+     * Helper method to create a [SampleBasedFailureModel] seeded with [seed].
+     */
+    private fun createModel(
+        seed: Long,
+        service: ComputeService = createService(),
+        context: CoroutineContext = EmptyCoroutineContext,
+        clock: InstantSource = mockk(),
+    ): SampleBasedFailureModel {
+        val rng = Well19937c(seed)
+        return SampleBasedFailureModel(
+            context,
+            clock,
+            service,
+            Random(seed),
+            ExponentialDistribution(rng, 24.0),
+            ExponentialDistribution(rng, 1.0),
+            UniformRealDistribution(rng, 0.0, 0.5),
+        )
+    }
+
+    /**
+     * Helper method to create a [ComputeService] with [HOST_COUNT] hosts, listed in a different order than their names.
+     */
+    private fun createService(): ComputeService {
+        val hosts =
+            List(HOST_COUNT) { i ->
+                val host = mockk<SimHost>()
+                every { host.getName() } returns "host-${HOST_COUNT - 1 - i}"
+                host
+            }
+
+        val service = mockk<ComputeService>()
+        every { service.hosts } returns LinkedHashSet(hosts)
+        return service
+    }
+
+    private companion object {
+        /**
+         * The number of hosts of the compute service.
+         */
+        const val HOST_COUNT = 10
+    }
+}
@@ -25,6 +25,7 @@ description = "Simulator for OpenDC Compute"
 // Build configuration
 plugins {
     `kotlin-library-conventions`
+    `benchmark-conventions`
     kotlin("plugin.serialization") version "1.9.22"
 }
 
@@ -46,4 +47,11 @@ dependencies {
     testImplementation(projects.opendcSimulator.opendcSimulatorCore)
     testRuntimeOnly(libs.slf4j.simple)
     testRuntimeOnly(libs.log4j.slf4j)
+
+    jmhImplementation(projects.opendcSimulator.opendcSimulatorCore)
+}
+
+// Allow the benchmarks to access internal declarations such as the constructor of SchedulingRequest
+kotlin.target.compilations.named("jmh") {
+    associateWith(kotlin.target.compilations.getByName("main"))
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator
+
+import org.opendc.compute.simulator.host.SimHost
+import org.opendc.compute.simulator.service.ComputeService
+import org.opendc.compute.simulator.service.ServiceTask
+import org.opendc.compute.simulator.service.TaskNature
+import org.opendc.simulator.compute.models.CpuModel
+import org.opendc.simulator.compute.models.MachineModel
+import org.opendc.simulator.compute.models.MemoryUnit
+import org.opendc.simulator.compute.power.PowerModels
+import org.opendc.simulator.compute.power.SimPowerSource
+import org.opendc.simulator.compute.workload.trace.TraceWorkload
+import org.opendc.simulator.compute.workload.trace.scaling.NoDelayScaling
+import org.opendc.simulator.engine.engine.FlowEngine
+import org.opendc.simulator.engine.graph.FlowEdge
+import org.opendc.simulator.engine.graph.distributionPolicies.FlowDistributorFactory
+import org.opendc.simulator.engine.graph.distributionPolicies.FlowDistributorFactory.DistributionPolicy
+import java.time.Duration
+import java.time.InstantSource
+import java.util.SplittableRandom
+
+/**
+ * Create [count] heterogeneous [SimHost]s that share a single power source.
+ *
+ * The hosts are created with lazy machines, so idle hosts only cost a power draw on the flow graph.
+ */
+internal fun createSyntheticHosts(
+    engine: FlowEngine,
+    clock: InstantSource,
+    count: Int,
+    seed: Long = 0,
+): List<SimHost> {
+    val random = SplittableRandom(seed)
+    val powerSource = SimPowerSource(engine, Double.MAX_VALUE, "power-source", "cluster")
+    val powerDistributor = FlowDistributorFactory.getFlowDistributor(engine, DistributionPolicy.MAX_MIN_FAIRNESS)
+    FlowEdge(powerDistributor, powerSource)
+
+    return List(count) { i ->
+        val coreCount = 8 shl random.nextInt(4)
+        val memorySize = 32_000L shl random.nextInt(4)
+        val model =
+            MachineModel(
+                CpuModel(0, coreCount, 3200.0),
+                MemoryUnit("Generic", "Generic", 3200.0, memorySize),
+                null,
+                DistributionPolicy.MAX_MIN_FAIRNESS,
+                DistributionPolicy.MAX_MIN_FAIRNESS,
+            )
+
+        SimHost(
+            "host-$i",
+            "cluster",
+            clock,
+            engine,
+            model,
+            PowerModels.linear(350.0, 200.0),
+            null,
+            1000.0,
+            5.0,
+            powerDistributor,
+            lazyMachine = true,
+        )
+    }
+}
+
+/**
+ * Submit [count] tasks with random shapes to the specified [service].
+ *
+ * The tasks are only queued, since the dispatcher of the service is never advanced.
+ */
+internal fun submitSyntheticTasks(
+    service: ComputeService,
+    count: Int,
+    seed: Long = 0,
+): List<ServiceTask> {
+    val random = SplittableRandom(seed)
+    val client = service.newClient()
+
+    return List(count) { i ->
+        val cpuCount = 1 shl random.nextInt(4)
+        val memorySize = 2_000L shl random.nextInt(4)
+        val duration = random.nextLong(60_000, 3_600_000)
+
+        val workload =
+            TraceWorkload.builder(0L, 0L, 1.0, NoDelayScaling(), "task-$i")
+                .apply { add(duration, cpuCount * 1600.0, cpuCount, 0.0, 0, 0L) }
+                .build()
+        val flavor = client.newFlavor("flavor-$i", cpuCount, memorySize, 0, emptySet(), emptySet(), emptyMap<String, Any>())
+
+        client.newTask(
+            "task-$i",
+            TaskNature(false),
+            Duration.ofMillis(duration),
+            Long.MAX_VALUE,
+            flavor,
+            workload,
+            emptyMap<String, Any>(),
+        )
+    }
+}
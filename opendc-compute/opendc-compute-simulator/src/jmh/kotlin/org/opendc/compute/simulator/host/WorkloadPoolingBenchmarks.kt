@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.host
+
+import org.opendc.simulator.SimulationDispatcher
+import org.opendc.simulator.compute.machine.SimMachine
+import org.opendc.simulator.compute.models.CpuModel
+import org.opendc.simulator.compute.models.MachineModel
+import org.opendc.simulator.compute.models.MemoryUnit
+import org.opendc.simulator.compute.power.PowerModels
+import org.opendc.simulator.compute.power.SimPowerSource
+import org.opendc.simulator.compute.workload.ChainWorkload
+import org.opendc.simulator.compute.workload.VirtualMachine
+import org.opendc.simulator.compute.workload.Workload
+import org.opendc.simulator.compute.workload.trace.TraceWorkload
+import org.opendc.simulator.compute.workload.trace.scaling.NoDelayScaling
+import org.opendc.simulator.engine.engine.FlowEngine
+import org.opendc.simulator.engine.graph.FlowEdge
+import org.opendc.simulator.engine.graph.distributionPolicies.FlowDistributorFactory
+import org.opendc.simulator.engine.graph.distributionPolicies.FlowDistributorFactory.DistributionPolicy
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmark suite for a high-churn workload of many short tasks on a single [SimMachine], with and without recycling
+ * the flow graph objects of finished tasks.
+ *
+ * Run with `-prof gc` to compare the allocation rate (`gc.alloc.rate.norm`) of both modes.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+class WorkloadPoolingBenchmarks {
+    @Param("false", "true")
+    private var poolWorkloads: Boolean = false
+
+    private lateinit var dispatcher: SimulationDispatcher
+    private lateinit var machine: SimMachine
+    private lateinit var tasks: Array<ChainWorkload>
+    private lateinit var vms: Array<VirtualMachine?>
+
+    @Setup
+    fun setUp() {
+        dispatcher = SimulationDispatcher()
+        val engine = FlowEngine.create(dispatcher)
+
+        val powerSource = SimPowerSource(engine, Double.MAX_VALUE, "power-source", "cluster")
+        val powerDistributor = FlowDistributorFactory.getFlowDistributor(engine, DistributionPolicy.MAX_MIN_FAIRNESS)
+        FlowEdge(powerDistributor, powerSource)
+
+        val model =
+            MachineModel(
+                CpuModel(0, 64, 3200.0),
+                MemoryUnit("Generic", "Generic", 3200.0, 256_000L),
+                null,
+                DistributionPolicy.MAX_MIN_FAIRNESS,
+                DistributionPolicy.MAX_MIN_FAIRNESS,
+            )
+        machine = SimMachine(engine, model, powerDistributor, PowerModels.linear(350.0, 200.0), null, {}, poolWorkloads)
+
+        tasks =
+            Array(64) { i ->
+                val trace =
+                    TraceWorkload.builder(0L, 0L, 1.0, NoDelayScaling(), "task-$i")
+                        .apply { add(60_000L + i * 1000L, 1600.0, 1, 0.0, 0, 0L) }
+                        .build()
+                ChainWorkload(arrayListOf<Workload>(trace), 0L, 0L, 1.0)
+            }
+        vms = arrayOfNulls(tasks.size)
+    }
+
+    /**
+     * Start a batch of short tasks, run them to completion and release their virtual machines.
+     */
+    @Benchmark
+    fun benchmarkTaskChurn(): Long {
+        val machine = machine
+        val vms = vms
+
+        for (i in tasks.indices) {
+            vms[i] = machine.startWorkload(tasks[i]) {}
+        }
+
+        dispatcher.advanceUntilIdle()
+
+        for (i in vms.indices) {
+            machine.releaseWorkload(vms[i]!!)
+            vms[i] = null
+        }
+
+        return dispatcher.currentTime
+    }
+}
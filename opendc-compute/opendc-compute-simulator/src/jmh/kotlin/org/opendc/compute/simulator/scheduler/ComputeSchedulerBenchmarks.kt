@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.scheduler
+
+import org.opendc.compute.simulator.createSyntheticHosts
+import org.opendc.compute.simulator.service.ComputeService
+import org.opendc.compute.simulator.service.HostView
+import org.opendc.compute.simulator.submitSyntheticTasks
+import org.opendc.simulator.SimulationDispatcher
+import org.opendc.simulator.engine.engine.FlowEngine
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import java.time.Duration
+import java.util.SplittableRandom
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmark suite for the placement decision of each prefab [ComputeScheduler].
+ *
+ * Every invocation selects a host for a single request and then releases the placement again through
+ * [ComputeScheduler.removeTask], so the state of the scheduler does not drift between invocations.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+class ComputeSchedulerBenchmarks {
+    @Param("1000", "10000", "100000")
+    private var hosts: Int = 0
+
+    @Param
+    private var scheduler: ComputeSchedulerEnum = ComputeSchedulerEnum.Mem
+
+    private lateinit var computeScheduler: ComputeScheduler
+    private lateinit var requests: Array<SchedulingRequest>
+    private var next = 0
+
+    @Setup
+    fun setUp() {
+        val dispatcher = SimulationDispatcher()
+        val engine = FlowEngine.create(dispatcher)
+
+        computeScheduler = createPrefabComputeScheduler(scheduler, SplittableRandom(0), dispatcher.timeSource)
+        for (host in createSyntheticHosts(engine, dispatcher.timeSource, hosts)) {
+            computeScheduler.addHost(HostView(host))
+        }
+
+        val service = ComputeService(dispatcher, computeScheduler, Duration.ofMinutes(5), 10)
+        requests = submitSyntheticTasks(service, 1024).map { SchedulingRequest(it, 0L) }.toTypedArray()
+    }
+
+    @Benchmark
+    fun benchmarkSelect(): SchedulingResult {
+        val request = requests[next++ and (requests.size - 1)]
+        request.timesSkipped = 0
+
+        val result = computeScheduler.select(mutableListOf(request).iterator())
+        computeScheduler.removeTask(request.task, result.host)
+        return result
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.scheduler
+
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import java.util.SplittableRandom
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmark suite comparing the subset selection of the weighted schedulers, which used to sort all candidates by
+ * weight, with the partial selection of [TopK].
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+class SubsetSelectionBenchmarks {
+    @Param("1000", "100000")
+    private var candidates: Int = 0
+
+    @Param("1", "16", "1024")
+    private var subsetSize: Int = 0
+
+    private lateinit var weights: DoubleArray
+    private lateinit var positions: IntArray
+
+    @Setup
+    fun setUp() {
+        val random = SplittableRandom(0)
+        weights = DoubleArray(candidates) { random.nextInt(100).toDouble() }
+        positions = IntArray(candidates)
+    }
+
+    @Benchmark
+    fun benchmarkSort(): Int {
+        val weights = weights
+        return weights.indices
+            .asSequence()
+            .sortedByDescending { weights[it] }
+            .take(subsetSize)
+            .toList()
+            .last()
+    }
+
+    @Benchmark
+    fun benchmarkTopK(): Int {
+        val positions = positions
+        for (i in positions.indices) {
+            positions[i] = i
+        }
+        return TopK.indexOfRank(weights, positions, 0, candidates, minOf(subsetSize, candidates) - 1)
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.telemetry.parquet
+
+import org.opendc.compute.simulator.createSyntheticHosts
+import org.opendc.compute.simulator.scheduler.FilterScheduler
+import org.opendc.compute.simulator.service.ComputeService
+import org.opendc.compute.simulator.submitSyntheticTasks
+import org.opendc.compute.simulator.telemetry.OutputFiles
+import org.opendc.compute.simulator.telemetry.table.host.HostTableReader
+import org.opendc.compute.simulator.telemetry.table.host.HostTableReaderImpl
+import org.opendc.compute.simulator.telemetry.table.task.TaskTableReader
+import org.opendc.compute.simulator.telemetry.table.task.TaskTableReaderImpl
+import org.opendc.simulator.SimulationDispatcher
+import org.opendc.simulator.engine.engine.FlowEngine
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.TearDown
+import org.openjdk.jmh.annotations.Warmup
+import java.io.File
+import java.nio.file.Files
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmark suite for the export rate of the [ParquetComputeMonitor].
+ *
+ * Every invocation writes [rows] host and task rows to a fresh set of Parquet files and closes the monitor, so the
+ * measurement includes the encoding and flushing of the files.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+class ParquetComputeMonitorBenchmarks {
+    @Param("1000", "10000")
+    private var rows: Int = 0
+
+    private lateinit var outputDir: File
+    private lateinit var hostReaders: Array<HostTableReader>
+    private lateinit var taskReaders: Array<TaskTableReader>
+    private val filesToExport = mapOf(OutputFiles.HOST to true, OutputFiles.TASK to true)
+
+    @Setup
+    fun setUp() {
+        val dispatcher = SimulationDispatcher()
+        val engine = FlowEngine.create(dispatcher)
+        val hosts = createSyntheticHosts(engine, dispatcher.timeSource, 256)
+        val service = ComputeService(dispatcher, FilterScheduler(emptyList(), emptyList()), Duration.ofMinutes(5), 10)
+        val tasks = submitSyntheticTasks(service, 256)
+
+        val now = dispatcher.timeSource.instant()
+        hostReaders = hosts.map { host -> HostTableReaderImpl(host).also { it.record(now) } }.toTypedArray()
+        taskReaders = tasks.map { task -> TaskTableReaderImpl(service, task).also { it.record(now) } }.toTypedArray()
+
+        outputDir = Files.createTempDirectory("opendc-jmh").toFile()
+    }
+
+    @TearDown
+    fun tearDown() {
+        outputDir.deleteRecursively()
+    }
+
+    @Benchmark
+    fun benchmarkExport() {
+        ParquetComputeMonitor(outputDir, "export", 4096, filesToExport).use { monitor ->
+            for (i in 0 until rows) {
+                monitor.record(hostReaders[i % hostReaders.size])
+                monitor.record(taskReaders[i % taskReaders.size])
+            }
+        }
+    }
+}
@@ -24,13 +24,13 @@ package org.opendc.compute.simulator.service;
 
 import java.time.Duration;
 import java.time.InstantSource;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -117,7 +117,7 @@ public final class ComputeService implements AutoCloseable, CarbonReceiver {
     /**
      * The tasks that should be launched by the service.
      */
-    private final Deque<SchedulingRequest> taskQueue = new ArrayDeque<>();
+    private final SchedulingQueue taskQueue;
 
     private final List<SchedulingRequest> blockedTasks = new ArrayList<>();
 
@@ -156,6 +156,17 @@ public final class ComputeService implements AutoCloseable, CarbonReceiver {
 
     private ComputeMetricReader metricReader;
 
+    /**
+     * The number of active bulk operations. While positive, requests for a scheduling cycle are deferred until the
+     * outermost bulk operation completes.
+     */
+    private int bulkDepth = 0;
+
+    /**
+     * A flag to indicate that a scheduling cycle was requested during a bulk operation.
+     */
+    private boolean deferredSchedulingCycle = false;
+
     /**
      * A [HostListener] used to track the active tasks.
      */
@@ -246,8 +257,24 @@ public final class ComputeService implements AutoCloseable, CarbonReceiver {
      * Construct a {@link ComputeService} instance.
      */
     public ComputeService(Dispatcher dispatcher, ComputeScheduler scheduler, Duration quantum, int maxNumFailures) {
+        this(dispatcher, scheduler, quantum, maxNumFailures, false);
+    }
+
+    /**
+     * Construct a {@link ComputeService} instance.
+     *
+     * @param fairShare A flag to queue the pending tasks by tenant and flavor shape, which lets smaller tasks be
+     *                  placed while a larger task does not fit, instead of in a single first-come first-served queue.
+     */
+    public ComputeService(
+            Dispatcher dispatcher,
+            ComputeScheduler scheduler,
+            Duration quantum,
+            int maxNumFailures,
+            boolean fairShare) {
         this.clock = dispatcher.getTimeSource();
         this.scheduler = scheduler;
+        this.taskQueue = fairShare ? new FairShareSchedulingQueue() : new FifoSchedulingQueue();
         this.pacer = new Pacer(dispatcher, quantum.toMillis(), (time) -> doSchedule());
         this.maxNumFailures = maxNumFailures;
     }
@@ -341,6 +368,52 @@ public final class ComputeService implements AutoCloseable, CarbonReceiver {
         }
     }
 
+    /**
+     * Fail the specified {@link SimHost}s at once and reschedule all tasks that were running on them.
+     * <p>
+     * Compared to failing the hosts one by one, all guests of the victims are detached before the tasks are
+     * re-enqueued as a single batch, and at most one scheduling cycle is requested for the whole set of victims.
+     *
+     * @param victims The hosts to fail.
+     * @return The number of tasks that were rescheduled.
+     */
+    public int failHosts(Collection<SimHost> victims) {
+        beginBulk();
+        try {
+            final Map<ServiceTask, Workload> snapshots = new LinkedHashMap<>();
+            for (SimHost host : victims) {
+                snapshots.putAll(host.failAndSnapshot());
+            }
+
+            for (Map.Entry<ServiceTask, Workload> entry : snapshots.entrySet()) {
+                final ServiceTask task = entry.getKey();
+                task.setHost(null);
+                task.setWorkload(entry.getValue());
+                task.start();
+            }
+
+            return snapshots.size();
+        } finally {
+            endBulk();
+        }
+    }
+
+    /**
+     * Recover the specified {@link SimHost}s at once, requesting at most one scheduling cycle for all of them.
+     *
+     * @param victims The hosts to recover.
+     */
+    public void recoverHosts(Collection<SimHost> victims) {
+        beginBulk();
+        try {
+            for (SimHost host : victims) {
+                host.recover();
+            }
+        } finally {
+            endBulk();
+        }
+    }
+
     /**
      * Lookup the {@link SimHost} that currently hosts the specified {@link ServiceTask}.
      */
@@ -539,6 +612,11 @@ public final class ComputeService implements AutoCloseable, CarbonReceiver {
      * Indicate that a new scheduling cycle is needed due to a change to the service's state.
      */
     private void requestSchedulingCycle() {
+        if (bulkDepth > 0) {
+            deferredSchedulingCycle = true;
+            return;
+        }
+
         // Bail out in case the queue is empty.
         if (taskQueue.isEmpty()) {
             return;
@@ -547,10 +625,31 @@ public final class ComputeService implements AutoCloseable, CarbonReceiver {
         pacer.enqueue();
     }
 
+    /**
+     * Start a bulk operation during which scheduling cycles are deferred.
+     */
+    private void beginBulk() {
+        bulkDepth++;
+    }
+
+    /**
+     * Complete a bulk operation and request the deferred scheduling cycle, if any.
+     */
+    private void endBulk() {
+        if (--bulkDepth > 0 || !deferredSchedulingCycle) {
+            return;
+        }
+
+        deferredSchedulingCycle = false;
+        requestSchedulingCycle();
+    }
+
     /**
      * Run a single scheduling iteration.
      */
     private void doSchedule() {
+        taskQueue.beginCycle();
+
         for (Iterator<SchedulingRequest> iterator = taskQueue.iterator();
                 iterator.hasNext();
                 iterator = taskQueue.iterator()) {
@@ -579,6 +678,9 @@ public final class ComputeService implements AutoCloseable, CarbonReceiver {
 
                     this.setTaskToBeRemoved(task);
                     continue;
+                } else if (taskQueue.reject(req)) {
+                    // VM fits, but we don't have enough capacity, so try the other tasks in the queue
+                    continue;
                 } else {
                     // VM fits, but we don't have enough capacity
                     break;
@@ -622,6 +724,7 @@ public final class ComputeService implements AutoCloseable, CarbonReceiver {
         private final ComputeScheduler computeScheduler;
         private Duration quantum = Duration.ofSeconds(1);
         private int maxNumFailures = 10;
+        private boolean fairShare = false;
 
         Builder(Dispatcher dispatcher, ComputeScheduler computeScheduler) {
             this.dispatcher = dispatcher;
@@ -641,11 +744,19 @@ public final class ComputeService implements AutoCloseable, CarbonReceiver {
             return this;
         }
 
+        /**
+         * Queue the pending tasks by tenant and flavor shape instead of in a single first-come first-served queue.
+         */
+        public Builder withFairShare(boolean fairShare) {
+            this.fairShare = fairShare;
+            return this;
+        }
+
         /**
          * Build a {@link ComputeService}.
          */
         public ComputeService build() {
-            return new ComputeService(dispatcher, computeScheduler, quantum, maxNumFailures);
+            return new ComputeService(dispatcher, computeScheduler, quantum, maxNumFailures, fairShare);
         }
     }
 
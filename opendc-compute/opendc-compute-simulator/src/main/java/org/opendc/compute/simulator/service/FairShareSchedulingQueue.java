@@ -0,0 +1,409 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.opendc.compute.simulator.scheduler.SchedulingRequest;
+
+/**
+ * A {@link SchedulingQueue} that groups the pending requests into buckets by tenant and flavor shape.
+ *
+ * <p>Requests in the same bucket are interchangeable for the scheduler, so only the oldest request of each bucket is
+ * considered for placement. If it cannot be placed, the whole bucket is skipped for the rest of the scheduling cycle
+ * and the cycle continues with the other buckets (backfilling). Hence, the work of a cycle grows with the number of
+ * distinct shapes instead of the length of the queue.
+ *
+ * <p>Tenants take turns by the number of requests placed so far: the tenant with the fewest placements is considered
+ * first, and within a tenant the bucket with the oldest request. The tenant of a task is read from the
+ * {@value #TENANT_KEY} entry of its metadata; tasks without one share a default tenant. Requests whose placement
+ * depends on more than their shape, namely requests with scheduler hints and deferrable tasks, get a bucket of their
+ * own.
+ *
+ * <p>The order is maintained incrementally: a bucket is only re-positioned when its head changes and a tenant only when
+ * its number of placements changes. Placements made through an iterator are applied to the order of the tenants when
+ * the next iterator is created, such that the order does not change while it is being iterated.
+ */
+final class FairShareSchedulingQueue implements SchedulingQueue {
+    /**
+     * The metadata key of the tenant of a task.
+     */
+    static final String TENANT_KEY = "tenant";
+
+    /**
+     * The prefix of the metadata keys of scheduler hints.
+     */
+    private static final String HINT_PREFIX = "scheduler_hint:";
+
+    private final Map<Object, Bucket> buckets = new HashMap<>();
+    private final Map<SchedulingRequest, Bucket> bucketOf = new IdentityHashMap<>();
+    private final Map<Object, Tenant> tenants = new HashMap<>();
+
+    /**
+     * The tenants with at least one bucket that is not blocked, ordered by the number of placements.
+     */
+    private final TreeSet<Tenant> activeTenants = new TreeSet<>(
+            Comparator.comparingLong((Tenant tenant) -> tenant.served).thenComparingInt(tenant -> tenant.order));
+
+    /**
+     * The tenants with placements that are not yet reflected in {@link #activeTenants}.
+     */
+    private final List<Tenant> servedTenants = new ArrayList<>();
+
+    /**
+     * The buckets that are blocked in the current cycle.
+     */
+    private final List<Bucket> blocked = new ArrayList<>();
+
+    private long nextSequence = 0;
+    private long firstSequence = -1;
+    private int cycle = 0;
+    private int iteration = 0;
+
+    @Override
+    public void add(SchedulingRequest request) {
+        enqueue(request, nextSequence++, false);
+    }
+
+    @Override
+    public void addFirst(SchedulingRequest request) {
+        enqueue(request, firstSequence--, true);
+    }
+
+    @Override
+    public boolean remove(SchedulingRequest request) {
+        Bucket bucket = bucketOf.get(request);
+        if (bucket == null) {
+            return false;
+        }
+
+        if (bucket.entries.getFirst().request == request) {
+            removeHead(bucket);
+        } else {
+            bucketOf.remove(request);
+            bucket.entries.removeIf(entry -> entry.request == request);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return buckets.isEmpty();
+    }
+
+    @Override
+    public Iterator<SchedulingRequest> iterator() {
+        for (Tenant tenant : servedTenants) {
+            boolean active = activeTenants.remove(tenant);
+            tenant.served += tenant.pendingServed;
+            tenant.pendingServed = 0;
+            if (active) {
+                activeTenants.add(tenant);
+            }
+        }
+        servedTenants.clear();
+
+        return new BucketIterator(++iteration);
+    }
+
+    @Override
+    public void beginCycle() {
+        cycle++;
+
+        for (Bucket bucket : blocked) {
+            // Buckets that were emptied while blocked have been dropped from the queue
+            if (!bucket.entries.isEmpty()) {
+                link(bucket);
+            }
+        }
+        blocked.clear();
+    }
+
+    @Override
+    public boolean reject(SchedulingRequest request) {
+        Bucket bucket = bucketOf.get(request);
+        if (bucket != null && bucket.blockedCycle != cycle) {
+            unlink(bucket);
+            bucket.blockedCycle = cycle;
+            blocked.add(bucket);
+        }
+        return true;
+    }
+
+    /**
+     * Add the specified request to its bucket.
+     */
+    private void enqueue(SchedulingRequest request, long sequence, boolean atFront) {
+        ServiceTask task = request.getTask();
+        Object tenantKey = task.getMeta().get(TENANT_KEY);
+        Object key = isShaped(task) ? shapeOf(task, tenantKey) : new Object();
+
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            Tenant tenant = tenants.computeIfAbsent(tenantKey, k -> new Tenant(tenants.size()));
+            bucket = new Bucket(key, tenant);
+            buckets.put(key, bucket);
+        }
+
+        Entry entry = new Entry(request, sequence);
+        if (atFront || bucket.entries.isEmpty()) {
+            // The head of the bucket changes, so it needs to be re-positioned
+            unlink(bucket);
+            bucket.entries.addFirst(entry);
+            link(bucket);
+        } else {
+            bucket.entries.addLast(entry);
+        }
+        bucketOf.put(request, bucket);
+    }
+
+    /**
+     * Remove the oldest request of the specified bucket, and the bucket itself if it becomes empty.
+     */
+    private SchedulingRequest removeHead(Bucket bucket) {
+        unlink(bucket);
+
+        SchedulingRequest request = bucket.entries.removeFirst().request;
+        bucketOf.remove(request);
+
+        if (bucket.entries.isEmpty()) {
+            buckets.remove(bucket.key);
+        } else {
+            link(bucket);
+        }
+        return request;
+    }
+
+    /**
+     * Insert the specified non-empty bucket into the order of its tenant, unless it is blocked in the current cycle.
+     */
+    private void link(Bucket bucket) {
+        if (bucket.linked || bucket.blockedCycle == cycle) {
+            return;
+        }
+
+        Tenant tenant = bucket.tenant;
+        if (tenant.buckets.isEmpty()) {
+            activeTenants.add(tenant);
+        }
+        tenant.buckets.put(bucket.headSequence(), bucket);
+        bucket.linked = true;
+    }
+
+    /**
+     * Remove the specified bucket from the order of its tenant, such that its head can be changed.
+     */
+    private void unlink(Bucket bucket) {
+        if (!bucket.linked) {
+            return;
+        }
+
+        Tenant tenant = bucket.tenant;
+        tenant.buckets.remove(bucket.headSequence());
+        if (tenant.buckets.isEmpty()) {
+            activeTenants.remove(tenant);
+        }
+        bucket.linked = false;
+    }
+
+    /**
+     * Determine whether the placement of the specified task only depends on its shape.
+     */
+    private static boolean isShaped(ServiceTask task) {
+        TaskNature nature = task.getNature();
+        if (nature != null && nature.deferrable) {
+            return false;
+        }
+
+        for (String key : task.getMeta().keySet()) {
+            if (key.startsWith(HINT_PREFIX)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return the shape of the specified task.
+     */
+    private static Shape shapeOf(ServiceTask task, Object tenant) {
+        ServiceFlavor flavor = task.getFlavor();
+        return new Shape(
+                tenant, flavor.getCpuCoreCount(), flavor.getMemorySize(), flavor.getGpuCoreCount(), flavor.getMeta());
+    }
+
+    /**
+     * The shape of a task, which determines its bucket.
+     */
+    private record Shape(
+            Object tenant, int cpuCoreCount, long memorySize, int gpuCoreCount, Map<String, Object> meta) {}
+
+    /**
+     * A request in a bucket with its position in the queue.
+     */
+    private record Entry(SchedulingRequest request, long sequence) {}
+
+    /**
+     * A tenant with its buckets that are not blocked, ordered by the position of their oldest request.
+     */
+    private static final class Tenant {
+        final int order;
+        final TreeMap<Long, Bucket> buckets = new TreeMap<>();
+        long served;
+        long pendingServed;
+
+        Tenant(int order) {
+            this.order = order;
+        }
+    }
+
+    /**
+     * A bucket of interchangeable requests, ordered by their position in the queue.
+     */
+    private static final class Bucket {
+        final Object key;
+        final Tenant tenant;
+        final ArrayDeque<Entry> entries = new ArrayDeque<>();
+        int blockedCycle = -1;
+        int visited = 0;
+        boolean linked;
+
+        Bucket(Object key, Tenant tenant) {
+            this.key = key;
+            this.tenant = tenant;
+        }
+
+        long headSequence() {
+            return entries.getFirst().sequence;
+        }
+    }
+
+    /**
+     * An {@link Iterator} over the oldest request of each bucket.
+     *
+     * <p>The iterator walks the live order of the queue from a cursor, so buckets that are re-positioned while
+     * iterating are not skipped. Every bucket is marked when visited, so it is not considered twice either.
+     */
+    private final class BucketIterator implements Iterator<SchedulingRequest> {
+        private final int id;
+
+        private Tenant tenant;
+        private long position;
+        private boolean started;
+
+        private Bucket next;
+        private Bucket current;
+        private long currentPosition;
+
+        BucketIterator(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public SchedulingRequest next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            current = next;
+            currentPosition = position;
+            next = null;
+            current.visited = id;
+            return current.entries.getFirst().request;
+        }
+
+        @Override
+        public void remove() {
+            Bucket bucket = current;
+            if (bucket == null) {
+                throw new IllegalStateException();
+            }
+            current = null;
+
+            SchedulingRequest request = removeHead(bucket);
+
+            // The scheduler also removes cancelled requests, which do not count as placements
+            if (!request.isCancelled()) {
+                Tenant owner = bucket.tenant;
+                if (owner.pendingServed++ == 0) {
+                    servedTenants.add(owner);
+                }
+            }
+
+            // Continue from the removed request, discarding a lookahead of hasNext()
+            tenant = bucket.tenant;
+            position = currentPosition;
+            if (!bucket.entries.isEmpty() && bucket.linked) {
+                // Consider the next request of the bucket in its place
+                next = bucket;
+            } else {
+                next = null;
+            }
+        }
+
+        /**
+         * Move the cursor to the next bucket that has not been visited by this iterator.
+         */
+        private Bucket advance() {
+            if (!started) {
+                started = true;
+                tenant = activeTenants.isEmpty() ? null : activeTenants.first();
+                position = Long.MIN_VALUE;
+            }
+
+            // Sequence numbers start at zero and move away from it, so they never reach Long.MIN_VALUE
+            while (tenant != null) {
+                Map.Entry<Long, Bucket> entry = tenant.buckets.higherEntry(position);
+                while (entry != null && entry.getValue().visited == id) {
+                    entry = tenant.buckets.higherEntry(entry.getKey());
+                }
+
+                if (entry != null) {
+                    position = entry.getKey();
+                    return entry.getValue();
+                }
+
+                tenant = activeTenants.higher(tenant);
+                position = Long.MIN_VALUE;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import org.opendc.compute.simulator.scheduler.SchedulingRequest;
+
+/**
+ * A {@link SchedulingQueue} that considers the requests in the order of arrival. A request that cannot be placed
+ * blocks the requests behind it until the next scheduling cycle.
+ */
+final class FifoSchedulingQueue implements SchedulingQueue {
+    private final Deque<SchedulingRequest> queue = new ArrayDeque<>();
+
+    @Override
+    public void add(SchedulingRequest request) {
+        queue.add(request);
+    }
+
+    @Override
+    public void addFirst(SchedulingRequest request) {
+        queue.addFirst(request);
+    }
+
+    @Override
+    public boolean remove(SchedulingRequest request) {
+        return queue.remove(request);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public Iterator<SchedulingRequest> iterator() {
+        return queue.iterator();
+    }
+
+    @Override
+    public boolean reject(SchedulingRequest request) {
+        return false;
+    }
+}
@@ -22,6 +22,7 @@
 
 package org.opendc.compute.simulator.service;
 
+import org.opendc.compute.simulator.host.GpuHostModel;
 import org.opendc.compute.simulator.host.SimHost;
 
 /**
@@ -29,6 +30,9 @@ import org.opendc.compute.simulator.host.SimHost;
  */
 public class HostView {
     private final SimHost host;
+    private final int gpuCount;
+    private final int gpuCoreCount;
+    private final double gpuCoreCapacity;
     int instanceCount;
     long availableMemory;
     int provisionedCpuCores;
@@ -39,12 +43,12 @@ public class HostView {
      * Use by schedulers which use a priority queue data structure
      * to keep track of the order of hosts to scheduler tasks on.
      * {@link MemorizingScheduler} for example.
-     * MemorizingScheduler has an array of lists
-     * The 0th index of the array has a list of hosts with 0 tasks,
-     * 1st index of the array has hosts with 1 task, and so on.
-     * The priorityIndex points to the index of this the list this host
-     * belongs to in the array.
-     * The listIndex is the position of this host in the list.
+     * MemorizingScheduler has a growing list of buckets.
+     * The 0th bucket has the hosts with 0 tasks,
+     * the 1st bucket has the hosts with 1 task, and so on.
+     * The priorityIndex points to the index of the bucket this host
+     * belongs to.
+     * The listIndex is the position of this host in the bucket.
      */
     public int priorityIndex;
 
@@ -58,6 +62,21 @@ public class HostView {
     public HostView(SimHost host) {
         this.host = host;
         this.availableMemory = host.getModel().memoryCapacity();
+
+        // The GPU models of a host do not change, so reduce them once instead of on every scheduling decision
+        int gpuCount = 0;
+        int gpuCoreCount = 0;
+        double gpuCoreCapacity = 0.0;
+        if (host.getModel().gpuHostModels() != null) {
+            for (GpuHostModel gpu : host.getModel().gpuHostModels()) {
+                gpuCount++;
+                gpuCoreCount = Math.max(gpuCoreCount, gpu.gpuCoreCount());
+                gpuCoreCapacity = Math.max(gpuCoreCapacity, gpu.gpuCoreCapacity());
+            }
+        }
+        this.gpuCount = gpuCount;
+        this.gpuCoreCount = gpuCoreCount;
+        this.gpuCoreCapacity = gpuCoreCapacity;
     }
 
     /**
@@ -92,6 +111,27 @@ public class HostView {
         return provisionedGpuCores;
     }
 
+    /**
+     * Return the number of GPUs on the host.
+     */
+    public int getGpuCount() {
+        return gpuCount;
+    }
+
+    /**
+     * Return the largest number of cores of a single GPU on the host, or zero if the host has no GPUs.
+     */
+    public int getGpuCoreCount() {
+        return gpuCoreCount;
+    }
+
+    /**
+     * Return the largest core capacity of a single GPU on the host, or zero if the host has no GPUs.
+     */
+    public double getGpuCoreCapacity() {
+        return gpuCoreCapacity;
+    }
+
     @Override
     public String toString() {
         return "HostView[host=" + host + "]";
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.service;
+
+import java.util.Iterator;
+import org.opendc.compute.simulator.scheduler.SchedulingRequest;
+
+/**
+ * The queue of pending {@link SchedulingRequest}s of a {@link ComputeService}.
+ *
+ * <p>The queue hands its requests to the {@link org.opendc.compute.simulator.scheduler.ComputeScheduler} through
+ * {@link #iterator()}, in the order in which they should be considered for placement.
+ */
+interface SchedulingQueue extends Iterable<SchedulingRequest> {
+    /**
+     * Add the specified request to the back of the queue.
+     */
+    void add(SchedulingRequest request);
+
+    /**
+     * Add the specified request to the front of the queue.
+     */
+    void addFirst(SchedulingRequest request);
+
+    /**
+     * Remove the specified request from the queue.
+     *
+     * @return <code>true</code> if the request was in the queue, <code>false</code> otherwise.
+     */
+    boolean remove(SchedulingRequest request);
+
+    /**
+     * Return whether the queue contains no requests.
+     */
+    boolean isEmpty();
+
+    /**
+     * Return an iterator over the requests to consider for placement. Removing a request through the iterator
+     * removes it from the queue.
+     */
+    @Override
+    Iterator<SchedulingRequest> iterator();
+
+    /**
+     * Start a new scheduling cycle.
+     */
+    default void beginCycle() {}
+
+    /**
+     * Inform the queue that the specified request could not be placed in the current scheduling cycle.
+     *
+     * @return <code>true</code> if the cycle should continue with other requests, <code>false</code> if it should
+     *         stop.
+     */
+    boolean reject(SchedulingRequest request);
+}
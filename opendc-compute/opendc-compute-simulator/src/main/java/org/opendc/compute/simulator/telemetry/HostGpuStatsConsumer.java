@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.telemetry;
+
+/**
+ * A consumer of the statistics of the individual GPUs of a host. It receives the same values as a {@link HostGpuStats},
+ * but without the need to allocate an object per GPU on every export interval.
+ */
+@FunctionalInterface
+public interface HostGpuStatsConsumer {
+    /**
+     * Accept the statistics of the GPU at the specified index. See {@link HostGpuStats} for a description of the
+     * values.
+     *
+     * @param index The index of the GPU in the host.
+     */
+    void accept(
+            int index,
+            long activeTime,
+            long idleTime,
+            long stealTime,
+            long lostTime,
+            double capacity,
+            double demand,
+            double usage,
+            double utilization,
+            double powerDraw);
+}
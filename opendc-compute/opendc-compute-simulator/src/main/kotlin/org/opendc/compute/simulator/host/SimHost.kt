@@ -23,7 +23,6 @@
 package org.opendc.compute.simulator.host
 
 import org.opendc.common.ResourceType
-import org.opendc.compute.api.Flavor
 import org.opendc.compute.api.TaskState
 import org.opendc.compute.simulator.internal.Guest
 import org.opendc.compute.simulator.internal.GuestListener
@@ -33,11 +32,13 @@ import org.opendc.compute.simulator.telemetry.GuestGpuStats
 import org.opendc.compute.simulator.telemetry.GuestSystemStats
 import org.opendc.compute.simulator.telemetry.HostCpuStats
 import org.opendc.compute.simulator.telemetry.HostGpuStats
+import org.opendc.compute.simulator.telemetry.HostGpuStatsConsumer
 import org.opendc.compute.simulator.telemetry.HostSystemStats
 import org.opendc.simulator.compute.machine.SimMachine
 import org.opendc.simulator.compute.models.MachineModel
-import org.opendc.simulator.compute.models.MemoryUnit
 import org.opendc.simulator.compute.power.PowerModel
+import org.opendc.simulator.compute.power.SimIdlePsu
+import org.opendc.simulator.compute.workload.Workload
 import org.opendc.simulator.engine.engine.FlowEngine
 import org.opendc.simulator.engine.graph.FlowDistributor
 import java.time.Duration
@@ -52,6 +53,9 @@ import java.time.InstantSource
  * @param machineModel The static model of the host
  * @param cpuPowerModel The power model of the host
  * @param powerDistributor The power distributor to which the host is connected
+ * @param lazyMachine A flag to indicate that the [SimMachine] of the host is only created when a task is spawned on it,
+ * and is torn down again once the host is empty. Until then, only the idle power of the host is simulated.
+ * @param poolWorkloads A flag to indicate that the [SimMachine] recycles the flow graph objects of finished tasks.
  * @constructor Create empty Sim host
  */
 public class SimHost(
@@ -65,6 +69,8 @@ public class SimHost(
     private val embodiedCarbon: Double,
     private val expectedLifetime: Double,
     private val powerDistributor: FlowDistributor,
+    private val lazyMachine: Boolean = false,
+    private val poolWorkloads: Boolean = false,
 ) : AutoCloseable {
     /**
      * The event listeners registered with this host.
@@ -105,6 +111,36 @@ public class SimHost(
 
     private var simMachine: SimMachine? = null
 
+    /**
+     * The [SimIdlePsu] that draws the idle power of the host while no [SimMachine] exists (only in lazy mode).
+     */
+    private var idlePsu: SimIdlePsu? = null
+
+    /**
+     * A flag to indicate that the [SimMachine] is being torn down because the host became empty.
+     */
+    private var isReleasingMachine = false
+
+    /**
+     * A flag to indicate that a release of the [SimMachine] has been scheduled.
+     */
+    private var isReleasePending = false
+
+    /**
+     * The counters of the [SimMachine]s that have been torn down, so the host keeps reporting cumulative values.
+     */
+    private var cpuActiveTimeOffset = 0L
+    private var cpuIdleTimeOffset = 0L
+    private var cpuStealTimeOffset = 0L
+    private var cpuLostTimeOffset = 0L
+    private var energyUsageOffset = 0.0
+    private val gpuActiveTimeOffsets = LongArray(machineModel.gpuModels.size)
+    private val gpuIdleTimeOffsets = LongArray(machineModel.gpuModels.size)
+    private val gpuStealTimeOffsets = LongArray(machineModel.gpuModels.size)
+    private val gpuLostTimeOffsets = LongArray(machineModel.gpuModels.size)
+    private var lastIdleCpuUpdate = clock.millis()
+    private var lastIdleGpuUpdate = clock.millis()
+
     /**
      * The [GuestListener] that listens for guest events.
      */
@@ -141,20 +177,149 @@ public class SimHost(
         bootTime = this.clock.instant()
         hostState = HostState.UP
 
-        if (this.simMachine != null) {
+        if (this.simMachine != null || this.idlePsu != null) {
+            return
+        }
+
+        if (lazyMachine) {
+            createIdlePsu()
             return
         }
 
-        this.simMachine =
-            SimMachine(
-                this.engine,
-                this.machineModel,
-                this.powerDistributor,
-                this.cpuPowerModel,
-                this.gpuPowerModel,
-            ) { cause ->
-                hostState = if (cause != null) HostState.ERROR else HostState.DOWN
+        this.simMachine = createSimMachine()
+    }
+
+    private fun createSimMachine(): SimMachine {
+        return SimMachine(
+            this.engine,
+            this.machineModel,
+            this.powerDistributor,
+            this.cpuPowerModel,
+            this.gpuPowerModel,
+            { cause ->
+                if (!isReleasingMachine) {
+                    hostState = if (cause != null) HostState.ERROR else HostState.DOWN
+                }
+            },
+            this.poolWorkloads,
+        )
+    }
+
+    private fun createIdlePsu() {
+        val gpuIdlePower = (gpuPowerModel?.computePower(0.0) ?: 0.0) * machineModel.gpuModels.size
+        val idlePower = cpuPowerModel.computePower(0.0) + gpuIdlePower
+
+        val now = clock.millis()
+        lastIdleCpuUpdate = now
+        lastIdleGpuUpdate = now
+        this.idlePsu = SimIdlePsu(engine, powerDistributor, idlePower)
+    }
+
+    /**
+     * Return the [SimMachine] of the host, replacing the [SimIdlePsu] by a new [SimMachine] if needed.
+     */
+    private fun acquireMachine(): SimMachine {
+        simMachine?.let { return it }
+
+        val idlePsu = this.idlePsu
+        if (idlePsu != null) {
+            updateIdleCounters()
+            energyUsageOffset += idlePsu.energyUsage
+            idlePsu.close()
+            this.idlePsu = null
+        }
+
+        val machine = createSimMachine()
+        this.simMachine = machine
+        return machine
+    }
+
+    /**
+     * Schedule the [SimMachine] of the host to be torn down once the host no longer runs any guests (only in lazy mode).
+     *
+     * The machine is not torn down directly when the last guest is removed, as that happens while the flow graph of
+     * the machine is being updated. Instead, the release runs as a separate task on the dispatcher of the engine.
+     */
+    private fun scheduleReleaseIfEmpty() {
+        if (!lazyMachine || simMachine == null || guests.isNotEmpty() || isReleasePending) {
+            return
+        }
+
+        isReleasePending = true
+        engine.dispatcher.schedule {
+            isReleasePending = false
+            releaseMachineIfEmpty()
+        }
+    }
+
+    /**
+     * Tear down the [SimMachine] of the host if it is no longer running any guests (only in lazy mode).
+     */
+    private fun releaseMachineIfEmpty() {
+        val machine = simMachine
+        if (!lazyMachine || machine == null || guests.isNotEmpty()) {
+            return
+        }
+
+        val now = clock.millis()
+
+        machine.cpu.updateCounters(now)
+        val counters = machine.performanceCounters
+        cpuActiveTimeOffset += counters.activeTime
+        cpuIdleTimeOffset += counters.idleTime
+        cpuStealTimeOffset += counters.stealTime
+        cpuLostTimeOffset += counters.lostTime
+
+        for ((i, gpu) in machine.gpus.withIndex()) {
+            gpu.updateCounters(now)
+            val gpuCounters = machine.getGpuPerformanceCounters(gpu.id)
+            gpuActiveTimeOffsets[i] += gpuCounters.activeTime
+            gpuIdleTimeOffsets[i] += gpuCounters.idleTime
+            gpuStealTimeOffsets[i] += gpuCounters.stealTime
+            gpuLostTimeOffsets[i] += gpuCounters.lostTime
+        }
+
+        energyUsageOffset += machine.psu.energyUsage
+
+        simMachine = null
+        isReleasingMachine = true
+        try {
+            machine.shutdown()
+        } finally {
+            isReleasingMachine = false
+        }
+
+        createIdlePsu()
+    }
+
+    /**
+     * Account the idle time of the CPU and GPUs while no [SimMachine] exists.
+     */
+    private fun updateIdleCounters() {
+        updateIdleCpuCounters()
+        updateIdleGpuCounters()
+    }
+
+    private fun updateIdleCpuCounters() {
+        val now = clock.millis()
+        val delta = now - lastIdleCpuUpdate
+        lastIdleCpuUpdate = now
+
+        if (delta > 0) {
+            cpuIdleTimeOffset += delta
+        }
+    }
+
+    private fun updateIdleGpuCounters() {
+        val now = clock.millis()
+        val delta = now - lastIdleGpuUpdate
+        lastIdleGpuUpdate = now
+
+        if (delta > 0) {
+            for (i in gpuIdleTimeOffsets.indices) {
+                gpuIdleTimeOffsets[i] += delta
             }
+        }
     }
 
     override fun close() {
@@ -173,6 +338,23 @@ public class SimHost(
         }
     }
 
+    /**
+     * Fail the host and detach all its guests, returning the last snapshot of every guest that was running on it.
+     *
+     * The snapshots are collected before the guests are stopped, so the caller can reschedule all tasks of the host
+     * at once instead of one by one.
+     */
+    public fun failAndSnapshot(): Map<ServiceTask, Workload> {
+        val snapshots = LinkedHashMap<ServiceTask, Workload>(guests.size)
+        for (guest in guests) {
+            snapshots[guest.task] = guest.virtualMachine!!.snapshot
+        }
+
+        fail()
+
+        return snapshots
+    }
+
     public fun pauseAllTasks() {
         while (guests.size > 0) {
             val guest = guests.first()
@@ -222,11 +404,10 @@ public class SimHost(
     }
 
     public fun canFit(task: ServiceTask): Boolean {
-        val sufficientMemory = model.memoryCapacity >= task.flavor.memorySize
-        val enoughCpus = model.coreCount >= task.flavor.cpuCoreCount
-        val canFit = simMachine!!.canFit(task.flavor.toMachineModel())
-
-        return sufficientMemory && enoughCpus && canFit
+        // The machine itself accepts any guest (see SimMachine.canFit), so there is no need to build a
+        // MachineModel for the flavor on every placement.
+        val flavor = task.flavor
+        return model.memoryCapacity >= flavor.memorySize && model.coreCount >= flavor.cpuCoreCount
     }
 
     /**
@@ -235,7 +416,7 @@ public class SimHost(
      * @param task
      */
     public fun spawn(task: ServiceTask) {
-        assert(simMachine != null) { "Tried start task $task while no SimMachine is active" }
+        assert(simMachine != null || lazyMachine) { "Tried start task $task while no SimMachine is active" }
 
         require(canFit(task)) { "Task does not fit" }
 
@@ -245,7 +426,7 @@ public class SimHost(
                 this,
                 guestListener,
                 task,
-                simMachine!!,
+                acquireMachine(),
             )
 
         guests.add(newGuest)
@@ -273,7 +454,10 @@ public class SimHost(
 
         taskToGuestMap.remove(task)
         guests.remove(guest)
+        guest.release()
         task.host = null
+
+        scheduleReleaseIfEmpty()
     }
 
     public fun addListener(listener: HostListener) {
@@ -288,7 +472,6 @@ public class SimHost(
         val now = clock.millis()
         val duration = now - lastReport
         updateUptime()
-        this.simMachine!!.psu.updateCounters()
 
         val terminated = 0
         var running = 0
@@ -304,23 +487,37 @@ public class SimHost(
                     // Remove guests that have been deleted
                     this.taskToGuestMap.remove(guest.task)
                     guests.remove(guest)
+                    guest.release()
                 }
                 TaskState.COMPLETED -> {
                     completed++
                     this.taskToGuestMap.remove(guest.task)
                     guests.remove(guest)
+                    guest.release()
                 }
                 TaskState.PAUSED -> {}
                 else -> invalid++
             }
         }
 
+        val machine = simMachine
+        val powerDraw: Double
+        val energyUsage: Double
+        if (machine != null) {
+            machine.psu.updateCounters()
+            powerDraw = machine.psu.powerDraw
+            energyUsage = energyUsageOffset + machine.psu.energyUsage
+        } else {
+            powerDraw = idlePsu!!.powerDraw
+            energyUsage = energyUsageOffset + idlePsu!!.energyUsage
+        }
+
         return HostSystemStats(
             Duration.ofMillis(totalUptime),
             Duration.ofMillis(totalDowntime),
             bootTime,
-            simMachine!!.psu.powerDraw,
-            simMachine!!.psu.energyUsage,
+            powerDraw,
+            energyUsage,
             embodiedCarbonRate * duration,
             terminated,
             running,
@@ -335,15 +532,31 @@ public class SimHost(
     }
 
     public fun getCpuStats(): HostCpuStats {
-        simMachine!!.cpu.updateCounters(this.clock.millis())
+        val machine = simMachine
+        if (machine == null) {
+            updateIdleCpuCounters()
+
+            return HostCpuStats(
+                cpuActiveTimeOffset,
+                cpuIdleTimeOffset,
+                cpuStealTimeOffset,
+                cpuLostTimeOffset,
+                cpuLimit,
+                0.0,
+                0.0,
+                0.0,
+            )
+        }
+
+        machine.cpu.updateCounters(this.clock.millis())
 
-        val counters = simMachine!!.performanceCounters
+        val counters = machine.performanceCounters
 
         return HostCpuStats(
-            counters.activeTime,
-            counters.idleTime,
-            counters.stealTime,
-            counters.lostTime,
+            cpuActiveTimeOffset + counters.activeTime,
+            cpuIdleTimeOffset + counters.idleTime,
+            cpuStealTimeOffset + counters.stealTime,
+            cpuLostTimeOffset + counters.lostTime,
             counters.capacity,
             counters.demand,
             counters.supply,
@@ -357,29 +570,70 @@ public class SimHost(
     }
 
     public fun getGpuStats(): List<HostGpuStats> {
-        val gpuStats = mutableListOf<HostGpuStats>()
-        for (gpu in simMachine!!.gpus) {
-            gpu.updateCounters(this.clock.millis())
-            val counters = simMachine!!.getGpuPerformanceCounters(gpu.id)
-            val powerDraw = simMachine!!.psu.getPowerDraw(ResourceType.GPU, gpu.id)
-
+        val gpuStats = ArrayList<HostGpuStats>(getGpuCount())
+        readGpuStats { _, activeTime, idleTime, stealTime, lostTime, capacity, demand, usage, utilization, powerDraw ->
             gpuStats.add(
-                HostGpuStats(
-                    counters.activeTime,
-                    counters.idleTime,
-                    counters.stealTime,
-                    counters.lostTime,
-                    counters.capacity,
-                    counters.demand,
-                    counters.supply,
-                    counters.supply / gpu.getCapacity(ResourceType.GPU),
-                    powerDraw,
-                ),
+                HostGpuStats(activeTime, idleTime, stealTime, lostTime, capacity, demand, usage, utilization, powerDraw),
             )
         }
         return gpuStats
     }
 
+    /**
+     * Return the number of GPUs of this host.
+     */
+    public fun getGpuCount(): Int = machineModel.gpuModels.size
+
+    /**
+     * Pass the statistics of every GPU of this host to [consumer], in the order of [getGpuStats], without allocating
+     * intermediate objects.
+     */
+    public fun readGpuStats(consumer: HostGpuStatsConsumer) {
+        val gpuModels = machineModel.gpuModels
+        val machine = simMachine
+        if (machine == null) {
+            updateIdleGpuCounters()
+
+            val idlePower = gpuPowerModel?.computePower(0.0) ?: 0.0
+            for (i in gpuModels.indices) {
+                consumer.accept(
+                    i,
+                    gpuActiveTimeOffsets[i],
+                    gpuIdleTimeOffsets[i],
+                    gpuStealTimeOffsets[i],
+                    gpuLostTimeOffsets[i],
+                    gpuModels[i].totalCoreCapacity,
+                    0.0,
+                    0.0,
+                    0.0,
+                    idlePower,
+                )
+            }
+            return
+        }
+
+        val now = this.clock.millis()
+        for (i in gpuModels.indices) {
+            val gpu = machine.getGpu(gpuModels[i].id)
+            gpu.updateCounters(now)
+            val counters = gpu.performanceCounters
+            val powerDraw = machine.psu.getPowerDraw(ResourceType.GPU, gpu.id)
+
+            consumer.accept(
+                i,
+                gpuActiveTimeOffsets[i] + counters.activeTime,
+                gpuIdleTimeOffsets[i] + counters.idleTime,
+                gpuStealTimeOffsets[i] + counters.stealTime,
+                gpuLostTimeOffsets[i] + counters.lostTime,
+                counters.capacity,
+                counters.demand,
+                counters.supply,
+                counters.supply / gpu.getCapacity(ResourceType.GPU),
+                powerDraw,
+            )
+        }
+    }
+
     public fun getGpuStats(task: ServiceTask): GuestGpuStats? {
         val guest = requireNotNull(taskToGuestMap[task]) { "Unknown task ${task.name} at host $name" }
         return guest.getGpuStats()
@@ -393,19 +647,6 @@ public class SimHost(
 
     override fun toString(): String = "SimHost[uid=$name,name=$name,model=$model]"
 
-    /**
-     * Convert flavor to machine model.
-     */
-    private fun Flavor.toMachineModel(): MachineModel {
-        return MachineModel(
-            simMachine!!.machineModel.cpuModel,
-            MemoryUnit("Generic", "Generic", 3200.0, memorySize),
-            simMachine!!.machineModel.gpuModels,
-            simMachine!!.machineModel.cpuDistributionStrategy,
-            simMachine!!.machineModel.gpuDistributionStrategy,
-        )
-    }
-
     /**
      * Helper function to track the uptime of a machine.
      */
@@ -167,6 +167,7 @@ public class Guest(
         }
 
         this.virtualMachine = null
+        simMachine.releaseWorkload(virtualMachine)
     }
 
     /**
@@ -226,6 +227,21 @@ public class Guest(
         doStart()
     }
 
+    /**
+     * Release the [VirtualMachine] of a guest that is no longer running, so the machine can recycle it.
+     *
+     * The statistics of the guest can no longer be obtained afterwards.
+     */
+    public fun release() {
+        val virtualMachine = this.virtualMachine ?: return
+        if (state == TaskState.RUNNING) {
+            return
+        }
+
+        this.virtualMachine = null
+        simMachine.releaseWorkload(virtualMachine)
+    }
+
     /**
      * Obtain the system statistics of this guest.
      */
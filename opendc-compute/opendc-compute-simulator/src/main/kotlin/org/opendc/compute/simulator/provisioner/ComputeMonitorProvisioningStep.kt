@@ -26,6 +26,7 @@ import org.opendc.compute.simulator.service.ComputeService
 import org.opendc.compute.simulator.telemetry.ComputeMetricReader
 import org.opendc.compute.simulator.telemetry.ComputeMonitor
 import org.opendc.compute.simulator.telemetry.OutputFiles
+import org.opendc.compute.simulator.telemetry.TaskExportMode
 import java.time.Duration
 
 /**
@@ -46,6 +47,8 @@ public class ComputeMonitorProvisioningStep(
             OutputFiles.BATTERY to true,
         ),
     private val printFrequency: Int? = null,
+    private val taskExportMode: TaskExportMode = TaskExportMode.PERIODIC,
+    private val skipStationaryIntervals: Boolean = false,
 ) : ProvisioningStep {
     override fun apply(ctx: ProvisioningContext): AutoCloseable {
         val service =
@@ -61,6 +64,8 @@ public class ComputeMonitorProvisioningStep(
                 startTime,
                 filesToExport,
                 printFrequency,
+                taskExportMode,
+                skipStationaryIntervals,
             )
         return metricReader
     }
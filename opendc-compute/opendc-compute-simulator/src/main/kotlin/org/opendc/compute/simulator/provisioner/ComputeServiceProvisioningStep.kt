@@ -32,18 +32,21 @@ import java.time.Duration
  * @param serviceDomain The domain name under which to register the compute service.
  * @param scheduler A function to construct the compute scheduler.
  * @param schedulingQuantum The scheduling quantum of the compute scheduler.
+ * @param fairShare A flag to queue the pending tasks by tenant and flavor shape.
  */
 public class ComputeServiceProvisioningStep internal constructor(
     private val serviceDomain: String,
     private val scheduler: (ProvisioningContext) -> ComputeScheduler,
     private val schedulingQuantum: Duration,
     private val maxNumFailures: Int,
+    private val fairShare: Boolean = false,
 ) : ProvisioningStep {
     override fun apply(ctx: ProvisioningContext): AutoCloseable {
         val service =
             ComputeService.builder(ctx.dispatcher, scheduler(ctx))
                 .withQuantum(schedulingQuantum)
                 .withMaxNumFailures(maxNumFailures)
+                .withFairShare(fairShare)
                 .build()
         ctx.registry.register(serviceDomain, ComputeService::class.java, service)
 
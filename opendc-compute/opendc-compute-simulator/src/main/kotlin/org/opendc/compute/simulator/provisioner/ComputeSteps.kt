@@ -27,8 +27,10 @@ package org.opendc.compute.simulator.provisioner
 import org.opendc.compute.simulator.scheduler.ComputeScheduler
 import org.opendc.compute.simulator.telemetry.ComputeMonitor
 import org.opendc.compute.simulator.telemetry.OutputFiles
+import org.opendc.compute.simulator.telemetry.TaskExportMode
 import org.opendc.compute.topology.specs.ClusterSpec
 import org.opendc.compute.topology.specs.HostSpec
+import org.opendc.simulator.engine.engine.FlowEngineInstrumentation
 import java.time.Duration
 
 /**
@@ -37,14 +39,17 @@ import java.time.Duration
  * @param serviceDomain The domain name under which to register the compute service.
  * @param scheduler A function to construct the compute scheduler.
  * @param schedulingQuantum The scheduling quantum of the compute scheduler.
+ * @param fairShare A flag to queue the pending tasks by tenant and flavor shape, so that tasks that fit can be placed
+ * while a larger task waits for capacity.
  */
 public fun setupComputeService(
     serviceDomain: String,
     scheduler: (ProvisioningContext) -> ComputeScheduler,
     schedulingQuantum: Duration = Duration.ofSeconds(1),
     maxNumFailures: Int = 10,
+    fairShare: Boolean = false,
 ): ProvisioningStep {
-    return ComputeServiceProvisioningStep(serviceDomain, scheduler, schedulingQuantum, maxNumFailures)
+    return ComputeServiceProvisioningStep(serviceDomain, scheduler, schedulingQuantum, maxNumFailures, fairShare)
 }
 
 /**
@@ -54,6 +59,8 @@ public fun setupComputeService(
  * @param serviceDomain The service domain at which the [ComputeService] is located.
  * @param monitor The [ComputeMonitor] to install.
  * @param exportInterval The interval between which to collect the metrics.
+ * @param taskExportMode The way in which the rows of the task table are exported.
+ * @param skipStationaryIntervals A flag to skip over the export intervals in which the system does not change.
  */
 public fun registerComputeMonitor(
     serviceDomain: String,
@@ -69,8 +76,19 @@ public fun registerComputeMonitor(
             OutputFiles.BATTERY to true,
         ),
     printFrequency: Int? = null,
+    taskExportMode: TaskExportMode = TaskExportMode.PERIODIC,
+    skipStationaryIntervals: Boolean = false,
 ): ProvisioningStep {
-    return ComputeMonitorProvisioningStep(serviceDomain, monitor, exportInterval, startTime, filesToExport, printFrequency)
+    return ComputeMonitorProvisioningStep(
+        serviceDomain,
+        monitor,
+        exportInterval,
+        startTime,
+        filesToExport,
+        printFrequency,
+        taskExportMode,
+        skipStationaryIntervals,
+    )
 }
 
 /**
@@ -80,11 +98,17 @@ public fun registerComputeMonitor(
  * @param serviceDomain The domain name under which the compute service is registered.
  * @param specs A list of [HostSpec] objects describing the simulated hosts to provision.
  * @param optimize A flag to indicate that the CPU resources of the host should be merged into a single CPU resource.
+ * @param lazyMachines A flag to indicate that the machines of the hosts are only created once a task is placed on them.
+ * @param poolWorkloads A flag to indicate that the machines recycle the flow graph objects of finished tasks.
+ * @param instrumentation The [FlowEngineInstrumentation] to report the work of the flow engine to, if any.
  */
 public fun setupHosts(
     serviceDomain: String,
     specs: List<ClusterSpec>,
     startTime: Long = 0L,
+    lazyMachines: Boolean = false,
+    instrumentation: FlowEngineInstrumentation? = null,
+    poolWorkloads: Boolean = false,
 ): ProvisioningStep {
-    return HostsProvisioningStep(serviceDomain, specs, startTime)
+    return HostsProvisioningStep(serviceDomain, specs, startTime, lazyMachines, poolWorkloads, instrumentation)
 }
@@ -33,6 +33,7 @@ import org.opendc.simulator.compute.power.SimPowerSource
 import org.opendc.simulator.compute.power.batteries.BatteryAggregator
 import org.opendc.simulator.compute.power.batteries.SimBattery
 import org.opendc.simulator.engine.engine.FlowEngine
+import org.opendc.simulator.engine.engine.FlowEngineInstrumentation
 import org.opendc.simulator.engine.graph.FlowEdge
 import org.opendc.simulator.engine.graph.distributionPolicies.FlowDistributorFactory
 import org.opendc.simulator.engine.graph.distributionPolicies.FlowDistributorFactory.DistributionPolicy
@@ -43,11 +44,18 @@ import org.opendc.simulator.engine.graph.distributionPolicies.FlowDistributorFac
  * @param serviceDomain The domain name under which the compute service is registered.
  * @param clusterSpecs A list of [HostSpec] objects describing the simulated hosts to provision.
  * @param startTime The absolute start time of the simulation. Used to determine the carbon trace offset.
+ * @param lazyMachines A flag to indicate that the machines of the hosts are only created once a task is placed on them.
+ * @param poolWorkloads A flag to indicate that the machines recycle the flow graph objects of finished tasks.
+ * @param instrumentation The [FlowEngineInstrumentation] to report the work of the flow engine to, or `null` to not
+ * instrument the engine.
  */
 public class HostsProvisioningStep internal constructor(
     private val serviceDomain: String,
     private val clusterSpecs: List<ClusterSpec>,
     private val startTime: Long = 0L,
+    private val lazyMachines: Boolean = false,
+    private val poolWorkloads: Boolean = false,
+    private val instrumentation: FlowEngineInstrumentation? = null,
 ) : ProvisioningStep {
     override fun apply(ctx: ProvisioningContext): AutoCloseable {
         val service =
@@ -58,6 +66,7 @@ public class HostsProvisioningStep internal constructor(
         val simPowerSources = mutableListOf<SimPowerSource>()
 
         val engine = FlowEngine.create(ctx.dispatcher)
+        engine.instrumentation = instrumentation
 
         for (cluster in clusterSpecs) {
             // Create the Power Source to which hosts are connected
@@ -140,6 +149,8 @@ public class HostsProvisioningStep internal constructor(
                         hostSpec.embodiedCarbon,
                         hostSpec.expectedLifetime,
                         hostDistributor,
+                        lazyMachines,
+                        poolWorkloads,
                     )
 
                 require(simHosts.add(simHost)) { "Host with name ${hostSpec.name} already exists" }
@@ -27,8 +27,8 @@ import org.opendc.compute.simulator.scheduler.weights.HostWeigher
 import org.opendc.compute.simulator.service.HostView
 import org.opendc.compute.simulator.service.ServiceTask
 import java.util.SplittableRandom
+import java.util.concurrent.ForkJoinPool
 import java.util.random.RandomGenerator
-import kotlin.math.min
 
 /**
  * A [ComputeScheduler] implementation that uses filtering and weighing passes to select
@@ -41,18 +41,26 @@ import kotlin.math.min
  * @param weighers The list of weighers to apply when searching for an appropriate host.
  * @param subsetSize The size of the subset of best hosts from which a target is randomly chosen.
  * @param random A [RandomGenerator] instance for selecting
+ * @param parallel A flag to evaluate the hosts in parallel on the common [ForkJoinPool]. The selected hosts are
+ * identical to those of the sequential evaluation, but the filters and weighers must be safe to invoke concurrently.
  */
 public class FilterScheduler(
-    private val filters: List<HostFilter>,
-    private val weighers: List<HostWeigher>,
+    filters: List<HostFilter>,
+    weighers: List<HostWeigher>,
     private val subsetSize: Int = 1,
     private val random: RandomGenerator = SplittableRandom(0),
+    parallel: Boolean = false,
 ) : ComputeScheduler {
     /**
      * The pool of hosts available to the scheduler.
      */
     private val hosts = mutableListOf<HostView>()
 
+    /**
+     * The evaluator that applies the filters and weighers to the pool of hosts.
+     */
+    private val evaluator = HostEvaluator(filters, weighers, if (parallel) ForkJoinPool.commonPool() else null)
+
     init {
         require(subsetSize >= 1) { "Subset size must be one or greater" }
     }
@@ -78,48 +86,13 @@ public class FilterScheduler(
             }
         }
 
-        val task = req.task
-        val filteredHosts = hosts.filter { host -> filters.all { filter -> filter.test(host, task) } }
-
-        val subset =
-            if (weighers.isNotEmpty()) {
-                val results = weighers.map { it.getWeights(filteredHosts, task) }
-                val weights = DoubleArray(filteredHosts.size)
-
-                for (result in results) {
-                    val min = result.min
-                    val range = (result.max - min)
-
-                    // Skip result if all weights are the same
-                    if (range == 0.0) {
-                        continue
-                    }
-
-                    val multiplier = result.multiplier
-                    val factor = multiplier / range
-
-                    for ((i, weight) in result.weights.withIndex()) {
-                        weights[i] += factor * (weight - min)
-                    }
-                }
-
-                weights.indices
-                    .asSequence()
-                    .sortedByDescending { weights[it] }
-                    .map { filteredHosts[it] }
-                    .take(subsetSize)
-                    .toList()
-            } else {
-                filteredHosts
-            }
-
         // fixme: currently finding no matching hosts can result in an error
-        val maxSize = min(subsetSize, subset.size)
-        if (maxSize == 0) {
+        val host = evaluator.select(hosts, req.task, subsetSize, random)
+        if (host == null) {
             return SchedulingResult(SchedulingResultType.FAILURE, null, req)
         } else {
             iter.remove()
-            return SchedulingResult(SchedulingResultType.SUCCESS, subset[random.nextInt(maxSize)], req)
+            return SchedulingResult(SchedulingResultType.SUCCESS, host, req)
         }
     }
 
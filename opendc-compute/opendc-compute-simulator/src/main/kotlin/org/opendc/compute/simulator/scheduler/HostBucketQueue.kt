@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.scheduler
+
+import org.opendc.compute.simulator.scheduler.filters.CapacityFilter
+import org.opendc.compute.simulator.scheduler.filters.HostFilter
+import org.opendc.compute.simulator.service.HostView
+
+/**
+ * A bucket queue of hosts keyed by the number of tasks the scheduler placed on them, used by the memorizing
+ * schedulers to find the least loaded host that passes the filters.
+ *
+ * The [HostView.priorityIndex] of a host is the index of its bucket and [HostView.listIndex] its position in the
+ * bucket. Buckets are added as hosts receive more tasks, so there is no limit on the number of tasks per host.
+ *
+ * For every [CapacityFilter], each bucket keeps an upper bound on the capacity of its hosts. A bucket whose bound is
+ * below the demand of a request is skipped without testing its hosts. The bound is raised when a host enters the
+ * bucket and tightened to the exact maximum whenever all hosts of the bucket are tested.
+ *
+ * @param filters The list of filters to apply when searching for an appropriate host.
+ */
+internal class HostBucketQueue(filters: List<HostFilter>) {
+    private val filters = filters.toTypedArray()
+    private val capacityFilters = filters.filterIsInstance<CapacityFilter>().toTypedArray()
+
+    /**
+     * The buckets of the queue, where the index of a bucket is the number of tasks on its hosts.
+     */
+    private val buckets = ArrayList<Bucket>()
+
+    /**
+     * The index of the first bucket that may contain hosts.
+     */
+    private var minBucket = 0
+
+    /**
+     * The demand of the current request for each capacity filter.
+     */
+    private val demands = DoubleArray(capacityFilters.size)
+
+    /**
+     * The exact capacity bounds of the bucket that is being tested.
+     */
+    private val bounds = DoubleArray(capacityFilters.size)
+
+    /**
+     * The number of hosts in the queue.
+     */
+    var size = 0
+        private set
+
+    /**
+     * Add the specified [host] with no tasks to the queue.
+     */
+    fun add(host: HostView) {
+        insert(host, 0)
+        minBucket = 0
+        size++
+    }
+
+    /**
+     * Remove the specified [host] from the queue.
+     */
+    fun remove(host: HostView) {
+        detach(host)
+        advance()
+        size--
+    }
+
+    /**
+     * Move the specified [host] to the next bucket after a task has been placed on it.
+     */
+    fun promote(host: HostView) {
+        val index = host.priorityIndex
+        detach(host)
+        insert(host, index + 1)
+        advance()
+    }
+
+    /**
+     * Move the specified [host] to the previous bucket after a task has been removed from it.
+     */
+    fun demote(host: HostView) {
+        val index = host.priorityIndex
+        check(index > 0) { "Host has no tasks placed by the scheduler" }
+
+        detach(host)
+        insert(host, index - 1)
+        minBucket = minOf(minBucket, index - 1)
+    }
+
+    /**
+     * Find the first host in the least loaded bucket that passes all filters for the request described by [features].
+     *
+     * @param stopOnReject A flag to stop the search as soon as a host is rejected.
+     * @return The host that was found or `null` if no host passed the filters or a host was rejected while
+     * [stopOnReject] is set.
+     */
+    fun find(
+        features: SchedulingFeatures,
+        stopOnReject: Boolean,
+    ): HostView? {
+        val filters = filters
+        val capacityFilters = capacityFilters
+        val demands = demands
+        val bounds = bounds
+
+        for (i in capacityFilters.indices) {
+            demands[i] = capacityFilters[i].getDemand(features)
+        }
+
+        for (b in minBucket until buckets.size) {
+            val bucket = buckets[b]
+            val hosts = bucket.hosts
+            if (hosts.isEmpty()) {
+                continue
+            }
+
+            // None of the hosts in this bucket would pass the filters
+            if (!bucket.mayFit(demands)) {
+                if (stopOnReject) {
+                    return null
+                }
+                continue
+            }
+
+            bounds.fill(Double.NEGATIVE_INFINITY)
+
+            hosts@ for (i in hosts.indices) {
+                val host = hosts[i]
+                for (filter in filters) {
+                    if (!filter.test(host, features)) {
+                        if (stopOnReject) {
+                            return null
+                        }
+
+                        for (j in capacityFilters.indices) {
+                            bounds[j] = maxOf(bounds[j], capacityFilters[j].getCapacity(host))
+                        }
+                        continue@hosts
+                    }
+                }
+                return host
+            }
+
+            // All hosts were tested, so the bounds are exact
+            bounds.copyInto(bucket.bounds)
+        }
+
+        return null
+    }
+
+    /**
+     * Insert [host] at the end of the bucket at [index] and raise the capacity bounds of the bucket.
+     */
+    private fun insert(
+        host: HostView,
+        index: Int,
+    ) {
+        while (buckets.size <= index) {
+            buckets.add(Bucket(capacityFilters.size))
+        }
+
+        val bucket = buckets[index]
+        bucket.hosts.add(host)
+        host.priorityIndex = index
+        host.listIndex = bucket.hosts.size - 1
+
+        val capacityFilters = capacityFilters
+        val bounds = bucket.bounds
+        for (j in capacityFilters.indices) {
+            bounds[j] = maxOf(bounds[j], capacityFilters[j].getCapacity(host))
+        }
+    }
+
+    /**
+     * Remove [host] from its bucket by moving the last host of the bucket into its position.
+     */
+    private fun detach(host: HostView) {
+        val hosts = buckets[host.priorityIndex].hosts
+        val listIndex = host.listIndex
+        val last = hosts.removeLast()
+        if (last !== host) {
+            hosts[listIndex] = last
+            last.listIndex = listIndex
+        }
+    }
+
+    /**
+     * Move [minBucket] forward to the first bucket that contains hosts.
+     */
+    private fun advance() {
+        while (minBucket < buckets.size && buckets[minBucket].hosts.isEmpty()) {
+            minBucket++
+        }
+        if (minBucket == buckets.size) {
+            minBucket = 0
+        }
+    }
+
+    /**
+     * A bucket of hosts with the same number of tasks.
+     */
+    private class Bucket(capacityFilters: Int) {
+        /**
+         * The hosts in this bucket.
+         */
+        val hosts = ArrayList<HostView>()
+
+        /**
+         * An upper bound on the capacity of the hosts in this bucket for each capacity filter.
+         */
+        val bounds = DoubleArray(capacityFilters) { Double.NEGATIVE_INFINITY }
+
+        /**
+         * Determine whether a host in this bucket may satisfy the specified [demands].
+         */
+        fun mayFit(demands: DoubleArray): Boolean {
+            for (i in demands.indices) {
+                if (demands[i] > bounds[i]) {
+                    return false
+                }
+            }
+            return true
+        }
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.scheduler
+
+import org.opendc.compute.simulator.scheduler.filters.HostFilter
+import org.opendc.compute.simulator.scheduler.weights.HostWeigher
+import org.opendc.compute.simulator.service.HostView
+import org.opendc.compute.simulator.service.ServiceTask
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.RecursiveAction
+import java.util.random.RandomGenerator
+import kotlin.math.min
+
+/**
+ * Helper class to evaluate a pipeline of [HostFilter]s and [HostWeigher]s over a pool of hosts.
+ *
+ * The features of the request are extracted once into a [SchedulingFeatures] instance, after which the filters and
+ * weighers are applied to each host in a single pass. The candidates and their weights are kept in buffers that are
+ * reused across requests, so a scheduling decision does not allocate in the steady state.
+ *
+ * The weights are normalized and combined in the same order as [HostWeigher.getWeights] would, so the selected host is
+ * identical to that of evaluating the filters and weighers one after another.
+ *
+ * If a [pool] is given, large host pools are split into chunks of [chunkSize] hosts that are evaluated in parallel.
+ * Each chunk reduces its candidates to the best `subsetSize` ones, ranked by descending weight and then by position
+ * in the host pool, which is the order the sequential evaluation produces. Hence, the selected host does not depend on
+ * the evaluation mode. In this mode, the filters and weighers must be safe to invoke concurrently.
+ *
+ * @param filters The list of filters to apply when searching for an appropriate host.
+ * @param weighers The list of weighers to apply when searching for an appropriate host.
+ * @param pool The [ForkJoinPool] to evaluate the hosts in parallel with, or `null` to evaluate them sequentially.
+ * @param chunkSize The number of hosts evaluated by a single task in parallel mode.
+ */
+internal class HostEvaluator(
+    filters: List<HostFilter>,
+    weighers: List<HostWeigher>,
+    private val pool: ForkJoinPool? = null,
+    private val chunkSize: Int = DEFAULT_CHUNK_SIZE,
+) {
+    private val filters = filters.toTypedArray()
+    private val weighers = weighers.toTypedArray()
+
+    /**
+     * The features of the request that is currently evaluated.
+     */
+    private val features = SchedulingFeatures()
+
+    /**
+     * The hosts that passed all filters.
+     */
+    private var candidates = arrayOfNulls<HostView>(INITIAL_CAPACITY)
+
+    /**
+     * The raw weights of the candidates, one column per weigher.
+     */
+    private var columns = Array(this.weighers.size) { DoubleArray(INITIAL_CAPACITY) }
+
+    /**
+     * The minimum and maximum weight of each weigher.
+     */
+    private val minWeights = DoubleArray(this.weighers.size)
+    private val maxWeights = DoubleArray(this.weighers.size)
+
+    /**
+     * The combined weights of the candidates.
+     */
+    private var scores = DoubleArray(INITIAL_CAPACITY)
+
+    /**
+     * The positions of the candidates, which are partially ordered by [TopK].
+     */
+    private var positions = IntArray(INITIAL_CAPACITY)
+
+    init {
+        require(chunkSize >= 1) { "Chunk size must be one or greater" }
+    }
+
+    /**
+     * Select a host for [task] from [hosts] by choosing randomly between the [subsetSize] candidates with the highest
+     * weight.
+     *
+     * @return The selected host or `null` if no host passed the filters.
+     */
+    fun select(
+        hosts: List<HostView>,
+        task: ServiceTask,
+        subsetSize: Int,
+        random: RandomGenerator,
+    ): HostView? {
+        features.update(task)
+        ensureCapacity(hosts.size)
+
+        val pool = pool
+        if (pool != null && hosts.size >= 2 * chunkSize) {
+            // The features are read lazily, so read them upfront before sharing them with the workers
+            features.loadAll()
+            return selectParallel(pool, hosts, subsetSize, random)
+        }
+
+        minWeights.fill(Double.MAX_VALUE)
+        maxWeights.fill(Double.MIN_VALUE)
+
+        val count = evaluate(hosts, 0, hosts.size, minWeights, maxWeights)
+        val maxSize = min(subsetSize, count)
+        if (maxSize == 0) {
+            return null
+        }
+
+        val rank = random.nextInt(maxSize)
+        val host =
+            if (weighers.isEmpty()) {
+                candidates[rank]
+            } else {
+                score(0, count)
+
+                val positions = positions
+                for (i in 0 until count) {
+                    positions[i] = i
+                }
+                candidates[TopK.indexOfRank(scores, positions, 0, count, rank)]
+            }
+
+        // Do not keep the hosts reachable between requests
+        candidates.fill(null, 0, count)
+        return host
+    }
+
+    /**
+     * Select a host by evaluating chunks of [hosts] in parallel on [pool].
+     */
+    private fun selectParallel(
+        pool: ForkJoinPool,
+        hosts: List<HostView>,
+        subsetSize: Int,
+        random: RandomGenerator,
+    ): HostView? {
+        val chunks =
+            Array((hosts.size + chunkSize - 1) / chunkSize) {
+                Chunk(hosts, it * chunkSize, min(hosts.size, (it + 1) * chunkSize))
+            }
+
+        pool.invoke(ChunkAction(chunks, 0, chunks.size, -1))
+
+        var count = 0
+        minWeights.fill(Double.MAX_VALUE)
+        maxWeights.fill(Double.MIN_VALUE)
+        for (chunk in chunks) {
+            count += chunk.count
+            for (j in weighers.indices) {
+                minWeights[j] = kotlin.math.min(minWeights[j], chunk.minWeights[j])
+                maxWeights[j] = kotlin.math.max(maxWeights[j], chunk.maxWeights[j])
+            }
+        }
+
+        val maxSize = min(subsetSize, count)
+        if (maxSize == 0) {
+            return null
+        }
+
+        var rank = random.nextInt(maxSize)
+        val host =
+            if (weighers.isEmpty()) {
+                var position = -1
+                for (chunk in chunks) {
+                    if (rank < chunk.count) {
+                        position = chunk.from + rank
+                        break
+                    }
+                    rank -= chunk.count
+                }
+                candidates[position]
+            } else {
+                pool.invoke(ChunkAction(chunks, 0, chunks.size, maxSize))
+
+                // The best candidates of each chunk are at the front of its range, so gather them before ranking
+                val positions = positions
+                var size = 0
+                for (chunk in chunks) {
+                    System.arraycopy(positions, chunk.from, positions, size, chunk.topCount)
+                    size += chunk.topCount
+                }
+                candidates[TopK.indexOfRank(scores, positions, 0, size, rank)]
+            }
+
+        candidates.fill(null, 0, hosts.size)
+        return host
+    }
+
+    /**
+     * Apply the filters and weighers to the hosts in the range [from] to [to], store the candidates starting at
+     * position [from] and return the number of candidates.
+     */
+    private fun evaluate(
+        hosts: List<HostView>,
+        from: Int,
+        to: Int,
+        minWeights: DoubleArray,
+        maxWeights: DoubleArray,
+    ): Int {
+        val features = features
+        val filters = filters
+        val weighers = weighers
+        val candidates = candidates
+        val columns = columns
+
+        var position = from
+        hosts@ for (i in from until to) {
+            val host = hosts[i]
+            for (filter in filters) {
+                if (!filter.test(host, features)) {
+                    continue@hosts
+                }
+            }
+
+            candidates[position] = host
+            for (j in weighers.indices) {
+                val weight = weighers[j].getWeight(host, features)
+                columns[j][position] = weight
+                minWeights[j] = kotlin.math.min(minWeights[j], weight)
+                maxWeights[j] = kotlin.math.max(maxWeights[j], weight)
+            }
+            position++
+        }
+
+        return position - from
+    }
+
+    /**
+     * Combine the weights of the [count] candidates starting at position [from] into their score.
+     */
+    private fun score(
+        from: Int,
+        count: Int,
+    ) {
+        val scores = scores
+        val to = from + count
+        scores.fill(0.0, from, to)
+
+        for (j in weighers.indices) {
+            val min = minWeights[j]
+            val range = (maxWeights[j] - min)
+
+            // Skip weigher if all weights are the same
+            if (range == 0.0) {
+                continue
+            }
+
+            val factor = weighers[j].multiplier / range
+            val column = columns[j]
+            for (k in from until to) {
+                scores[k] += factor * (column[k] - min)
+            }
+        }
+    }
+
+    /**
+     * Grow the buffers to hold at least [capacity] candidates.
+     */
+    private fun ensureCapacity(capacity: Int) {
+        if (capacity <= candidates.size) {
+            return
+        }
+
+        val newCapacity = maxOf(capacity, candidates.size * 2)
+        candidates = candidates.copyOf(newCapacity)
+        columns = Array(weighers.size) { DoubleArray(newCapacity) }
+        scores = DoubleArray(newCapacity)
+        positions = IntArray(newCapacity)
+    }
+
+    /**
+     * A range of the host pool that is evaluated by a single task.
+     */
+    private inner class Chunk(val hosts: List<HostView>, val from: Int, val to: Int) {
+        var count = 0
+        val minWeights = DoubleArray(weighers.size) { Double.MAX_VALUE }
+        val maxWeights = DoubleArray(weighers.size) { Double.MIN_VALUE }
+        var topCount = 0
+
+        /**
+         * Filter and weigh the hosts in this chunk.
+         */
+        fun evaluate() {
+            count = evaluate(hosts, from, to, minWeights, maxWeights)
+        }
+
+        /**
+         * Score the candidates in this chunk and move the best [k] of them to the front of its range.
+         */
+        fun rank(k: Int) {
+            score(from, count)
+
+            val positions = positions
+            for (i in from until from + count) {
+                positions[i] = i
+            }
+            topCount = TopK.select(scores, positions, from, from + count, k)
+        }
+    }
+
+    /**
+     * A [RecursiveAction] that evaluates (if [k] is negative) or ranks the chunks in the range [from] to [to].
+     */
+    private class ChunkAction(
+        private val chunks: Array<HostEvaluator.Chunk>,
+        private val from: Int,
+        private val to: Int,
+        private val k: Int,
+    ) : RecursiveAction() {
+        override fun compute() {
+            if (to - from == 1) {
+                val chunk = chunks[from]
+                if (k < 0) chunk.evaluate() else chunk.rank(k)
+                return
+            }
+
+            val mid = (from + to) ushr 1
+            invokeAll(ChunkAction(chunks, from, mid, k), ChunkAction(chunks, mid, to, k))
+        }
+    }
+
+    private companion object {
+        /**
+         * The initial number of candidates the buffers can hold.
+         */
+        const val INITIAL_CAPACITY = 64
+
+        /**
+         * The default number of hosts evaluated by a single task in parallel mode.
+         */
+        const val DEFAULT_CHUNK_SIZE = 4096
+    }
+}
@@ -32,64 +32,30 @@ When scheduling a new task, it assign the next task to the host with the least n
 We filter hosts to check if the specific task can actually run on the host.
  */
 public class MemorizingScheduler(
-    private val filters: List<HostFilter>,
+    filters: List<HostFilter>,
     private val maxTimesSkipped: Int = 7,
 ) : ComputeScheduler {
-    // We assume that there will be max 100 tasks per host.
-    // The index of a host list is the number of tasks on that host.
-    private val hostsQueue = List(100, { mutableListOf<HostView>() })
-    private var minAvailableHost = 0
-    private var numHosts = 0
+    // The hosts ordered by the number of tasks on them.
+    private val hostsQueue = HostBucketQueue(filters)
+    private val features = SchedulingFeatures()
 
     override fun addHost(host: HostView) {
-        val zeroQueue = hostsQueue[0]
-        zeroQueue.add(host)
-        host.priorityIndex = 0
-        host.listIndex = zeroQueue.size - 1
-        numHosts++
-        minAvailableHost = 0
+        hostsQueue.add(host)
     }
 
     override fun removeHost(host: HostView) {
-        val priorityIdx = host.priorityIndex
-        val listIdx = host.listIndex
-        val chosenList = hostsQueue[priorityIdx]
-
-        if (chosenList.size == 1) {
-            chosenList.removeLast()
-            if (listIdx == minAvailableHost) {
-                for (i in minAvailableHost + 1..hostsQueue.lastIndex) {
-                    if (hostsQueue[i].size > 0) {
-                        minAvailableHost = i
-                        break
-                    }
-                }
-            }
-        } else {
-            val lastItem = chosenList.removeLast()
-            chosenList[listIdx] = lastItem
-            lastItem.listIndex = listIdx
-        }
-        numHosts--
+        hostsQueue.remove(host)
     }
 
     override fun select(iter: MutableIterator<SchedulingRequest>): SchedulingResult {
-        if (numHosts == 0) {
+        if (hostsQueue.size == 0) {
             return SchedulingResult(SchedulingResultType.FAILURE)
         }
 
-//        if (minAvailableHost == 1) {
-//            return SchedulingResult(SchedulingResultType.EMPTY);
-//        }
-
         val maxIters = 10000
         var numIters = 0
 
-        var chosenList: MutableList<HostView>? = null
-        var chosenHost: HostView? = null
-
-        var result: SchedulingResult? = null
-        taskloop@ for (req in iter) {
+        for (req in iter) {
             if (req.isCancelled) {
                 iter.remove()
                 continue
@@ -100,46 +66,19 @@ public class MemorizingScheduler(
                 return SchedulingResult(SchedulingResultType.EMPTY)
             }
 
-            for (chosenListIndex in minAvailableHost until hostsQueue.size) {
-                chosenList = hostsQueue[chosenListIndex]
-
-                for (host in chosenList) {
-                    val satisfied = filters.all { filter -> filter.test(host, req.task) }
-                    if (satisfied) {
-                        iter.remove()
-                        chosenHost = host
-                        result = SchedulingResult(SchedulingResultType.SUCCESS, host, req)
-                        break@taskloop
-                    } else if (req.timesSkipped >= maxTimesSkipped) {
-                        return SchedulingResult(SchedulingResultType.FAILURE, null, req)
-                    }
-                }
+            val stopOnReject = req.timesSkipped >= maxTimesSkipped
+            val host = hostsQueue.find(features.update(req.task), stopOnReject)
+            if (host != null) {
+                iter.remove()
+                hostsQueue.promote(host)
+                return SchedulingResult(SchedulingResultType.SUCCESS, host, req)
+            } else if (stopOnReject) {
+                return SchedulingResult(SchedulingResultType.FAILURE, null, req)
             }
             req.timesSkipped++
         }
 
-        if (result == null) return SchedulingResult(SchedulingResultType.EMPTY) // No tasks to schedule that fit
-
-        // Bookkeeping to maintain the calendar priority queue
-        if (chosenList!!.size == 1) {
-            chosenList.removeLast()
-            minAvailableHost++
-        } else {
-            val listIdx = chosenHost!!.listIndex
-            // Not using removeLast here as it would cause problems during swapping
-            // if chosenHost is lastItem
-            val lastItem = chosenList.last()
-            chosenList[listIdx] = lastItem
-            lastItem.listIndex = listIdx
-            chosenList.removeLast()
-        }
-
-        val nextList = hostsQueue[chosenHost!!.priorityIndex + 1]
-        nextList.add(chosenHost)
-        chosenHost.priorityIndex++
-        chosenHost.listIndex = nextList.size - 1
-
-        return result
+        return SchedulingResult(SchedulingResultType.EMPTY) // No tasks to schedule that fit
     }
 
     override fun removeTask(
@@ -148,25 +87,6 @@ public class MemorizingScheduler(
     ) {
         if (host == null) return
 
-        val priorityIdx = host.priorityIndex
-        val listIdx = host.listIndex
-        val chosenList = hostsQueue[priorityIdx]
-        val nextList = hostsQueue[priorityIdx - 1]
-
-        if (chosenList.size == 1) {
-            chosenList.removeLast()
-        } else {
-            val lastItem = chosenList.last()
-            chosenList[listIdx] = lastItem
-            lastItem.listIndex = listIdx
-            chosenList.removeLast()
-        }
-
-        nextList.add(host)
-        host.priorityIndex--
-        host.listIndex = nextList.size - 1
-        if (priorityIdx == minAvailableHost) {
-            minAvailableHost--
-        }
+        hostsQueue.demote(host)
     }
 }
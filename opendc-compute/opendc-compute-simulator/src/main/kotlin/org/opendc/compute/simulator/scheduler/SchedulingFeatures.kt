@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.scheduler
+
+import org.opendc.compute.simulator.service.ServiceTask
+import java.util.UUID
+
+/**
+ * The features of a [ServiceTask] that the built-in filters and weighers depend on, extracted once per
+ * [SchedulingRequest] so that evaluating a host does not need to go through the flavor or its metadata maps.
+ *
+ * Each feature is read from the task the first time it is accessed, so a request only pays for (and only touches) the
+ * fields that the configured filters and weighers depend on. Schedulers may reuse a single instance across requests by
+ * calling [update].
+ */
+public class SchedulingFeatures() {
+    /**
+     * The task the features were extracted from.
+     */
+    public lateinit var task: ServiceTask
+        private set
+
+    /**
+     * A bit set of the features that have been read from [task].
+     */
+    private var loaded = 0
+
+    private var cpuCoreCountValue = 0
+    private var memorySizeValue = 0L
+    private var gpuCoreCountValue = 0
+    private var cpuCapacityValue = Double.NaN
+    private var gpuCapacityValue = Double.NaN
+    private var sameHostValue: Set<UUID>? = null
+    private var differentHostValue: Set<UUID>? = null
+
+    /**
+     * The number of CPU cores requested by the task.
+     */
+    public val cpuCoreCount: Int
+        get() {
+            if (loaded and CPU_CORE_COUNT == 0) {
+                cpuCoreCountValue = task.flavor.cpuCoreCount
+                loaded = loaded or CPU_CORE_COUNT
+            }
+            return cpuCoreCountValue
+        }
+
+    /**
+     * The amount of memory requested by the task.
+     */
+    public val memorySize: Long
+        get() {
+            if (loaded and MEMORY_SIZE == 0) {
+                memorySizeValue = task.flavor.memorySize
+                loaded = loaded or MEMORY_SIZE
+            }
+            return memorySizeValue
+        }
+
+    /**
+     * The number of GPU cores requested by the task.
+     */
+    public val gpuCoreCount: Int
+        get() {
+            if (loaded and GPU_CORE_COUNT == 0) {
+                gpuCoreCountValue = task.flavor.gpuCoreCount
+                loaded = loaded or GPU_CORE_COUNT
+            }
+            return gpuCoreCountValue
+        }
+
+    /**
+     * The CPU capacity required by the task, or [Double.NaN] if the flavor does not specify it.
+     */
+    public val cpuCapacity: Double
+        get() {
+            if (loaded and CPU_CAPACITY == 0) {
+                cpuCapacityValue = task.flavor.meta["cpu-capacity"] as? Double ?: Double.NaN
+                loaded = loaded or CPU_CAPACITY
+            }
+            return cpuCapacityValue
+        }
+
+    /**
+     * The GPU capacity required by the task, or [Double.NaN] if the flavor does not specify it.
+     */
+    public val gpuCapacity: Double
+        get() {
+            if (loaded and GPU_CAPACITY == 0) {
+                gpuCapacityValue = task.flavor.meta["gpu-capacity"] as? Double ?: Double.NaN
+                loaded = loaded or GPU_CAPACITY
+            }
+            return gpuCapacityValue
+        }
+
+    /**
+     * The tasks that the task should be co-located with, or `null` if there is no such hint.
+     */
+    @Suppress("UNCHECKED_CAST")
+    public val sameHost: Set<UUID>?
+        get() {
+            if (loaded and SAME_HOST == 0) {
+                sameHostValue = task.meta["scheduler_hint:same_host"] as? Set<UUID>
+                loaded = loaded or SAME_HOST
+            }
+            return sameHostValue
+        }
+
+    /**
+     * The tasks that the task should not be co-located with, or `null` if there is no such hint.
+     */
+    @Suppress("UNCHECKED_CAST")
+    public val differentHost: Set<UUID>?
+        get() {
+            if (loaded and DIFFERENT_HOST == 0) {
+                differentHostValue = task.meta["scheduler_hint:different_host"] as? Set<UUID>
+                loaded = loaded or DIFFERENT_HOST
+            }
+            return differentHostValue
+        }
+
+    /**
+     * Construct the features of the specified [task].
+     */
+    public constructor(task: ServiceTask) : this() {
+        update(task)
+    }
+
+    /**
+     * Replace the features with those of the specified [task].
+     */
+    public fun update(task: ServiceTask): SchedulingFeatures {
+        this.task = task
+        loaded = 0
+        sameHostValue = null
+        differentHostValue = null
+        return this
+    }
+
+    /**
+     * Read all features from the task, so that the features can afterwards be accessed from multiple threads.
+     */
+    public fun loadAll(): SchedulingFeatures {
+        cpuCoreCount
+        memorySize
+        gpuCoreCount
+        cpuCapacity
+        gpuCapacity
+        sameHost
+        differentHost
+        return this
+    }
+
+    override fun toString(): String = "SchedulingFeatures[task=$task]"
+
+    private companion object {
+        const val CPU_CORE_COUNT = 1 shl 0
+        const val MEMORY_SIZE = 1 shl 1
+        const val GPU_CORE_COUNT = 1 shl 2
+        const val CPU_CAPACITY = 1 shl 3
+        const val GPU_CAPACITY = 1 shl 4
+        const val SAME_HOST = 1 shl 5
+        const val DIFFERENT_HOST = 1 shl 6
+    }
+}
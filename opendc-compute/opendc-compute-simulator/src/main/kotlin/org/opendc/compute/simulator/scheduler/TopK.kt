@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.scheduler
+
+/**
+ * Primitive top-k selection over the weights of scheduling candidates.
+ *
+ * Candidates are identified by their index into a weight array and are ranked by descending weight, with ties broken by
+ * ascending index. This is the order a stable descending sort produces, but the functions below only partially order
+ * the candidates: small selections use a bounded heap and larger selections use quickselect.
+ */
+internal object TopK {
+    /**
+     * The largest selection for which a bounded heap is used instead of quickselect.
+     */
+    private const val HEAP_LIMIT = 16
+
+    /**
+     * Move the best [k] candidates in `indices[from, to)` to the front of that range, in no particular order.
+     *
+     * @return The number of candidates selected, which is at most [k].
+     */
+    fun select(
+        weights: DoubleArray,
+        indices: IntArray,
+        from: Int,
+        to: Int,
+        k: Int,
+    ): Int {
+        val n = to - from
+        if (k >= n) {
+            return n
+        } else if (k <= 0) {
+            return 0
+        }
+
+        partition(weights, indices, from, to, k)
+        return k
+    }
+
+    /**
+     * Return the candidate at position [rank] when the candidates in `indices[from, to)` are ordered by descending
+     * weight. The range is reordered in the process.
+     */
+    fun indexOfRank(
+        weights: DoubleArray,
+        indices: IntArray,
+        from: Int,
+        to: Int,
+        rank: Int,
+    ): Int {
+        require(rank >= 0 && rank < to - from) { "Rank out of bounds" }
+
+        if (rank == 0) {
+            var best = indices[from]
+            for (i in from + 1 until to) {
+                val index = indices[i]
+                if (isBefore(weights, index, best)) {
+                    best = index
+                }
+            }
+            return best
+        }
+
+        partition(weights, indices, from, to, rank + 1)
+        return indices[from + rank]
+    }
+
+    /**
+     * Reorder `indices[from, to)` such that the candidate at rank `k - 1` is at position `from + k - 1` and all better
+     * candidates precede it.
+     */
+    private fun partition(
+        weights: DoubleArray,
+        indices: IntArray,
+        from: Int,
+        to: Int,
+        k: Int,
+    ) {
+        if (k <= HEAP_LIMIT) {
+            heapSelect(weights, indices, from, to, k)
+        } else {
+            quickSelect(weights, indices, from, to, from + k - 1)
+        }
+    }
+
+    /**
+     * Select the best [k] candidates using a heap of size [k] whose root is the worst candidate selected so far.
+     */
+    private fun heapSelect(
+        weights: DoubleArray,
+        indices: IntArray,
+        from: Int,
+        to: Int,
+        k: Int,
+    ) {
+        for (i in k / 2 - 1 downTo 0) {
+            siftDown(weights, indices, from, i, k)
+        }
+
+        for (i in from + k until to) {
+            if (isBefore(weights, indices[i], indices[from])) {
+                swap(indices, from, i)
+                siftDown(weights, indices, from, 0, k)
+            }
+        }
+
+        swap(indices, from, from + k - 1)
+    }
+
+    private fun siftDown(
+        weights: DoubleArray,
+        indices: IntArray,
+        from: Int,
+        start: Int,
+        size: Int,
+    ) {
+        var i = start
+        while (true) {
+            val left = 2 * i + 1
+            if (left >= size) {
+                break
+            }
+
+            // Pick the worst child
+            val right = left + 1
+            var child = left
+            if (right < size && isBefore(weights, indices[from + left], indices[from + right])) {
+                child = right
+            }
+
+            if (!isBefore(weights, indices[from + i], indices[from + child])) {
+                break
+            }
+
+            swap(indices, from + i, from + child)
+            i = child
+        }
+    }
+
+    /**
+     * Move the candidate of rank `target - from` to position [target] using quickselect with a median-of-three pivot.
+     * Since the order is total, there are no equal keys that could degrade the partitioning.
+     */
+    private fun quickSelect(
+        weights: DoubleArray,
+        indices: IntArray,
+        from: Int,
+        to: Int,
+        target: Int,
+    ) {
+        var lo = from
+        var hi = to - 1
+        while (lo < hi) {
+            val mid = (lo + hi) ushr 1
+            if (isBefore(weights, indices[mid], indices[lo])) swap(indices, lo, mid)
+            if (isBefore(weights, indices[hi], indices[lo])) swap(indices, lo, hi)
+            if (isBefore(weights, indices[hi], indices[mid])) swap(indices, mid, hi)
+
+            // Place the median at the end and partition the remainder around it
+            swap(indices, mid, hi)
+            val pivot = indices[hi]
+            var store = lo
+            for (i in lo until hi) {
+                if (isBefore(weights, indices[i], pivot)) {
+                    swap(indices, i, store++)
+                }
+            }
+            swap(indices, store, hi)
+
+            when {
+                store == target -> return
+                store < target -> lo = store + 1
+                else -> hi = store - 1
+            }
+        }
+    }
+
+    /**
+     * Determine whether the candidate [a] ranks before candidate [b].
+     */
+    private fun isBefore(
+        weights: DoubleArray,
+        a: Int,
+        b: Int,
+    ): Boolean {
+        val cmp = weights[a].compareTo(weights[b])
+        return cmp > 0 || (cmp == 0 && a < b)
+    }
+
+    private fun swap(
+        indices: IntArray,
+        i: Int,
+        j: Int,
+    ) {
+        val tmp = indices[i]
+        indices[i] = indices[j]
+        indices[j] = tmp
+    }
+}
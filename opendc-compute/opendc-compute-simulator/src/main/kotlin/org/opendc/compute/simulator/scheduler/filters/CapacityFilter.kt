@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.scheduler.filters
+
+import org.opendc.compute.simulator.scheduler.SchedulingFeatures
+import org.opendc.compute.simulator.service.HostView
+
+/**
+ * A [HostFilter] that only accepts a host if the demand of the request does not exceed a capacity of the host.
+ *
+ * Schedulers use this to keep an upper bound on the capacity of a group of hosts, so that they can skip the group
+ * without testing each host. Hence, the capacity of a host may only grow when a task is removed from it, after which
+ * the scheduler is informed through [ComputeScheduler.removeTask].
+ */
+public interface CapacityFilter : HostFilter {
+    /**
+     * Return the capacity of the specified [host], which must be at least the demand of every request it accepts.
+     */
+    public fun getCapacity(host: HostView): Double
+
+    /**
+     * Return the demand of the request described by [features].
+     */
+    public fun getDemand(features: SchedulingFeatures): Double
+}
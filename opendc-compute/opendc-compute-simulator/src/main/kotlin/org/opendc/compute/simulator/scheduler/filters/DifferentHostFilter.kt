@@ -22,6 +22,7 @@
 
 package org.opendc.compute.simulator.scheduler.filters
 
+import org.opendc.compute.simulator.scheduler.SchedulingFeatures
 import org.opendc.compute.simulator.service.HostView
 import org.opendc.compute.simulator.service.ServiceTask
 import java.util.UUID
@@ -35,7 +36,21 @@ public class DifferentHostFilter : HostFilter {
         task: ServiceTask,
     ): Boolean {
         @Suppress("UNCHECKED_CAST")
-        val affinityUUIDs = task.meta["scheduler_hint:different_host"] as? Set<UUID> ?: return true
+        return test(host, task.meta["scheduler_hint:different_host"] as? Set<UUID>)
+    }
+
+    override fun test(
+        host: HostView,
+        features: SchedulingFeatures,
+    ): Boolean = test(host, features.differentHost)
+
+    private fun test(
+        host: HostView,
+        affinityUUIDs: Set<UUID>?,
+    ): Boolean {
+        if (affinityUUIDs == null) {
+            return true
+        }
         return host.host.getInstances().none { it.uid in affinityUUIDs }
     }
 }
@@ -22,6 +22,7 @@
 
 package org.opendc.compute.simulator.scheduler.filters
 
+import org.opendc.compute.simulator.scheduler.SchedulingFeatures
 import org.opendc.compute.simulator.service.HostView
 import org.opendc.compute.simulator.service.ServiceTask
 
@@ -37,4 +38,13 @@ public fun interface HostFilter {
         host: HostView,
         task: ServiceTask,
     ): Boolean
+
+    /**
+     * Test whether the specified [host] should be included in the selection for the scheduling request described
+     * by [features]. Filters should override this method to work on the pre-extracted features instead of the task.
+     */
+    public fun test(
+        host: HostView,
+        features: SchedulingFeatures,
+    ): Boolean = test(host, features.task)
 }
@@ -22,6 +22,7 @@
 
 package org.opendc.compute.simulator.scheduler.filters
 
+import org.opendc.compute.simulator.scheduler.SchedulingFeatures
 import org.opendc.compute.simulator.service.HostView
 import org.opendc.compute.simulator.service.ServiceTask
 
@@ -30,12 +31,29 @@ import org.opendc.compute.simulator.service.ServiceTask
  *
  * @param allocationRatio Virtual RAM to physical RAM allocation ratio.
  */
-public class RamFilter(private val allocationRatio: Double) : HostFilter {
+public class RamFilter(private val allocationRatio: Double) : CapacityFilter {
     override fun test(
         host: HostView,
         task: ServiceTask,
+    ): Boolean = test(host, task.flavor.memorySize)
+
+    override fun test(
+        host: HostView,
+        features: SchedulingFeatures,
+    ): Boolean = test(host, features.memorySize)
+
+    override fun getCapacity(host: HostView): Double {
+        val memoryCapacity = host.host.getModel().memoryCapacity
+        val usable = memoryCapacity * allocationRatio - (memoryCapacity - host.availableMemory)
+        return minOf(memoryCapacity.toDouble(), usable)
+    }
+
+    override fun getDemand(features: SchedulingFeatures): Double = features.memorySize.toDouble()
+
+    private fun test(
+        host: HostView,
+        requestedMemory: Long,
     ): Boolean {
-        val requestedMemory = task.flavor.memorySize
         val availableMemory = host.availableMemory
         val memoryCapacity = host.host.getModel().memoryCapacity
 
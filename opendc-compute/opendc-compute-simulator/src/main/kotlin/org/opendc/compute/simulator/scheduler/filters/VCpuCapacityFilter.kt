@@ -22,6 +22,7 @@
 
 package org.opendc.compute.simulator.scheduler.filters
 
+import org.opendc.compute.simulator.scheduler.SchedulingFeatures
 import org.opendc.compute.simulator.service.HostView
 import org.opendc.compute.simulator.service.ServiceTask
 
@@ -33,14 +34,19 @@ public class VCpuCapacityFilter : HostFilter {
     override fun test(
         host: HostView,
         task: ServiceTask,
-    ): Boolean {
-        val requiredCapacity = task.flavor.meta["cpu-capacity"] as? Double
-        val availableCapacity = host.host.getModel().cpuCapacity
+    ): Boolean = test(host, task.flavor.meta["cpu-capacity"] as? Double ?: Double.NaN, task.flavor.cpuCoreCount)
+
+    override fun test(
+        host: HostView,
+        features: SchedulingFeatures,
+    ): Boolean = test(host, features.cpuCapacity, features.cpuCoreCount)
 
-        return (
-            requiredCapacity == null ||
-                (availableCapacity / host.host.getModel().coreCount)
-                >= (requiredCapacity / task.flavor.cpuCoreCount)
-        )
+    private fun test(
+        host: HostView,
+        requiredCapacity: Double,
+        cpuCoreCount: Int,
+    ): Boolean {
+        val model = host.host.getModel()
+        return requiredCapacity.isNaN() || (model.cpuCapacity / model.coreCount) >= (requiredCapacity / cpuCoreCount)
     }
 }
@@ -22,6 +22,7 @@
 
 package org.opendc.compute.simulator.scheduler.filters
 
+import org.opendc.compute.simulator.scheduler.SchedulingFeatures
 import org.opendc.compute.simulator.service.HostView
 import org.opendc.compute.simulator.service.ServiceTask
 
@@ -30,12 +31,28 @@ import org.opendc.compute.simulator.service.ServiceTask
  *
  * @param allocationRatio Virtual CPU to physical CPU allocation ratio.
  */
-public class VCpuFilter(private val allocationRatio: Double) : HostFilter {
+public class VCpuFilter(private val allocationRatio: Double) : CapacityFilter {
     override fun test(
         host: HostView,
         task: ServiceTask,
+    ): Boolean = test(host, task.flavor.cpuCoreCount)
+
+    override fun test(
+        host: HostView,
+        features: SchedulingFeatures,
+    ): Boolean = test(host, features.cpuCoreCount)
+
+    override fun getCapacity(host: HostView): Double {
+        val totalCores = host.host.getModel().coreCount
+        return minOf(totalCores.toDouble(), totalCores * allocationRatio - host.provisionedCpuCores)
+    }
+
+    override fun getDemand(features: SchedulingFeatures): Double = features.cpuCoreCount.toDouble()
+
+    private fun test(
+        host: HostView,
+        requested: Int,
     ): Boolean {
-        val requested = task.flavor.cpuCoreCount
         val totalCores = host.host.getModel().coreCount
         val limit = totalCores * allocationRatio
 
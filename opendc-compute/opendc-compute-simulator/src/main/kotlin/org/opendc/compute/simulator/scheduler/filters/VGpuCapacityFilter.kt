@@ -22,9 +22,9 @@
 
 package org.opendc.compute.simulator.scheduler.filters
 
+import org.opendc.compute.simulator.scheduler.SchedulingFeatures
 import org.opendc.compute.simulator.service.HostView
 import org.opendc.compute.simulator.service.ServiceTask
-import kotlin.collections.maxOfOrNull
 
 /**
  * A [HostFilter] that filters hosts based on the vCPU speed requirements of a [ServiceTask] and the available
@@ -34,15 +34,20 @@ public class VGpuCapacityFilter : HostFilter {
     override fun test(
         host: HostView,
         task: ServiceTask,
-    ): Boolean {
-        val requiredCapacity = task.flavor.meta["gpu-capacity"] as? Double
-        val availableCapacity = (host.host.getModel().gpuHostModels().maxOfOrNull { it.gpuCoreCapacity() } ?: 0).toDouble()
-        val availableCores = (host.host.getModel().gpuHostModels().maxOfOrNull { it -> it.gpuCoreCount } ?: -1).toDouble()
-        val availableRatio = availableCapacity / availableCores
+    ): Boolean = test(host, task.flavor.meta["gpu-capacity"] as? Double ?: Double.NaN, task.flavor.gpuCoreCount)
+
+    override fun test(
+        host: HostView,
+        features: SchedulingFeatures,
+    ): Boolean = test(host, features.gpuCapacity, features.gpuCoreCount)
 
-        return (
-            requiredCapacity == null ||
-                ((availableCapacity / availableCores) >= (requiredCapacity / task.flavor.gpuCoreCount))
-        )
+    private fun test(
+        host: HostView,
+        requiredCapacity: Double,
+        gpuCoreCount: Int,
+    ): Boolean {
+        val availableCapacity = host.gpuCoreCapacity
+        val availableCores = if (host.gpuCount == 0) -1.0 else host.gpuCoreCount.toDouble()
+        return requiredCapacity.isNaN() || (availableCapacity / availableCores) >= (requiredCapacity / gpuCoreCount)
     }
 }
@@ -22,6 +22,7 @@
 
 package org.opendc.compute.simulator.scheduler.filters
 
+import org.opendc.compute.simulator.scheduler.SchedulingFeatures
 import org.opendc.compute.simulator.service.HostView
 import org.opendc.compute.simulator.service.ServiceTask
 
@@ -30,13 +31,29 @@ import org.opendc.compute.simulator.service.ServiceTask
  *
  * @param allocationRatio Virtual CPU to physical CPU allocation ratio.
  */
-public class VGpuFilter(private val allocationRatio: Double) : HostFilter {
+public class VGpuFilter(private val allocationRatio: Double) : CapacityFilter {
     override fun test(
         host: HostView,
         task: ServiceTask,
+    ): Boolean = test(host, task.flavor.gpuCoreCount)
+
+    override fun test(
+        host: HostView,
+        features: SchedulingFeatures,
+    ): Boolean = test(host, features.gpuCoreCount)
+
+    override fun getCapacity(host: HostView): Double {
+        val totalCores = host.gpuCoreCount
+        return minOf(totalCores.toDouble(), totalCores * allocationRatio - host.provisionedGpuCores)
+    }
+
+    override fun getDemand(features: SchedulingFeatures): Double = features.gpuCoreCount.toDouble()
+
+    private fun test(
+        host: HostView,
+        requested: Int,
     ): Boolean {
-        val requested = task.flavor.gpuCoreCount
-        val totalCores = host.host.getModel().gpuHostModels().maxOfOrNull { it.gpuCoreCount() } ?: 0
+        val totalCores = host.gpuCoreCount
         val limit = totalCores * allocationRatio
 
         // Do not allow an instance to overcommit against itself, only against other instances
@@ -23,6 +23,7 @@
 package org.opendc.compute.simulator.scheduler.timeshift
 
 import org.opendc.compute.simulator.scheduler.ComputeScheduler
+import org.opendc.compute.simulator.scheduler.HostEvaluator
 import org.opendc.compute.simulator.scheduler.SchedulingRequest
 import org.opendc.compute.simulator.scheduler.SchedulingResult
 import org.opendc.compute.simulator.scheduler.SchedulingResultType
@@ -36,11 +37,10 @@ import java.time.InstantSource
 import java.util.LinkedList
 import java.util.SplittableRandom
 import java.util.random.RandomGenerator
-import kotlin.math.min
 
 public class TimeshiftScheduler(
-    private val filters: List<HostFilter>,
-    private val weighers: List<HostWeigher>,
+    filters: List<HostFilter>,
+    weighers: List<HostWeigher>,
     override val windowSize: Int,
     override val clock: InstantSource,
     private val subsetSize: Int = 1,
@@ -55,6 +55,11 @@ public class TimeshiftScheduler(
      */
     private val hosts = mutableListOf<HostView>()
 
+    /**
+     * The evaluator that applies the filters and weighers to the pool of hosts.
+     */
+    private val evaluator = HostEvaluator(filters, weighers)
+
     init {
         require(subsetSize >= 1) { "Subset size must be one or greater" }
     }
@@ -103,47 +108,13 @@ public class TimeshiftScheduler(
                 }
             }
 
-            val filteredHosts = hosts.filter { host -> filters.all { filter -> filter.test(host, task) } }
-
-            val subset =
-                if (weighers.isNotEmpty()) {
-                    val filterResults = weighers.map { it.getWeights(filteredHosts, task) }
-                    val weights = DoubleArray(filteredHosts.size)
-
-                    for (fr in filterResults) {
-                        val min = fr.min
-                        val range = (fr.max - min)
-
-                        // Skip result if all weights are the same
-                        if (range == 0.0) {
-                            continue
-                        }
-
-                        val multiplier = fr.multiplier
-                        val factor = multiplier / range
-
-                        for ((i, weight) in fr.weights.withIndex()) {
-                            weights[i] += factor * (weight - min)
-                        }
-                    }
-
-                    weights.indices
-                        .asSequence()
-                        .sortedByDescending { weights[it] }
-                        .map { filteredHosts[it] }
-                        .take(subsetSize)
-                        .toList()
-                } else {
-                    filteredHosts
-                }
-
-            val maxSize = min(subsetSize, subset.size)
-            if (maxSize == 0) {
+            val host = evaluator.select(hosts, task, subsetSize, random)
+            if (host == null) {
                 result = SchedulingResult(SchedulingResultType.FAILURE, null, req)
                 break
             } else {
                 iter.remove()
-                result = SchedulingResult(SchedulingResultType.SUCCESS, subset[random.nextInt(maxSize)], req)
+                result = SchedulingResult(SchedulingResultType.SUCCESS, host, req)
                 break
             }
         }
@@ -22,6 +22,7 @@
 
 package org.opendc.compute.simulator.scheduler.weights
 
+import org.opendc.compute.simulator.scheduler.SchedulingFeatures
 import org.opendc.compute.simulator.service.HostView
 import org.opendc.compute.simulator.service.ServiceTask
 
@@ -42,6 +43,15 @@ public interface HostWeigher {
         task: ServiceTask,
     ): Double
 
+    /**
+     * Obtain the weight of the specified [host] for the scheduling request described by [features]. Weighers should
+     * override this method to work on the pre-extracted features instead of the task.
+     */
+    public fun getWeight(
+        host: HostView,
+        features: SchedulingFeatures,
+    ): Double = getWeight(host, features.task)
+
     /**
      * Obtain the weights for [hosts] when scheduling the specified [task].
      */
@@ -22,6 +22,7 @@
 
 package org.opendc.compute.simulator.scheduler.weights
 
+import org.opendc.compute.simulator.scheduler.SchedulingFeatures
 import org.opendc.compute.simulator.service.HostView
 import org.opendc.compute.simulator.service.ServiceTask
 
@@ -32,10 +33,22 @@ public class VCpuCapacityWeigher(override val multiplier: Double = 1.0) : HostWe
     override fun getWeight(
         host: HostView,
         task: ServiceTask,
+    ): Double = getWeight(host, task.flavor.meta["cpu-capacity"] as? Double ?: 0.0, task.flavor.cpuCoreCount)
+
+    override fun getWeight(
+        host: HostView,
+        features: SchedulingFeatures,
+    ): Double {
+        val requiredCapacity = if (features.cpuCapacity.isNaN()) 0.0 else features.cpuCapacity
+        return getWeight(host, requiredCapacity, features.cpuCoreCount)
+    }
+
+    private fun getWeight(
+        host: HostView,
+        requiredCapacity: Double,
+        cpuCoreCount: Int,
     ): Double {
-        val model = host.host.getModel()
-        val requiredCapacity = task.flavor.meta["cpu-capacity"] as? Double ?: 0.0
-        return model.cpuCapacity - requiredCapacity / task.flavor.cpuCoreCount
+        return host.host.getModel().cpuCapacity - requiredCapacity / cpuCoreCount
     }
 
     override fun toString(): String = "VCpuWeigher"
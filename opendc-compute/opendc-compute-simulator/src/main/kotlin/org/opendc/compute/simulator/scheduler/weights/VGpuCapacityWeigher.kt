@@ -22,6 +22,7 @@
 
 package org.opendc.compute.simulator.scheduler.weights
 
+import org.opendc.compute.simulator.scheduler.SchedulingFeatures
 import org.opendc.compute.simulator.service.HostView
 import org.opendc.compute.simulator.service.ServiceTask
 
@@ -32,11 +33,22 @@ public class VGpuCapacityWeigher(override val multiplier: Double = 1.0) : HostWe
     override fun getWeight(
         host: HostView,
         task: ServiceTask,
+    ): Double = getWeight(host, task.flavor.meta["gpu-capacity"] as? Double ?: 0.0, task.flavor.gpuCoreCount)
+
+    override fun getWeight(
+        host: HostView,
+        features: SchedulingFeatures,
+    ): Double {
+        val requiredCapacity = if (features.gpuCapacity.isNaN()) 0.0 else features.gpuCapacity
+        return getWeight(host, requiredCapacity, features.gpuCoreCount)
+    }
+
+    private fun getWeight(
+        host: HostView,
+        requiredCapacity: Double,
+        gpuCoreCount: Int,
     ): Double {
-        val model = host.host.getModel()
-        val requiredCapacity = task.flavor.meta["gpu-capacity"] as? Double ?: 0.0
-        val availableCapacity = model.gpuHostModels.maxOfOrNull { it.gpuCoreCapacity } ?: 0.0
-        return availableCapacity - requiredCapacity / task.flavor.gpuCoreCount
+        return host.gpuCoreCapacity - requiredCapacity / gpuCoreCount
     }
 
     override fun toString(): String = "VGpuWeigher"
@@ -32,14 +32,17 @@ import org.opendc.common.asCoroutineDispatcher
 import org.opendc.compute.simulator.host.SimHost
 import org.opendc.compute.simulator.service.ComputeService
 import org.opendc.compute.simulator.service.ServiceTask
+import org.opendc.compute.simulator.telemetry.table.Retainable
 import org.opendc.compute.simulator.telemetry.table.battery.BatteryTableReaderImpl
 import org.opendc.compute.simulator.telemetry.table.host.HostTableReaderImpl
 import org.opendc.compute.simulator.telemetry.table.powerSource.PowerSourceTableReaderImpl
 import org.opendc.compute.simulator.telemetry.table.service.ServiceTableReaderImpl
 import org.opendc.compute.simulator.telemetry.table.task.TaskTableReaderImpl
 import org.opendc.simulator.compute.power.SimPowerSource
+import org.opendc.simulator.compute.power.batteries.BatteryState
 import org.opendc.simulator.compute.power.batteries.SimBattery
 import java.time.Duration
+import kotlin.math.min
 
 /**
  * A helper class to collect metrics from a [ComputeService] instance and automatically export the metrics every
@@ -47,11 +50,15 @@ import java.time.Duration
  *
  * @param dispatcher A [Dispatcher] for scheduling the future events.
  * @param service The [ComputeService] to monitor.
- * @param monitor The monitor to export the metrics to.
+ * @param monitor The monitor to export the metrics to. The rows passed to the monitor are reused in later export
+ * intervals, so monitors that keep a row after recording it should retain it (see [Retainable]).
  * @param exportInterval The export interval.
+ * @param taskExportMode The way in which the rows of the task table are exported.
+ * @param skipStationaryIntervals A flag to indicate that the reader should skip over export intervals in which the
+ * system does not change, deriving their rows from the last recorded row instead of recording them.
  */
 public class ComputeMetricReader(
-    dispatcher: Dispatcher,
+    private val dispatcher: Dispatcher,
     private val service: ComputeService,
     private val monitor: ComputeMonitor,
     private val exportInterval: Duration = Duration.ofMinutes(5),
@@ -65,6 +72,8 @@ public class ComputeMetricReader(
             OutputFiles.SERVICE to true,
         ),
     private val printFrequency: Int? = null,
+    private val taskExportMode: TaskExportMode = TaskExportMode.PERIODIC,
+    private val skipStationaryIntervals: Boolean = false,
 ) : AutoCloseable {
     private val logger = KotlinLogging.logger {}
     private val scope = CoroutineScope(dispatcher.asCoroutineDispatcher())
@@ -91,6 +100,12 @@ public class ComputeMetricReader(
      */
     private val taskTableReaders = mutableMapOf<ServiceTask, TaskTableReaderImpl>()
 
+    /**
+     * Mapping from [ServiceTask] instances to the row that is not yet exported, because the task did not change since
+     * (only used in [TaskExportMode.DELTA]).
+     */
+    private val pendingTaskRows = mutableMapOf<ServiceTask, TaskTableReaderImpl>()
+
     /**
      * Mapping from [SimPowerSource] instances to [PowerSourceTableReaderImpl]
      */
@@ -101,6 +116,11 @@ public class ComputeMetricReader(
      */
     private val batteryTableReaders = mutableMapOf<SimBattery, BatteryTableReaderImpl>()
 
+    /**
+     * The number of tasks the dispatcher had run at the end of the previous export interval, or `-1` if unknown.
+     */
+    private var lastExecutedTaskCount = -1L
+
     /**
      * The background job that is responsible for collecting the metrics every cycle.
      */
@@ -108,19 +128,64 @@ public class ComputeMetricReader(
         scope.launch {
             val intervalMs = exportInterval.toMillis()
             try {
+                var delayMs = intervalMs
                 while (isActive) {
-                    delay(intervalMs)
+                    delay(delayMs)
 
-                    loggState()
+                    val stationaryIntervals = countStationaryIntervals()
+                    loggState(stationaryIntervals)
+                    lastExecutedTaskCount = dispatcher.executedTaskCount
+
+                    // The rows of the stationary intervals have already been exported
+                    delayMs = intervalMs * (stationaryIntervals + 1)
                 }
             } finally {
+                flushPendingTaskRows()
+
                 if (monitor is AutoCloseable) {
                     monitor.close()
                 }
             }
         }
 
+    /**
+     * Determine the number of export intervals following the current one in which the system is guaranteed not to
+     * change, such that their rows can be derived from the current row instead of being recorded.
+     *
+     * The system is stationary if the dispatcher did not run any task besides this reader during the last export
+     * interval and has no task pending before the end of the following intervals, since every change to the system
+     * happens in a task of the dispatcher.
+     */
+    private fun countStationaryIntervals(): Long {
+        val executedTaskCount = dispatcher.executedTaskCount
+        if (!skipStationaryIntervals || lastExecutedTaskCount < 0 || executedTaskCount - lastExecutedTaskCount != 1L) {
+            return 0
+        }
+
+        // The charge of a (dis)charging battery changes continuously, so its rows cannot be derived from the last row
+        if (toMonitor[OutputFiles.BATTERY] == true && service.batteries.any { it.batteryState != BatteryState.IDLE }) {
+            return 0
+        }
+
+        val now = clock.millis()
+        val nextDeadline = dispatcher.nextDeadline
+        if (nextDeadline <= now) {
+            return 0
+        }
+
+        // Only derive the rows of the intervals that end strictly before the next task runs
+        return min((nextDeadline - 1 - now) / exportInterval.toMillis(), MAX_STATIONARY_INTERVALS)
+    }
+
     public fun loggState() {
+        loggState(0)
+    }
+
+    /**
+     * Record the state of the system and export the rows of the current export interval, followed by the rows of the
+     * [stationaryIntervals] export intervals after it in which the system is known not to change.
+     */
+    private fun loggState(stationaryIntervals: Long) {
         loggCounter++
         try {
             val now = this.clock.instant()
@@ -135,8 +200,7 @@ public class ComputeMetricReader(
                             )
                         }
                     reader.record(now)
-                    this.monitor.record(reader.copy())
-                    reader.reset()
+                    exportHost(reader)
                 }
             }
 
@@ -151,13 +215,16 @@ public class ComputeMetricReader(
                             )
                         }
                     reader.record(now)
-                    this.monitor.record(reader.copy())
-                    reader.reset()
+                    exportTask(task, reader)
                 }
             }
 
             for (task in this.service.tasksToRemove) {
                 this.taskTableReaders.remove(task)
+                this.pendingTaskRows.remove(task)?.let {
+                    this.monitor.record(it)
+                    it.release()
+                }
                 task.delete()
             }
             this.service.clearTasksToRemove()
@@ -173,8 +240,7 @@ public class ComputeMetricReader(
                         }
 
                     reader.record(now)
-                    this.monitor.record(reader.copy())
-                    reader.reset()
+                    exportPowerSource(reader)
                 }
             }
 
@@ -189,16 +255,21 @@ public class ComputeMetricReader(
                         }
 
                     reader.record(now)
-                    this.monitor.record(reader.copy())
-                    reader.reset()
+                    exportBattery(reader)
                 }
             }
 
             if (toMonitor[OutputFiles.SERVICE] == true) {
                 this.serviceTableReader.record(now)
-                monitor.record(this.serviceTableReader.copy())
+                exportService()
+            }
+
+            for (i in 0 until stationaryIntervals) {
+                exportStationaryInterval()
             }
 
+            resetReaders()
+
             if (printFrequency != null && loggCounter % printFrequency == 0) {
                 var loggString = "\n\t\t\t\t\tMetrics after ${now.toEpochMilli() / 1000 / 60 / 60} hours:\n"
                 loggString += "\t\t\t\t\t\tTasks Total: ${this.serviceTableReader.tasksTotal}\n"
@@ -214,7 +285,161 @@ public class ComputeMetricReader(
         }
     }
 
+    /**
+     * Export the rows of the next export interval by moving the readers of the previous interval forward in time.
+     */
+    private fun exportStationaryInterval() {
+        val intervalMs = exportInterval.toMillis()
+
+        if (toMonitor[OutputFiles.HOST] == true) {
+            for (host in this.service.hosts) {
+                val reader = this.hostTableReaders.getValue(host)
+                reader.advance(intervalMs)
+                exportHost(reader)
+            }
+        }
+
+        if (toMonitor[OutputFiles.TASK] == true) {
+            for (task in this.service.tasks.values) {
+                val reader = this.taskTableReaders.getValue(task)
+                reader.advance(intervalMs)
+                exportTask(task, reader)
+            }
+        }
+
+        if (toMonitor[OutputFiles.POWER_SOURCE] == true) {
+            for (simPowerSource in this.service.powerSources) {
+                val reader = this.powerSourceTableReaders.getValue(simPowerSource)
+                reader.advance(intervalMs)
+                exportPowerSource(reader)
+            }
+        }
+
+        if (toMonitor[OutputFiles.BATTERY] == true) {
+            for (simBattery in this.service.batteries) {
+                val reader = this.batteryTableReaders.getValue(simBattery)
+                reader.advance(intervalMs)
+                exportBattery(reader)
+            }
+        }
+
+        if (toMonitor[OutputFiles.SERVICE] == true) {
+            this.serviceTableReader.advance(intervalMs)
+            exportService()
+        }
+    }
+
+    /**
+     * Finish the aggregation of the readers for this cycle.
+     */
+    private fun resetReaders() {
+        if (toMonitor[OutputFiles.HOST] == true) {
+            for (host in this.service.hosts) {
+                this.hostTableReaders[host]?.reset()
+            }
+        }
+
+        if (toMonitor[OutputFiles.TASK] == true) {
+            for (task in this.service.tasks.values) {
+                this.taskTableReaders[task]?.reset()
+            }
+        }
+
+        if (toMonitor[OutputFiles.POWER_SOURCE] == true) {
+            for (simPowerSource in this.service.powerSources) {
+                this.powerSourceTableReaders[simPowerSource]?.reset()
+            }
+        }
+
+        if (toMonitor[OutputFiles.BATTERY] == true) {
+            for (simBattery in this.service.batteries) {
+                this.batteryTableReaders[simBattery]?.reset()
+            }
+        }
+    }
+
+    private fun exportHost(reader: HostTableReaderImpl) {
+        val snapshot = reader.snapshot()
+        this.monitor.record(snapshot)
+        snapshot.release()
+    }
+
+    private fun exportTask(
+        task: ServiceTask,
+        reader: TaskTableReaderImpl,
+    ) {
+        if (taskExportMode == TaskExportMode.DELTA) {
+            recordTaskDelta(task, reader)
+        } else {
+            val snapshot = reader.snapshot()
+            this.monitor.record(snapshot)
+            snapshot.release()
+        }
+    }
+
+    private fun exportPowerSource(reader: PowerSourceTableReaderImpl) {
+        val snapshot = reader.snapshot()
+        this.monitor.record(snapshot)
+        snapshot.release()
+    }
+
+    private fun exportBattery(reader: BatteryTableReaderImpl) {
+        val snapshot = reader.snapshot()
+        this.monitor.record(snapshot)
+        snapshot.release()
+    }
+
+    private fun exportService() {
+        val snapshot = this.serviceTableReader.snapshot()
+        monitor.record(snapshot)
+        snapshot.release()
+    }
+
+    /**
+     * Merge the row of [task] in [reader] into the pending row of the task if the task did not change since the
+     * previous export interval, and export the pending row otherwise.
+     */
+    private fun recordTaskDelta(
+        task: ServiceTask,
+        reader: TaskTableReaderImpl,
+    ) {
+        val pending = pendingTaskRows[task]
+        if (pending != null) {
+            val expectedTimestamp = pending.timestamp.plus(exportInterval.multipliedBy(pending.runLength.toLong()))
+            if (expectedTimestamp == reader.timestamp && pending.hasSameUsage(reader)) {
+                pending.extendRun(reader)
+                return
+            }
+
+            monitor.record(pending)
+            pending.release()
+        }
+
+        pendingTaskRows[task] = reader.snapshot()
+    }
+
+    /**
+     * Export the rows that are still pending in the order of their timestamps.
+     *
+     * The pending rows are kept in the order in which the tasks were first seen, while a row starts whenever the
+     * usage of its task changes, so the rows are sorted before they are exported.
+     */
+    private fun flushPendingTaskRows() {
+        for (row in pendingTaskRows.values.sortedBy { it.timestamp }) {
+            monitor.record(row)
+            row.release()
+        }
+        pendingTaskRows.clear()
+    }
+
     override fun close() {
         job.cancel()
     }
+
+    private companion object {
+        /**
+         * The maximum number of export intervals that are skipped at once.
+         */
+        const val MAX_STATIONARY_INTERVALS = 1024L
+    }
 }
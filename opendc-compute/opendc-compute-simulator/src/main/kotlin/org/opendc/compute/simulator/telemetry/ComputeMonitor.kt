@@ -22,6 +22,7 @@
 
 package org.opendc.compute.simulator.telemetry
 
+import org.opendc.compute.simulator.telemetry.table.Retainable
 import org.opendc.compute.simulator.telemetry.table.battery.BatteryTableReader
 import org.opendc.compute.simulator.telemetry.table.host.HostTableReader
 import org.opendc.compute.simulator.telemetry.table.powerSource.PowerSourceTableReader
@@ -30,6 +31,10 @@ import org.opendc.compute.simulator.telemetry.table.task.TaskTableReader
 
 /**
  * A monitor that tracks the metrics and events of the OpenDC Compute service.
+ *
+ * The readers passed to the monitor are only valid during the `record` call, after which they are reused for later
+ * rows. A monitor that keeps a reader after the call returns must [retain][Retainable.retain] it and
+ * [release][Retainable.release] it once it is done with it, or store a [copy][TaskTableReader.copy] instead.
  */
 public interface ComputeMonitor {
     /**
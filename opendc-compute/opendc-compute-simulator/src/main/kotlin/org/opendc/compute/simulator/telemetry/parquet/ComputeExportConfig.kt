@@ -35,6 +35,7 @@ import kotlinx.serialization.json.JsonDecoder
 import kotlinx.serialization.json.JsonElement
 import kotlinx.serialization.json.jsonObject
 import org.opendc.common.logger.logger
+import org.opendc.compute.simulator.telemetry.TaskExportMode
 import org.opendc.compute.simulator.telemetry.table.battery.BatteryTableReader
 import org.opendc.compute.simulator.telemetry.table.host.HostTableReader
 import org.opendc.compute.simulator.telemetry.table.powerSource.PowerSourceTableReader
@@ -222,6 +223,19 @@ public fun ComputeExportConfig.withGpuColumns(count: Int): ComputeExportConfig {
     return copy(hostExportColumns = hostCols)
 }
 
+/**
+ * Include the [DfltTaskExportColumns.RUN_LENGTH] column in the task columns if and only if the rows of the task table
+ * are exported in [TaskExportMode.DELTA].
+ */
+public fun ComputeExportConfig.withTaskExportMode(mode: TaskExportMode): ComputeExportConfig {
+    val taskCols =
+        when (mode) {
+            TaskExportMode.PERIODIC -> taskExportColumns - DfltTaskExportColumns.RUN_LENGTH
+            TaskExportMode.DELTA -> taskExportColumns + DfltTaskExportColumns.RUN_LENGTH
+        }
+    return copy(taskExportColumns = taskCols)
+}
+
 private val json = Json { ignoreUnknownKeys = true }
 
 private inline fun <reified T : Exportable> JsonElement?.toFieldList(): List<ExportColumn<T>> =
@@ -182,31 +182,31 @@ public object DfltHostExportColumns {
             listOf<ExportColumn<HostTableReader>>(
                 ExportColumn(
                     field = Types.optional(FLOAT).named("gpu_capacity_$i"),
-                ) { it.gpuCapacities.getOrNull(i) },
+                ) { if (i < it.gpuCount) it.gpuCapacity(i) else null },
                 ExportColumn(
                     field = Types.optional(FLOAT).named("gpu_usage_$i"),
-                ) { it.gpuUsages.getOrNull(i) },
+                ) { if (i < it.gpuCount) it.gpuUsage(i) else null },
                 ExportColumn(
                     field = Types.optional(FLOAT).named("gpu_demand_$i"),
-                ) { it.gpuDemands.getOrNull(i) },
+                ) { if (i < it.gpuCount) it.gpuDemand(i) else null },
                 ExportColumn(
                     field = Types.optional(FLOAT).named("gpu_utilization_$i"),
-                ) { it.gpuUtilizations.getOrNull(i) },
+                ) { if (i < it.gpuCount) it.gpuUtilization(i) else null },
                 ExportColumn(
                     field = Types.optional(INT64).named("gpu_time_active_$i"),
-                ) { it.gpuActiveTimes.getOrNull(i) },
+                ) { if (i < it.gpuCount) it.gpuActiveTime(i) else null },
                 ExportColumn(
                     field = Types.optional(INT64).named("gpu_time_idle_$i"),
-                ) { it.gpuIdleTimes.getOrNull(i) },
+                ) { if (i < it.gpuCount) it.gpuIdleTime(i) else null },
                 ExportColumn(
                     field = Types.optional(INT64).named("gpu_time_steal_$i"),
-                ) { it.gpuStealTimes.getOrNull(i) },
+                ) { if (i < it.gpuCount) it.gpuStealTime(i) else null },
                 ExportColumn(
                     field = Types.optional(INT64).named("gpu_time_lost_$i"),
-                ) { it.gpuLostTimes.getOrNull(i) },
+                ) { if (i < it.gpuCount) it.gpuLostTime(i) else null },
                 ExportColumn(
                     field = Types.optional(FLOAT).named("gpu_power_draw_$i"),
-                ) { it.gpuPowerDraws.getOrNull(i) },
+                ) { if (i < it.gpuCount) it.gpuPowerDraw(i) else null },
             )
         }.toSet()
 
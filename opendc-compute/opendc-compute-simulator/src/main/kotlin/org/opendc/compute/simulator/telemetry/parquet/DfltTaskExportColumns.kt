@@ -29,6 +29,7 @@ import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.FLOAT
 import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT32
 import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT64
 import org.apache.parquet.schema.Types
+import org.opendc.compute.simulator.telemetry.TaskExportMode
 import org.opendc.compute.simulator.telemetry.table.task.TaskTableReader
 import org.opendc.trace.util.parquet.exporter.ExportColumn
 
@@ -220,6 +221,15 @@ public object DfltTaskExportColumns {
             return@ExportColumn Binary.fromString(it.taskState!!.name)
         }
 
+    /**
+     * The number of export intervals covered by a row. This column is only exported in [TaskExportMode.DELTA] (see
+     * [withTaskExportMode]), such that the schema of periodic exports is unchanged.
+     */
+    public val RUN_LENGTH: ExportColumn<TaskTableReader> =
+        ExportColumn(
+            field = Types.required(INT32).named("run_length"),
+        ) { it.runLength }
+
     /**
      * The columns that are always included in the output file.
      */
@@ -36,6 +36,8 @@ import java.io.File
 
 /**
  * A [ComputeMonitor] that logs the events to a Parquet file.
+ *
+ * The rows are written on a separate thread, so every row is retained until its exporter has written it.
  */
 public class ParquetComputeMonitor(
     private val hostExporter: Exporter<HostTableReader>?,
@@ -46,23 +48,38 @@ public class ParquetComputeMonitor(
 ) : ComputeMonitor, AutoCloseable {
     // FIXME: Include GPU
     override fun record(reader: HostTableReader) {
-        hostExporter?.write(reader)
+        if (hostExporter != null) {
+            reader.retain()
+            hostExporter.write(reader)
+        }
     }
 
     override fun record(reader: TaskTableReader) {
-        taskExporter?.write(reader)
+        if (taskExporter != null) {
+            reader.retain()
+            taskExporter.write(reader)
+        }
     }
 
     override fun record(reader: PowerSourceTableReader) {
-        powerSourceExporter?.write(reader)
+        if (powerSourceExporter != null) {
+            reader.retain()
+            powerSourceExporter.write(reader)
+        }
     }
 
     override fun record(reader: BatteryTableReader) {
-        batteryExporter?.write(reader)
+        if (batteryExporter != null) {
+            reader.retain()
+            batteryExporter.write(reader)
+        }
     }
 
     override fun record(reader: ServiceTableReader) {
-        serviceExporter?.write(reader)
+        if (serviceExporter != null) {
+            reader.retain()
+            serviceExporter.write(reader)
+        }
     }
 
     override fun close() {
@@ -129,6 +146,7 @@ public class ParquetComputeMonitor(
                         outputFile = File(base, "$partition/host.parquet").also { it.parentFile.mkdirs() },
                         columns = hostExportColumns ?: Exportable.getAllLoadedColumns(),
                         bufferSize = bufferSize,
+                        onWritten = { it.release() },
                     )
                 } else {
                     null
@@ -140,6 +158,7 @@ public class ParquetComputeMonitor(
                         outputFile = File(base, "$partition/task.parquet").also { it.parentFile.mkdirs() },
                         columns = taskExportColumns ?: Exportable.getAllLoadedColumns(),
                         bufferSize = bufferSize,
+                        onWritten = { it.release() },
                     )
                 } else {
                     null
@@ -151,6 +170,7 @@ public class ParquetComputeMonitor(
                         outputFile = File(base, "$partition/powerSource.parquet").also { it.parentFile.mkdirs() },
                         columns = powerSourceExportColumns ?: Exportable.getAllLoadedColumns(),
                         bufferSize = bufferSize,
+                        onWritten = { it.release() },
                     )
                 } else {
                     null
@@ -162,6 +182,7 @@ public class ParquetComputeMonitor(
                         outputFile = File(base, "$partition/battery.parquet").also { it.parentFile.mkdirs() },
                         columns = batteryExportColumns ?: Exportable.getAllLoadedColumns(),
                         bufferSize = bufferSize,
+                        onWritten = { it.release() },
                     )
                 } else {
                     null
@@ -173,6 +194,7 @@ public class ParquetComputeMonitor(
                         outputFile = File(base, "$partition/service.parquet").also { it.parentFile.mkdirs() },
                         columns = serviceExportColumns ?: Exportable.getAllLoadedColumns(),
                         bufferSize = bufferSize,
+                        onWritten = { it.release() },
                     )
                 } else {
                     null
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.telemetry.parquet
+
+import org.apache.hadoop.conf.Configuration
+import org.apache.parquet.example.data.Group
+import org.apache.parquet.example.data.GroupWriter
+import org.apache.parquet.example.data.simple.SimpleGroup
+import org.apache.parquet.hadoop.ParquetFileReader
+import org.apache.parquet.hadoop.ParquetFileWriter
+import org.apache.parquet.hadoop.api.WriteSupport
+import org.apache.parquet.hadoop.example.GroupReadSupport
+import org.apache.parquet.io.api.RecordConsumer
+import org.apache.parquet.schema.MessageType
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName
+import org.opendc.compute.simulator.telemetry.TaskExportMode
+import org.opendc.trace.util.parquet.LocalInputFile
+import org.opendc.trace.util.parquet.LocalParquetReader
+import org.opendc.trace.util.parquet.LocalParquetWriter
+import java.io.File
+import java.time.Duration
+
+/**
+ * A reader for a `task.parquet` file that reconstructs the periodic view of the task table.
+ *
+ * Every row with a `run_length` of n (see [TaskExportMode.DELTA]) is expanded into n rows, one per export interval.
+ * The counters of the row are spread evenly over the expanded rows, such that their sum is preserved. Rows with a run
+ * length of one are returned as-is, as are all rows of files written in [TaskExportMode.PERIODIC], which do not have a
+ * `run_length` column.
+ *
+ * @param file The `task.parquet` file to read.
+ * @param exportInterval The export interval with which the file was written.
+ */
+public class PeriodicTaskParquetReader(
+    file: File,
+    exportInterval: Duration,
+) : AutoCloseable {
+    private val reader = LocalParquetReader(file, GroupReadSupport())
+    private val exportIntervalMs = exportInterval.toMillis()
+
+    private var current: Group? = null
+    private var runLength = 0
+    private var index = 0
+
+    /**
+     * Read the next row of the periodic view, or `null` if all rows have been read.
+     */
+    public fun read(): Group? {
+        while (index >= runLength) {
+            val next = reader.read() ?: return null
+            current = next
+            runLength = next.runLength()
+            index = 0
+        }
+
+        val row = checkNotNull(current)
+        return if (runLength == 1) {
+            index++
+            row
+        } else {
+            expand(row, index++)
+        }
+    }
+
+    override fun close() {
+        reader.close()
+    }
+
+    /**
+     * Construct the row at [index] in the run of [row].
+     */
+    private fun expand(
+        row: Group,
+        index: Int,
+    ): Group {
+        val type = row.type
+        val result = SimpleGroup(type)
+
+        for (i in 0 until type.fieldCount) {
+            if (row.getFieldRepetitionCount(i) == 0) {
+                continue
+            }
+
+            when (type.getFieldName(i)) {
+                DfltTaskExportColumns.TIMESTAMP.name, DfltTaskExportColumns.TIMESTAMP_ABS.name ->
+                    result.add(i, row.getLong(i, 0) + index * exportIntervalMs)
+                DfltTaskExportColumns.RUN_LENGTH.name -> result.add(i, 1)
+                in COUNTER_COLUMNS -> {
+                    val total = row.getLong(i, 0)
+                    val remainder = if (index < total % runLength) 1 else 0
+                    result.add(i, total / runLength + remainder)
+                }
+                else -> copyValue(row, result, i)
+            }
+        }
+
+        return result
+    }
+
+    private fun copyValue(
+        from: Group,
+        to: Group,
+        field: Int,
+    ) {
+        when (val typeName = from.type.getType(field).asPrimitiveType().primitiveTypeName) {
+            PrimitiveTypeName.INT32 -> to.add(field, from.getInteger(field, 0))
+            PrimitiveTypeName.INT64 -> to.add(field, from.getLong(field, 0))
+            PrimitiveTypeName.FLOAT -> to.add(field, from.getFloat(field, 0))
+            PrimitiveTypeName.DOUBLE -> to.add(field, from.getDouble(field, 0))
+            PrimitiveTypeName.BOOLEAN -> to.add(field, from.getBoolean(field, 0))
+            PrimitiveTypeName.BINARY -> to.add(field, from.getBinary(field, 0))
+            else -> throw IllegalArgumentException("Unsupported column type $typeName")
+        }
+    }
+
+    private fun Group.runLength(): Int {
+        val name = DfltTaskExportColumns.RUN_LENGTH.name
+        if (!type.containsField(name)) {
+            return 1
+        }
+
+        val field = type.getFieldIndex(name)
+        return if (getFieldRepetitionCount(field) == 0) 1 else getInteger(field, 0)
+    }
+
+    public companion object {
+        /**
+         * The columns that contain counters over the export interval, which are summed over a run.
+         */
+        private val COUNTER_COLUMNS =
+            setOf(
+                DfltTaskExportColumns.CPU_TIME_ACTIVE.name,
+                DfltTaskExportColumns.CPU_TIME_IDLE.name,
+                DfltTaskExportColumns.CPU_TIME_STEAL.name,
+                DfltTaskExportColumns.CPU_TIME_LOST.name,
+                DfltTaskExportColumns.GPU_TIME_ACTIVE.name,
+                DfltTaskExportColumns.GPU_TIME_IDLE.name,
+                DfltTaskExportColumns.GPU_TIME_STEAL.name,
+                DfltTaskExportColumns.GPU_TIME_LOST.name,
+                DfltTaskExportColumns.UP_TIME.name,
+                DfltTaskExportColumns.DOWN_TIME.name,
+            )
+
+        /**
+         * Write the periodic view of the `task.parquet` file at [input] to [output].
+         *
+         * @param input The `task.parquet` file to read.
+         * @param output The file to write the periodic view to.
+         * @param exportInterval The export interval with which [input] was written.
+         */
+        @JvmStatic
+        public fun expand(
+            input: File,
+            output: File,
+            exportInterval: Duration,
+        ) {
+            val schema = ParquetFileReader.open(LocalInputFile(input)).use { it.footer.fileMetaData.schema }
+            val writer =
+                LocalParquetWriter.builder(output.toPath(), GroupWriteSupport(schema))
+                    .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+                    .build()
+
+            writer.use {
+                PeriodicTaskParquetReader(input, exportInterval).use { reader ->
+                    while (true) {
+                        val row = reader.read() ?: break
+                        writer.write(row)
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A [WriteSupport] for [Group]s with the specified [schema].
+     */
+    private class GroupWriteSupport(private val schema: MessageType) : WriteSupport<Group>() {
+        private lateinit var writer: GroupWriter
+
+        override fun init(configuration: Configuration): WriteContext = WriteContext(schema, emptyMap())
+
+        override fun prepareForWrite(recordConsumer: RecordConsumer) {
+            writer = GroupWriter(recordConsumer, schema)
+        }
+
+        override fun write(record: Group) {
+            writer.write(record)
+        }
+    }
+}
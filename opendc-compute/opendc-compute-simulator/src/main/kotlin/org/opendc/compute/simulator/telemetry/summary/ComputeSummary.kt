@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.telemetry.summary
+
+import kotlinx.serialization.Serializable
+
+/**
+ * The summary of a single metric.
+ *
+ * @property count The number of samples.
+ * @property sum The sum of the samples.
+ * @property mean The mean of the samples.
+ * @property min The smallest sample.
+ * @property max The largest sample.
+ * @property quantiles The estimated quantiles, keyed by percentile (e.g., `p95`).
+ * @property histogram The histogram of the samples, if enabled for this metric.
+ */
+@Serializable
+public data class MetricSummary(
+    val count: Long,
+    val sum: Double,
+    val mean: Double,
+    val min: Double,
+    val max: Double,
+    val quantiles: Map<String, Double>,
+    val histogram: HistogramSummary? = null,
+)
+
+/**
+ * The snapshot of a [FixedWidthHistogram].
+ */
+@Serializable
+public data class HistogramSummary(
+    val lower: Double,
+    val upper: Double,
+    val counts: List<Long>,
+    val underflow: Long,
+    val overflow: Long,
+)
+
+/**
+ * The summary of a single host.
+ *
+ * @property cluster The name of the cluster the host belongs to.
+ * @property cpuUtilization The CPU utilization of the host per export interval.
+ * @property powerDraw The power draw of the host in W per export interval.
+ * @property energyUsage The total energy used by the host in J.
+ * @property cpuActiveTime The total time the CPU of the host was active in ms.
+ * @property cpuIdleTime The total time the CPU of the host was idle in ms.
+ * @property cpuStealTime The total CPU time stolen from the guests of the host in ms.
+ * @property cpuLostTime The total CPU time lost due to interference on the host in ms.
+ */
+@Serializable
+public data class HostSummary(
+    val cluster: String,
+    val cpuUtilization: MetricSummary,
+    val powerDraw: MetricSummary,
+    val energyUsage: Double,
+    val cpuActiveTime: Long,
+    val cpuIdleTime: Long,
+    val cpuStealTime: Long,
+    val cpuLostTime: Long,
+)
+
+/**
+ * The summary of a single cluster.
+ *
+ * @property cpuUtilization The CPU utilization of the hosts in the cluster per export interval.
+ * @property powerDraw The power draw of the power source of the cluster in W per export interval.
+ * @property carbonIntensity The carbon intensity seen by the power source of the cluster per export interval.
+ * @property energyUsage The total energy drawn from the power source of the cluster in J.
+ * @property carbonEmission The total carbon emitted by the cluster in gram.
+ */
+@Serializable
+public data class ClusterSummary(
+    val cpuUtilization: MetricSummary,
+    val powerDraw: MetricSummary,
+    val carbonIntensity: MetricSummary,
+    val energyUsage: Double,
+    val carbonEmission: Double,
+)
+
+/**
+ * The summary of a single task.
+ *
+ * @property cpuDemand The CPU demand of the task in MHz per export interval.
+ * @property cpuUsage The CPU usage of the task in MHz per export interval.
+ * @property slaViolations The number of export intervals in which the task did not receive its CPU demand.
+ * @property numFailures The number of times the task failed.
+ */
+@Serializable
+public data class TaskSummary(
+    val cpuDemand: MetricSummary,
+    val cpuUsage: MetricSummary,
+    val slaViolations: Long,
+    val numFailures: Int,
+)
+
+/**
+ * The summary of a simulation run written by the [SummaryComputeMonitor].
+ *
+ * @property energyUsage The total energy drawn from all power sources in J.
+ * @property carbonEmission The total carbon emitted by all power sources in gram.
+ * @property slaViolations The number of export intervals in which a task did not receive its CPU demand.
+ * @property tasksCompleted The number of tasks that completed.
+ * @property tasksTerminated The number of tasks that were terminated.
+ * @property hostCpuUtilization The CPU utilization of all hosts per export interval.
+ * @property hosts The summary per host, if enabled.
+ * @property clusters The summary per cluster, if enabled.
+ * @property tasks The summary per task, if enabled.
+ */
+@Serializable
+public data class ComputeSummary(
+    val energyUsage: Double,
+    val carbonEmission: Double,
+    val slaViolations: Long,
+    val tasksCompleted: Int,
+    val tasksTerminated: Int,
+    val hostCpuUtilization: MetricSummary,
+    val hosts: Map<String, HostSummary>,
+    val clusters: Map<String, ClusterSummary>,
+    val tasks: Map<String, TaskSummary>,
+)
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.telemetry.summary
+
+/**
+ * A histogram with [bins] equally sized bins between [lower] and [upper].
+ * Values outside this range are counted as underflow or overflow.
+ *
+ * @param lower The inclusive lower bound of the first bin.
+ * @param upper The exclusive upper bound of the last bin; [upper] itself is counted in the last bin.
+ * @param bins The number of bins.
+ */
+public class FixedWidthHistogram(
+    public val lower: Double,
+    public val upper: Double,
+    bins: Int,
+) {
+    init {
+        require(bins > 0) { "A histogram should have at least one bin" }
+        require(upper > lower) { "The upper bound of a histogram should be higher than its lower bound" }
+    }
+
+    private val counts = LongArray(bins)
+    private val binWidth = (upper - lower) / bins
+
+    /**
+     * The weight of the values below [lower].
+     */
+    public var underflow: Long = 0L
+        private set
+
+    /**
+     * The weight of the values above [upper].
+     */
+    public var overflow: Long = 0L
+        private set
+
+    /**
+     * Add [value] with the specified [weight] to the histogram.
+     */
+    public fun add(
+        value: Double,
+        weight: Long = 1L,
+    ) {
+        if (value.isNaN()) {
+            return
+        }
+
+        when {
+            value < lower -> underflow += weight
+            value > upper -> overflow += weight
+            else -> counts[((value - lower) / binWidth).toInt().coerceAtMost(counts.size - 1)] += weight
+        }
+    }
+
+    /**
+     * Create a serializable snapshot of the histogram.
+     */
+    public fun summarize(): HistogramSummary = HistogramSummary(lower, upper, counts.toList(), underflow, overflow)
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.telemetry.summary
+
+/**
+ * Streaming aggregate of a single metric: count, sum, minimum, maximum and mean, optionally extended
+ * with a [TDigest] for quantiles and a [FixedWidthHistogram].
+ *
+ * @param compression The compression of the t-digest, or `null` to skip quantile estimation.
+ * @param histogram The histogram to add the values to, or `null` to skip the histogram.
+ */
+public class StreamingStatistic(
+    compression: Double? = null,
+    private val histogram: FixedWidthHistogram? = null,
+) {
+    private val digest = compression?.let { TDigest(it) }
+
+    /**
+     * The total weight of the values added.
+     */
+    public var count: Long = 0L
+        private set
+
+    /**
+     * The weighted sum of the values added.
+     */
+    public var sum: Double = 0.0
+        private set
+
+    private var min = Double.POSITIVE_INFINITY
+    private var max = Double.NEGATIVE_INFINITY
+
+    /**
+     * Add [value] to the aggregate, counting it [weight] times.
+     */
+    public fun add(
+        value: Double,
+        weight: Int = 1,
+    ) {
+        if (value.isNaN() || weight <= 0) {
+            return
+        }
+
+        count += weight
+        sum += value * weight
+        if (value < min) min = value
+        if (value > max) max = value
+
+        digest?.add(value, weight.toDouble())
+        histogram?.add(value, weight.toLong())
+    }
+
+    /**
+     * Create a serializable snapshot of the aggregate, estimating the specified [quantiles].
+     */
+    public fun summarize(quantiles: List<Double>): MetricSummary {
+        if (count == 0L) {
+            return MetricSummary(0L, 0.0, 0.0, 0.0, 0.0, emptyMap(), histogram?.summarize())
+        }
+
+        val estimates =
+            if (digest != null) {
+                quantiles.associate { quantileName(it) to digest.quantile(it) }
+            } else {
+                emptyMap()
+            }
+
+        return MetricSummary(count, sum, sum / count, min, max, estimates, histogram?.summarize())
+    }
+
+    private fun quantileName(q: Double): String {
+        val percentile = q * 100
+        return if (percentile == Math.rint(percentile)) "p${percentile.toInt()}" else "p$percentile"
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.telemetry.summary
+
+import kotlinx.serialization.encodeToString
+import kotlinx.serialization.json.Json
+import org.opendc.compute.simulator.telemetry.ComputeMonitor
+import org.opendc.compute.simulator.telemetry.table.host.HostTableReader
+import org.opendc.compute.simulator.telemetry.table.powerSource.PowerSourceTableReader
+import org.opendc.compute.simulator.telemetry.table.service.ServiceTableReader
+import org.opendc.compute.simulator.telemetry.table.task.TaskTableReader
+import java.io.File
+
+/**
+ * A [ComputeMonitor] that aggregates the metrics during the simulation instead of storing every sample.
+ * The aggregates are written as a [ComputeSummary] in JSON to [outputFile] when the monitor is closed.
+ *
+ * @param outputFile The file to write the summary to, or `null` to only keep the summary in memory.
+ * @param config The configuration of the aggregates.
+ */
+public class SummaryComputeMonitor(
+    private val outputFile: File?,
+    private val config: SummaryExportConfig = SummaryExportConfig(),
+) : ComputeMonitor, AutoCloseable {
+    private val hosts = HashMap<String, HostAggregate>()
+    private val clusters = HashMap<String, ClusterAggregate>()
+    private val tasks = HashMap<String, TaskAggregate>()
+
+    private val hostCpuUtilization = utilizationStatistic()
+
+    private var energyUsage = 0.0
+    private var carbonEmission = 0.0
+    private var slaViolations = 0L
+    private var tasksCompleted = 0
+    private var tasksTerminated = 0
+
+    override fun record(reader: HostTableReader) {
+        val info = reader.hostInfo
+        val utilization = reader.cpuUtilization
+
+        hostCpuUtilization.add(utilization)
+
+        if (config.hosts) {
+            val host = hosts.getOrPut(info.name) { HostAggregate(info.clusterName) }
+            host.cpuUtilization.add(utilization)
+            host.powerDraw.add(reader.powerDraw)
+            host.energyUsage += reader.energyUsage
+            host.cpuActiveTime += reader.cpuActiveTime
+            host.cpuIdleTime += reader.cpuIdleTime
+            host.cpuStealTime += reader.cpuStealTime
+            host.cpuLostTime += reader.cpuLostTime
+        }
+
+        if (config.clusters) {
+            clusters.getOrPut(info.clusterName) { ClusterAggregate() }.cpuUtilization.add(utilization)
+        }
+    }
+
+    override fun record(reader: PowerSourceTableReader) {
+        energyUsage += reader.energyUsage
+        carbonEmission += reader.carbonEmission
+
+        if (config.clusters) {
+            val cluster = clusters.getOrPut(reader.powerSourceInfo.clusterName) { ClusterAggregate() }
+            cluster.powerDraw.add(reader.powerDraw)
+            cluster.carbonIntensity.add(reader.carbonIntensity)
+            cluster.energyUsage += reader.energyUsage
+            cluster.carbonEmission += reader.carbonEmission
+        }
+    }
+
+    override fun record(reader: TaskTableReader) {
+        val runLength = reader.runLength
+        val violated = reader.cpuUsage < reader.cpuDemand * (1.0 - config.slaTolerance)
+        if (violated) {
+            slaViolations += runLength
+        }
+
+        if (config.tasks) {
+            val task = tasks.getOrPut(reader.taskInfo.name) { TaskAggregate() }
+            task.cpuDemand.add(reader.cpuDemand, runLength)
+            task.cpuUsage.add(reader.cpuUsage, runLength)
+            task.numFailures = reader.numFailures
+            if (violated) {
+                task.slaViolations += runLength
+            }
+        }
+    }
+
+    override fun record(reader: ServiceTableReader) {
+        tasksCompleted = reader.tasksCompleted
+        tasksTerminated = reader.tasksTerminated
+    }
+
+    /**
+     * Create a snapshot of the aggregates recorded so far.
+     */
+    public fun summarize(): ComputeSummary {
+        val quantiles = config.quantiles
+        return ComputeSummary(
+            energyUsage = energyUsage,
+            carbonEmission = carbonEmission,
+            slaViolations = slaViolations,
+            tasksCompleted = tasksCompleted,
+            tasksTerminated = tasksTerminated,
+            hostCpuUtilization = hostCpuUtilization.summarize(quantiles),
+            hosts =
+                hosts.toSortedMap().mapValues { (_, host) ->
+                    HostSummary(
+                        host.cluster,
+                        host.cpuUtilization.summarize(quantiles),
+                        host.powerDraw.summarize(quantiles),
+                        host.energyUsage,
+                        host.cpuActiveTime,
+                        host.cpuIdleTime,
+                        host.cpuStealTime,
+                        host.cpuLostTime,
+                    )
+                },
+            clusters =
+                clusters.toSortedMap().mapValues { (_, cluster) ->
+                    ClusterSummary(
+                        cluster.cpuUtilization.summarize(quantiles),
+                        cluster.powerDraw.summarize(quantiles),
+                        cluster.carbonIntensity.summarize(quantiles),
+                        cluster.energyUsage,
+                        cluster.carbonEmission,
+                    )
+                },
+            tasks =
+                tasks.toSortedMap().mapValues { (_, task) ->
+                    TaskSummary(
+                        task.cpuDemand.summarize(quantiles),
+                        task.cpuUsage.summarize(quantiles),
+                        task.slaViolations,
+                        task.numFailures,
+                    )
+                },
+        )
+    }
+
+    override fun close() {
+        val file = outputFile ?: return
+        file.parentFile?.mkdirs()
+        file.writeText(json.encodeToString(summarize()))
+    }
+
+    private fun statistic(): StreamingStatistic = StreamingStatistic(config.compression)
+
+    private fun utilizationStatistic(): StreamingStatistic =
+        StreamingStatistic(
+            config.compression,
+            if (config.histogramBins > 0) FixedWidthHistogram(0.0, 1.0, config.histogramBins) else null,
+        )
+
+    private inner class HostAggregate(val cluster: String) {
+        val cpuUtilization = utilizationStatistic()
+        val powerDraw = statistic()
+        var energyUsage = 0.0
+        var cpuActiveTime = 0L
+        var cpuIdleTime = 0L
+        var cpuStealTime = 0L
+        var cpuLostTime = 0L
+    }
+
+    private inner class ClusterAggregate {
+        val cpuUtilization = utilizationStatistic()
+        val powerDraw = statistic()
+        val carbonIntensity = statistic()
+        var energyUsage = 0.0
+        var carbonEmission = 0.0
+    }
+
+    private inner class TaskAggregate {
+        val cpuDemand = statistic()
+        val cpuUsage = statistic()
+        var slaViolations = 0L
+        var numFailures = 0
+    }
+
+    private companion object {
+        private val json = Json { prettyPrint = true }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.telemetry.summary
+
+import kotlinx.serialization.Serializable
+
+/**
+ * The configuration of the summary written by the [SummaryComputeMonitor].
+ *
+ * @property quantiles The quantiles (between 0 and 1) that are estimated for every metric.
+ * @property compression The compression of the t-digests used to estimate the quantiles.
+ * @property histogramBins The number of bins of the utilization histograms, or 0 to disable the histograms.
+ * @property hosts Whether a summary is written for every host.
+ * @property clusters Whether a summary is written for every cluster.
+ * @property tasks Whether a summary is written for every task.
+ * @property slaTolerance The fraction of its CPU demand a task may miss in an interval before it counts as an SLA violation.
+ */
+@Serializable
+public data class SummaryExportConfig(
+    val quantiles: List<Double> = listOf(0.5, 0.9, 0.95, 0.99),
+    val compression: Double = 100.0,
+    val histogramBins: Int = 10,
+    val hosts: Boolean = true,
+    val clusters: Boolean = true,
+    val tasks: Boolean = false,
+    val slaTolerance: Double = 0.0,
+) {
+    init {
+        require(quantiles.all { it in 0.0..1.0 }) { "All quantiles should be between 0 and 1" }
+        require(compression >= 10.0) { "The compression should be at least 10" }
+        require(histogramBins >= 0) { "The number of histogram bins cannot be negative" }
+        require(slaTolerance in 0.0..1.0) { "The SLA tolerance should be between 0 and 1" }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.telemetry.summary
+
+/**
+ * A merging t-digest that estimates quantiles of a stream of values in bounded memory.
+ *
+ * Incoming values are buffered and periodically merged into a sorted list of centroids. The size of each centroid
+ * is bounded by the `k1` scale function, which keeps the centroids near the tails small, so extreme quantiles stay
+ * accurate while the digest holds at most a few times [compression] centroids.
+ *
+ * @param compression The compression factor; higher values give more accurate quantiles at the cost of memory.
+ */
+public class TDigest(private val compression: Double = 100.0) {
+    init {
+        require(compression >= 10.0) { "The compression of a t-digest should be at least 10" }
+    }
+
+    private val maxBufferSize = (5 * compression).toInt()
+
+    private var means = DoubleArray(0)
+    private var weights = DoubleArray(0)
+    private var centroids = 0
+
+    private var bufferMeans = DoubleArray(16)
+    private var bufferWeights = DoubleArray(16)
+    private var buffered = 0
+
+    /**
+     * The total weight of the values added to the digest.
+     */
+    public var count: Double = 0.0
+        private set
+
+    /**
+     * The smallest value added to the digest.
+     */
+    public var min: Double = Double.NaN
+        private set
+
+    /**
+     * The largest value added to the digest.
+     */
+    public var max: Double = Double.NaN
+        private set
+
+    /**
+     * Add [value] with the specified [weight] to the digest.
+     */
+    public fun add(
+        value: Double,
+        weight: Double = 1.0,
+    ) {
+        if (value.isNaN() || weight <= 0.0) {
+            return
+        }
+
+        if (buffered == bufferMeans.size) {
+            if (buffered >= maxBufferSize) {
+                merge()
+            } else {
+                bufferMeans = bufferMeans.copyOf(minOf(buffered * 2, maxBufferSize))
+                bufferWeights = bufferWeights.copyOf(bufferMeans.size)
+            }
+        }
+
+        bufferMeans[buffered] = value
+        bufferWeights[buffered] = weight
+        buffered++
+
+        count += weight
+        if (min.isNaN() || value < min) min = value
+        if (max.isNaN() || value > max) max = value
+    }
+
+    /**
+     * Estimate the value at quantile [q] (between 0 and 1) of the values added so far.
+     *
+     * @return The estimated quantile, or [Double.NaN] if the digest is empty.
+     */
+    public fun quantile(q: Double): Double {
+        require(q in 0.0..1.0) { "Quantile should be between 0 and 1" }
+        merge()
+
+        if (centroids == 0) {
+            return Double.NaN
+        } else if (centroids == 1) {
+            return means[0]
+        }
+
+        val index = q * count
+
+        // Interpolate between the minimum and the center of the first centroid
+        val firstHalf = weights[0] / 2
+        if (index < firstHalf) {
+            return min + (index / firstHalf) * (means[0] - min)
+        }
+
+        var weightSoFar = firstHalf
+        for (i in 0 until centroids - 1) {
+            val dw = (weights[i] + weights[i + 1]) / 2
+            if (weightSoFar + dw > index) {
+                val t = (index - weightSoFar) / dw
+                return means[i] + t * (means[i + 1] - means[i])
+            }
+            weightSoFar += dw
+        }
+
+        // Interpolate between the center of the last centroid and the maximum
+        val last = centroids - 1
+        val lastHalf = weights[last] / 2
+        val t = ((index - weightSoFar) / lastHalf).coerceIn(0.0, 1.0)
+        return means[last] + t * (max - means[last])
+    }
+
+    /**
+     * Merge the buffered values into the centroids.
+     */
+    private fun merge() {
+        if (buffered == 0) {
+            return
+        }
+
+        sort(bufferMeans, bufferWeights, 0, buffered - 1)
+
+        val newMeans = DoubleArray(centroids + buffered)
+        val newWeights = DoubleArray(centroids + buffered)
+        var n = 0
+
+        var i = 0
+        var j = 0
+        var weightSoFar = 0.0
+        var curMean = 0.0
+        var curWeight = 0.0
+
+        while (i < centroids || j < buffered) {
+            val mean: Double
+            val weight: Double
+            if (j >= buffered || (i < centroids && means[i] <= bufferMeans[j])) {
+                mean = means[i]
+                weight = weights[i]
+                i++
+            } else {
+                mean = bufferMeans[j]
+                weight = bufferWeights[j]
+                j++
+            }
+
+            if (curWeight == 0.0) {
+                curMean = mean
+                curWeight = weight
+                continue
+            }
+
+            val qLeft = weightSoFar / count
+            val qRight = (weightSoFar + curWeight + weight) / count
+            if (scale(qRight) - scale(qLeft) <= 1.0) {
+                curWeight += weight
+                curMean += (mean - curMean) * weight / curWeight
+            } else {
+                newMeans[n] = curMean
+                newWeights[n] = curWeight
+                n++
+                weightSoFar += curWeight
+                curMean = mean
+                curWeight = weight
+            }
+        }
+
+        newMeans[n] = curMean
+        newWeights[n] = curWeight
+        n++
+
+        means = newMeans
+        weights = newWeights
+        centroids = n
+        buffered = 0
+    }
+
+    /**
+     * The `k1` scale function of the t-digest.
+     */
+    private fun scale(q: Double): Double = compression / (2 * Math.PI) * Math.asin(2 * q.coerceIn(0.0, 1.0) - 1)
+
+    /**
+     * Sort the [values] between [lo] and [hi] (inclusive) in ascending order, moving the [weights] along.
+     */
+    private fun sort(
+        values: DoubleArray,
+        weights: DoubleArray,
+        lo: Int,
+        hi: Int,
+    ) {
+        var low = lo
+        var high = hi
+        while (low < high) {
+            val pivot = values[(low + high) ushr 1]
+            var l = low
+            var h = high
+            while (l <= h) {
+                while (values[l] < pivot) l++
+                while (values[h] > pivot) h--
+                if (l <= h) {
+                    val v = values[l]
+                    values[l] = values[h]
+                    values[h] = v
+                    val w = weights[l]
+                    weights[l] = weights[h]
+                    weights[h] = w
+                    l++
+                    h--
+                }
+            }
+
+            // Recurse into the smaller half to bound the stack depth
+            if (h - low < high - l) {
+                sort(values, weights, low, h)
+                low = l
+            } else {
+                sort(values, weights, l, high)
+                high = h
+            }
+        }
+    }
+}
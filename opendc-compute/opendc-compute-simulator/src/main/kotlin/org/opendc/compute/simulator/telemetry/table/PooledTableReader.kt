@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.telemetry.table
+
+import java.util.Queue
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * A row that is only valid during the [org.opendc.compute.simulator.telemetry.ComputeMonitor.record] call it is passed
+ * to, after which it may be overwritten with the values of a later export interval.
+ */
+public interface Retainable {
+    /**
+     * Keep the row valid after the `record` call returns. Every call must be paired with a call to [release].
+     */
+    public fun retain()
+
+    /**
+     * Give up a reference obtained through [retain], allowing the row to be reused once all references are released.
+     */
+    public fun release()
+}
+
+/**
+ * A table reader that hands out snapshots of its current values from a pool of its own, so that a row can be exported
+ * every interval without allocating a new copy of the reader.
+ *
+ * Snapshots are reference counted: [snapshot] returns a snapshot holding a single reference, and the snapshot returns
+ * to the pool of its reader when its last reference is released. References may be released from any thread, which
+ * allows exporters to hand a snapshot back after writing it on their own thread.
+ */
+public abstract class PooledTableReader<T : PooledTableReader<T>> : Retainable {
+    /**
+     * The number of references to this snapshot.
+     */
+    private val refCount = AtomicInteger()
+
+    /**
+     * The pool this snapshot returns to, or `null` if this reader is not a pooled snapshot.
+     */
+    private var owner: Queue<T>? = null
+
+    /**
+     * The snapshots of this reader that are not in use.
+     */
+    private var freeSnapshots: Queue<T>? = null
+
+    /**
+     * Construct a new, empty snapshot of this reader.
+     */
+    protected abstract fun newSnapshot(): T
+
+    /**
+     * Copy the current values of this reader into [snapshot].
+     */
+    protected abstract fun copyInto(snapshot: T)
+
+    /**
+     * Move the values of this reader forward by [durationMs] as if nothing changed since the last recorded cycle: the
+     * timestamps shift by [durationMs] and the counters grow by the same amount as they did in the last cycle, which is
+     * assumed to have been [durationMs] long as well.
+     */
+    internal abstract fun advance(durationMs: Long)
+
+    /**
+     * Take a snapshot of the current values of this reader. The caller owns the single reference to the snapshot and
+     * must [release] it once it is done with the snapshot.
+     */
+    public fun snapshot(): T {
+        val free = freeSnapshots ?: ConcurrentLinkedQueue<T>().also { freeSnapshots = it }
+
+        val snapshot = free.poll() ?: newSnapshot()
+        val pooled: PooledTableReader<T> = snapshot
+        pooled.owner = free
+        pooled.refCount.set(1)
+
+        copyInto(snapshot)
+        return snapshot
+    }
+
+    override fun retain() {
+        refCount.incrementAndGet()
+    }
+
+    override fun release() {
+        val owner = owner ?: return
+        if (refCount.decrementAndGet() == 0) {
+            @Suppress("UNCHECKED_CAST")
+            owner.offer(this as T)
+        }
+    }
+}
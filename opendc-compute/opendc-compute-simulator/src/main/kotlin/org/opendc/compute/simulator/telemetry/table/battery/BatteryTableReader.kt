@@ -22,6 +22,7 @@
 
 package org.opendc.compute.simulator.telemetry.table.battery
 
+import org.opendc.compute.simulator.telemetry.table.Retainable
 import org.opendc.simulator.compute.power.batteries.BatteryState
 import org.opendc.trace.util.parquet.exporter.Exportable
 import java.time.Instant
@@ -29,7 +30,7 @@ import java.time.Instant
 /**
  * An interface that is used to read a row of a host trace entry.
  */
-public interface BatteryTableReader : Exportable {
+public interface BatteryTableReader : Exportable, Retainable {
     public fun copy(): BatteryTableReader
 
     public fun setValues(table: BatteryTableReader)
@@ -22,6 +22,7 @@
 
 package org.opendc.compute.simulator.telemetry.table.battery
 
+import org.opendc.compute.simulator.telemetry.table.PooledTableReader
 import org.opendc.simulator.compute.power.batteries.BatteryState
 import org.opendc.simulator.compute.power.batteries.SimBattery
 import java.time.Duration
@@ -33,7 +34,7 @@ import java.time.Instant
 public class BatteryTableReaderImpl(
     private val battery: SimBattery,
     private val startTime: Duration = Duration.ofMillis(0),
-) : BatteryTableReader {
+) : PooledTableReader<BatteryTableReaderImpl>(), BatteryTableReader {
     override fun copy(): BatteryTableReader {
         val newPowerSourceTable =
             BatteryTableReaderImpl(
@@ -44,6 +45,12 @@ public class BatteryTableReaderImpl(
         return newPowerSourceTable
     }
 
+    override fun newSnapshot(): BatteryTableReaderImpl = BatteryTableReaderImpl(battery, startTime)
+
+    override fun copyInto(snapshot: BatteryTableReaderImpl) {
+        snapshot.setValues(this)
+    }
+
     override fun setValues(table: BatteryTableReader) {
         _timestamp = table.timestamp
         _timestampAbsolute = table.timestampAbsolute
@@ -115,6 +122,18 @@ public class BatteryTableReaderImpl(
         _batteryState = battery.batteryState
     }
 
+    override fun advance(durationMs: Long) {
+        _timestamp = _timestamp.plusMillis(durationMs)
+        _timestampAbsolute = _timestampAbsolute.plusMillis(durationMs)
+
+        val energyUsage = this.energyUsage
+        val embodiedCarbonEmission = this.embodiedCarbonEmission
+        previousEnergyUsage = _energyUsage
+        previousEmbodiedCarbonEmission = _embodiedCarbonEmission
+        _energyUsage += energyUsage
+        _embodiedCarbonEmission += embodiedCarbonEmission
+    }
+
     /**
      * Finish the aggregation for this cycle.
      */
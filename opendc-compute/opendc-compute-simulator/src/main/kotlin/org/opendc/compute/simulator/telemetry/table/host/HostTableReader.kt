@@ -22,13 +22,14 @@
 
 package org.opendc.compute.simulator.telemetry.table.host
 
+import org.opendc.compute.simulator.telemetry.table.Retainable
 import org.opendc.trace.util.parquet.exporter.Exportable
 import java.time.Instant
 
 /**
  * An interface that is used to read a row of a host trace entry.
  */
-public interface HostTableReader : Exportable {
+public interface HostTableReader : Exportable, Retainable {
     public fun copy(): HostTableReader
 
     public fun setValues(table: HostTableReader)
@@ -112,6 +113,56 @@ public interface HostTableReader : Exportable {
      */
     public val cpuLostTime: Long
 
+    /**
+     * The number of GPUs in the host.
+     */
+    public val gpuCount: Int
+
+    /**
+     * The capacity of the GPU with the specified [index] (in MHz).
+     */
+    public fun gpuCapacity(index: Int): Double
+
+    /**
+     * The usage of the GPU with the specified [index] (in MHz).
+     */
+    public fun gpuUsage(index: Int): Double
+
+    /**
+     * The demand of the guests on the GPU with the specified [index] (in MHz).
+     */
+    public fun gpuDemand(index: Int): Double
+
+    /**
+     * The utilization of the GPU with the specified [index].
+     */
+    public fun gpuUtilization(index: Int): Double
+
+    /**
+     * The duration (in ms) that the GPU with the specified [index] was active.
+     */
+    public fun gpuActiveTime(index: Int): Long
+
+    /**
+     * The duration (in ms) that the GPU with the specified [index] was idle.
+     */
+    public fun gpuIdleTime(index: Int): Long
+
+    /**
+     * The duration (in ms) that a vGPU wanted to run on the GPU with the specified [index], but no capacity was available.
+     */
+    public fun gpuStealTime(index: Int): Long
+
+    /**
+     * The duration (in ms) of time on the GPU with the specified [index] that was lost due to interference.
+     */
+    public fun gpuLostTime(index: Int): Long
+
+    /**
+     * The power draw of the GPU with the specified [index] (in W).
+     */
+    public fun gpuPowerDraw(index: Int): Double
+
     /**
      * The capacity of the GPUs in the host (in MHz).They inserted by GPU ID.
      */
@@ -23,6 +23,8 @@
 package org.opendc.compute.simulator.telemetry.table.host
 
 import org.opendc.compute.simulator.host.SimHost
+import org.opendc.compute.simulator.telemetry.HostGpuStatsConsumer
+import org.opendc.compute.simulator.telemetry.table.PooledTableReader
 import java.time.Duration
 import java.time.Instant
 
@@ -32,7 +34,7 @@ import java.time.Instant
 public class HostTableReaderImpl(
     private val host: SimHost,
     private val startTime: Duration = Duration.ofMillis(0),
-) : HostTableReader {
+) : PooledTableReader<HostTableReaderImpl>(), HostTableReader {
     override fun copy(): HostTableReader {
         val newHostTable =
             HostTableReaderImpl(host)
@@ -41,6 +43,12 @@ public class HostTableReaderImpl(
         return newHostTable
     }
 
+    override fun newSnapshot(): HostTableReaderImpl = HostTableReaderImpl(host, startTime)
+
+    override fun copyInto(snapshot: HostTableReaderImpl) {
+        snapshot.setValues(this)
+    }
+
     override fun setValues(table: HostTableReader) {
         _timestamp = table.timestamp
         _timestampAbsolute = table.timestampAbsolute
@@ -59,15 +67,23 @@ public class HostTableReaderImpl(
         _cpuStealTime = table.cpuStealTime
         _cpuLostTime = table.cpuLostTime
         // GPU stats
-        _gpuCapacities = table.gpuCapacities
-        _gpuDemands = table.gpuDemands
-        _gpuUsages = table.gpuUsages
-        _gpuUtilizations = table.gpuUtilizations
-        _gpuActiveTimes = table.gpuActiveTimes
-        _gpuIdleTimes = table.gpuIdleTimes
-        _gpuStealTimes = table.gpuStealTimes
-        _gpuLostTimes = table.gpuLostTimes
-        _gpuPowerDraws = table.gpuPowerDraws
+        resizeGpuStats(table.gpuCount)
+        for (i in 0 until _gpuCount) {
+            _gpuCapacities[i] = table.gpuCapacity(i)
+            _gpuDemands[i] = table.gpuDemand(i)
+            _gpuUsages[i] = table.gpuUsage(i)
+            _gpuUtilizations[i] = table.gpuUtilization(i)
+            _gpuActiveTimes[i] = table.gpuActiveTime(i)
+            _gpuIdleTimes[i] = table.gpuIdleTime(i)
+            _gpuStealTimes[i] = table.gpuStealTime(i)
+            _gpuLostTimes[i] = table.gpuLostTime(i)
+            _gpuPowerDraws[i] = table.gpuPowerDraw(i)
+        }
+        // The values of the table are already relative to the previous export interval
+        previousGpuActiveTimes.fill(0L)
+        previousGpuIdleTimes.fill(0L)
+        previousGpuStealTimes.fill(0L)
+        previousGpuLostTimes.fill(0L)
 
         // energy & carbon stats
         _powerDraw = table.powerDraw
@@ -148,62 +164,108 @@ public class HostTableReaderImpl(
     private var _cpuLostTime = 0L
     private var previousCpuLostTime = 0L
 
+    override val gpuCount: Int
+        get() = _gpuCount
+    private var _gpuCount = 0
+
+    // The GPU stats are kept in primitive arrays that are only reallocated when the number of GPUs changes
+    private var _gpuCapacities = DoubleArray(0)
+    private var _gpuUsages = DoubleArray(0)
+    private var _gpuDemands = DoubleArray(0)
+    private var _gpuUtilizations = DoubleArray(0)
+    private var _gpuActiveTimes = LongArray(0)
+    private var _gpuIdleTimes = LongArray(0)
+    private var _gpuStealTimes = LongArray(0)
+    private var _gpuLostTimes = LongArray(0)
+    private var _gpuPowerDraws = DoubleArray(0)
+    private var previousGpuActiveTimes = LongArray(0)
+    private var previousGpuIdleTimes = LongArray(0)
+    private var previousGpuStealTimes = LongArray(0)
+    private var previousGpuLostTimes = LongArray(0)
+
+    /**
+     * Fills the GPU arrays directly from the counters of the host when a cycle is recorded.
+     */
+    private val gpuStatsConsumer =
+        HostGpuStatsConsumer { i, activeTime, idleTime, stealTime, lostTime, capacity, demand, usage, utilization, powerDraw ->
+            _gpuCapacities[i] = capacity
+            _gpuDemands[i] = demand
+            _gpuUsages[i] = usage
+            _gpuUtilizations[i] = utilization
+            _gpuActiveTimes[i] = activeTime
+            _gpuIdleTimes[i] = idleTime
+            _gpuStealTimes[i] = stealTime
+            _gpuLostTimes[i] = lostTime
+            _gpuPowerDraws[i] = powerDraw
+        }
+
+    override fun gpuCapacity(index: Int): Double = _gpuCapacities[index]
+
+    override fun gpuUsage(index: Int): Double = _gpuUsages[index]
+
+    override fun gpuDemand(index: Int): Double = _gpuDemands[index]
+
+    override fun gpuUtilization(index: Int): Double = _gpuUtilizations[index]
+
+    override fun gpuActiveTime(index: Int): Long = _gpuActiveTimes[index] - previousGpuActiveTimes[index]
+
+    override fun gpuIdleTime(index: Int): Long = _gpuIdleTimes[index] - previousGpuIdleTimes[index]
+
+    override fun gpuStealTime(index: Int): Long = _gpuStealTimes[index] - previousGpuStealTimes[index]
+
+    override fun gpuLostTime(index: Int): Long = _gpuLostTimes[index] - previousGpuLostTimes[index]
+
+    override fun gpuPowerDraw(index: Int): Double = _gpuPowerDraws[index]
+
     override val gpuCapacities: ArrayList<Double>
-        get() = _gpuCapacities
-    private var _gpuCapacities: ArrayList<Double> = ArrayList()
+        get() = (0 until _gpuCount).mapTo(ArrayList(_gpuCount)) { gpuCapacity(it) }
 
     override val gpuUsages: ArrayList<Double>
-        get() = _gpuUsages
-    private var _gpuUsages: ArrayList<Double> = ArrayList()
+        get() = (0 until _gpuCount).mapTo(ArrayList(_gpuCount)) { gpuUsage(it) }
 
     override val gpuDemands: ArrayList<Double>
-        get() = _gpuDemands
-    private var _gpuDemands: ArrayList<Double> = ArrayList()
+        get() = (0 until _gpuCount).mapTo(ArrayList(_gpuCount)) { gpuDemand(it) }
 
     override val gpuUtilizations: ArrayList<Double>
-        get() = _gpuUtilizations
-    private var _gpuUtilizations: ArrayList<Double> = ArrayList()
+        get() = (0 until _gpuCount).mapTo(ArrayList(_gpuCount)) { gpuUtilization(it) }
 
     // half of the CPU stats
     override val gpuActiveTimes: ArrayList<Long>
-        get() =
-            (0 until _gpuActiveTimes.size).map {
-                    i ->
-                (_gpuActiveTimes.getOrNull(i) ?: 0L) - (previousGpuActiveTimes.getOrNull(i) ?: 0L)
-            } as ArrayList<Long>
-    private var _gpuActiveTimes: ArrayList<Long> = ArrayList()
-    private var previousGpuActiveTimes: ArrayList<Long> = ArrayList()
+        get() = (0 until _gpuCount).mapTo(ArrayList(_gpuCount)) { gpuActiveTime(it) }
 
     override val gpuIdleTimes: ArrayList<Long>
-        get() =
-            (0 until _gpuIdleTimes.size).map {
-                    i ->
-                (_gpuIdleTimes.getOrNull(i) ?: 0L) - (previousGpuIdleTimes.getOrNull(i) ?: 0L)
-            } as ArrayList<Long>
-    private var _gpuIdleTimes: ArrayList<Long> = ArrayList()
-    private var previousGpuIdleTimes: ArrayList<Long> = ArrayList()
+        get() = (0 until _gpuCount).mapTo(ArrayList(_gpuCount)) { gpuIdleTime(it) }
 
     override val gpuStealTimes: ArrayList<Long>
-        get() =
-            (0 until _gpuStealTimes.size).map {
-                    i ->
-                (_gpuStealTimes.getOrNull(i) ?: 0L) - (previousGpuStealTimes.getOrNull(i) ?: 0L)
-            } as ArrayList<Long>
-    private var _gpuStealTimes: ArrayList<Long> = ArrayList()
-    private var previousGpuStealTimes: ArrayList<Long> = ArrayList()
+        get() = (0 until _gpuCount).mapTo(ArrayList(_gpuCount)) { gpuStealTime(it) }
 
     override val gpuLostTimes: ArrayList<Long>
-        get() =
-            (0 until _gpuLostTimes.size).map {
-                    i ->
-                (_gpuLostTimes.getOrNull(i) ?: 0L) - (previousGpuLostTimes.getOrNull(i) ?: 0L)
-            } as ArrayList<Long>
-    private var _gpuLostTimes: ArrayList<Long> = ArrayList()
-    private var previousGpuLostTimes: ArrayList<Long> = ArrayList()
+        get() = (0 until _gpuCount).mapTo(ArrayList(_gpuCount)) { gpuLostTime(it) }
 
     override val gpuPowerDraws: ArrayList<Double>
-        get() = _gpuPowerDraws
-    private var _gpuPowerDraws: ArrayList<Double> = ArrayList()
+        get() = (0 until _gpuCount).mapTo(ArrayList(_gpuCount)) { gpuPowerDraw(it) }
+
+    /**
+     * Make sure the GPU stat arrays can hold [count] GPUs.
+     */
+    private fun resizeGpuStats(count: Int) {
+        if (count != _gpuCapacities.size) {
+            _gpuCapacities = DoubleArray(count)
+            _gpuUsages = DoubleArray(count)
+            _gpuDemands = DoubleArray(count)
+            _gpuUtilizations = DoubleArray(count)
+            _gpuActiveTimes = LongArray(count)
+            _gpuIdleTimes = LongArray(count)
+            _gpuStealTimes = LongArray(count)
+            _gpuLostTimes = LongArray(count)
+            _gpuPowerDraws = DoubleArray(count)
+            previousGpuActiveTimes = previousGpuActiveTimes.copyOf(count)
+            previousGpuIdleTimes = previousGpuIdleTimes.copyOf(count)
+            previousGpuStealTimes = previousGpuStealTimes.copyOf(count)
+            previousGpuLostTimes = previousGpuLostTimes.copyOf(count)
+        }
+        _gpuCount = count
+    }
 
     override val powerDraw: Double
         get() = _powerDraw
@@ -238,7 +300,6 @@ public class HostTableReaderImpl(
     override fun record(now: Instant) {
         val hostCpuStats = host.getCpuStats()
         val hostSysStats = host.getSystemStats()
-        val hostGpuStats = host.getGpuStats()
 
         _timestamp = now
         _timestampAbsolute = now + startTime
@@ -256,15 +317,8 @@ public class HostTableReaderImpl(
         _cpuStealTime = hostCpuStats.stealTime
         _cpuLostTime = hostCpuStats.lostTime
         // GPU stats
-        _gpuCapacities = hostGpuStats.map { it.capacity } as ArrayList<Double>
-        _gpuDemands = hostGpuStats.map { it.demand } as ArrayList<Double>
-        _gpuUsages = hostGpuStats.map { it.usage } as ArrayList<Double>
-        _gpuUtilizations = hostGpuStats.map { it.utilization } as ArrayList<Double>
-        _gpuActiveTimes = hostGpuStats.map { it.activeTime } as ArrayList<Long>
-        _gpuIdleTimes = hostGpuStats.map { it.idleTime } as ArrayList<Long>
-        _gpuStealTimes = hostGpuStats.map { it.stealTime } as ArrayList<Long>
-        _gpuLostTimes = hostGpuStats.map { it.lostTime } as ArrayList<Long>
-        _gpuPowerDraws = hostGpuStats.map { it.powerDraw } as ArrayList<Double>
+        resizeGpuStats(host.getGpuCount())
+        host.readGpuStats(gpuStatsConsumer)
         // energy & carbon stats
         _powerDraw = hostSysStats.powerDraw
         _energyUsage = hostSysStats.energyUsage
@@ -275,6 +329,54 @@ public class HostTableReaderImpl(
         _bootTime = hostSysStats.bootTime + startTime
     }
 
+    override fun advance(durationMs: Long) {
+        _timestamp = _timestamp.plusMillis(durationMs)
+        _timestampAbsolute = _timestampAbsolute.plusMillis(durationMs)
+
+        val cpuActiveTime = this.cpuActiveTime
+        val cpuIdleTime = this.cpuIdleTime
+        val cpuStealTime = this.cpuStealTime
+        val cpuLostTime = this.cpuLostTime
+        previousCpuActiveTime = _cpuActiveTime
+        previousCpuIdleTime = _cpuIdleTime
+        previousCpuStealTime = _cpuStealTime
+        previousCpuLostTime = _cpuLostTime
+        _cpuActiveTime += cpuActiveTime
+        _cpuIdleTime += cpuIdleTime
+        _cpuStealTime += cpuStealTime
+        _cpuLostTime += cpuLostTime
+
+        for (i in 0 until _gpuCount) {
+            advanceCounter(_gpuActiveTimes, previousGpuActiveTimes, i)
+            advanceCounter(_gpuIdleTimes, previousGpuIdleTimes, i)
+            advanceCounter(_gpuStealTimes, previousGpuStealTimes, i)
+            advanceCounter(_gpuLostTimes, previousGpuLostTimes, i)
+        }
+
+        val energyUsage = this.energyUsage
+        val uptime = this.uptime
+        val downtime = this.downtime
+        previousEnergyUsage = _energyUsage
+        previousUptime = _uptime
+        previousDowntime = _downtime
+        _energyUsage += energyUsage
+        _uptime += uptime
+        _downtime += downtime
+    }
+
+    /**
+     * Grow the counter at [index] of [current] by its difference with [previous].
+     */
+    private fun advanceCounter(
+        current: LongArray,
+        previous: LongArray,
+        index: Int,
+    ) {
+        val value = current[index]
+        current[index] = value + (value - previous[index])
+        previous[index] = value
+    }
+
     /**
      * Finish the aggregation for this cycle.
      */
@@ -284,10 +386,10 @@ public class HostTableReaderImpl(
         previousCpuIdleTime = _cpuIdleTime
         previousCpuStealTime = _cpuStealTime
         previousCpuLostTime = _cpuLostTime
-        previousGpuActiveTimes = _gpuActiveTimes
-        previousGpuIdleTimes = _gpuIdleTimes
-        previousGpuStealTimes = _gpuStealTimes
-        previousGpuLostTimes = _gpuLostTimes
+        _gpuActiveTimes.copyInto(previousGpuActiveTimes)
+        _gpuIdleTimes.copyInto(previousGpuIdleTimes)
+        _gpuStealTimes.copyInto(previousGpuStealTimes)
+        _gpuLostTimes.copyInto(previousGpuLostTimes)
         previousEnergyUsage = _energyUsage
         previousUptime = _uptime
         previousDowntime = _downtime
@@ -22,13 +22,14 @@
 
 package org.opendc.compute.simulator.telemetry.table.powerSource
 
+import org.opendc.compute.simulator.telemetry.table.Retainable
 import org.opendc.trace.util.parquet.exporter.Exportable
 import java.time.Instant
 
 /**
  * An interface that is used to read a row of a host trace entry.
  */
-public interface PowerSourceTableReader : Exportable {
+public interface PowerSourceTableReader : Exportable, Retainable {
     public fun copy(): PowerSourceTableReader
 
     public fun setValues(table: PowerSourceTableReader)
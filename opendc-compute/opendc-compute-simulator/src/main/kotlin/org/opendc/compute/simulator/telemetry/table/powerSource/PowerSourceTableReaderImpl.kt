@@ -22,6 +22,7 @@
 
 package org.opendc.compute.simulator.telemetry.table.powerSource
 
+import org.opendc.compute.simulator.telemetry.table.PooledTableReader
 import org.opendc.simulator.compute.power.SimPowerSource
 import java.time.Duration
 import java.time.Instant
@@ -32,7 +33,7 @@ import java.time.Instant
 public class PowerSourceTableReaderImpl(
     private val powerSource: SimPowerSource,
     private val startTime: Duration = Duration.ofMillis(0),
-) : PowerSourceTableReader {
+) : PooledTableReader<PowerSourceTableReaderImpl>(), PowerSourceTableReader {
     override fun copy(): PowerSourceTableReader {
         val newPowerSourceTable =
             PowerSourceTableReaderImpl(
@@ -43,6 +44,12 @@ public class PowerSourceTableReaderImpl(
         return newPowerSourceTable
     }
 
+    override fun newSnapshot(): PowerSourceTableReaderImpl = PowerSourceTableReaderImpl(powerSource, startTime)
+
+    override fun copyInto(snapshot: PowerSourceTableReaderImpl) {
+        snapshot.setValues(this)
+    }
+
     override fun setValues(table: PowerSourceTableReader) {
         _timestamp = table.timestamp
         _timestampAbsolute = table.timestampAbsolute
@@ -108,6 +115,18 @@ public class PowerSourceTableReaderImpl(
         _carbonEmission = powerSource.carbonEmission
     }
 
+    override fun advance(durationMs: Long) {
+        _timestamp = _timestamp.plusMillis(durationMs)
+        _timestampAbsolute = _timestampAbsolute.plusMillis(durationMs)
+
+        val energyUsage = this.energyUsage
+        val carbonEmission = this.carbonEmission
+        previousEnergyUsage = _energyUsage
+        previousCarbonEmission = _carbonEmission
+        _energyUsage += energyUsage
+        _carbonEmission += carbonEmission
+    }
+
     /**
      * Finish the aggregation for this cycle.
      */
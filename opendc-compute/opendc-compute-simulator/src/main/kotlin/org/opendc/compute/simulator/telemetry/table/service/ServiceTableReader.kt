@@ -22,13 +22,14 @@
 
 package org.opendc.compute.simulator.telemetry.table.service
 
+import org.opendc.compute.simulator.telemetry.table.Retainable
 import org.opendc.trace.util.parquet.exporter.Exportable
 import java.time.Instant
 
 /**
  * An interface that is used to read a row of a service trace entry.
  */
-public interface ServiceTableReader : Exportable {
+public interface ServiceTableReader : Exportable, Retainable {
     public fun copy(): ServiceTableReader
 
     public fun setValues(table: ServiceTableReader)
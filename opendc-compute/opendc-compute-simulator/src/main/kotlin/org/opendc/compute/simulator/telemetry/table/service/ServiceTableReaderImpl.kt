@@ -23,6 +23,7 @@
 package org.opendc.compute.simulator.telemetry.table.service
 
 import org.opendc.compute.simulator.service.ComputeService
+import org.opendc.compute.simulator.telemetry.table.PooledTableReader
 import java.time.Duration
 import java.time.Instant
 
@@ -32,7 +33,7 @@ import java.time.Instant
 public class ServiceTableReaderImpl(
     private val service: ComputeService,
     private val startTime: Duration = Duration.ofMillis(0),
-) : ServiceTableReader {
+) : PooledTableReader<ServiceTableReaderImpl>(), ServiceTableReader {
     override fun copy(): ServiceTableReader {
         val newServiceTable =
             ServiceTableReaderImpl(
@@ -43,6 +44,12 @@ public class ServiceTableReaderImpl(
         return newServiceTable
     }
 
+    override fun newSnapshot(): ServiceTableReaderImpl = ServiceTableReaderImpl(service, startTime)
+
+    override fun copyInto(snapshot: ServiceTableReaderImpl) {
+        snapshot.setValues(this)
+    }
+
     override fun setValues(table: ServiceTableReader) {
         _timestamp = table.timestamp
         _timestampAbsolute = table.timestampAbsolute
@@ -120,4 +127,9 @@ public class ServiceTableReaderImpl(
         _attemptsSuccess = stats.attemptsSuccess.toInt()
         _attemptsFailure = stats.attemptsFailure.toInt()
     }
+
+    override fun advance(durationMs: Long) {
+        _timestamp = _timestamp.plusMillis(durationMs)
+        _timestampAbsolute = _timestampAbsolute.plusMillis(durationMs)
+    }
 }
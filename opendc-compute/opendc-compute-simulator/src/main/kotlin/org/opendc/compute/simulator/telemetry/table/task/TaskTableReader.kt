@@ -24,6 +24,7 @@ package org.opendc.compute.simulator.telemetry.table.task
 
 import org.opendc.compute.api.TaskState
 import org.opendc.compute.simulator.telemetry.parquet.DfltTaskExportColumns
+import org.opendc.compute.simulator.telemetry.table.Retainable
 import org.opendc.compute.simulator.telemetry.table.host.HostInfo
 import org.opendc.trace.util.parquet.exporter.Exportable
 import java.time.Instant
@@ -31,7 +32,7 @@ import java.time.Instant
 /**
  * An interface that is used to read a row of a task trace entry.
  */
-public interface TaskTableReader : Exportable {
+public interface TaskTableReader : Exportable, Retainable {
     // TODO: find better way for more resources
     public fun copy(): TaskTableReader
 
@@ -169,6 +170,11 @@ public interface TaskTableReader : Exportable {
      * The state of the task
      */
     public val taskState: TaskState?
+
+    /**
+     * The number of consecutive export intervals covered by this row.
+     */
+    public val runLength: Int
 }
 
 // Loads the default export fields for deserialization whenever this file is loaded.
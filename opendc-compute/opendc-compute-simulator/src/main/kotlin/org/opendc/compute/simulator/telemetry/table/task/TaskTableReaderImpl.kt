@@ -26,6 +26,7 @@ import org.opendc.compute.api.TaskState
 import org.opendc.compute.simulator.host.SimHost
 import org.opendc.compute.simulator.service.ComputeService
 import org.opendc.compute.simulator.service.ServiceTask
+import org.opendc.compute.simulator.telemetry.table.PooledTableReader
 import org.opendc.compute.simulator.telemetry.table.host.HostInfo
 import java.time.Duration
 import java.time.Instant
@@ -37,7 +38,7 @@ public class TaskTableReaderImpl(
     private val service: ComputeService,
     private val task: ServiceTask,
     private val startTime: Duration = Duration.ofMillis(0),
-) : TaskTableReader {
+) : PooledTableReader<TaskTableReaderImpl>(), TaskTableReader {
     override fun copy(): TaskTableReader {
         val newTaskTable =
             TaskTableReaderImpl(
@@ -49,6 +50,12 @@ public class TaskTableReaderImpl(
         return newTaskTable
     }
 
+    override fun newSnapshot(): TaskTableReaderImpl = TaskTableReaderImpl(service, task, startTime)
+
+    override fun copyInto(snapshot: TaskTableReaderImpl) {
+        snapshot.setValues(this)
+    }
+
     override fun setValues(table: TaskTableReader) {
         hostInfo = table.hostInfo
 
@@ -82,6 +89,7 @@ public class TaskTableReaderImpl(
         _finishTime = table.finishTime
 
         _taskState = table.taskState
+        _runLength = table.runLength
     }
 
     /**
@@ -214,6 +222,46 @@ public class TaskTableReaderImpl(
         get() = _taskState
     private var _taskState: TaskState? = null
 
+    override val runLength: Int
+        get() = _runLength
+    private var _runLength = 1
+
+    /**
+     * Determine whether [table] has the same state and usage as this row, such that it can be merged into this row.
+     */
+    internal fun hasSameUsage(table: TaskTableReader): Boolean {
+        return _taskState == table.taskState &&
+            _hostName == table.hostName &&
+            _cpuLimit == table.cpuLimit &&
+            _cpuDemand == table.cpuDemand &&
+            _cpuUsage == table.cpuUsage &&
+            _gpuLimit == table.gpuLimit &&
+            _gpuDemand == table.gpuDemand &&
+            _gpuUsage == table.gpuUsage &&
+            _numFailures == table.numFailures &&
+            _numPauses == table.numPauses &&
+            _scheduleTime == table.scheduleTime &&
+            _finishTime == table.finishTime
+    }
+
+    /**
+     * Merge the next export interval [table] into this row, summing the counters of both.
+     */
+    internal fun extendRun(table: TaskTableReader) {
+        _runLength += table.runLength
+
+        _uptime += table.uptime
+        _downtime += table.downtime
+        _cpuActiveTime += table.cpuActiveTime
+        _cpuIdleTime += table.cpuIdleTime
+        _cpuStealTime += table.cpuStealTime
+        _cpuLostTime += table.cpuLostTime
+        _gpuActiveTime = (_gpuActiveTime ?: 0L) + (table.gpuActiveTime ?: 0L)
+        _gpuIdleTime = (_gpuIdleTime ?: 0L) + (table.gpuIdleTime ?: 0L)
+        _gpuStealTime = (_gpuStealTime ?: 0L) + (table.gpuStealTime ?: 0L)
+        _gpuLostTime = (_gpuLostTime ?: 0L) + (table.gpuLostTime ?: 0L)
+    }
+
     /**
      * Record the next cycle.
      */
@@ -270,6 +318,45 @@ public class TaskTableReaderImpl(
         _taskState = task.state
     }
 
+    override fun advance(durationMs: Long) {
+        _timestamp = _timestamp.plusMillis(durationMs)
+        _timestampAbsolute = _timestampAbsolute.plusMillis(durationMs)
+
+        val uptime = this.uptime
+        val downtime = this.downtime
+        val cpuActiveTime = this.cpuActiveTime
+        val cpuIdleTime = this.cpuIdleTime
+        val cpuStealTime = this.cpuStealTime
+        val cpuLostTime = this.cpuLostTime
+        previousUptime = _uptime
+        previousDowntime = _downtime
+        previousCpuActiveTime = _cpuActiveTime
+        previousCpuIdleTime = _cpuIdleTime
+        previousCpuStealTime = _cpuStealTime
+        previousCpuLostTime = _cpuLostTime
+        _uptime += uptime
+        _downtime += downtime
+        _cpuActiveTime += cpuActiveTime
+        _cpuIdleTime += cpuIdleTime
+        _cpuStealTime += cpuStealTime
+        _cpuLostTime += cpuLostTime
+
+        if (_gpuActiveTime != null) {
+            val gpuActiveTime = this.gpuActiveTime
+            val gpuIdleTime = this.gpuIdleTime
+            val gpuStealTime = this.gpuStealTime
+            val gpuLostTime = this.gpuLostTime
+            previousGpuActiveTime = _gpuActiveTime
+            previousGpuIdleTime = _gpuIdleTime
+            previousGpuStealTime = _gpuStealTime
+            previousGpuLostTime = _gpuLostTime
+            _gpuActiveTime = (_gpuActiveTime ?: 0L) + (gpuActiveTime ?: 0L)
+            _gpuIdleTime = (_gpuIdleTime ?: 0L) + (gpuIdleTime ?: 0L)
+            _gpuStealTime = (_gpuStealTime ?: 0L) + (gpuStealTime ?: 0L)
+            _gpuLostTime = (_gpuLostTime ?: 0L) + (gpuLostTime ?: 0L)
+        }
+    }
+
     /**
      * Finish the aggregation for this cycle.
      */
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.scheduler
+
+import io.mockk.every
+import io.mockk.mockk
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertSame
+import org.junit.jupiter.api.Test
+import org.opendc.compute.simulator.scheduler.filters.HostFilter
+import org.opendc.compute.simulator.host.HostModel
+import org.opendc.compute.simulator.scheduler.filters.InstanceCountFilter
+import org.opendc.compute.simulator.scheduler.filters.RamFilter
+import org.opendc.compute.simulator.scheduler.filters.VCpuCapacityFilter
+import org.opendc.compute.simulator.scheduler.filters.VCpuFilter
+import org.opendc.compute.simulator.scheduler.weights.CoreRamWeigher
+import org.opendc.compute.simulator.scheduler.weights.HostWeigher
+import org.opendc.compute.simulator.scheduler.weights.InstanceCountWeigher
+import org.opendc.compute.simulator.scheduler.weights.RamWeigher
+import org.opendc.compute.simulator.scheduler.weights.VCpuCapacityWeigher
+import org.opendc.compute.simulator.scheduler.weights.VCpuWeigher
+import org.opendc.compute.simulator.service.HostView
+import org.opendc.compute.simulator.service.ServiceTask
+import java.util.SplittableRandom
+import java.util.concurrent.ForkJoinPool
+import java.util.random.RandomGenerator
+import kotlin.math.min
+
+/**
+ * Test suite for the [HostEvaluator].
+ */
+internal class HostEvaluatorTest {
+    private val pool = ForkJoinPool(4)
+
+    @AfterEach
+    fun tearDown() {
+        pool.shutdown()
+    }
+
+    @Test
+    fun testParallelMatchesSequential() {
+        val filters = listOf(InstanceCountFilter(limit = 8))
+        val weighers = listOf(InstanceCountWeigher(multiplier = -1.0), RamWeigher(multiplier = 1.0))
+
+        assertSameSelection(filters, weighers, createHosts(200))
+    }
+
+    @Test
+    fun testParallelMatchesSequentialWithoutWeighers() {
+        val filters = listOf(InstanceCountFilter(limit = 4))
+
+        assertSameSelection(filters, emptyList(), createHosts(200))
+    }
+
+    @Test
+    fun testParallelNoCandidates() {
+        val evaluator = HostEvaluator(listOf(InstanceCountFilter(limit = 0)), listOf(RamWeigher()), pool, chunkSize = 8)
+        val task = mockk<ServiceTask>(relaxed = true)
+
+        assertNull(evaluator.select(createHosts(200), task, 1, SplittableRandom(0)))
+    }
+
+    @Test
+    fun testMatchesFilterWeigherPipeline() {
+        val filters = listOf(RamFilter(1.0), VCpuFilter(2.0), VCpuCapacityFilter(), InstanceCountFilter(limit = 8))
+        val weighers =
+            listOf(
+                RamWeigher(multiplier = 1.0),
+                CoreRamWeigher(multiplier = 0.5),
+                VCpuWeigher(2.0, multiplier = -1.0),
+                VCpuCapacityWeigher(multiplier = 2.0),
+                InstanceCountWeigher(multiplier = -1.0),
+            )
+        val hosts = createModelHosts(100)
+        val evaluator = HostEvaluator(filters, weighers)
+
+        for (task in listOf(createTask(2, 1024, null), createTask(4, 2048, 4 * 2400.0), createTask(8, 512, null))) {
+            for (subsetSize in listOf(1, 3, 16, hosts.size)) {
+                for (seed in 0L until 20L) {
+                    val expected = selectPipeline(filters, weighers, hosts, task, subsetSize, SplittableRandom(seed))
+                    val actual = evaluator.select(hosts, task, subsetSize, SplittableRandom(seed))
+                    assertSame(expected, actual, "task=${task.flavor.cpuCoreCount}, subsetSize=$subsetSize, seed=$seed")
+                }
+            }
+        }
+    }
+
+    @Test
+    fun testMatchesFilterWeigherPipelineWithoutWeighers() {
+        val filters = listOf(RamFilter(1.5), VCpuFilter(1.0))
+        val hosts = createModelHosts(100)
+        val evaluator = HostEvaluator(filters, emptyList())
+        val task = createTask(2, 1024, null)
+
+        for (subsetSize in listOf(1, 3, 16, hosts.size)) {
+            for (seed in 0L until 20L) {
+                val expected = selectPipeline(filters, emptyList(), hosts, task, subsetSize, SplittableRandom(seed))
+                val actual = evaluator.select(hosts, task, subsetSize, SplittableRandom(seed))
+                assertSame(expected, actual, "subsetSize=$subsetSize, seed=$seed")
+            }
+        }
+    }
+
+    /**
+     * Select a host by applying the filters and weighers one after another on the task, as the [FilterScheduler] did
+     * before it used a [HostEvaluator].
+     */
+    private fun selectPipeline(
+        filters: List<HostFilter>,
+        weighers: List<HostWeigher>,
+        hosts: List<HostView>,
+        task: ServiceTask,
+        subsetSize: Int,
+        random: RandomGenerator,
+    ): HostView? {
+        val filteredHosts = hosts.filter { host -> filters.all { filter -> filter.test(host, task) } }
+
+        val subset =
+            if (weighers.isNotEmpty()) {
+                val results = weighers.map { it.getWeights(filteredHosts, task) }
+                val weights = DoubleArray(filteredHosts.size)
+
+                for (result in results) {
+                    val min = result.min
+                    val range = (result.max - min)
+                    if (range == 0.0) {
+                        continue
+                    }
+
+                    val factor = result.multiplier / range
+                    for ((i, weight) in result.weights.withIndex()) {
+                        weights[i] += factor * (weight - min)
+                    }
+                }
+
+                weights.indices
+                    .asSequence()
+                    .sortedByDescending { weights[it] }
+                    .map { filteredHosts[it] }
+                    .take(subsetSize)
+                    .toList()
+            } else {
+                filteredHosts
+            }
+
+        val maxSize = min(subsetSize, subset.size)
+        return if (maxSize == 0) null else subset[random.nextInt(maxSize)]
+    }
+
+    /**
+     * Create a task with the specified flavor, which only stubs the fields that the filters and weighers may read.
+     */
+    private fun createTask(
+        cpuCoreCount: Int,
+        memorySize: Long,
+        cpuCapacity: Double?,
+    ): ServiceTask {
+        val task = mockk<ServiceTask>()
+        every { task.flavor.cpuCoreCount } returns cpuCoreCount
+        every { task.flavor.memorySize } returns memorySize
+        every { task.flavor.meta } returns if (cpuCapacity != null) mapOf("cpu-capacity" to cpuCapacity) else emptyMap()
+        return task
+    }
+
+    /**
+     * Create [count] hosts with a few distinct machine models and loads, so that the filters reject some of them and
+     * many weights are tied.
+     */
+    private fun createModelHosts(count: Int): List<HostView> {
+        val random = SplittableRandom(7)
+        val models =
+            listOf(
+                HostModel(4 * 2600.0, 4, 2048),
+                HostModel(8 * 2400.0, 8, 4096),
+                HostModel(16 * 3200.0, 16, 8192),
+            )
+
+        return List(count) {
+            val model = models[random.nextInt(models.size)]
+            val host = mockk<HostView>()
+            every { host.host.getModel() } returns model
+            every { host.availableMemory } returns random.nextLong(model.memoryCapacity / 512 + 1) * 512
+            every { host.provisionedCpuCores } returns random.nextInt(model.coreCount * 2)
+            every { host.instanceCount } returns random.nextInt(10)
+            host
+        }
+    }
+
+    /**
+     * Assert that the sequential and parallel evaluation select the same hosts for various subset sizes and seeds.
+     */
+    private fun assertSameSelection(
+        filters: List<HostFilter>,
+        weighers: List<HostWeigher>,
+        hosts: List<HostView>,
+    ) {
+        val sequential = HostEvaluator(filters, weighers)
+        val parallel = HostEvaluator(filters, weighers, pool, chunkSize = 8)
+        val task = mockk<ServiceTask>(relaxed = true)
+
+        for (subsetSize in listOf(1, 3, 16, hosts.size)) {
+            for (seed in 0L until 20L) {
+                val expected = sequential.select(hosts, task, subsetSize, SplittableRandom(seed))
+                val actual = parallel.select(hosts, task, subsetSize, SplittableRandom(seed))
+                assertSame(expected, actual, "subsetSize=$subsetSize, seed=$seed")
+            }
+        }
+    }
+
+    /**
+     * Create [count] hosts with few distinct instance counts and memory sizes, so that many weights are tied.
+     */
+    private fun createHosts(count: Int): List<HostView> {
+        val random = SplittableRandom(42)
+        return List(count) {
+            val host = mockk<HostView>()
+            every { host.instanceCount } returns random.nextInt(10)
+            every { host.availableMemory } returns random.nextLong(3) * 1024
+            host
+        }
+    }
+}
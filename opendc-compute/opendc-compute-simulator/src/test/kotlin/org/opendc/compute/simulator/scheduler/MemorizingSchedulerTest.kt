@@ -70,6 +70,7 @@ internal class MemorizingSchedulerTest {
         every { req.task.flavor.cpuCoreCount } returns 2
         every { req.task.flavor.memorySize } returns 1024
         every { req.isCancelled } returns false
+        every { req.timesSkipped } returns 0
 
         // Make sure we get the first host both times
         assertAll(
@@ -111,6 +112,9 @@ internal class MemorizingSchedulerTest {
 
         assertEquals(SchedulingResultType.EMPTY, scheduler.select(mutableListOf(req).iterator()).resultType)
         every { hostB.availableMemory } returns 2048
+        // The scheduler only learns about capacity that is freed outside of removeTask when the host is re-added
+        scheduler.removeHost(hostB)
+        scheduler.addHost(hostB)
         assertEquals(hostB, scheduler.select(mutableListOf(req).iterator()).host)
     }
 
@@ -139,4 +143,26 @@ internal class MemorizingSchedulerTest {
 
         assertEquals(SchedulingResultType.EMPTY, scheduler.select(mutableListOf(req).iterator()).resultType)
     }
+
+    @Test
+    fun testMoreThanHundredTasksPerHost() {
+        val scheduler =
+            MemorizingScheduler(
+                filters = emptyList(),
+            )
+
+        val host = mockk<HostView>(relaxed = true)
+        scheduler.addHost(host)
+
+        val req = mockk<SchedulingRequest>(relaxed = true)
+        every { req.isCancelled } returns false
+
+        repeat(150) {
+            assertEquals(host, scheduler.select(mutableListOf(req).iterator()).host)
+        }
+        repeat(150) {
+            scheduler.removeTask(req.task, host)
+        }
+        assertEquals(host, scheduler.select(mutableListOf(req).iterator()).host)
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.scheduler
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.util.SplittableRandom
+
+/**
+ * Test suite for [TopK].
+ */
+internal class TopKTest {
+    @Test
+    fun testIndexOfRankMatchesStableSort() {
+        val random = SplittableRandom(0)
+
+        for (n in listOf(1, 2, 17, 100, 1000)) {
+            val weights = DoubleArray(n) { random.nextInt(10).toDouble() }
+            val expected = weights.indices.sortedByDescending { weights[it] }
+
+            for (rank in 0 until n) {
+                val indices = IntArray(n) { it }
+                assertEquals(expected[rank], TopK.indexOfRank(weights, indices, 0, n, rank), "n=$n, rank=$rank")
+            }
+        }
+    }
+
+    @Test
+    fun testSelectReturnsBestCandidates() {
+        val random = SplittableRandom(1)
+        val n = 500
+        val weights = DoubleArray(n) { random.nextInt(50).toDouble() }
+        val expected = weights.indices.sortedByDescending { weights[it] }
+
+        for (k in listOf(0, 1, 5, 16, 17, 100, n, n + 1)) {
+            val indices = IntArray(n) { it }
+            val count = TopK.select(weights, indices, 0, n, k)
+
+            assertEquals(minOf(k, n), count)
+            assertEquals(expected.take(count).toSet(), indices.take(count).toSet(), "k=$k")
+        }
+    }
+
+    @Test
+    fun testSelectSubrange() {
+        val weights = doubleArrayOf(9.0, 1.0, 5.0, 5.0, 3.0, 7.0, 8.0)
+        val indices = IntArray(weights.size) { it }
+
+        assertEquals(2, TopK.select(weights, indices, 1, 6, 2))
+        assertEquals(setOf(2, 5), indices.slice(1..2).toSet())
+        assertEquals(0, indices[0])
+        assertEquals(6, indices[6])
+    }
+
+    @Test
+    fun testIndexOfRankOutOfBounds() {
+        assertThrows<IllegalArgumentException> { TopK.indexOfRank(doubleArrayOf(1.0), intArrayOf(0), 0, 1, 1) }
+    }
+}
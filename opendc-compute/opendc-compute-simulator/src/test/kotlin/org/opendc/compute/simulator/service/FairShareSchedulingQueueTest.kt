@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.service
+
+import io.mockk.every
+import io.mockk.mockk
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.opendc.compute.simulator.scheduler.SchedulingRequest
+import java.util.UUID
+
+/**
+ * Test suite for the [FairShareSchedulingQueue].
+ */
+internal class FairShareSchedulingQueueTest {
+    @Test
+    fun testOnlyHeadOfShapeIsConsidered() {
+        val queue = FairShareSchedulingQueue()
+        val small = List(3) { createRequest(cpuCoreCount = 1) }
+        val large = createRequest(cpuCoreCount = 8)
+
+        queue.add(small[0])
+        queue.add(large)
+        queue.add(small[1])
+        queue.add(small[2])
+
+        assertEquals(listOf(small[0], large), queue.toList())
+    }
+
+    @Test
+    fun testRemoveAdvancesBucket() {
+        val queue = FairShareSchedulingQueue()
+        val small = List(2) { createRequest(cpuCoreCount = 1) }
+        small.forEach { queue.add(it) }
+
+        val iter = queue.iterator()
+        assertEquals(small[0], iter.next())
+        iter.remove()
+        assertEquals(small[1], iter.next())
+        iter.remove()
+
+        assertFalse(iter.hasNext())
+        assertTrue(queue.isEmpty)
+    }
+
+    @Test
+    fun testRejectedBucketIsSkippedUntilNextCycle() {
+        val queue = FairShareSchedulingQueue()
+        val large = createRequest(cpuCoreCount = 8)
+        val small = createRequest(cpuCoreCount = 1)
+        queue.add(large)
+        queue.add(small)
+
+        queue.beginCycle()
+        assertTrue(queue.reject(large))
+        assertEquals(listOf(small), queue.toList())
+
+        queue.beginCycle()
+        assertEquals(listOf(large, small), queue.toList())
+    }
+
+    @Test
+    fun testTenantWithFewestPlacementsGoesFirst() {
+        val queue = FairShareSchedulingQueue()
+        val a = List(3) { createRequest(cpuCoreCount = 1, tenant = "a") }
+        val b = createRequest(cpuCoreCount = 1, tenant = "b")
+        a.forEach { queue.add(it) }
+        queue.add(b)
+
+        val iter = queue.iterator()
+        assertEquals(a[0], iter.next())
+        iter.remove()
+
+        assertEquals(listOf(b, a[1]), queue.toList())
+    }
+
+    @Test
+    fun testRequestsWithHintsAreQueuedIndividually() {
+        val queue = FairShareSchedulingQueue()
+        val hint = mapOf("scheduler_hint:same_host" to setOf(UUID.randomUUID()))
+        val first = createRequest(cpuCoreCount = 1, meta = hint)
+        val second = createRequest(cpuCoreCount = 1, meta = hint)
+        queue.add(first)
+        queue.add(second)
+
+        assertEquals(listOf(first, second), queue.toList())
+    }
+
+    @Test
+    fun testAddFirst() {
+        val queue = FairShareSchedulingQueue()
+        val small = createRequest(cpuCoreCount = 1)
+        val large = createRequest(cpuCoreCount = 8)
+        queue.add(small)
+        queue.addFirst(large)
+
+        assertEquals(listOf(large, small), queue.toList())
+        assertTrue(queue.remove(large))
+        assertFalse(queue.remove(large))
+        assertEquals(listOf(small), queue.toList())
+    }
+
+    @Test
+    fun testTenantIsRepositionedAfterPlacement() {
+        val queue = FairShareSchedulingQueue()
+        val tenants = listOf("a", "b", "c")
+        val requests = tenants.associateWith { tenant -> List(2) { createRequest(cpuCoreCount = 1, tenant = tenant) } }
+        requests.values.flatten().forEach { queue.add(it) }
+
+        val a = requests.getValue("a")
+        val b = requests.getValue("b")
+        val c = requests.getValue("c")
+        assertEquals(listOf(a[0], b[0], c[0]), queue.toList())
+
+        val first = queue.iterator()
+        assertEquals(a[0], first.next())
+        first.remove()
+        assertEquals(listOf(b[0], c[0], a[1]), queue.toList())
+
+        val second = queue.iterator()
+        assertEquals(b[0], second.next())
+        second.remove()
+        assertEquals(listOf(c[0], a[1], b[1]), queue.toList())
+    }
+
+    @Test
+    fun testBucketIsRepositionedWhenHeadChanges() {
+        val queue = FairShareSchedulingQueue()
+        val small = List(3) { createRequest(cpuCoreCount = 1) }
+        val large = createRequest(cpuCoreCount = 8)
+        queue.add(small[0])
+        queue.add(large)
+        queue.add(small[1])
+
+        assertTrue(queue.remove(small[0]))
+        assertEquals(listOf(large, small[1]), queue.toList())
+
+        queue.addFirst(small[2])
+        assertEquals(listOf(small[2], large), queue.toList())
+    }
+
+    @Test
+    fun testIteratorVisitsEveryBucketOnceAfterRemove() {
+        val queue = FairShareSchedulingQueue()
+        val small = List(3) { createRequest(cpuCoreCount = 1) }
+        val large = createRequest(cpuCoreCount = 8)
+        queue.add(small[0])
+        queue.add(large)
+        queue.add(small[1])
+        queue.add(small[2])
+
+        val iter = queue.iterator()
+        assertEquals(small[0], iter.next())
+        assertTrue(iter.hasNext())
+        iter.remove()
+
+        // The bucket is considered again in its place, even though its new head is younger than the large request
+        assertEquals(small[1], iter.next())
+        assertEquals(large, iter.next())
+        assertFalse(iter.hasNext())
+    }
+
+    @Test
+    fun testBlockedBucketStaysBlockedWhenRequestsArrive() {
+        val queue = FairShareSchedulingQueue()
+        val large = List(2) { createRequest(cpuCoreCount = 8) }
+        val small = createRequest(cpuCoreCount = 1)
+        queue.add(large[0])
+        queue.add(small)
+
+        queue.beginCycle()
+        assertTrue(queue.reject(large[0]))
+        queue.addFirst(large[1])
+        assertEquals(listOf(small), queue.toList())
+
+        queue.beginCycle()
+        assertEquals(listOf(large[1], small), queue.toList())
+    }
+
+    private fun createRequest(
+        cpuCoreCount: Int,
+        tenant: String? = null,
+        meta: Map<String, Any> = emptyMap(),
+    ): SchedulingRequest {
+        val task = mockk<ServiceTask>()
+        every { task.flavor.cpuCoreCount } returns cpuCoreCount
+        every { task.flavor.memorySize } returns 1024
+        every { task.flavor.gpuCoreCount } returns 0
+        every { task.flavor.meta } returns emptyMap()
+        every { task.nature } returns TaskNature(false)
+        every { task.meta } returns if (tenant != null) meta + (FairShareSchedulingQueue.TENANT_KEY to tenant) else meta
+        return SchedulingRequest(task, 0L)
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.telemetry.parquet
+
+import io.mockk.every
+import io.mockk.mockk
+import org.apache.parquet.example.data.Group
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import org.opendc.compute.simulator.telemetry.TaskExportMode
+import org.opendc.compute.simulator.telemetry.table.task.TaskTableReader
+import org.opendc.trace.util.parquet.exporter.ExportColumn
+import org.opendc.trace.util.parquet.exporter.Exporter
+import java.io.File
+import java.time.Duration
+import java.time.Instant
+
+/**
+ * Test suite for the [PeriodicTaskParquetReader] class.
+ */
+internal class PeriodicTaskParquetReaderTest {
+    @TempDir
+    lateinit var tempDir: File
+
+    private val exportInterval = Duration.ofMinutes(5)
+
+    private val columns =
+        setOf(
+            DfltTaskExportColumns.TASK_ID,
+            DfltTaskExportColumns.TIMESTAMP,
+            DfltTaskExportColumns.TIMESTAMP_ABS,
+            DfltTaskExportColumns.CPU_TIME_ACTIVE,
+            DfltTaskExportColumns.CPU_TIME_IDLE,
+        )
+
+    @Test
+    fun testPeriodicExportHasNoRunLength() {
+        val config = ComputeExportConfig.ALL_COLUMNS.withTaskExportMode(TaskExportMode.PERIODIC)
+        assertFalse(DfltTaskExportColumns.RUN_LENGTH in config.taskExportColumns)
+
+        val file = File(tempDir, "periodic.parquet")
+        write(file, columns, listOf(createRow(0, 1, 7, 1)))
+
+        PeriodicTaskParquetReader(file, exportInterval).use { reader ->
+            val row = checkNotNull(reader.read())
+            assertFalse(row.type.containsField(DfltTaskExportColumns.RUN_LENGTH.name))
+            assertEquals(7, row.getLong(DfltTaskExportColumns.CPU_TIME_ACTIVE.name, 0))
+            assertNull(reader.read())
+        }
+    }
+
+    @Test
+    fun testDeltaExportMatchesPeriodicExport() {
+        // The periodic view: one row per export interval
+        val periodic =
+            listOf(
+                createRow(0, 1, 7, 1),
+                createRow(1, 1, 7, 1),
+                createRow(2, 1, 6, 1),
+                createRow(3, 1, 5, 0),
+                createRow(4, 1, 5, 0),
+            )
+
+        // The same rows collapsed into runs, where the counters are summed over the run
+        val delta =
+            listOf(
+                createRow(0, 3, 20, 3),
+                createRow(3, 2, 10, 0),
+            )
+
+        val periodicFile = File(tempDir, "periodic.parquet")
+        val deltaFile = File(tempDir, "delta.parquet")
+        write(periodicFile, columns, periodic)
+        write(deltaFile, columns + DfltTaskExportColumns.RUN_LENGTH, delta)
+
+        val expected = readAll(periodicFile)
+        val actual = readAll(deltaFile)
+        assertEquals(5, actual.size)
+
+        for ((e, a) in expected.zip(actual)) {
+            for (column in columns) {
+                assertEquals(e.valueOf(column), a.valueOf(column), "Column ${column.name} differs")
+            }
+            assertEquals(1, a.getInteger(DfltTaskExportColumns.RUN_LENGTH.name, 0))
+        }
+    }
+
+    /**
+     * Helper method to create a task row at [interval] that covers [runLength] export intervals.
+     */
+    private fun createRow(
+        interval: Int,
+        runLength: Int,
+        cpuActiveTime: Long,
+        cpuIdleTime: Long,
+    ): TaskTableReader {
+        val timestamp = Instant.ofEpochMilli(interval * exportInterval.toMillis())
+        val row = mockk<TaskTableReader>(relaxed = true)
+        every { row.taskInfo.id } returns "task-0"
+        every { row.timestamp } returns timestamp
+        every { row.timestampAbsolute } returns timestamp
+        every { row.runLength } returns runLength
+        every { row.cpuActiveTime } returns cpuActiveTime
+        every { row.cpuIdleTime } returns cpuIdleTime
+        return row
+    }
+
+    /**
+     * Helper method to write the specified [rows] to [file].
+     */
+    private fun write(
+        file: File,
+        columns: Set<ExportColumn<TaskTableReader>>,
+        rows: List<TaskTableReader>,
+    ) {
+        Exporter(outputFile = file, columns = columns).use { exporter ->
+            rows.forEach { exporter.write(it) }
+        }
+    }
+
+    /**
+     * Helper method to obtain the value of [column] in this row as string.
+     */
+    private fun Group.valueOf(column: ExportColumn<TaskTableReader>): String {
+        return getValueToString(type.getFieldIndex(column.name), 0)
+    }
+
+    /**
+     * Helper method to read all rows of the periodic view of [file].
+     */
+    private fun readAll(file: File): List<Group> {
+        return PeriodicTaskParquetReader(file, exportInterval).use { reader ->
+            generateSequence { reader.read() }.toList()
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.telemetry.summary
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertAll
+import java.util.Random
+
+/**
+ * Test suite for the streaming aggregates of the [SummaryComputeMonitor].
+ */
+internal class TDigestTest {
+    @Test
+    fun testEmpty() {
+        val digest = TDigest()
+
+        assertTrue(digest.quantile(0.5).isNaN())
+    }
+
+    @Test
+    fun testUniform() {
+        val digest = TDigest()
+        val random = Random(0)
+        repeat(100_000) { digest.add(random.nextDouble()) }
+
+        assertAll(
+            { assertEquals(0.01, digest.quantile(0.01), 0.002) },
+            { assertEquals(0.5, digest.quantile(0.5), 0.01) },
+            { assertEquals(0.99, digest.quantile(0.99), 0.002) },
+            { assertEquals(digest.min, digest.quantile(0.0)) },
+            { assertEquals(digest.max, digest.quantile(1.0)) },
+        )
+    }
+
+    @Test
+    fun testWeighted() {
+        val weighted = TDigest()
+        val repeated = TDigest()
+        for (i in 0 until 1000) {
+            weighted.add(i.toDouble(), 3.0)
+            repeat(3) { repeated.add(i.toDouble()) }
+        }
+
+        assertAll(
+            { assertEquals(3000.0, weighted.count) },
+            { assertEquals(repeated.quantile(0.5), weighted.quantile(0.5), 5.0) },
+            { assertEquals(repeated.quantile(0.95), weighted.quantile(0.95), 5.0) },
+        )
+    }
+
+    @Test
+    fun testStatistic() {
+        val statistic = StreamingStatistic(100.0, FixedWidthHistogram(0.0, 1.0, 4))
+        statistic.add(0.1)
+        statistic.add(0.6, weight = 2)
+        statistic.add(1.0)
+        statistic.add(1.5)
+
+        val summary = statistic.summarize(listOf(0.5))
+        assertAll(
+            { assertEquals(5L, summary.count) },
+            { assertEquals(3.8, summary.sum, 1e-9) },
+            { assertEquals(0.1, summary.min) },
+            { assertEquals(1.5, summary.max) },
+            { assertEquals(setOf("p50"), summary.quantiles.keys) },
+            { assertEquals(listOf(1L, 0L, 2L, 1L), summary.histogram?.counts) },
+            { assertEquals(1L, summary.histogram?.overflow) },
+        )
+    }
+}
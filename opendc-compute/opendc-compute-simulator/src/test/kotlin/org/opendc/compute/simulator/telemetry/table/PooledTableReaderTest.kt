@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.simulator.telemetry.table
+
+import io.mockk.every
+import io.mockk.mockk
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNotSame
+import org.junit.jupiter.api.Assertions.assertSame
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import org.opendc.compute.simulator.service.ComputeService
+import org.opendc.compute.simulator.telemetry.ComputeMonitor
+import org.opendc.compute.simulator.telemetry.OutputFiles
+import org.opendc.compute.simulator.telemetry.SchedulerStats
+import org.opendc.compute.simulator.telemetry.parquet.ParquetComputeMonitor
+import org.opendc.compute.simulator.telemetry.table.service.ServiceTableReader
+import org.opendc.compute.simulator.telemetry.table.service.ServiceTableReaderImpl
+import java.io.File
+import java.time.Instant
+
+/**
+ * Test suite for the [PooledTableReader] class.
+ */
+internal class PooledTableReaderTest {
+    @TempDir
+    lateinit var tempDir: File
+
+    private var hostsUp = 0
+    private val service = mockk<ComputeService>()
+
+    init {
+        every { service.getSchedulerStats() } answers { SchedulerStats(hostsUp, 0, 0, 0, 0, 0, 0, 0, 0) }
+    }
+
+    @Test
+    fun testRetainedSnapshotIsNotOverwritten() {
+        val reader = ServiceTableReaderImpl(service)
+
+        record(reader, 1)
+        val first = reader.snapshot()
+        first.retain()
+        first.release()
+
+        record(reader, 2)
+        val second = reader.snapshot()
+
+        assertNotSame(first, second)
+        assertEquals(1, first.hostsUp)
+        assertEquals(2, second.hostsUp)
+    }
+
+    @Test
+    fun testReleasedSnapshotIsReused() {
+        val reader = ServiceTableReaderImpl(service)
+
+        record(reader, 1)
+        val first = reader.snapshot()
+        first.release()
+
+        record(reader, 2)
+        val second = reader.snapshot()
+
+        assertSame(first, second)
+        assertEquals(2, second.hostsUp)
+    }
+
+    @Test
+    fun testRetainCountAcrossMonitors() {
+        val reader = ServiceTableReaderImpl(service)
+        val monitors = List(3) { RetainingMonitor() }
+
+        record(reader, 1)
+        val snapshot = reader.snapshot()
+        monitors.forEach { it.record(snapshot) }
+        snapshot.release()
+
+        // The snapshot may only be reused once every monitor has released it. The other snapshots are kept, such
+        // that the pool only ever contains the snapshot under test.
+        for (monitor in monitors) {
+            assertNotSame(snapshot, reader.snapshot())
+            monitor.releaseAll()
+        }
+
+        record(reader, 2)
+        assertSame(snapshot, reader.snapshot())
+        assertEquals(2, snapshot.hostsUp)
+    }
+
+    @Test
+    fun testParquetExporterReleasesSnapshots() {
+        val reader = ServiceTableReaderImpl(service)
+        val monitor =
+            ParquetComputeMonitor(
+                base = tempDir,
+                partition = "test",
+                bufferSize = 4096,
+                filesToExport = mapOf(OutputFiles.SERVICE to true),
+            )
+
+        val snapshots =
+            List(10) {
+                record(reader, it)
+                val snapshot = reader.snapshot()
+                monitor.record(snapshot)
+                snapshot.release()
+                snapshot
+            }
+
+        // Closing the monitor waits until all rows have been written
+        monitor.close()
+
+        // Every snapshot handed to the exporter is back in the pool of the reader
+        val distinct = snapshots.toSet()
+        val reused = List(distinct.size) { reader.snapshot() }
+        assertEquals(distinct, reused.toSet())
+    }
+
+    /**
+     * Helper method to record the [reader] while [up] hosts are available.
+     */
+    private fun record(
+        reader: ServiceTableReaderImpl,
+        up: Int,
+    ) {
+        hostsUp = up
+        reader.record(Instant.ofEpochMilli(up.toLong()))
+    }
+
+    /**
+     * A [ComputeMonitor] that keeps the service rows it records until [releaseAll] is called.
+     */
+    private class RetainingMonitor : ComputeMonitor {
+        private val rows = mutableListOf<ServiceTableReader>()
+
+        override fun record(reader: ServiceTableReader) {
+            reader.retain()
+            rows.add(reader)
+        }
+
+        fun releaseAll() {
+            rows.forEach { it.release() }
+            rows.clear()
+        }
+    }
+}
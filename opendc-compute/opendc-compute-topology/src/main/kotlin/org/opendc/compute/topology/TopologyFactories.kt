@@ -29,6 +29,7 @@ import org.opendc.compute.topology.specs.ClusterJSONSpec
 import org.opendc.compute.topology.specs.ClusterSpec
 import org.opendc.compute.topology.specs.HostJSONSpec
 import org.opendc.compute.topology.specs.HostSpec
+import org.opendc.compute.topology.specs.HostTemplate
 import org.opendc.compute.topology.specs.PowerSourceSpec
 import org.opendc.compute.topology.specs.TopologySpec
 import org.opendc.compute.topology.specs.toDistributionPolicy
@@ -46,11 +47,17 @@ import java.io.InputStream
  */
 private val reader = TopologyReader()
 
-// Lists used to make sure all cluster, host, power source and battery have unique names
-private val clusterNames: HashMap<String, Int> = HashMap()
-private val hostNames: HashMap<String, Int> = HashMap()
-private val powerSourceNames: HashMap<String, Int> = HashMap()
-private val batteryNames: HashMap<String, Int> = HashMap()
+/**
+ * Lists used to make sure all cluster, host, power source and battery have unique names.
+ *
+ * A new instance is created for every topology that is converted, so topologies can be parsed concurrently.
+ */
+private class UniqueNames {
+    val clusterNames: HashMap<String, Int> = HashMap()
+    val hostNames: HashMap<String, Int> = HashMap()
+    val powerSourceNames: HashMap<String, Int> = HashMap()
+    val batteryNames: HashMap<String, Int> = HashMap()
+}
 
 /**
  * Create a unique name for the specified [name] that is not already in the [names] list.
@@ -103,35 +110,30 @@ public fun clusterTopology(input: InputStream): List<ClusterSpec> {
  * Helper method to convert a [TopologySpec] into a list of [HostSpec]s.
  */
 private fun TopologySpec.toClusterSpec(): List<ClusterSpec> {
-    clusterNames.clear()
-    hostNames.clear()
-    powerSourceNames.clear()
-    batteryNames.clear()
+    val names = UniqueNames()
 
     return clusters.map { cluster ->
-        cluster.toClusterSpec()
+        cluster.toClusterSpec(names)
     }
 }
 
 /**
  * Helper method to convert a [ClusterJSONSpec] into a list of [HostSpec]s.
  */
-private fun ClusterJSONSpec.toClusterSpec(): ClusterSpec {
-    val clusterName = createUniqueName(this.name, clusterNames)
+private fun ClusterJSONSpec.toClusterSpec(names: UniqueNames): ClusterSpec {
+    val clusterName = createUniqueName(this.name, names.clusterNames)
 
     val hostSpecs =
         hosts.flatMap { host ->
-            (
-                List(host.count) {
-                    host.toHostSpec(
-                        clusterName,
-                    )
-                }
-            )
+            // All hosts of the same entry share a single template, only their names differ
+            val template = host.toHostTemplate()
+            List(host.count) {
+                template.instantiate(createUniqueName(host.name, names.hostNames), clusterName)
+            }
         }
     val powerSourceSpec =
         PowerSourceSpec(
-            createUniqueName(this.powerSource.name, powerSourceNames),
+            createUniqueName(this.powerSource.name, names.powerSourceNames),
             totalPower = this.powerSource.maxPower,
             carbonTracePath = this.powerSource.carbonTracePath,
         )
@@ -140,7 +142,7 @@ private fun ClusterJSONSpec.toClusterSpec(): ClusterSpec {
     if (this.battery != null) {
         batterySpec =
             BatteryJSONSpec(
-                createUniqueName(this.battery.name, batteryNames),
+                createUniqueName(this.battery.name, names.batteryNames),
                 this.battery.capacity,
                 this.battery.chargingSpeed,
                 this.battery.initialCharge,
@@ -154,16 +156,15 @@ private fun ClusterJSONSpec.toClusterSpec(): ClusterSpec {
 }
 
 /**
- * Helper method to convert a [HostJSONSpec] into a [HostSpec]s.
+ * Helper method to convert a [HostJSONSpec] into a [HostTemplate] shared by all hosts of the specification.
+ *
+ * The ids of the CPUs and GPUs are local to the machine, as they are only used to identify the resources within it.
  */
-private var globalCoreId = 0
-private var globalGpuId = 0
-
-private fun HostJSONSpec.toHostSpec(clusterName: String): HostSpec {
+private fun HostJSONSpec.toHostTemplate(): HostTemplate {
     val units =
-        List(cpu.count) {
+        List(cpu.count) { cpuId ->
             CpuModel(
-                globalCoreId++,
+                cpuId,
                 cpu.coreCount,
                 cpu.coreSpeed.toMHz(),
             )
@@ -171,10 +172,10 @@ private fun HostJSONSpec.toHostSpec(clusterName: String): HostSpec {
 
     val unknownMemoryUnit = MemoryUnit(memory.vendor, memory.modelName, memory.memorySpeed.toMHz(), memory.memorySize.toMiB().toLong())
     val gpuUnits =
-        List(gpu?.count ?: 0) {
+        List(gpu?.count ?: 0) { gpuId ->
             val virtualizationOverheadModel = gpu?.virtualizationOverHeadModel?.toVirtualizationOverheadModel()
             GpuModel(
-                globalGpuId++,
+                gpuId,
                 gpu!!.coreCount,
                 gpu.coreSpeed.toMHz(),
                 gpu.memoryBandwidth.toKibps(),
@@ -221,15 +222,11 @@ private fun HostJSONSpec.toHostSpec(clusterName: String): HostSpec {
             )
         }
 
-    val hostSpec =
-        HostSpec(
-            createUniqueName(this.name, hostNames),
-            clusterName,
-            machineModel,
-            cpuPowerModel,
-            gpuPowerModel,
-            cpuDistributionPolicy = cpuDistributionPolicy.toDistributionPolicy(),
-            gpuDistributionPolicy = gpuDistributionPolicy.toDistributionPolicy(),
-        )
-    return hostSpec
+    return HostTemplate(
+        machineModel,
+        cpuPowerModel,
+        gpuPowerModel,
+        cpuDistributionPolicy = cpuDistributionPolicy.toDistributionPolicy(),
+        gpuDistributionPolicy = gpuDistributionPolicy.toDistributionPolicy(),
+    )
 }
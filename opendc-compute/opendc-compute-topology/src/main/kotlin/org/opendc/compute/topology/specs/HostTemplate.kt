@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.topology.specs
+
+import org.opendc.simulator.compute.models.MachineModel
+import org.opendc.simulator.compute.power.PowerModel
+import org.opendc.simulator.engine.graph.distributionPolicies.FlowDistributorFactory.DistributionPolicy
+
+/**
+ * Immutable description of a host type that is shared by all hosts created from the same host specification.
+ *
+ * The machine model and power models are not copied per host, so the memory used by a topology grows with the
+ * number of distinct host types instead of the number of hosts.
+ *
+ * @param model The physical model of the machine.
+ * @param cpuPowerModel The [cpuPowerModel] that determines the power draw based on cpu utilization
+ * @param gpuPowerModel The power model used to determine the power draw of the GPU (optional)
+ * @param embodiedCarbon The embodied carbon needed to create the host in gram
+ * @param expectedLifetime The expected lifetime of the host in years
+ * @param cpuDistributionPolicy The distribution policy used to distribute CPU resources
+ * @param gpuDistributionPolicy The distribution policy used to distribute GPU resources
+ */
+public data class HostTemplate(
+    val model: MachineModel,
+    val cpuPowerModel: PowerModel,
+    val gpuPowerModel: PowerModel?,
+    val embodiedCarbon: Double = 1000.0,
+    val expectedLifetime: Double = 5.0,
+    val cpuDistributionPolicy: DistributionPolicy = DistributionPolicy.MAX_MIN_FAIRNESS,
+    val gpuDistributionPolicy: DistributionPolicy = DistributionPolicy.MAX_MIN_FAIRNESS,
+) {
+    /**
+     * Create a [HostSpec] with the specified [name] in the cluster [clusterName] that shares the models of this template.
+     */
+    public fun instantiate(
+        name: String,
+        clusterName: String,
+    ): HostSpec =
+        HostSpec(
+            name,
+            clusterName,
+            model,
+            cpuPowerModel,
+            gpuPowerModel,
+            embodiedCarbon,
+            expectedLifetime,
+            cpuDistributionPolicy,
+            gpuDistributionPolicy,
+        )
+}
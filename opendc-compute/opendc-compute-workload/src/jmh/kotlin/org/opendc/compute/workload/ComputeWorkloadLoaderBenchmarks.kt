@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.compute.workload
+
+import org.opendc.trace.Trace
+import org.opendc.trace.conv.TABLE_RESOURCES
+import org.opendc.trace.conv.TABLE_RESOURCE_STATES
+import org.opendc.trace.conv.resourceCpuCapacity
+import org.opendc.trace.conv.resourceCpuCount
+import org.opendc.trace.conv.resourceDuration
+import org.opendc.trace.conv.resourceID
+import org.opendc.trace.conv.resourceMemCapacity
+import org.opendc.trace.conv.resourceStateCpuUsage
+import org.opendc.trace.conv.resourceStateDuration
+import org.opendc.trace.conv.resourceStateTimestamp
+import org.opendc.trace.conv.resourceSubmissionTime
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.TearDown
+import org.openjdk.jmh.annotations.Warmup
+import java.io.File
+import java.nio.file.Files
+import java.time.Duration
+import java.time.Instant
+import java.util.SplittableRandom
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmark suite for the parse time of the [ComputeWorkloadLoader].
+ *
+ * The trace is generated synthetically in the OpenDC VM format, with [tasks] tasks of [fragments] fragments each.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+class ComputeWorkloadLoaderBenchmarks {
+    @Param("100", "1000")
+    private var tasks: Int = 0
+
+    @Param("1000")
+    private var fragments: Int = 0
+
+    private lateinit var traceDir: File
+
+    @Setup
+    fun setUp() {
+        traceDir = Files.createTempDirectory("opendc-jmh").toFile()
+        val trace = Trace.create(traceDir, "opendc-vm")
+        val random = SplittableRandom(0)
+
+        val fragmentWriter = checkNotNull(trace.getTable(TABLE_RESOURCE_STATES)).newWriter()
+        val durations = LongArray(tasks)
+        val cpuCounts = IntArray(tasks) { 1 shl random.nextInt(4) }
+
+        fragmentWriter.use { writer ->
+            val idCol = writer.resolve(resourceID)
+            val timestampCol = writer.resolve(resourceStateTimestamp)
+            val durationCol = writer.resolve(resourceStateDuration)
+            val cpuCountCol = writer.resolve(resourceCpuCount)
+            val cpuUsageCol = writer.resolve(resourceStateCpuUsage)
+
+            for (task in 0 until tasks) {
+                for (fragment in 0 until fragments) {
+                    val duration = random.nextLong(1_000, 300_000)
+
+                    writer.startRow()
+                    writer.setString(idCol, "$task")
+                    writer.setInstant(timestampCol, Instant.ofEpochMilli(durations[task]))
+                    writer.setDuration(durationCol, Duration.ofMillis(duration))
+                    writer.setInt(cpuCountCol, cpuCounts[task])
+                    writer.setDouble(cpuUsageCol, random.nextDouble(0.0, cpuCounts[task] * 3200.0))
+                    writer.endRow()
+
+                    durations[task] += duration
+                }
+            }
+        }
+
+        checkNotNull(trace.getTable(TABLE_RESOURCES)).newWriter().use { writer ->
+            val idCol = writer.resolve(resourceID)
+            val submissionTimeCol = writer.resolve(resourceSubmissionTime)
+            val durationCol = writer.resolve(resourceDuration)
+            val cpuCountCol = writer.resolve(resourceCpuCount)
+            val cpuCapacityCol = writer.resolve(resourceCpuCapacity)
+            val memCapacityCol = writer.resolve(resourceMemCapacity)
+
+            for (task in 0 until tasks) {
+                writer.startRow()
+                writer.setString(idCol, "$task")
+                writer.setInstant(submissionTimeCol, Instant.ofEpochMilli(random.nextLong(0, 86_400_000)))
+                writer.setLong(durationCol, durations[task])
+                writer.setInt(cpuCountCol, cpuCounts[task])
+                writer.setDouble(cpuCapacityCol, cpuCounts[task] * 3200.0)
+                writer.setDouble(memCapacityCol, 2_000_000.0 * cpuCounts[task])
+                writer.endRow()
+            }
+        }
+    }
+
+    @TearDown
+    fun tearDown() {
+        traceDir.deleteRecursively()
+    }
+
+    @Benchmark
+    fun benchmarkLoad(): List<Task> = ComputeWorkloadLoader(traceDir).load()
+}
@@ -26,13 +26,22 @@ import kotlinx.serialization.Serializable
 import org.opendc.common.logger.infoNewLine
 import org.opendc.common.logger.logger
 import org.opendc.compute.simulator.telemetry.OutputFiles
+import org.opendc.compute.simulator.telemetry.TaskExportMode
 import org.opendc.compute.simulator.telemetry.parquet.ComputeExportConfig
+import org.opendc.compute.simulator.telemetry.summary.SummaryExportConfig
 import kotlin.getValue
 
 /**
  * specification describing how the results should be exported
  *
  * @property exportInterval The interval of exporting results in s. Should be higher than 0.0
+ * @property taskExportMode The way in which the rows of the task table are exported.
+ * @property skipStationaryIntervals Whether export intervals in which the system does not change are skipped, deriving
+ * their rows from the last recorded row.
+ * @property exportRawOutput Whether the samples are written to the raw parquet output files.
+ * @property summaryExportConfig The configuration of the aggregated summary file, or `null` to not write a summary.
+ * @property exportEngineProfile Whether the flow engine is instrumented and a profile of its work per node class is
+ * written at the end of the run.
  */
 @Serializable
 public data class ExportModelSpec(
@@ -41,6 +50,11 @@ public data class ExportModelSpec(
     val computeExportConfig: ComputeExportConfig = ComputeExportConfig.ALL_COLUMNS,
     val filesToExport: List<OutputFiles> = OutputFiles.entries.toList(),
     var filesToExportDict: MutableMap<OutputFiles, Boolean> = OutputFiles.entries.associateWith { false }.toMutableMap(),
+    val taskExportMode: TaskExportMode = TaskExportMode.PERIODIC,
+    val skipStationaryIntervals: Boolean = false,
+    val exportRawOutput: Boolean = true,
+    val summaryExportConfig: SummaryExportConfig? = null,
+    val exportEngineProfile: Boolean = false,
 ) {
     init {
         require(exportInterval > 0) { "The Export interval has to be higher than 0" }
@@ -57,7 +57,9 @@ import org.apache.commons.math3.distribution.UniformRealDistribution
 import org.apache.commons.math3.distribution.WeibullDistribution
 import org.apache.commons.math3.random.Well19937c
 import org.opendc.compute.failure.models.FailureModel
+import org.opendc.compute.failure.models.FailureSchedule
 import org.opendc.compute.failure.models.SampleBasedFailureModel
+import org.opendc.compute.failure.models.ScheduledFailureModel
 import org.opendc.compute.failure.models.TraceBasedFailureModel
 import org.opendc.compute.failure.prefab.FailurePrefab
 import org.opendc.compute.failure.prefab.createFailureModelPrefab
@@ -109,11 +111,13 @@ public data class TraceBasedFailureModelSpec(
  * A specification for a failure model that is already present in OpenDC.
  *
  * @property prefabName The name of the prefab. It needs to be valid [FailurePrefab]
+ * @property schedule If set, the failures are precomputed before the simulation starts. See [FailureScheduleSpec].
  */
 @Serializable
 @SerialName("prefab")
 public data class PrefabFailureModelSpec(
     public val prefabName: FailurePrefab,
+    public val schedule: FailureScheduleSpec? = null,
 ) : FailureModelSpec {
     override var name: String = prefabName.toString()
 }
@@ -125,6 +129,7 @@ public data class PrefabFailureModelSpec(
  * @property iatSampler Sampler for the time between failures defined in hours
  * @property durationSampler Sampler for the time of a failure defined in hours
  * @property nohSampler Sampler for ratio of hosts that fail defined as a double between 0.0 and 1.0
+ * @property schedule If set, the failures are precomputed before the simulation starts. See [FailureScheduleSpec].
  * @constructor Create empty Custom failure model spec
  */
 @Serializable
@@ -133,10 +138,63 @@ public data class CustomFailureModelSpec(
     public val iatSampler: DistributionSpec,
     public val durationSampler: DistributionSpec,
     public val nohSampler: DistributionSpec,
+    public val schedule: FailureScheduleSpec? = null,
 ) : FailureModelSpec {
     override var name: String = "custom"
 }
 
+/**
+ * A failure model spec that replays a [FailureSchedule] that was exported by an earlier run.
+ *
+ * @property pathToFile Path to the exported failure schedule
+ */
+@Serializable
+@SerialName("schedule")
+public data class ScheduleBasedFailureModelSpec(
+    public val pathToFile: String,
+) : FailureModelSpec {
+    override var name: String = File(pathToFile).nameWithoutExtension
+
+    init {
+        require(File(pathToFile).exists()) { "Path to file $pathToFile does not exist" }
+    }
+}
+
+/**
+ * Settings to precompute the failures of a sample-based failure model from the seed, before the simulation starts.
+ * The precomputed failures are injected using timers instead of a sampling coroutine.
+ *
+ * By default, the schedule contains the single failure that the sample-based failure model injects for the same seed,
+ * so that precomputed and sampled runs of a scenario can be compared.
+ *
+ * @property horizon The time span covered by the schedule in hours. Defaults to the span of the workload.
+ * @property maxFailures The maximum number of failures in the schedule. Values above 1 keep sampling failures until
+ * the horizon is reached.
+ * @property exportPath The folder to which the schedule of each run is exported, or null to not export it.
+ */
+@Serializable
+public data class FailureScheduleSpec(
+    public val horizon: Double? = null,
+    public val maxFailures: Int = 1,
+    public val exportPath: String? = null,
+) {
+    init {
+        require(horizon == null || horizon > 0.0) { "The horizon of a failure schedule must be positive" }
+        require(maxFailures > 0) { "A failure schedule must allow at least one failure" }
+    }
+}
+
+/**
+ * The [FailureScheduleSpec] of this failure model, or null if its failures should not be precomputed.
+ */
+public val FailureModelSpec.scheduleSpec: FailureScheduleSpec?
+    get() =
+        when (this) {
+            is PrefabFailureModelSpec -> schedule
+            is CustomFailureModelSpec -> schedule
+            else -> null
+        }
+
 /**
  * Specifications of the different Distributions that can used to create a [CustomFailureModelSpec]
  * All [DistributionSpec]s have a different definition based on the variables they need to function.
@@ -223,6 +281,7 @@ public data class WeibullDistributionSpec(
  * @param service
  * @param random
  * @param failureModelSpec
+ * @param horizon The default time span in milliseconds covered by precomputed failure schedules
  * @return
  */
 public fun createFailureModel(
@@ -231,11 +290,13 @@ public fun createFailureModel(
     service: ComputeService,
     random: java.util.random.RandomGenerator,
     failureModelSpec: FailureModelSpec?,
+    horizon: Long = Long.MAX_VALUE,
 ): FailureModel? {
     return when (failureModelSpec) {
-        is PrefabFailureModelSpec -> createFailureModel(context, clock, service, random, failureModelSpec)
-        is CustomFailureModelSpec -> createFailureModel(context, clock, service, random, failureModelSpec)
+        is PrefabFailureModelSpec -> createFailureModel(context, clock, service, random, failureModelSpec, horizon)
+        is CustomFailureModelSpec -> createFailureModel(context, clock, service, random, failureModelSpec, horizon)
         is TraceBasedFailureModelSpec -> createFailureModel(context, clock, service, random, failureModelSpec)
+        is ScheduleBasedFailureModelSpec -> createFailureModel(context, clock, service, random, failureModelSpec)
         else -> null
     }
 }
@@ -248,6 +309,7 @@ public fun createFailureModel(
  * @param service
  * @param random
  * @param failureModel
+ * @param horizon The default time span in milliseconds covered by a precomputed failure schedule
  * @return
  */
 public fun createFailureModel(
@@ -256,8 +318,10 @@ public fun createFailureModel(
     service: ComputeService,
     random: java.util.random.RandomGenerator,
     failureModel: PrefabFailureModelSpec,
+    horizon: Long = Long.MAX_VALUE,
 ): FailureModel {
-    return createFailureModelPrefab(context, clock, service, random, failureModel.prefabName)
+    val model = createFailureModelPrefab(context, clock, service, random, failureModel.prefabName)
+    return precomputeFailureModel(context, clock, service, random, model, failureModel.schedule, horizon)
 }
 
 /**
@@ -288,6 +352,7 @@ public fun createFailureModel(
  * @param service
  * @param random
  * @param failureModel
+ * @param horizon The default time span in milliseconds covered by a precomputed failure schedule
  * @return
  */
 public fun createFailureModel(
@@ -296,6 +361,7 @@ public fun createFailureModel(
     service: ComputeService,
     random: java.util.random.RandomGenerator,
     failureModel: CustomFailureModelSpec,
+    horizon: Long = Long.MAX_VALUE,
 ): FailureModel {
     val rng: org.apache.commons.math3.random.RandomGenerator = Well19937c(random.nextLong())
 
@@ -303,7 +369,56 @@ public fun createFailureModel(
     val durationSampler = createSampler(rng, failureModel.durationSampler)
     val nohSampler = createSampler(rng, failureModel.nohSampler)
 
-    return SampleBasedFailureModel(context, clock, service, random, iatSampler, durationSampler, nohSampler)
+    val model = SampleBasedFailureModel(context, clock, service, random, iatSampler, durationSampler, nohSampler)
+    return precomputeFailureModel(context, clock, service, random, model, failureModel.schedule, horizon)
+}
+
+/**
+ * Create [FailureModel] based on the provided [ScheduleBasedFailureModelSpec]
+ *
+ * @param context
+ * @param clock
+ * @param service
+ * @param random
+ * @param failureModel
+ * @return
+ */
+public fun createFailureModel(
+    context: CoroutineContext,
+    clock: InstantSource,
+    service: ComputeService,
+    random: java.util.random.RandomGenerator,
+    failureModel: ScheduleBasedFailureModelSpec,
+): FailureModel {
+    return ScheduledFailureModel(context, clock, service, random, FailureSchedule.read(File(failureModel.pathToFile)))
+}
+
+/**
+ * Replace the [SampleBasedFailureModel] by a [ScheduledFailureModel] that injects its precomputed failures, if the
+ * [FailureScheduleSpec] asks for it.
+ *
+ * @param model The sample-based failure model to precompute the schedule from
+ * @param scheduleSpec The schedule settings, or null to keep the sample-based failure model
+ * @param horizon The default time span in milliseconds covered by the schedule
+ * @return
+ */
+private fun precomputeFailureModel(
+    context: CoroutineContext,
+    clock: InstantSource,
+    service: ComputeService,
+    random: java.util.random.RandomGenerator,
+    model: SampleBasedFailureModel,
+    scheduleSpec: FailureScheduleSpec?,
+    horizon: Long,
+): FailureModel {
+    if (scheduleSpec == null) {
+        return model
+    }
+
+    val scheduleHorizon = scheduleSpec.horizon?.let { (it * 3.6e6).toLong() } ?: horizon
+    val schedule = model.use { it.createSchedule(scheduleHorizon, scheduleSpec.maxFailures) }
+
+    return ScheduledFailureModel(context, clock, service, random, schedule)
 }
 
 /**
@@ -29,10 +29,16 @@ import java.io.File
  * specification describing a topology
  *
  * @property pathToFile
+ * @property lazyMachines Only simulate the full machine of a host while tasks are running on it.
+ * Idle hosts only draw their idle power.
+ * @property poolWorkloads Recycle the flow graph objects (virtual machines, workloads, and edges) of finished tasks
+ * per machine instead of allocating new ones for every task.
  */
 @Serializable
 public data class ScenarioTopologySpec(
     val pathToFile: String,
+    val lazyMachines: Boolean = false,
+    val poolWorkloads: Boolean = false,
 ) {
     public val name: String = File(pathToFile).nameWithoutExtension
 
@@ -39,12 +39,19 @@ import kotlin.coroutines.CoroutineContext
  * specification describing how tasks are allocated
  */
 @Serializable
-public sealed interface AllocationPolicySpec
+public sealed interface AllocationPolicySpec {
+    /**
+     * Whether the pending tasks are queued by tenant and flavor shape instead of in a single first-come first-served
+     * queue, such that smaller tasks can be placed while a larger task waits for capacity.
+     */
+    public val fairShare: Boolean
+}
 
 @Serializable
 @SerialName("prefab")
 public data class PrefabAllocationPolicySpec(
     val policyName: ComputeSchedulerEnum = ComputeSchedulerEnum.Mem,
+    override val fairShare: Boolean = false,
 ) : AllocationPolicySpec {
     public val name: String = policyName.toString()
 }
@@ -55,6 +62,8 @@ public data class FilterAllocationPolicySpec(
     val filters: List<HostFilterSpec> = listOf(ComputeFilterSpec()),
     val weighers: List<HostWeigherSpec> = emptyList(),
     val subsetSize: Int = 1,
+    val parallel: Boolean = false,
+    override val fairShare: Boolean = false,
 ) : AllocationPolicySpec
 
 @Serializable
@@ -70,6 +79,7 @@ public data class TimeShiftAllocationPolicySpec(
     val forecastSize: Int = 24,
     val taskStopper: TaskStopperSpec? = null,
     val memorize: Boolean = true,
+    override val fairShare: Boolean = false,
 ) : AllocationPolicySpec
 
 public fun createComputeScheduler(
@@ -82,7 +92,7 @@ public fun createComputeScheduler(
         is FilterAllocationPolicySpec -> {
             val filters = spec.filters.map { createHostFilter(it) }
             val weighers = spec.weighers.map { createHostWeigher(it) }
-            FilterScheduler(filters, weighers, spec.subsetSize, seeder)
+            FilterScheduler(filters, weighers, spec.subsetSize, seeder, spec.parallel)
         }
         is TimeShiftAllocationPolicySpec -> {
             val filters = spec.filters.map { createHostFilter(it) }
@@ -31,6 +31,7 @@ import kotlinx.coroutines.sync.Mutex
 import kotlinx.coroutines.yield
 import org.opendc.compute.api.TaskState
 import org.opendc.compute.failure.models.FailureModel
+import org.opendc.compute.failure.models.ScheduledFailureModel
 import org.opendc.compute.simulator.TaskWatcher
 import org.opendc.compute.simulator.service.ComputeService
 import org.opendc.compute.simulator.service.ServiceTask
@@ -38,6 +39,8 @@ import org.opendc.compute.simulator.service.TaskNature
 import org.opendc.compute.workload.Task
 import org.opendc.experiments.base.experiment.specs.FailureModelSpec
 import org.opendc.experiments.base.experiment.specs.createFailureModel
+import org.opendc.experiments.base.experiment.specs.scheduleSpec
+import java.io.File
 import java.time.Duration
 import java.time.InstantSource
 import java.util.Random
@@ -94,9 +97,22 @@ public suspend fun ComputeService.replay(
     // Create a failure model based on the failureModelSpec, if not null, otherwise set failureModel to null
     val failureModel: FailureModel? =
         failureModelSpec?.let {
-            createFailureModel(coroutineContext, clock, this, Random(seed), it)
+            // Precomputed failure schedules cover the span of the workload, unless specified otherwise
+            val horizon =
+                if (trace.isEmpty()) {
+                    0L
+                } else {
+                    trace.maxOf { task -> task.submissionTime + task.duration } - trace.minOf { task -> task.submissionTime }
+                }
+
+            createFailureModel(coroutineContext, clock, this, Random(seed), it, horizon)
         }
 
+    val exportPath = failureModelSpec?.scheduleSpec?.exportPath
+    if (failureModel is ScheduledFailureModel && exportPath != null) {
+        failureModel.schedule.write(File(exportPath, "seed=$seed.csv"))
+    }
+
     try {
         coroutineScope {
             // Start the fault injector
@@ -30,9 +30,13 @@ import org.opendc.compute.simulator.provisioner.setupComputeService
 import org.opendc.compute.simulator.provisioner.setupHosts
 import org.opendc.compute.simulator.scheduler.ComputeScheduler
 import org.opendc.compute.simulator.service.ComputeService
+import org.opendc.compute.simulator.telemetry.CompositeComputeMonitor
+import org.opendc.compute.simulator.telemetry.ComputeMonitor
 import org.opendc.compute.simulator.telemetry.parquet.ComputeExportConfig
 import org.opendc.compute.simulator.telemetry.parquet.ParquetComputeMonitor
 import org.opendc.compute.simulator.telemetry.parquet.withGpuColumns
+import org.opendc.compute.simulator.telemetry.parquet.withTaskExportMode
+import org.opendc.compute.simulator.telemetry.summary.SummaryComputeMonitor
 import org.opendc.compute.topology.clusterTopology
 import org.opendc.experiments.base.experiment.Scenario
 import org.opendc.experiments.base.experiment.specs.allocation.TimeShiftAllocationPolicySpec
@@ -42,6 +46,7 @@ import org.opendc.experiments.base.experiment.specs.getScalingPolicy
 import org.opendc.experiments.base.experiment.specs.getWorkloadLoader
 import org.opendc.simulator.compute.power.CarbonModel
 import org.opendc.simulator.compute.power.CarbonReceiver
+import org.opendc.simulator.engine.engine.FlowEngineInstrumentation
 import org.opendc.simulator.kotlin.runSimulation
 import java.io.File
 import java.time.Duration
@@ -107,6 +112,7 @@ public fun runScenario(
             val startTime = Duration.ofMillis(startTimeLong)
 
             val topology = clusterTopology(scenario.topologySpec.pathToFile)
+            val instrumentation = if (scenario.exportModelSpec.exportEngineProfile) FlowEngineInstrumentation() else null
             provisioner.runSteps(
                 setupComputeService(
                     serviceDomain,
@@ -123,8 +129,16 @@ public fun runScenario(
                         return@setupComputeService computeScheduler
                     },
                     maxNumFailures = scenario.maxNumFailures,
+                    fairShare = scenario.allocationPolicySpec.fairShare,
+                ),
+                setupHosts(
+                    serviceDomain,
+                    topology,
+                    startTimeLong,
+                    scenario.topologySpec.lazyMachines,
+                    instrumentation,
+                    scenario.topologySpec.poolWorkloads,
                 ),
-                setupHosts(serviceDomain, topology, startTimeLong),
             )
 
             val gpuCount = topology.flatMap { it.hostSpecs }.maxOfOrNull { it.model.gpuModels.size } ?: 0
@@ -173,9 +187,34 @@ public fun runScenario(
                 failureModelSpec = scenario.failureModelSpec,
                 seed = seed,
             )
+
+            if (instrumentation != null) {
+                exportEngineProfile(instrumentation, dispatcher.executedTaskCount, scenario, seed)
+            }
         }
     }
 
+/**
+ * Writes the profile of the flow engine to the output folder of the scenario and emits it to Java Flight Recorder.
+ *
+ * @param instrumentation The instrumentation of the flow engine.
+ * @param executedTasks The number of tasks executed by the simulation dispatcher.
+ * @param scenario The scenario being run.
+ * @param seed The seed of the current run.
+ */
+private fun exportEngineProfile(
+    instrumentation: FlowEngineInstrumentation,
+    executedTasks: Long,
+    scenario: Scenario,
+    seed: Long,
+) {
+    instrumentation.commitProfile()
+
+    val file = File("${scenario.outputFolder}/engine-profile/${scenario.id}/seed=$seed/engine-profile.txt")
+    file.parentFile.mkdirs()
+    file.writeText("Dispatcher: $executedTasks tasks executed\n" + instrumentation.summary)
+}
+
 /**
  * Saves the simulation results into a specific output folder received from the input.
  *
@@ -194,20 +233,38 @@ public fun addExportModel(
     index: Int,
     computeExportConfig: ComputeExportConfig = scenario.exportModelSpec.computeExportConfig,
 ) {
-    provisioner.runStep(
-        registerComputeMonitor(
-            serviceDomain,
+    val exportModelSpec = scenario.exportModelSpec
+    val monitors = ArrayList<ComputeMonitor>()
+    if (exportModelSpec.exportRawOutput) {
+        monitors.add(
             ParquetComputeMonitor(
                 File("${scenario.outputFolder}/raw-output/$index"),
                 "seed=$seed",
                 bufferSize = 4096,
-                scenario.exportModelSpec.filesToExportDict,
-                computeExportConfig = computeExportConfig,
+                exportModelSpec.filesToExportDict,
+                computeExportConfig = computeExportConfig.withTaskExportMode(exportModelSpec.taskExportMode),
+            ),
+        )
+    }
+    if (exportModelSpec.summaryExportConfig != null) {
+        monitors.add(
+            SummaryComputeMonitor(
+                File("${scenario.outputFolder}/summary/$index/seed=$seed/summary.json"),
+                exportModelSpec.summaryExportConfig,
             ),
-            Duration.ofSeconds(scenario.exportModelSpec.exportInterval),
+        )
+    }
+
+    provisioner.runStep(
+        registerComputeMonitor(
+            serviceDomain,
+            monitors.singleOrNull() ?: CompositeComputeMonitor(monitors),
+            Duration.ofSeconds(exportModelSpec.exportInterval),
             startTime,
-            scenario.exportModelSpec.filesToExportDict,
-            scenario.exportModelSpec.printFrequency,
+            exportModelSpec.filesToExportDict,
+            exportModelSpec.printFrequency,
+            exportModelSpec.taskExportMode,
+            exportModelSpec.skipStationaryIntervals,
         ),
     )
 }
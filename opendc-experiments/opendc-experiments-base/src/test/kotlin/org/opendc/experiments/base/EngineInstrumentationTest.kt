@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.experiments.base
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertAll
+import org.opendc.compute.workload.Task
+import org.opendc.simulator.compute.cpu.SimCpu
+import org.opendc.simulator.compute.power.SimPsu
+import org.opendc.simulator.compute.workload.trace.SimTraceWorkload
+import org.opendc.simulator.compute.workload.trace.TraceFragment
+import org.opendc.simulator.engine.engine.FlowEngineInstrumentation
+import java.util.ArrayList
+
+/**
+ * Testing suite for the instrumentation of the flow engine.
+ */
+class EngineInstrumentationTest {
+    private fun createWorkload(): ArrayList<Task> =
+        arrayListOf(
+            createTestTask(
+                name = "0",
+                fragments =
+                    arrayListOf(
+                        TraceFragment(10 * 60 * 1000, 1000.0, 1),
+                        TraceFragment(10 * 60 * 1000, 2000.0, 1),
+                    ),
+            ),
+            createTestTask(
+                name = "1",
+                fragments =
+                    arrayListOf(
+                        TraceFragment(5 * 60 * 1000, 500.0, 1),
+                    ),
+            ),
+        )
+
+    /**
+     * Engine instrumentation test 1
+     * A workload is simulated with and without instrumenting the flow engine.
+     *
+     * The instrumentation should not change the results and should record the updates per node class.
+     */
+    @Test
+    fun testInstrumentationRecordsNodeClasses() {
+        val topology = createTopology("single_2_2000.json")
+        val instrumentation = FlowEngineInstrumentation()
+
+        val plain = runTest(topology, createWorkload())
+        val instrumented = runTest(topology, createWorkload(), instrumentation = instrumentation)
+
+        val stats = instrumentation.nodeStats.associateBy { it.nodeClass }
+
+        assertAll(
+            { assertEquals(plain.taskCpuSupplied, instrumented.taskCpuSupplied) { "Task CPU supplied series differ" } },
+            { assertEquals(plain.hostPowerDraws, instrumented.hostPowerDraws) { "Host power draws differ" } },
+            { assertTrue(instrumentation.cycleCount > 0) { "No cycles recorded" } },
+            { assertEquals(instrumentation.updateCount, stats.values.sumOf { it.updates }) },
+            { assertTrue(SimCpu::class.java in stats) { "No updates recorded for SimCpu" } },
+            { assertTrue(SimPsu::class.java in stats) { "No updates recorded for SimPsu" } },
+            { assertTrue(SimTraceWorkload::class.java in stats) { "No updates recorded for SimTraceWorkload" } },
+            { assertTrue(instrumentation.summary.contains("SimCpu")) { "SimCpu missing from the summary" } },
+        )
+    }
+}
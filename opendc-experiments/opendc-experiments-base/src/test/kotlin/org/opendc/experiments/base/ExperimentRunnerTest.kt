@@ -22,6 +22,7 @@
 
 package org.opendc.experiments.base
 
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.Test
 import org.opendc.experiments.base.runner.ExperimentCommand
 import java.io.File
@@ -57,4 +58,22 @@ class ExperimentRunnerTest {
         val someDir = File("output")
         someDir.deleteRecursively()
     }
+
+    /**
+     * ExperimentRunner test 3
+     * This test runs the experiment defined in the experiment_3.json file.
+     *
+     * In this test, the raw output is disabled and only the aggregated summary is written.
+     */
+    @Test
+    fun testExperimentRunner3() {
+        ExperimentCommand().main(arrayOf("--experiment-path", "src/test/resources/experiments/experiment_3.json"))
+
+        val someDir = File("output")
+        val files = someDir.walk().filter { it.isFile }.map { it.name }.toList()
+        someDir.deleteRecursively()
+
+        assertTrue("summary.json" in files) { "No summary was written" }
+        assertTrue(files.none { it.endsWith(".parquet") }) { "Raw output was written" }
+    }
 }
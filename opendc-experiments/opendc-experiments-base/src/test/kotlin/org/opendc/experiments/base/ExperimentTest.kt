@@ -216,6 +216,52 @@ class ExperimentTest {
         )
     }
 
+    /**
+     * Simulator test 4 with lazy machines
+     * The same scenario as [testSimulator4], but the machine of the host is only created while a task is running on it.
+     *
+     * The host is idle between the two tasks, so its machine is torn down and created again.
+     * The reported idle time, active time and energy usage should be the same as in [testSimulator4].
+     */
+    @Test
+    fun testSimulator4Lazy() {
+        val workload: ArrayList<Task> =
+            arrayListOf(
+                createTestTask(
+                    name = "0",
+                    fragments =
+                        arrayListOf(
+                            TraceFragment(10 * 60 * 1000, 1000.0, 1),
+                        ),
+                ),
+                createTestTask(
+                    name = "1",
+                    fragments =
+                        arrayListOf(
+                            TraceFragment(5 * 60 * 1000, 2000.0, 1),
+                        ),
+                    submissionTime = "1970-01-01T00:20",
+                ),
+            )
+
+        val topology = createTopology("single_1_2000.json")
+
+        val monitor = runTest(topology, workload, lazyMachines = true)
+
+        assertAll(
+            { assertEquals(25 * 60 * 1000, monitor.maxTimestamp) { "Total runtime incorrect" } },
+            { assertEquals(((10 * 30000) + (10 * 60000)).toLong(), monitor.hostCpuIdleTimes["H01"]?.sum()) { "Idle time incorrect" } },
+            { assertEquals(((10 * 30000) + (5 * 60000)).toLong(), monitor.hostCpuActiveTimes["H01"]?.sum()) { "Active time incorrect" } },
+            { assertEquals(9000.0, monitor.hostEnergyUsages["H01"]?.get(0)) { "Incorrect energy usage" } },
+            {
+                assertEquals(
+                    (600 * 150.0) + (600 * 100.0) + (300 * 200.0),
+                    monitor.hostEnergyUsages["H01"]?.sum(),
+                ) { "Incorrect energy usage" }
+            },
+        )
+    }
+
     /**
      * Simulator test 5: One Task purely running on GPU
      *
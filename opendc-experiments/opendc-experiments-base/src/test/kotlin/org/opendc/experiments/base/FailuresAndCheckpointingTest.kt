@@ -25,9 +25,12 @@ package org.opendc.experiments.base
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertAll
+import org.opendc.compute.failure.models.FailureSchedule
 import org.opendc.compute.workload.Task
+import org.opendc.experiments.base.experiment.specs.ScheduleBasedFailureModelSpec
 import org.opendc.experiments.base.experiment.specs.TraceBasedFailureModelSpec
 import org.opendc.simulator.compute.workload.trace.TraceFragment
+import java.io.File
 import java.util.ArrayList
 
 /**
@@ -79,6 +82,45 @@ class FailuresAndCheckpointingTest {
         )
     }
 
+    /**
+     * Failure test 1b: Single Task, Single Failure from a precomputed schedule
+     * This test is the same as test 1, but the failure is injected from an exported failure schedule instead of a
+     * failure trace. The results should thus be identical.
+     */
+    @Test
+    fun testFailures1Scheduled() {
+        val workload: ArrayList<Task> =
+            arrayListOf(
+                createTestTask(
+                    name = "0",
+                    fragments =
+                        arrayListOf(
+                            TraceFragment(10 * 60 * 1000, 1000.0, 1),
+                        ),
+                ),
+            )
+
+        val scheduleFile = File.createTempFile("failure-schedule", ".csv")
+        scheduleFile.deleteOnExit()
+        FailureSchedule.Builder()
+            .add(5 * 60 * 1000L, 5 * 60 * 1000L, intArrayOf(0))
+            .build()
+            .write(scheduleFile)
+
+        val failureModelSpec = ScheduleBasedFailureModelSpec(scheduleFile.path)
+
+        val topology = createTopology("single_1_2000.json")
+
+        val monitor = runTest(topology, workload, failureModelSpec)
+
+        assertAll(
+            { assertEquals(20 * 60 * 1000, monitor.maxTimestamp) { "Total runtime incorrect" } },
+            { assertEquals(((15 * 30000) + (5 * 60000)).toLong(), monitor.hostCpuIdleTimes["H01"]?.sum()) { "Idle time incorrect" } },
+            { assertEquals((15 * 30000).toLong(), monitor.hostCpuActiveTimes["H01"]?.sum()) { "Active time incorrect" } },
+            { assertEquals((15 * 60 * 150.0) + (5 * 60 * 100.0), monitor.hostEnergyUsages["H01"]?.sum()) { "Incorrect energy usage" } },
+        )
+    }
+
     /**
      * Failure test 2: Single Task, Failure much later
      * In this test, a single task is scheduled, with a failure trace.
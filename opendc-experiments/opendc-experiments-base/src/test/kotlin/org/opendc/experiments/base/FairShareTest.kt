@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.experiments.base
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertAll
+import org.opendc.compute.workload.Task
+import org.opendc.simulator.compute.workload.trace.TraceFragment
+import java.util.ArrayList
+
+/**
+ * Testing suite for queueing the pending tasks by tenant and flavor shape.
+ */
+class FairShareTest {
+    /**
+     * A workload in which a task that needs the whole host arrives while another task is running, followed by a
+     * task that fits next to the running one.
+     */
+    private fun createWorkload(): ArrayList<Task> =
+        arrayListOf(
+            createTestTask(
+                name = "0",
+                fragments = arrayListOf(TraceFragment(10 * 60 * 1000L, 2000.0, 1)),
+            ),
+            createTestTask(
+                name = "1",
+                fragments = arrayListOf(TraceFragment(10 * 60 * 1000L, 4000.0, 2)),
+                submissionTime = "1970-01-01T00:01",
+            ),
+            createTestTask(
+                name = "2",
+                fragments = arrayListOf(TraceFragment(10 * 60 * 1000L, 2000.0, 1)),
+                submissionTime = "1970-01-01T00:02",
+            ),
+        )
+
+    /**
+     * Fair share test 1
+     * A small task is queued behind a large task that does not fit yet.
+     *
+     * With a single first-come first-served queue the small task waits for the large task, while with fair share
+     * queueing it is placed next to the running task, which shortens the makespan.
+     */
+    @Test
+    fun testSmallTaskIsBackfilled() {
+        val topology = createTopology("single_2_2000.json")
+
+        val fifo = runTest(topology, createWorkload())
+        val fair = runTest(topology, createWorkload(), fairShare = true)
+
+        assertAll(
+            { assertEquals(3, fifo.tasksCompleted) { "Not all tasks completed without fair share" } },
+            { assertEquals(3, fair.tasksCompleted) { "Not all tasks completed with fair share" } },
+            { assertTrue(fair.maxTimestamp < fifo.maxTimestamp) { "Fair share did not shorten the makespan" } },
+        )
+    }
+}
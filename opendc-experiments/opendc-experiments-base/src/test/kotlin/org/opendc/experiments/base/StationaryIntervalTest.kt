@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.experiments.base
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertAll
+import org.opendc.compute.workload.Task
+import org.opendc.simulator.compute.workload.trace.TraceFragment
+import java.util.ArrayList
+
+/**
+ * Testing suite for skipping over the export intervals in which the system does not change.
+ */
+class StationaryIntervalTest {
+    private fun createWorkload(): ArrayList<Task> =
+        arrayListOf(
+            createTestTask(
+                name = "0",
+                fragments =
+                    arrayListOf(
+                        TraceFragment(2 * 60 * 60 * 1000, 1000.0, 1),
+                        TraceFragment(60 * 60 * 1000, 2000.0, 1),
+                    ),
+            ),
+            createTestTask(
+                name = "1",
+                fragments =
+                    arrayListOf(
+                        TraceFragment(30 * 60 * 1000, 500.0, 1),
+                    ),
+                submissionTime = "1970-01-01T05:00",
+            ),
+        )
+
+    /**
+     * Stationary interval test 1
+     * A workload with long phases of constant usage and an idle period in between is simulated with and without
+     * skipping the stationary export intervals.
+     *
+     * The rows derived for the skipped intervals should match the rows that are recorded otherwise.
+     */
+    @Test
+    fun testSkippedIntervalsMatchRecorded() {
+        val topology = createTopology("single_2_2000.json")
+
+        val recorded = runTest(topology, createWorkload())
+        val skipped = runTest(topology, createWorkload(), skipStationaryIntervals = true)
+
+        assertAll(
+            { assertEquals(recorded.timestamps, skipped.timestamps) { "Timestamps differ" } },
+            { assertEquals(recorded.taskCpuDemands, skipped.taskCpuDemands) { "Task CPU demand series differ" } },
+            { assertEquals(recorded.taskCpuSupplied, skipped.taskCpuSupplied) { "Task CPU supplied series differ" } },
+            { assertEquals(recorded.hostCpuDemands, skipped.hostCpuDemands) { "Host CPU demand series differ" } },
+            { assertEquals(recorded.hostCpuActiveTimes, skipped.hostCpuActiveTimes) { "Host active times differ" } },
+            { assertEquals(recorded.hostCpuIdleTimes, skipped.hostCpuIdleTimes) { "Host idle times differ" } },
+            { assertEquals(recorded.hostPowerDraws, skipped.hostPowerDraws) { "Host power draws differ" } },
+            {
+                val expected = recorded.hostEnergyUsages.getValue("H01")
+                val actual = skipped.hostEnergyUsages.getValue("H01")
+                assertEquals(expected.size, actual.size) { "Number of host rows differ" }
+                for (i in expected.indices) {
+                    assertEquals(expected[i], actual[i], 1e-6) { "Host energy usage at row $i differs" }
+                }
+            },
+        )
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.experiments.base
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertAll
+import org.opendc.compute.simulator.telemetry.TaskExportMode
+import org.opendc.compute.workload.Task
+import org.opendc.simulator.compute.workload.trace.TraceFragment
+import java.util.ArrayList
+
+/**
+ * Testing suite for the different ways task metrics can be exported.
+ */
+class TaskExportModeTest {
+    private fun createWorkload(): ArrayList<Task> =
+        arrayListOf(
+            createTestTask(
+                name = "0",
+                fragments =
+                    arrayListOf(
+                        TraceFragment(10 * 60 * 1000, 1000.0, 1),
+                        TraceFragment(10 * 60 * 1000, 2000.0, 1),
+                    ),
+            ),
+            createTestTask(
+                name = "1",
+                fragments =
+                    arrayListOf(
+                        TraceFragment(5 * 60 * 1000, 500.0, 1),
+                    ),
+                submissionTime = "1970-01-01T00:05",
+            ),
+        )
+
+    /**
+     * Delta export test 1
+     * A task with two long phases of constant usage is exported in both modes.
+     *
+     * Expanding the delta rows by their run length should yield exactly the periodic series,
+     * while the delta export emits far fewer rows.
+     */
+    @Test
+    fun testDeltaExportMatchesPeriodic() {
+        val topology = createTopology("single_2_2000.json")
+
+        val periodic = runTest(topology, createWorkload(), taskExportMode = TaskExportMode.PERIODIC)
+        val delta = runTest(topology, createWorkload(), taskExportMode = TaskExportMode.DELTA)
+
+        assertAll(
+            { assertEquals(periodic.taskCpuDemands, delta.taskCpuDemands) { "CPU demand series differ" } },
+            { assertEquals(periodic.taskCpuSupplied, delta.taskCpuSupplied) { "CPU supplied series differ" } },
+            { assertEquals(periodic.maxTimestamp, delta.maxTimestamp) { "Total runtime differs" } },
+            {
+                assertTrue(
+                    delta.taskRows < periodic.taskRows / 2,
+                ) { "Delta export emitted ${delta.taskRows} of ${periodic.taskRows} rows" }
+            },
+        )
+    }
+}
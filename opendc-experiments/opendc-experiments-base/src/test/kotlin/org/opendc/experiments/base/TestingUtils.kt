@@ -35,6 +35,7 @@ import org.opendc.compute.simulator.scheduler.filters.VCpuFilter
 import org.opendc.compute.simulator.scheduler.weights.CoreRamWeigher
 import org.opendc.compute.simulator.service.ComputeService
 import org.opendc.compute.simulator.telemetry.ComputeMonitor
+import org.opendc.compute.simulator.telemetry.TaskExportMode
 import org.opendc.compute.simulator.telemetry.table.host.HostTableReader
 import org.opendc.compute.simulator.telemetry.table.powerSource.PowerSourceTableReader
 import org.opendc.compute.simulator.telemetry.table.service.ServiceTableReader
@@ -48,6 +49,7 @@ import org.opendc.simulator.compute.workload.trace.TraceFragment
 import org.opendc.simulator.compute.workload.trace.TraceWorkload
 import org.opendc.simulator.compute.workload.trace.scaling.NoDelayScaling
 import org.opendc.simulator.compute.workload.trace.scaling.ScalingPolicy
+import org.opendc.simulator.engine.engine.FlowEngineInstrumentation
 import org.opendc.simulator.kotlin.runSimulation
 import java.time.Duration
 import java.time.LocalDateTime
@@ -119,6 +121,12 @@ fun runTest(
             filters = listOf(ComputeFilter(), VCpuFilter(1.0), RamFilter(1.0)),
             weighers = listOf(CoreRamWeigher(multiplier = 1.0)),
         ),
+    lazyMachines: Boolean = false,
+    taskExportMode: TaskExportMode = TaskExportMode.PERIODIC,
+    skipStationaryIntervals: Boolean = false,
+    instrumentation: FlowEngineInstrumentation? = null,
+    poolWorkloads: Boolean = false,
+    fairShare: Boolean = false,
 ): TestComputeMonitor {
     val monitor = TestComputeMonitor()
 
@@ -130,9 +138,23 @@ fun runTest(
             val startTime = Duration.ofMillis(startTimeLong)
 
             provisioner.runSteps(
-                setupComputeService(serviceDomain = "compute.opendc.org", { computeScheduler }),
-                registerComputeMonitor(serviceDomain = "compute.opendc.org", monitor, exportInterval = Duration.ofMinutes(1), startTime),
-                setupHosts(serviceDomain = "compute.opendc.org", topology, startTimeLong),
+                setupComputeService(serviceDomain = "compute.opendc.org", { computeScheduler }, fairShare = fairShare),
+                registerComputeMonitor(
+                    serviceDomain = "compute.opendc.org",
+                    monitor,
+                    exportInterval = Duration.ofMinutes(1),
+                    startTime,
+                    taskExportMode = taskExportMode,
+                    skipStationaryIntervals = skipStationaryIntervals,
+                ),
+                setupHosts(
+                    serviceDomain = "compute.opendc.org",
+                    topology,
+                    startTimeLong,
+                    lazyMachines,
+                    instrumentation,
+                    poolWorkloads,
+                ),
             )
 
             val service = provisioner.registry.resolve("compute.opendc.org", ComputeService::class.java)!!
@@ -152,22 +174,18 @@ class TestComputeMonitor : ComputeMonitor {
     var taskGpuDemands = mutableMapOf<String, ArrayList<Double?>?>()
     var taskGpuSupplied = mutableMapOf<String, ArrayList<Double?>?>()
 
+    var taskRows = 0
+
     override fun record(reader: TaskTableReader) {
         val taskName: String = reader.taskInfo.name
-
-        if (taskName in taskCpuDemands) {
-            taskCpuDemands[taskName]?.add(reader.cpuDemand)
-            taskCpuSupplied[taskName]?.add(reader.cpuUsage)
-        } else {
-            taskCpuDemands[taskName] = arrayListOf(reader.cpuDemand)
-            taskCpuSupplied[taskName] = arrayListOf(reader.cpuUsage)
-        }
-        if (taskName in taskGpuDemands) {
-            taskGpuDemands[taskName]?.add(reader.gpuDemand)
-            taskGpuSupplied[taskName]?.add(reader.gpuUsage)
-        } else {
-            taskGpuDemands[taskName] = arrayListOf(reader.gpuDemand)
-            taskGpuSupplied[taskName] = arrayListOf(reader.gpuUsage)
+        taskRows++
+
+        // A delta row covers runLength export intervals; expand it so both export modes yield the same series
+        repeat(reader.runLength) {
+            taskCpuDemands.getOrPut(taskName) { ArrayList() }.add(reader.cpuDemand)
+            taskCpuSupplied.getOrPut(taskName) { ArrayList() }.add(reader.cpuUsage)
+            taskGpuDemands.getOrPut(taskName) { ArrayList() }?.add(reader.gpuDemand)
+            taskGpuSupplied.getOrPut(taskName) { ArrayList() }?.add(reader.gpuUsage)
         }
     }
 
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.experiments.base
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertAll
+import org.opendc.compute.workload.Task
+import org.opendc.simulator.compute.workload.trace.TraceFragment
+import java.util.ArrayList
+
+/**
+ * Testing suite for recycling the flow graph objects of finished tasks.
+ */
+class WorkloadPoolingTest {
+    /**
+     * A workload of many short tasks, some of which overlap, so finished tasks are replaced both while the machine is
+     * busy and while it is idle.
+     */
+    private fun createWorkload(): ArrayList<Task> {
+        val workload = ArrayList<Task>()
+        for (i in 0 until 40) {
+            workload.add(
+                createTestTask(
+                    name = "$i",
+                    fragments =
+                        arrayListOf(
+                            TraceFragment((2 + i % 3) * 60 * 1000L, 500.0 + 100.0 * (i % 5), 1),
+                            TraceFragment(60 * 1000L, 1500.0, 1),
+                        ),
+                    submissionTime = "1970-01-01T%02d:%02d".format((i * 3) / 60, (i * 3) % 60),
+                ),
+            )
+        }
+        return workload
+    }
+
+    /**
+     * Workload pooling test 1
+     * A workload of many short tasks is simulated with and without pooling.
+     *
+     * Reusing the virtual machines, workloads, and edges of finished tasks should not change the results.
+     */
+    @Test
+    fun testPoolingMatchesFreshAllocation() {
+        val topology = createTopology("single_2_2000.json")
+
+        val fresh = runTest(topology, createWorkload())
+        val pooled = runTest(topology, createWorkload(), poolWorkloads = true)
+
+        assertAll(
+            { assertEquals(40, pooled.tasksCompleted) { "Not all tasks completed" } },
+            { assertEquals(fresh.timestamps, pooled.timestamps) { "Timestamps differ" } },
+            { assertEquals(fresh.taskCpuDemands, pooled.taskCpuDemands) { "Task CPU demand series differ" } },
+            { assertEquals(fresh.taskCpuSupplied, pooled.taskCpuSupplied) { "Task CPU supplied series differ" } },
+            { assertEquals(fresh.hostCpuActiveTimes, pooled.hostCpuActiveTimes) { "Host active times differ" } },
+            { assertEquals(fresh.hostCpuIdleTimes, pooled.hostCpuIdleTimes) { "Host idle times differ" } },
+            { assertEquals(fresh.hostEnergyUsages, pooled.hostEnergyUsages) { "Host energy usages differ" } },
+        )
+    }
+}
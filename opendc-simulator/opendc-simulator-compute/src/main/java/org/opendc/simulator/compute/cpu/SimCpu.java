@@ -137,7 +137,7 @@ public final class SimCpu extends FlowNode implements FlowSupplier, FlowConsumer
 
     @Override
     public long onUpdate(long now) {
-        updateCounters(now);
+        integrateCounters(now);
 
         // Check if supply == demand
         if (this.currentPowerDemand != this.currentPowerSupplied) {
@@ -163,25 +163,41 @@ public final class SimCpu extends FlowNode implements FlowSupplier, FlowConsumer
      * @param now The timestamp at which to update the counter.
      */
     public void updateCounters(long now) {
+        integrateCounters(now);
+
+        this.performanceCounters.setDemand(this.currentCpuDemand);
+        this.performanceCounters.setSupply(this.currentCpuSupplied);
+        this.performanceCounters.setCapacity(this.maxCapacity);
+    }
+
+    /**
+     * Integrate the time counters of the CPU up to the specified timestamp.
+     * <p>
+     * This is invoked before every state change, which may happen several times per engine cycle. Only the first
+     * call of a cycle has work to do, so the demand, supply, and capacity snapshots are left to
+     * {@link #updateCounters(long)}, which is what readers of the counters call.
+     *
+     * @param now The timestamp at which to integrate the counters.
+     */
+    private void integrateCounters(long now) {
         long lastUpdate = this.lastCounterUpdate;
-        this.lastCounterUpdate = now;
         long delta = now - lastUpdate;
 
-        if (delta > 0) {
-            double demand = this.currentCpuDemand;
-            double rate = this.currentCpuSupplied;
-            double capacity = this.maxCapacity;
+        if (delta <= 0) {
+            return;
+        }
 
-            final double factor = this.cpuFrequencyInv * delta;
+        this.lastCounterUpdate = now;
 
-            this.performanceCounters.addActiveTime(Math.round(rate * factor));
-            this.performanceCounters.addIdleTime(Math.round((capacity - rate) * factor));
-            this.performanceCounters.addStealTime(Math.round((demand - rate) * factor));
-        }
+        double demand = this.currentCpuDemand;
+        double rate = this.currentCpuSupplied;
+        double capacity = this.maxCapacity;
 
-        this.performanceCounters.setDemand(this.currentCpuDemand);
-        this.performanceCounters.setSupply(this.currentCpuSupplied);
-        this.performanceCounters.setCapacity(this.maxCapacity);
+        final double factor = this.cpuFrequencyInv * delta;
+
+        this.performanceCounters.addActiveTime(Math.round(rate * factor));
+        this.performanceCounters.addIdleTime(Math.round((capacity - rate) * factor));
+        this.performanceCounters.addStealTime(Math.round((demand - rate) * factor));
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -193,7 +209,7 @@ public final class SimCpu extends FlowNode implements FlowSupplier, FlowConsumer
      */
     @Override
     public void pushOutgoingDemand(FlowEdge supplierEdge, double newPowerDemand) {
-        updateCounters();
+        integrateCounters(this.clock.millis());
         this.currentPowerDemand = newPowerDemand;
         this.psuEdge.pushDemand(newPowerDemand, false, ResourceType.CPU);
     }
@@ -203,7 +219,7 @@ public final class SimCpu extends FlowNode implements FlowSupplier, FlowConsumer
      */
     @Override
     public void pushOutgoingSupply(FlowEdge consumerEdge, double newCpuSupply) {
-        updateCounters();
+        integrateCounters(this.clock.millis());
         this.currentCpuSupplied = newCpuSupply;
 
         this.distributorEdge.pushSupply(newCpuSupply, true, ResourceType.CPU);
@@ -211,7 +227,7 @@ public final class SimCpu extends FlowNode implements FlowSupplier, FlowConsumer
 
     @Override
     public void pushOutgoingSupply(FlowEdge consumerEdge, double newCpuSupply, ResourceType resourceType) {
-        updateCounters();
+        integrateCounters(this.clock.millis());
         this.currentCpuSupplied = newCpuSupply;
 
         this.distributorEdge.pushSupply(newCpuSupply, true, resourceType);
@@ -222,7 +238,7 @@ public final class SimCpu extends FlowNode implements FlowSupplier, FlowConsumer
      */
     @Override
     public void handleIncomingDemand(FlowEdge consumerEdge, double newCpuDemand) {
-        updateCounters();
+        integrateCounters(this.clock.millis());
         this.currentCpuDemand = newCpuDemand;
 
         this.currentCpuUtilization = Math.min(this.currentCpuDemand / this.maxCapacity, 1.0);
@@ -238,7 +254,7 @@ public final class SimCpu extends FlowNode implements FlowSupplier, FlowConsumer
      */
     @Override
     public void handleIncomingSupply(FlowEdge supplierEdge, double newPowerSupply) {
-        updateCounters();
+        integrateCounters(this.clock.millis());
         this.currentPowerSupplied = newPowerSupply;
 
         this.invalidate();
@@ -282,9 +298,12 @@ public final class SimCpu extends FlowNode implements FlowSupplier, FlowConsumer
 
     @Override
     public Map<FlowEdge.NodeType, List<FlowEdge>> getConnectedEdges() {
+        List<FlowEdge> consumingEdges = (this.psuEdge != null) ? List.of(this.psuEdge) : List.of();
+        List<FlowEdge> supplyingEdges = (this.distributorEdge != null) ? List.of(this.distributorEdge) : List.of();
+
         return Map.of(
-                FlowEdge.NodeType.CONSUMING, List.of(this.psuEdge),
-                FlowEdge.NodeType.SUPPLYING, List.of(this.distributorEdge));
+                FlowEdge.NodeType.CONSUMING, consumingEdges,
+                FlowEdge.NodeType.SUPPLYING, supplyingEdges);
     }
 
     @Override
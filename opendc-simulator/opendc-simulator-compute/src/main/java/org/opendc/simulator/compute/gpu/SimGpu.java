@@ -141,7 +141,7 @@ public final class SimGpu extends FlowNode implements FlowSupplier, FlowConsumer
 
     @Override
     public long onUpdate(long now) {
-        updateCounters(now);
+        integrateCounters(now);
 
         // Check if supply == demand
         if (this.currentPowerDemand != this.currentPowerSupplied) {
@@ -166,25 +166,41 @@ public final class SimGpu extends FlowNode implements FlowSupplier, FlowConsumer
      * @param now The timestamp at which to update the counter.
      */
     public void updateCounters(long now) {
+        integrateCounters(now);
+
+        this.performanceCounters.setDemand(this.currentGpuDemand);
+        this.performanceCounters.setSupply(this.currentGpuSupplied);
+        this.performanceCounters.setCapacity(this.maxCapacity);
+    }
+
+    /**
+     * Integrate the time counters of the GPU up to the specified timestamp.
+     * <p>
+     * This is invoked before every state change, which may happen several times per engine cycle. Only the first
+     * call of a cycle has work to do, so the demand, supply, and capacity snapshots are left to
+     * {@link #updateCounters(long)}, which is what readers of the counters call.
+     *
+     * @param now The timestamp at which to integrate the counters.
+     */
+    private void integrateCounters(long now) {
         long lastUpdate = this.lastCounterUpdate;
-        this.lastCounterUpdate = now;
         long delta = now - lastUpdate;
 
-        if (delta > 0) {
-            double demand = this.currentGpuDemand;
-            double rate = this.currentGpuSupplied;
-            double capacity = this.maxCapacity;
+        if (delta <= 0) {
+            return;
+        }
 
-            final double factor = this.gpuFrequencyInv * delta;
+        this.lastCounterUpdate = now;
 
-            this.performanceCounters.addActiveTime(Math.round(rate * factor));
-            this.performanceCounters.addIdleTime(Math.round((capacity - rate) * factor));
-            this.performanceCounters.addStealTime(Math.round((demand - rate) * factor));
-        }
+        double demand = this.currentGpuDemand;
+        double rate = this.currentGpuSupplied;
+        double capacity = this.maxCapacity;
 
-        this.performanceCounters.setDemand(this.currentGpuDemand);
-        this.performanceCounters.setSupply(this.currentGpuSupplied);
-        this.performanceCounters.setCapacity(this.maxCapacity);
+        final double factor = this.gpuFrequencyInv * delta;
+
+        this.performanceCounters.addActiveTime(Math.round(rate * factor));
+        this.performanceCounters.addIdleTime(Math.round((capacity - rate) * factor));
+        this.performanceCounters.addStealTime(Math.round((demand - rate) * factor));
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -196,7 +212,7 @@ public final class SimGpu extends FlowNode implements FlowSupplier, FlowConsumer
      */
     @Override
     public void pushOutgoingDemand(FlowEdge supplierEdge, double newPowerDemand) {
-        updateCounters();
+        integrateCounters(this.clock.millis());
         this.currentPowerDemand = newPowerDemand;
         this.psuEdge.pushDemand(newPowerDemand, false, ResourceType.GPU);
     }
@@ -206,7 +222,7 @@ public final class SimGpu extends FlowNode implements FlowSupplier, FlowConsumer
      */
     @Override
     public void pushOutgoingSupply(FlowEdge consumerEdge, double newGpuSupply) {
-        updateCounters();
+        integrateCounters(this.clock.millis());
         this.currentGpuSupplied = newGpuSupply;
 
         this.distributorEdge.pushSupply(newGpuSupply, true, ResourceType.GPU);
@@ -217,7 +233,7 @@ public final class SimGpu extends FlowNode implements FlowSupplier, FlowConsumer
      */
     @Override
     public void pushOutgoingSupply(FlowEdge consumerEdge, double newGpuSupply, ResourceType resourceType) {
-        updateCounters();
+        integrateCounters(this.clock.millis());
         this.currentGpuSupplied = newGpuSupply;
 
         this.distributorEdge.pushSupply(newGpuSupply, true, resourceType);
@@ -225,7 +241,7 @@ public final class SimGpu extends FlowNode implements FlowSupplier, FlowConsumer
 
     @Override
     public void handleIncomingDemand(FlowEdge consumerEdge, double newGpuDemand) {
-        updateCounters();
+        integrateCounters(this.clock.millis());
         this.currentGpuDemand = newGpuDemand;
 
         this.currentGpuUtilization = Math.min(this.currentGpuDemand / this.maxCapacity, 1.0);
@@ -245,7 +261,7 @@ public final class SimGpu extends FlowNode implements FlowSupplier, FlowConsumer
         if (resourceType != ResourceType.GPU) {
             throw new IllegalArgumentException("Resource type must be GPU");
         }
-        updateCounters();
+        integrateCounters(this.clock.millis());
         this.currentGpuDemand = newGpuDemand;
         this.consumerCount = consumerCount;
 
@@ -262,7 +278,7 @@ public final class SimGpu extends FlowNode implements FlowSupplier, FlowConsumer
      */
     @Override
     public void handleIncomingSupply(FlowEdge supplierEdge, double newPowerSupply) {
-        updateCounters();
+        integrateCounters(this.clock.millis());
         this.currentPowerSupplied = newPowerSupply;
 
         this.invalidate();
@@ -306,9 +322,12 @@ public final class SimGpu extends FlowNode implements FlowSupplier, FlowConsumer
 
     @Override
     public Map<FlowEdge.NodeType, List<FlowEdge>> getConnectedEdges() {
+        List<FlowEdge> consumingEdges = (this.psuEdge != null) ? List.of(this.psuEdge) : List.of();
+        List<FlowEdge> supplyingEdges = (this.distributorEdge != null) ? List.of(this.distributorEdge) : List.of();
+
         return Map.of(
-                FlowEdge.NodeType.CONSUMING, List.of(this.psuEdge),
-                FlowEdge.NodeType.SUPPLYING, List.of(this.distributorEdge));
+                FlowEdge.NodeType.CONSUMING, consumingEdges,
+                FlowEdge.NodeType.SUPPLYING, supplyingEdges);
     }
 
     @Override
@@ -24,7 +24,7 @@ package org.opendc.simulator.compute.machine;
 
 import java.time.InstantSource;
 import java.util.ArrayList;
-import java.util.Hashtable;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
 import org.jetbrains.annotations.Nullable;
@@ -40,8 +40,8 @@ import org.opendc.simulator.compute.power.SimPsu;
 import org.opendc.simulator.compute.workload.ChainWorkload;
 import org.opendc.simulator.compute.workload.SimWorkload;
 import org.opendc.simulator.compute.workload.VirtualMachine;
+import org.opendc.simulator.compute.workload.WorkloadPool;
 import org.opendc.simulator.engine.engine.FlowEngine;
-import org.opendc.simulator.engine.graph.FlowConsumer;
 import org.opendc.simulator.engine.graph.FlowDistributor;
 import org.opendc.simulator.engine.graph.FlowEdge;
 import org.opendc.simulator.engine.graph.FlowNode;
@@ -60,46 +60,70 @@ public class SimMachine {
     private SimPsu psu;
     private Memory memory;
 
-    private final Hashtable<ResourceType, FlowDistributor> distributors = new Hashtable<>();
+    private static final int RESOURCE_TYPES = ResourceType.values().length;
+
+    /**
+     * The distributors and compute resources of this machine, indexed by the ordinal of their {@link ResourceType}.
+     */
+    private final FlowDistributor[] distributors = new FlowDistributor[RESOURCE_TYPES];
+
+    @SuppressWarnings("unchecked")
+    private final ArrayList<ComputeResource>[] computeResources = new ArrayList[RESOURCE_TYPES];
+
+    /**
+     * The compute resources of this machine, indexed by the ordinal of their {@link ResourceType} and their id.
+     */
+    private final ComputeResource[][] resourcesById = new ComputeResource[RESOURCE_TYPES][];
 
-    private final Hashtable<ResourceType, ArrayList<ComputeResource>> computeResources = new Hashtable<>();
     private final List<ResourceType> availableResources;
 
+    /**
+     * The distributors of the available resources, in the order in which they are connected to a new workload.
+     */
+    private List<FlowSupplier> workloadSuppliers;
+
     private final Consumer<Exception> completion;
 
+    /**
+     * The pool recycling the flow graph objects of the workloads of this machine, or <code>null</code> if pooling is
+     * disabled.
+     */
+    private final WorkloadPool workloadPool;
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Basic Getters and Setters
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
     public ComputeResource getResource(ResourceType resourceType, int id) {
-        if (!this.computeResources.containsKey(resourceType)) {
+        ComputeResource[] resources = this.resourcesById[resourceType.ordinal()];
+        if (resources == null) {
             throw new RuntimeException("No such resource type: " + resourceType);
         }
-        for (ComputeResource resource : this.computeResources.get(resourceType)) {
-            if (resource.getId() == id) {
-                return resource;
-            }
+        if (id < 0 || id >= resources.length || resources[id] == null) {
+            throw new RuntimeException("No such resource with id: " + id + " of type: " + resourceType);
         }
-        throw new RuntimeException("No such resource with id: " + id + " of type: " + resourceType);
+        return resources[id];
     }
 
     public ArrayList<ComputeResource> getResources(ResourceType resourceType) {
-        if (!this.computeResources.containsKey(resourceType)) {
+        ArrayList<ComputeResource> resources = this.computeResources[resourceType.ordinal()];
+        if (resources == null) {
             throw new RuntimeException("No such resource type: " + resourceType);
         }
-        return this.computeResources.get(resourceType);
+        return resources;
     }
 
     public PerformanceCounters getPerformanceCounters() {
 
-        return this.computeResources.get(ResourceType.CPU).getFirst().getPerformanceCounters();
+        return this.computeResources[ResourceType.CPU.ordinal()].getFirst().getPerformanceCounters();
     }
 
     public List<PerformanceCounters> getGpuPerformanceCounters() {
         List<PerformanceCounters> counters = new ArrayList<>();
-        List<ComputeResource> gpus = this.computeResources.get(ResourceType.GPU) == null
-                ? new ArrayList<>()
-                : this.computeResources.get(ResourceType.GPU);
+        List<ComputeResource> gpus = this.computeResources[ResourceType.GPU.ordinal()];
+        if (gpus == null) {
+            return counters;
+        }
 
         for (ComputeResource gpu : gpus) {
             counters.add(gpu.getPerformanceCounters());
@@ -108,12 +132,7 @@ public class SimMachine {
     }
 
     public PerformanceCounters getGpuPerformanceCounters(int GpuId) {
-        for (ComputeResource gpu : this.computeResources.get(ResourceType.GPU)) {
-            if (gpu.getId() == GpuId) {
-                return gpu.getPerformanceCounters();
-            }
-        }
-        throw new RuntimeException("No such gpu id: " + GpuId);
+        return getGpu(GpuId).getPerformanceCounters();
     }
 
     public MachineModel getMachineModel() {
@@ -129,7 +148,7 @@ public class SimMachine {
     }
 
     public SimCpu getCpu() {
-        return (SimCpu) this.computeResources.get(ResourceType.CPU).getFirst();
+        return (SimCpu) this.computeResources[ResourceType.CPU.ordinal()].getFirst();
     }
 
     public Memory getMemory() {
@@ -142,10 +161,11 @@ public class SimMachine {
 
     public ArrayList<SimGpu> getGpus() {
         ArrayList<SimGpu> gpus = new ArrayList<>();
-        if (!this.computeResources.containsKey(ResourceType.GPU)) {
+        List<ComputeResource> resources = this.computeResources[ResourceType.GPU.ordinal()];
+        if (resources == null) {
             return gpus;
         }
-        for (ComputeResource gpu : this.computeResources.get(ResourceType.GPU)) {
+        for (ComputeResource gpu : resources) {
             if (gpu instanceof SimGpu) {
                 gpus.add((SimGpu) gpu);
             }
@@ -154,12 +174,11 @@ public class SimMachine {
     }
 
     public SimGpu getGpu(int gpuId) {
-        for (ComputeResource gpu : this.computeResources.get(ResourceType.GPU)) {
-            if (gpu.getId() == gpuId) {
-                return (SimGpu) gpu;
-            }
+        ComputeResource[] gpus = this.resourcesById[ResourceType.GPU.ordinal()];
+        if (gpus == null || gpuId < 0 || gpuId >= gpus.length || gpus[gpuId] == null) {
+            throw new RuntimeException("No such gpu id: " + gpuId);
         }
-        throw new RuntimeException("No such gpu id: " + gpuId);
+        return (SimGpu) gpus[gpuId];
     }
 
     /**
@@ -187,6 +206,13 @@ public class SimMachine {
         return availableResources;
     }
 
+    /**
+     * Return the {@link WorkloadPool} of this machine, or <code>null</code> if pooling is disabled.
+     */
+    public WorkloadPool getWorkloadPool() {
+        return workloadPool;
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Constructors
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -198,6 +224,22 @@ public class SimMachine {
             PowerModel cpuPowerModel,
             @Nullable PowerModel gpuPowerModel,
             Consumer<Exception> completion) {
+        this(engine, machineModel, powerDistributor, cpuPowerModel, gpuPowerModel, completion, false);
+    }
+
+    /**
+     * Construct a {@link SimMachine}.
+     *
+     * @param poolWorkloads A flag to indicate that the flow graph objects of finished workloads are recycled.
+     */
+    public SimMachine(
+            FlowEngine engine,
+            MachineModel machineModel,
+            FlowDistributor powerDistributor,
+            PowerModel cpuPowerModel,
+            @Nullable PowerModel gpuPowerModel,
+            Consumer<Exception> completion,
+            boolean poolWorkloads) {
         this.engine = engine;
         this.machineModel = machineModel;
         this.clock = engine.getClock();
@@ -208,36 +250,25 @@ public class SimMachine {
         this.psu = new SimPsu(engine);
         new FlowEdge(this.psu, powerDistributor);
 
-        this.computeResources.put(
-                ResourceType.CPU,
-                new ArrayList<>(List.of(new SimCpu(engine, this.machineModel.getCpuModel(), cpuPowerModel, 0))));
+        SimCpu cpu = new SimCpu(engine, this.machineModel.getCpuModel(), cpuPowerModel, 0);
+        this.putResources(ResourceType.CPU, new ArrayList<>(List.of(cpu)));
 
         // Connect the CPU to the PSU
-        new FlowEdge(
-                (FlowConsumer) this.computeResources.get(ResourceType.CPU).getFirst(),
-                this.psu,
-                ResourceType.POWER,
-                0,
-                -1);
+        new FlowEdge(cpu, this.psu, ResourceType.POWER, 0, -1);
 
         // Create a FlowDistributor and add the cpu as supplier
-        this.distributors.put(
-                ResourceType.CPU,
-                FlowDistributorFactory.getFlowDistributor(engine, this.machineModel.getCpuDistributionStrategy()));
-        new FlowEdge(
-                this.distributors.get(ResourceType.CPU),
-                (FlowSupplier) this.computeResources.get(ResourceType.CPU).getFirst(),
-                ResourceType.CPU,
-                -1,
-                0);
+        FlowDistributor cpuDistributor =
+                FlowDistributorFactory.getFlowDistributor(engine, this.machineModel.getCpuDistributionStrategy());
+        this.distributors[ResourceType.CPU.ordinal()] = cpuDistributor;
+        new FlowEdge(cpuDistributor, cpu, ResourceType.CPU, -1, 0);
 
         // TODO: include memory as flow node
         this.memory = new Memory(engine, this.machineModel.getMemory());
 
         if (this.availableResources.contains(ResourceType.GPU)) {
-            this.distributors.put(
-                    ResourceType.GPU,
-                    FlowDistributorFactory.getFlowDistributor(engine, this.machineModel.getGpuDistributionStrategy()));
+            FlowDistributor gpuDistributor =
+                    FlowDistributorFactory.getFlowDistributor(engine, this.machineModel.getGpuDistributionStrategy());
+            this.distributors[ResourceType.GPU.ordinal()] = gpuDistributor;
             ArrayList<ComputeResource> gpus = new ArrayList<>();
 
             for (GpuModel gpuModel : machineModel.getGpuModels()) {
@@ -246,19 +277,39 @@ public class SimMachine {
                         engine, gpuModel, gpuPowerModel, gpuModel.getId(), gpuModel.getVirtualizationOverheadModel());
                 gpus.add(gpu);
                 // Connect the GPU to the distributor
-                new FlowEdge(
-                        this.distributors.get(ResourceType.GPU),
-                        gpu,
-                        ResourceType.GPU,
-                        gpuModel.getId(),
-                        gpuModel.getId());
+                new FlowEdge(gpuDistributor, gpu, ResourceType.GPU, gpuModel.getId(), gpuModel.getId());
                 // Connect the GPU to the PSU
                 new FlowEdge(gpu, this.psu, ResourceType.POWER, gpuModel.getId(), gpuModel.getId());
             }
-            this.computeResources.put(ResourceType.GPU, gpus);
+            this.putResources(ResourceType.GPU, gpus);
+        }
+
+        ArrayList<FlowSupplier> workloadSuppliers = new ArrayList<>();
+        for (ResourceType resourceType : this.availableResources) {
+            workloadSuppliers.add(this.distributors[resourceType.ordinal()]);
         }
+        this.workloadSuppliers = workloadSuppliers;
 
         this.completion = completion;
+        this.workloadPool = poolWorkloads ? new WorkloadPool(engine, WorkloadPool.DEFAULT_CAPACITY) : null;
+    }
+
+    /**
+     * Register the compute resources of the specified type, both as list and indexed by their id.
+     */
+    private void putResources(ResourceType resourceType, ArrayList<ComputeResource> resources) {
+        int size = 0;
+        for (ComputeResource resource : resources) {
+            size = Math.max(size, resource.getId() + 1);
+        }
+
+        ComputeResource[] byId = new ComputeResource[size];
+        for (ComputeResource resource : resources) {
+            byId[resource.getId()] = resource;
+        }
+
+        this.computeResources[resourceType.ordinal()] = resources;
+        this.resourcesById[resourceType.ordinal()] = byId;
     }
 
     public void shutdown() {
@@ -273,18 +324,33 @@ public class SimMachine {
         this.psu = null;
 
         // Close resource Flow Nodes
-        for (List<ComputeResource> resources : this.computeResources.values()) {
+        for (List<ComputeResource> resources : this.computeResources) {
+            if (resources == null) {
+                continue;
+            }
             for (ComputeResource resource : resources) {
                 ((FlowNode) resource).closeNode();
             }
             resources.clear();
         }
+        for (ComputeResource[] resources : this.resourcesById) {
+            if (resources != null) {
+                Arrays.fill(resources, null);
+            }
+        }
         this.memory = null;
 
-        for (ResourceType resourceType : this.distributors.keySet()) {
-            this.distributors.get(resourceType).closeNode();
+        for (FlowDistributor distributor : this.distributors) {
+            if (distributor != null) {
+                distributor.closeNode();
+            }
+        }
+        Arrays.fill(this.distributors, null);
+        this.workloadSuppliers = List.of();
+
+        if (this.workloadPool != null) {
+            this.workloadPool.clear();
         }
-        this.distributors.clear();
 
         this.completion.accept(cause);
     }
@@ -309,12 +375,18 @@ public class SimMachine {
      * @param completion The completion callback that needs to be called when the workload is done
      */
     public VirtualMachine startWorkload(ChainWorkload workload, Consumer<Exception> completion) {
+        return (VirtualMachine) workload.startWorkload(this.workloadSuppliers, this, completion);
+    }
 
-        ArrayList<FlowSupplier> distributors = new ArrayList<>();
-        for (ResourceType resourceType : this.availableResources) {
-            distributors.add(this.distributors.get(resourceType));
+    /**
+     * Hand a {@link VirtualMachine} that is no longer used back to the {@link WorkloadPool} of this machine.
+     * This is a no-op if pooling is disabled.
+     *
+     * @param vm The virtual machine to release.
+     */
+    public void releaseWorkload(VirtualMachine vm) {
+        if (this.workloadPool != null) {
+            this.workloadPool.release(vm);
         }
-
-        return (VirtualMachine) workload.startWorkload(distributors, this, completion);
     }
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.simulator.compute.power;
+
+import java.util.List;
+import java.util.Map;
+import org.opendc.common.ResourceType;
+import org.opendc.simulator.compute.machine.SimMachine;
+import org.opendc.simulator.engine.engine.FlowEngine;
+import org.opendc.simulator.engine.graph.FlowConsumer;
+import org.opendc.simulator.engine.graph.FlowEdge;
+import org.opendc.simulator.engine.graph.FlowNode;
+import org.opendc.simulator.engine.graph.FlowSupplier;
+
+/**
+ * A {@link SimIdlePsu} stands in for the {@link SimPsu} of a {@link SimMachine} that has not been created.
+ * <p>
+ * It draws the constant idle power of the machine from the power distributor, so hosts without any workload
+ * do not need a full machine in the flow graph to account for their power usage.
+ */
+public final class SimIdlePsu extends FlowNode implements FlowConsumer {
+    private long lastUpdate;
+
+    private final double powerDemand;
+    private double powerSupplied = 0.0;
+    private double totalEnergyUsage = 0.0;
+
+    private FlowEdge powerSupplyEdge;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Basic Getters and Setters
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Return the idle power demand of the machine (in W).
+     */
+    public double getPowerDemand() {
+        return this.powerDemand;
+    }
+
+    /**
+     * Return the instantaneous power usage of the machine (in W) measured at the InPort of the power supply.
+     */
+    public double getPowerDraw() {
+        return this.powerSupplied;
+    }
+
+    /**
+     * Return the cumulated energy usage of the machine (in J) measured at the InPort of the powers supply.
+     */
+    public double getEnergyUsage() {
+        updateCounters();
+        return totalEnergyUsage;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Constructors
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Construct a new {@link SimIdlePsu} and connect it to the given power distributor.
+     *
+     * @param engine The {@link FlowEngine} this node belongs to.
+     * @param powerDistributor The {@link FlowSupplier} from which the power is drawn.
+     * @param idlePower The idle power of the machine in W.
+     */
+    public SimIdlePsu(FlowEngine engine, FlowSupplier powerDistributor, double idlePower) {
+        super(engine);
+
+        this.powerDemand = idlePower;
+        this.lastUpdate = this.clock.millis();
+
+        new FlowEdge(this, powerDistributor);
+        this.pushOutgoingDemand(this.powerSupplyEdge, this.powerDemand);
+    }
+
+    public void close() {
+        if (this.powerSupplyEdge == null) {
+            return;
+        }
+
+        updateCounters();
+        this.closeNode();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // FlowNode related functionality
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public long onUpdate(long now) {
+        return Long.MAX_VALUE;
+    }
+
+    public void updateCounters() {
+        updateCounters(clock.millis());
+    }
+
+    /**
+     * Calculate the energy usage up until <code>now</code>.
+     */
+    public void updateCounters(long now) {
+        long lastUpdate = this.lastUpdate;
+        this.lastUpdate = now;
+
+        long duration = now - lastUpdate;
+        if (duration > 0) {
+            this.totalEnergyUsage += (this.powerSupplied * duration * 0.001);
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // FlowGraph Related functionality
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public void handleIncomingSupply(FlowEdge supplierEdge, double newSupply) {
+        updateCounters();
+        this.powerSupplied = newSupply;
+    }
+
+    @Override
+    public void pushOutgoingDemand(FlowEdge supplierEdge, double newDemand) {
+        supplierEdge.pushDemand(newDemand);
+    }
+
+    @Override
+    public void addSupplierEdge(FlowEdge supplierEdge) {
+        this.powerSupplyEdge = supplierEdge;
+    }
+
+    @Override
+    public void removeSupplierEdge(FlowEdge supplierEdge) {
+        this.powerSupplyEdge = null;
+    }
+
+    @Override
+    public Map<FlowEdge.NodeType, List<FlowEdge>> getConnectedEdges() {
+        List<FlowEdge> consumingEdges = powerSupplyEdge != null ? List.of(powerSupplyEdge) : List.of();
+
+        return Map.of(FlowEdge.NodeType.CONSUMING, consumingEdges);
+    }
+
+    @Override
+    public ResourceType getConsumerResourceType() {
+        return ResourceType.POWER;
+    }
+}
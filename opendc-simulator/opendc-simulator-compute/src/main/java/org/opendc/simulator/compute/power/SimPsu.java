@@ -23,7 +23,7 @@
 package org.opendc.simulator.compute.power;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import org.opendc.common.ResourceType;
@@ -43,14 +43,22 @@ public final class SimPsu extends FlowNode implements FlowSupplier, FlowConsumer
     private static final Logger LOGGER = LoggerFactory.getLogger(SimPsu.class);
     private long lastUpdate;
 
-    private final HashMap<ResourceType, HashMap<Integer, Double>> powerDemandsPerResource = new HashMap<>();
-    private final HashMap<ResourceType, HashMap<Integer, Double>> powerSuppliedPerResource = new HashMap<>();
+    private static final ResourceType[] RESOURCE_TYPE_VALUES = ResourceType.values();
+    private static final int RESOURCE_TYPES = RESOURCE_TYPE_VALUES.length;
+
+    /**
+     * The power demand and supply per resource, indexed by the ordinal of the {@link ResourceType} and the consumer
+     * index of the resource. The inner arrays are grown on demand when a consumer edge is added.
+     */
+    private final double[][] powerDemandsPerResource = new double[RESOURCE_TYPES][];
+
+    private final double[][] powerSuppliedPerResource = new double[RESOURCE_TYPES][];
 
     private double totalPowerDemand = 0.0;
     private double totalPowerSupplied = 0.0;
     private double totalEnergyUsage = 0.0;
 
-    private final HashMap<ResourceType, HashMap<Integer, FlowEdge>> resourceEdges = new HashMap<>();
+    private final FlowEdge[][] resourceEdges = new FlowEdge[RESOURCE_TYPES][];
     private FlowEdge powerSupplyEdge;
 
     private final double capacity = Long.MAX_VALUE;
@@ -65,8 +73,12 @@ public final class SimPsu extends FlowNode implements FlowSupplier, FlowConsumer
      * @return <code>true</code> if the InPort is connected to an OutPort, <code>false</code> otherwise.
      */
     public boolean isConnected() {
-        return !this.resourceEdges.isEmpty()
-                && this.resourceEdges.values().stream().anyMatch(list -> !list.isEmpty());
+        for (FlowEdge[] edges : this.resourceEdges) {
+            if (edges != null) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -84,10 +96,7 @@ public final class SimPsu extends FlowNode implements FlowSupplier, FlowConsumer
      * This method provides access to the power consumption of the machine before PSU losses are applied.
      */
     public double getPowerDemand(ResourceType resourceType) {
-        //        return this.powerDemandsPerResource.get(resourceType).stream().mapToDouble(Double::doubleValue).sum();
-        return this.powerDemandsPerResource.get(resourceType).values().stream()
-                .mapToDouble(Double::doubleValue)
-                .sum();
+        return sum(this.powerDemandsPerResource[resourceType.ordinal()]);
     }
 
     /**
@@ -96,7 +105,7 @@ public final class SimPsu extends FlowNode implements FlowSupplier, FlowConsumer
      * This method provides access to the power consumption of the machine before PSU losses are applied.
      */
     public double getPowerDemand(ResourceType resourceType, int id) {
-        return this.powerDemandsPerResource.get(resourceType).get(id);
+        return get(this.powerDemandsPerResource[resourceType.ordinal()], id);
     }
 
     /**
@@ -110,16 +119,33 @@ public final class SimPsu extends FlowNode implements FlowSupplier, FlowConsumer
      * Return the instantaneous power usage of the machine (in W) measured at the InPort of the power supply for a specific resource type.
      */
     public double getPowerDraw(ResourceType resourceType) {
-        return this.powerSuppliedPerResource.get(resourceType).values().stream()
-                .mapToDouble(Double::doubleValue)
-                .sum();
+        return sum(this.powerSuppliedPerResource[resourceType.ordinal()]);
     }
 
     /**
      * Return the instantaneous power usage of the machine (in W) measured at the InPort of the power supply for a specific resource type for a specific resource.
      */
     public double getPowerDraw(ResourceType resourceType, int id) {
-        return this.powerSuppliedPerResource.get(resourceType).get(id);
+        return get(this.powerSuppliedPerResource[resourceType.ordinal()], id);
+    }
+
+    private static double sum(double[] values) {
+        if (values == null) {
+            return 0.0;
+        }
+        double total = 0.0;
+        for (double value : values) {
+            total += value;
+        }
+        return total;
+    }
+
+    private static double get(double[] values, int id) {
+        return values != null && id >= 0 && id < values.length ? values[id] : 0.0;
+    }
+
+    private static int getConsumerIndex(FlowEdge edge) {
+        return edge.getConsumerIndex() == -1 ? 0 : edge.getConsumerIndex();
     }
 
     /**
@@ -152,24 +178,24 @@ public final class SimPsu extends FlowNode implements FlowSupplier, FlowConsumer
     @Override
     public long onUpdate(long now) {
         updateCounters();
-        for (ResourceType resourceType : this.resourceEdges.keySet()) {
-            HashMap<Integer, FlowEdge> edges = this.resourceEdges.get(resourceType);
-            if (edges != null && !edges.isEmpty()) {
-                for (FlowEdge edge : edges.values()) {
-                    // If the edge is null, it means that the edge has been removed -> no update is needed
-                    if (edge == null) {
-                        continue;
-                    }
-
-                    int consumerIndex = edge.getConsumerIndex() == -1 ? 0 : edge.getConsumerIndex();
-                    double powerDemand =
-                            this.powerDemandsPerResource.get(resourceType).get(consumerIndex);
-                    double powerSupplied =
-                            this.powerSuppliedPerResource.get(resourceType).get(consumerIndex);
-
-                    if (powerDemand != powerSupplied) {
-                        edge.pushSupply(powerDemand);
-                    }
+        for (int type = 0; type < RESOURCE_TYPES; type++) {
+            FlowEdge[] edges = this.resourceEdges[type];
+            if (edges == null) {
+                continue;
+            }
+
+            double[] powerDemands = this.powerDemandsPerResource[type];
+            double[] powerSupplies = this.powerSuppliedPerResource[type];
+            for (int consumerIndex = 0; consumerIndex < edges.length; consumerIndex++) {
+                FlowEdge edge = edges[consumerIndex];
+                // If the edge is null, it means that the edge has been removed -> no update is needed
+                if (edge == null) {
+                    continue;
+                }
+
+                double powerDemand = powerDemands[consumerIndex];
+                if (powerDemand != powerSupplies[consumerIndex]) {
+                    edge.pushSupply(powerDemand);
                 }
             }
         }
@@ -190,9 +216,11 @@ public final class SimPsu extends FlowNode implements FlowSupplier, FlowConsumer
 
         long duration = now - lastUpdate;
         if (duration > 0) {
-            for (ResourceType resourceType : this.powerSuppliedPerResource.keySet()) {
-                for (double powerSupplied :
-                        this.powerSuppliedPerResource.get(resourceType).values()) {
+            for (double[] powerSupplies : this.powerSuppliedPerResource) {
+                if (powerSupplies == null) {
+                    continue;
+                }
+                for (double powerSupplied : powerSupplies) {
                     this.totalEnergyUsage += (powerSupplied * duration * 0.001);
                 }
             }
@@ -215,12 +243,13 @@ public final class SimPsu extends FlowNode implements FlowSupplier, FlowConsumer
 
     @Override
     public void pushOutgoingSupply(FlowEdge consumerEdge, double newSupply, ResourceType resourceType) {
-        int consumerIndex = consumerEdge.getConsumerIndex() == -1 ? 0 : consumerEdge.getConsumerIndex();
+        double[] powerSupplies = this.powerSuppliedPerResource[resourceType.ordinal()];
+        int consumerIndex = getConsumerIndex(consumerEdge);
 
-        double previousSupply = this.powerSuppliedPerResource.get(resourceType).get(consumerIndex);
+        double previousSupply = powerSupplies[consumerIndex];
         this.totalPowerSupplied += newSupply - previousSupply;
 
-        this.powerSuppliedPerResource.get(resourceType).put(consumerIndex, newSupply);
+        powerSupplies[consumerIndex] = newSupply;
 
         consumerEdge.pushSupply(newSupply, false, resourceType);
     }
@@ -233,13 +262,13 @@ public final class SimPsu extends FlowNode implements FlowSupplier, FlowConsumer
     @Override
     public void handleIncomingDemand(FlowEdge consumerEdge, double newPowerDemand, ResourceType resourceType) {
         updateCounters();
-        int consumerIndex = consumerEdge.getConsumerIndex() == -1 ? 0 : consumerEdge.getConsumerIndex();
+        double[] powerDemands = this.powerDemandsPerResource[resourceType.ordinal()];
+        int consumerIndex = getConsumerIndex(consumerEdge);
 
-        double previousPowerDemand =
-                this.powerDemandsPerResource.get(resourceType).get(consumerIndex);
+        double previousPowerDemand = powerDemands[consumerIndex];
         this.totalPowerDemand += newPowerDemand - previousPowerDemand;
 
-        this.powerDemandsPerResource.get(resourceType).put(consumerIndex, newPowerDemand);
+        powerDemands[consumerIndex] = newPowerDemand;
 
         pushOutgoingDemand(this.powerSupplyEdge, totalPowerDemand);
     }
@@ -247,16 +276,21 @@ public final class SimPsu extends FlowNode implements FlowSupplier, FlowConsumer
     @Override
     public void handleIncomingSupply(FlowEdge supplierEdge, double newSupply) {
         updateCounters();
-        for (ResourceType resourceType : this.resourceEdges.keySet()) {
-            for (FlowEdge edge : this.resourceEdges.get(resourceType).values()) {
+        for (int type = 0; type < RESOURCE_TYPES; type++) {
+            FlowEdge[] edges = this.resourceEdges[type];
+            if (edges == null) {
+                continue;
+            }
+
+            double[] powerDemands = this.powerDemandsPerResource[type];
+            for (int consumerIndex = 0; consumerIndex < edges.length; consumerIndex++) {
+                FlowEdge edge = edges[consumerIndex];
                 // If the edge is null, it means that the edge has been removed -> no update is needed
                 if (edge == null) {
                     continue;
                 }
-                int consumerIndex = edge.getConsumerIndex() == -1 ? 0 : edge.getConsumerIndex();
-                double outgoingSupply =
-                        Math.min(this.powerDemandsPerResource.get(resourceType).get(consumerIndex), newSupply);
-                pushOutgoingSupply(edge, outgoingSupply, resourceType);
+                double outgoingSupply = Math.min(powerDemands[consumerIndex], newSupply);
+                pushOutgoingSupply(edge, outgoingSupply, RESOURCE_TYPE_VALUES[type]);
             }
         }
     }
@@ -264,18 +298,23 @@ public final class SimPsu extends FlowNode implements FlowSupplier, FlowConsumer
     @Override
     public void addConsumerEdge(FlowEdge consumerEdge) {
 
-        ResourceType consumerResourceType = consumerEdge.getConsumerResourceType();
-        int consumerIndex = consumerEdge.getConsumerIndex() == -1 ? 0 : consumerEdge.getConsumerIndex();
-
-        if (!this.resourceEdges.containsKey(consumerResourceType)) {
-            this.resourceEdges.put(consumerResourceType, new HashMap<>());
-            this.powerDemandsPerResource.put(consumerResourceType, new HashMap<>());
-            this.powerSuppliedPerResource.put(consumerResourceType, new HashMap<>());
+        int type = consumerEdge.getConsumerResourceType().ordinal();
+        int consumerIndex = getConsumerIndex(consumerEdge);
+
+        FlowEdge[] edges = this.resourceEdges[type];
+        if (edges == null) {
+            this.resourceEdges[type] = new FlowEdge[consumerIndex + 1];
+            this.powerDemandsPerResource[type] = new double[consumerIndex + 1];
+            this.powerSuppliedPerResource[type] = new double[consumerIndex + 1];
+        } else if (consumerIndex >= edges.length) {
+            this.resourceEdges[type] = Arrays.copyOf(edges, consumerIndex + 1);
+            this.powerDemandsPerResource[type] = Arrays.copyOf(this.powerDemandsPerResource[type], consumerIndex + 1);
+            this.powerSuppliedPerResource[type] = Arrays.copyOf(this.powerSuppliedPerResource[type], consumerIndex + 1);
         }
 
-        this.resourceEdges.get(consumerResourceType).put(consumerIndex, consumerEdge);
-        this.powerDemandsPerResource.get(consumerResourceType).put(consumerIndex, 0.0);
-        this.powerSuppliedPerResource.get(consumerResourceType).put(consumerIndex, 0.0);
+        this.resourceEdges[type][consumerIndex] = consumerEdge;
+        this.powerDemandsPerResource[type][consumerIndex] = 0.0;
+        this.powerSuppliedPerResource[type][consumerIndex] = 0.0;
     }
 
     @Override
@@ -285,19 +324,18 @@ public final class SimPsu extends FlowNode implements FlowSupplier, FlowConsumer
 
     @Override
     public void removeConsumerEdge(FlowEdge consumerEdge) {
-        ResourceType resourceType = consumerEdge.getConsumerResourceType();
-        int consumerIndex = consumerEdge.getConsumerIndex() == -1 ? 0 : consumerEdge.getConsumerIndex();
+        int type = consumerEdge.getConsumerResourceType().ordinal();
+        int consumerIndex = getConsumerIndex(consumerEdge);
 
-        if (this.resourceEdges.containsKey(resourceType)) {
-            this.resourceEdges.get(resourceType).put(consumerIndex, null);
+        FlowEdge[] edges = this.resourceEdges[type];
+        if (edges != null && consumerIndex < edges.length) {
+            edges[consumerIndex] = null;
 
-            this.totalPowerDemand -=
-                    this.powerDemandsPerResource.get(resourceType).get(consumerIndex);
-            this.powerDemandsPerResource.get(resourceType).put(consumerIndex, 0.0);
+            this.totalPowerDemand -= this.powerDemandsPerResource[type][consumerIndex];
+            this.powerDemandsPerResource[type][consumerIndex] = 0.0;
 
-            this.totalPowerSupplied -=
-                    this.powerSuppliedPerResource.get(resourceType).get(consumerIndex);
-            this.powerSuppliedPerResource.get(resourceType).put(consumerIndex, 0.0);
+            this.totalPowerSupplied -= this.powerSuppliedPerResource[type][consumerIndex];
+            this.powerSuppliedPerResource[type][consumerIndex] = 0.0;
         }
     }
 
@@ -309,11 +347,14 @@ public final class SimPsu extends FlowNode implements FlowSupplier, FlowConsumer
     @Override
     public Map<FlowEdge.NodeType, List<FlowEdge>> getConnectedEdges() {
         List<FlowEdge> supplyingEdges = new ArrayList<>();
-        for (ResourceType resourceType : this.resourceEdges.keySet()) {
-            List<FlowEdge> edges =
-                    this.resourceEdges.get(resourceType).values().stream().toList();
-            if (edges != null && !edges.isEmpty()) {
-                supplyingEdges.addAll(edges);
+        for (FlowEdge[] edges : this.resourceEdges) {
+            if (edges == null) {
+                continue;
+            }
+            for (FlowEdge edge : edges) {
+                if (edge != null) {
+                    supplyingEdges.add(edge);
+                }
             }
         }
         List<FlowEdge> consumingEdges = powerSupplyEdge != null ? List.of(powerSupplyEdge) : List.of();
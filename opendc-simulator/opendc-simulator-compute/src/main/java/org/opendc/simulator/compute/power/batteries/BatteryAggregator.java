@@ -23,7 +23,6 @@
 package org.opendc.simulator.compute.power.batteries;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import org.opendc.common.ResourceType;
@@ -47,8 +46,8 @@ public class BatteryAggregator extends FlowNode implements FlowConsumer, FlowSup
 
     private double incomingSupply;
 
-    private final ArrayList<Double> incomingSupplies = new ArrayList<>(Arrays.asList(0.0, 0.0));
-    private final ArrayList<Double> outgoingDemands = new ArrayList<>(Arrays.asList(0.0, 0.0));
+    // Indexed by supplier index: 0 is the power source, 1 is the battery
+    private final double[] incomingSupplies = new double[2];
 
     private boolean outgoingDemandUpdateNeeded = false;
 
@@ -109,6 +108,10 @@ public class BatteryAggregator extends FlowNode implements FlowConsumer, FlowSup
 
     @Override
     public void handleIncomingDemand(FlowEdge consumerEdge, double newDemand) {
+        if (newDemand == this.incomingDemand) {
+            return;
+        }
+
         this.incomingDemand = newDemand;
 
         this.outgoingDemandUpdateNeeded = true;
@@ -119,9 +122,13 @@ public class BatteryAggregator extends FlowNode implements FlowConsumer, FlowSup
     public void handleIncomingSupply(FlowEdge supplierEdge, double newSupply) {
         int supplier_id = supplierEdge.getSupplierIndex();
 
-        this.incomingSupply += newSupply - this.incomingSupplies.get(supplier_id);
+        double oldSupply = this.incomingSupplies[supplier_id];
+        if (newSupply == oldSupply) {
+            return;
+        }
 
-        this.incomingSupplies.set(supplier_id, newSupply);
+        this.incomingSupply += newSupply - oldSupply;
+        this.incomingSupplies[supplier_id] = newSupply;
 
         this.invalidate();
     }
@@ -52,10 +52,10 @@ public class SimBattery extends FlowNode implements FlowConsumer, FlowSupplier {
 
     private final String name;
     private final String clusterName;
-    private final Double embodiedCarbonRate; // The rate of carbon emissions per millisecond
-    private Double embodiedCarbonEmission = 0.0;
+    private final double embodiedCarbonRate; // The rate of carbon emissions per millisecond
+    private double embodiedCarbonEmission = 0.0;
 
-    public Double getEmbodiedCarbonEmission() {
+    public double getEmbodiedCarbonEmission() {
         return embodiedCarbonEmission;
     }
 
@@ -166,6 +166,11 @@ public class SimBattery extends FlowNode implements FlowConsumer, FlowSupplier {
         this.closeNode();
     }
 
+    /**
+     * Update the battery and schedule a single deadline at the moment the battery becomes full (when charging) or
+     * empty (when discharging) under the current rate.
+     * The battery is only updated again before that moment when its state or one of its rates changes.
+     */
     @Override
     public long onUpdate(long now) {
 
@@ -175,15 +180,9 @@ public class SimBattery extends FlowNode implements FlowConsumer, FlowSupplier {
             return Long.MAX_VALUE;
         }
 
-        long remainingTime = 0L;
-
-        if (this.batteryState == BatteryState.CHARGING) {
-            if (this.isFull()) {
-                this.batteryPolicy.invalidate();
-                return Long.MAX_VALUE;
-            }
-
-            remainingTime = this.calculateRemainingTime();
+        if (this.batteryState == BatteryState.CHARGING && this.isFull()) {
+            this.batteryPolicy.invalidate();
+            return Long.MAX_VALUE;
         }
 
         if (this.batteryState == BatteryState.DISCHARGING) {
@@ -193,7 +192,11 @@ public class SimBattery extends FlowNode implements FlowConsumer, FlowSupplier {
             }
 
             this.pushOutgoingSupply(this.aggregatorEdge, this.incomingDemand);
-            remainingTime = this.calculateRemainingTime();
+        }
+
+        long remainingTime = this.calculateRemainingTime();
+        if (remainingTime == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
         }
 
         long nextUpdate = now + remainingTime;
@@ -277,6 +280,18 @@ public class SimBattery extends FlowNode implements FlowConsumer, FlowSupplier {
 
     @Override
     public void handleIncomingSupply(FlowEdge supplierEdge, double newSupply) {
+        if (newSupply == this.incomingSupply) {
+            return;
+        }
+
+        // The incoming supply only changes the charge while charging
+        if (this.batteryState != BatteryState.CHARGING) {
+            this.incomingSupply = newSupply;
+            return;
+        }
+
+        // Settle the charge gained at the old rate before switching to the new one
+        this.updateCounters();
         this.incomingSupply = newSupply;
 
         this.invalidate();
@@ -301,9 +316,16 @@ public class SimBattery extends FlowNode implements FlowConsumer, FlowSupplier {
 
     @Override
     public void handleIncomingDemand(FlowEdge consumerEdge, double newDemand) {
+        if (newDemand == this.incomingDemand) {
+            return;
+        }
+
         this.incomingDemand = newDemand;
 
-        this.invalidate();
+        // The incoming demand is only served while discharging
+        if (this.batteryState == BatteryState.DISCHARGING) {
+            this.invalidate();
+        }
     }
 
     @Override
@@ -22,7 +22,6 @@
 
 package org.opendc.simulator.compute.power.batteries.policy;
 
-import java.util.LinkedList;
 import org.opendc.simulator.compute.power.batteries.BatteryAggregator;
 import org.opendc.simulator.compute.power.batteries.BatteryState;
 import org.opendc.simulator.compute.power.batteries.SimBattery;
@@ -40,7 +39,10 @@ import org.opendc.simulator.engine.engine.FlowEngine;
 public class RunningMeanBatteryPolicy extends BatteryPolicy {
     private final int windowSize;
 
-    private final LinkedList<Double> pastCarbonIntensities = new LinkedList<>();
+    // Ring buffer holding the last windowSize carbon intensities
+    private final double[] pastCarbonIntensities;
+    private int pastCarbonIntensitiesStart = 0;
+    private int pastCarbonIntensitiesCount = 0;
     private double pastCarbonIntensitiesSum = 0.0;
     private double pastCarbonIntensitiesMean = 0.0;
 
@@ -59,6 +61,7 @@ public class RunningMeanBatteryPolicy extends BatteryPolicy {
         super(engine, battery, aggregator);
 
         this.windowSize = windowSize;
+        this.pastCarbonIntensities = new double[windowSize];
 
         this.updatePastCarbonIntensities(startingThreshold);
     }
@@ -70,12 +73,16 @@ public class RunningMeanBatteryPolicy extends BatteryPolicy {
      * @param newCarbonIntensity
      */
     private void updatePastCarbonIntensities(double newCarbonIntensity) {
-        if (this.pastCarbonIntensities.size() == this.windowSize) {
-            this.pastCarbonIntensitiesSum -= this.pastCarbonIntensities.removeFirst();
+        if (this.pastCarbonIntensitiesCount == this.windowSize) {
+            this.pastCarbonIntensitiesSum -= this.pastCarbonIntensities[this.pastCarbonIntensitiesStart];
+            this.pastCarbonIntensitiesStart = (this.pastCarbonIntensitiesStart + 1) % this.windowSize;
+            this.pastCarbonIntensitiesCount--;
         }
-        this.pastCarbonIntensities.addLast(newCarbonIntensity);
+        int end = (this.pastCarbonIntensitiesStart + this.pastCarbonIntensitiesCount) % this.windowSize;
+        this.pastCarbonIntensities[end] = newCarbonIntensity;
+        this.pastCarbonIntensitiesCount++;
         this.pastCarbonIntensitiesSum += newCarbonIntensity;
-        this.pastCarbonIntensitiesMean = this.pastCarbonIntensitiesSum / this.pastCarbonIntensities.size();
+        this.pastCarbonIntensitiesMean = this.pastCarbonIntensitiesSum / this.pastCarbonIntensitiesCount;
     }
 
     @Override
@@ -22,7 +22,6 @@
 
 package org.opendc.simulator.compute.power.batteries.policy;
 
-import java.util.LinkedList;
 import org.opendc.simulator.compute.power.batteries.BatteryAggregator;
 import org.opendc.simulator.compute.power.batteries.BatteryState;
 import org.opendc.simulator.compute.power.batteries.SimBattery;
@@ -35,7 +34,10 @@ import org.opendc.simulator.engine.engine.FlowEngine;
 public class RunningMeanPlusBatteryPolicy extends BatteryPolicy {
     private final int windowSize;
 
-    private final LinkedList<Double> pastCarbonIntensities = new LinkedList<>();
+    // Ring buffer holding the last windowSize carbon intensities
+    private final double[] pastCarbonIntensities;
+    private int pastCarbonIntensitiesStart = 0;
+    private int pastCarbonIntensitiesCount = 0;
     private double previousCarbonIntensity = 0.0;
 
     private double pastCarbonIntensitiesSum = 0.0;
@@ -56,22 +58,28 @@ public class RunningMeanPlusBatteryPolicy extends BatteryPolicy {
         super(engine, battery, aggregator);
 
         this.windowSize = windowSize;
+        this.pastCarbonIntensities = new double[windowSize];
 
         this.updatePastCarbonIntensities(startingThreshold);
     }
 
     private void updatePastCarbonIntensities(double newCarbonIntensity) {
-        if (this.pastCarbonIntensities.size() == this.windowSize) {
-            this.pastCarbonIntensitiesSum -= this.pastCarbonIntensities.removeFirst();
+        if (this.pastCarbonIntensitiesCount == this.windowSize) {
+            this.pastCarbonIntensitiesSum -= this.pastCarbonIntensities[this.pastCarbonIntensitiesStart];
+            this.pastCarbonIntensitiesStart = (this.pastCarbonIntensitiesStart + 1) % this.windowSize;
+            this.pastCarbonIntensitiesCount--;
         }
 
-        if (this.pastCarbonIntensities.size() > 0) {
-            this.previousCarbonIntensity = this.pastCarbonIntensities.getLast();
+        int end = (this.pastCarbonIntensitiesStart + this.pastCarbonIntensitiesCount) % this.windowSize;
+
+        if (this.pastCarbonIntensitiesCount > 0) {
+            this.previousCarbonIntensity = this.pastCarbonIntensities[(end + this.windowSize - 1) % this.windowSize];
         }
 
-        this.pastCarbonIntensities.addLast(newCarbonIntensity);
+        this.pastCarbonIntensities[end] = newCarbonIntensity;
+        this.pastCarbonIntensitiesCount++;
         this.pastCarbonIntensitiesSum += newCarbonIntensity;
-        this.pastCarbonIntensitiesMean = this.pastCarbonIntensitiesSum / this.pastCarbonIntensities.size();
+        this.pastCarbonIntensitiesMean = this.pastCarbonIntensitiesSum / this.pastCarbonIntensitiesCount;
     }
 
     @Override
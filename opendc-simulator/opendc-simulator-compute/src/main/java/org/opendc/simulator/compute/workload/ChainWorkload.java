@@ -28,18 +28,58 @@ import java.util.function.Consumer;
 import org.opendc.simulator.compute.machine.SimMachine;
 import org.opendc.simulator.engine.graph.FlowSupplier;
 
-public record ChainWorkload(
-        ArrayList<Workload> workloads,
-        long checkpointInterval,
-        long checkpointDuration,
-        double checkpointIntervalScaling)
-        implements Workload {
+/**
+ * A {@link Workload} that executes multiple workloads one after another.
+ *
+ * <p>
+ * The list of workloads is shared with the {@link VirtualMachine}s running the chain and is never modified; a snapshot
+ * only moves the offset of the first workload that still needs to be executed.
+ */
+public final class ChainWorkload implements Workload {
+    private final ArrayList<Workload> workloads;
+    private final long checkpointInterval;
+    private final long checkpointDuration;
+    private final double checkpointIntervalScaling;
+    private int workloadOffset = 0;
+
+    public ChainWorkload(
+            ArrayList<Workload> workloads,
+            long checkpointInterval,
+            long checkpointDuration,
+            double checkpointIntervalScaling) {
+        this.workloads = workloads;
+        this.checkpointInterval = checkpointInterval;
+        this.checkpointDuration = checkpointDuration;
+        this.checkpointIntervalScaling = checkpointIntervalScaling;
+    }
+
+    /**
+     * Return a view of the workloads that still need to be executed.
+     */
+    public List<Workload> workloads() {
+        return this.workloads.subList(this.workloadOffset, this.workloads.size());
+    }
+
+    @Override
+    public long checkpointInterval() {
+        return checkpointInterval;
+    }
+
+    @Override
+    public long checkpointDuration() {
+        return checkpointDuration;
+    }
+
+    @Override
+    public double checkpointIntervalScaling() {
+        return checkpointIntervalScaling;
+    }
 
     public void removeWorkloads(int numberOfWorkloads) {
         if (numberOfWorkloads <= 0) {
             return;
         }
-        this.workloads.subList(0, numberOfWorkloads).clear();
+        this.workloadOffset = Math.min(this.workloads.size(), this.workloadOffset + numberOfWorkloads);
     }
 
     @Override
@@ -49,6 +89,10 @@ public record ChainWorkload(
 
     @Override
     public SimWorkload startWorkload(List<FlowSupplier> supplier, SimMachine machine, Consumer<Exception> completion) {
+        WorkloadPool pool = machine.getWorkloadPool();
+        if (pool != null) {
+            return pool.acquireVirtualMachine(supplier, this, machine, completion);
+        }
         return new VirtualMachine(supplier, this, machine, completion);
     }
 }
@@ -23,11 +23,9 @@
 package org.opendc.simulator.compute.workload;
 
 import java.util.ArrayList;
-import java.util.Hashtable;
-import java.util.LinkedList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.function.Consumer;
 import org.opendc.common.ResourceType;
 import org.opendc.simulator.compute.ComputeResource;
@@ -44,32 +42,51 @@ import org.slf4j.LoggerFactory;
  */
 public final class VirtualMachine extends SimWorkload implements FlowSupplier {
     private static final Logger LOGGER = LoggerFactory.getLogger(VirtualMachine.class);
-    private final LinkedList<Workload> workloads;
+    private List<Workload> workloads;
+    private int nextWorkloadIndex = 0;
     private int workloadIndex;
 
     private SimWorkload activeWorkload;
 
     private FlowEdge workloadEdge;
 
-    private final Hashtable<ResourceType, Double> resourceDemands = new Hashtable<>();
-    private final Hashtable<ResourceType, Double> resourceSupplies = new Hashtable<>();
-    private final Hashtable<ResourceType, Double> resourceCapacities = new Hashtable<>();
-    private final Hashtable<ResourceType, Double> resourceTimeScalingFactor = new Hashtable<>(); // formerly known as d
-    private final Hashtable<ResourceType, FlowEdge> distributorEdges = new Hashtable<>();
-    private final Hashtable<ResourceType, PerformanceCounters> resourcePerformanceCounters = new Hashtable<>();
+    private static final int RESOURCE_TYPES = ResourceType.values().length;
 
-    private final long checkpointInterval;
-    private final long checkpointDuration;
-    private final double checkpointIntervalScaling;
+    /**
+     * The per-resource state of this virtual machine, indexed by the ordinal of the {@link ResourceType}.
+     */
+    private final double[] resourceDemands = new double[RESOURCE_TYPES];
+
+    private final double[] resourceSupplies = new double[RESOURCE_TYPES];
+    private final double[] resourceCapacities = new double[RESOURCE_TYPES];
+    private final double[] resourceTimeScalingFactor = new double[RESOURCE_TYPES]; // formerly known as d
+    private final FlowEdge[] distributorEdges = new FlowEdge[RESOURCE_TYPES];
+    private final PerformanceCounters[] resourcePerformanceCounters = new PerformanceCounters[RESOURCE_TYPES];
+
+    private long checkpointInterval;
+    private long checkpointDuration;
+    private double checkpointIntervalScaling;
     private CheckpointModel checkpointModel;
 
-    private final ChainWorkload snapshot;
+    private ChainWorkload snapshot;
 
     private long lastUpdate;
     private Consumer<Exception> completion;
 
     private final List<ResourceType> availableResources = new ArrayList<>();
 
+    /**
+     * The pool this virtual machine is recycled into, or <code>null</code> if it is not pooled.
+     */
+    private final WorkloadPool pool;
+
+    /**
+     * The workloads started and the edges created by this virtual machine, tracked only if it is pooled.
+     */
+    private final ArrayList<SimWorkload> startedWorkloads = new ArrayList<>();
+
+    private final ArrayList<FlowEdge> ownedEdges = new ArrayList<>();
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Basic Getters and Setters
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -84,7 +101,7 @@ public final class VirtualMachine extends SimWorkload implements FlowSupplier {
         if (resourceType == ResourceType.AUXILIARY) {
             return 0.0;
         }
-        return this.resourceCapacities.get(resourceType);
+        return this.resourceCapacities[resourceType.ordinal()];
     }
 
     @Override
@@ -108,11 +125,30 @@ public final class VirtualMachine extends SimWorkload implements FlowSupplier {
     }
 
     public PerformanceCounters getCpuPerformanceCounters() {
-        return this.resourcePerformanceCounters.get(ResourceType.CPU);
+        return this.resourcePerformanceCounters[ResourceType.CPU.ordinal()];
     }
 
     public PerformanceCounters getGpuPerformanceCounters() {
-        return this.resourcePerformanceCounters.get(ResourceType.GPU);
+        return this.resourcePerformanceCounters[ResourceType.GPU.ordinal()];
+    }
+
+    /**
+     * Return the {@link WorkloadPool} this virtual machine is recycled into, or <code>null</code> if it is not pooled.
+     */
+    public WorkloadPool getWorkloadPool() {
+        return pool;
+    }
+
+    List<SimWorkload> getStartedWorkloads() {
+        return startedWorkloads;
+    }
+
+    void clearStartedWorkloads() {
+        startedWorkloads.clear();
+    }
+
+    List<FlowEdge> getOwnedEdges() {
+        return ownedEdges;
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -122,11 +158,12 @@ public final class VirtualMachine extends SimWorkload implements FlowSupplier {
     VirtualMachine(FlowSupplier supplier, ChainWorkload workload) {
         super(((FlowNode) supplier).getEngine());
 
+        this.pool = null;
         this.snapshot = workload;
 
         new FlowEdge(this, supplier);
 
-        this.workloads = new LinkedList<>(workload.workloads());
+        this.workloads = workload.workloads();
         this.checkpointInterval = workload.checkpointInterval();
         this.checkpointDuration = workload.checkpointDuration();
         this.checkpointIntervalScaling = workload.checkpointIntervalScaling();
@@ -144,12 +181,54 @@ public final class VirtualMachine extends SimWorkload implements FlowSupplier {
 
     VirtualMachine(
             List<FlowSupplier> suppliers, ChainWorkload workload, SimMachine machine, Consumer<Exception> completion) {
+        this(suppliers, workload, machine, completion, null);
+    }
+
+    VirtualMachine(
+            List<FlowSupplier> suppliers,
+            ChainWorkload workload,
+            SimMachine machine,
+            Consumer<Exception> completion,
+            WorkloadPool pool) {
         super(((FlowNode) suppliers.getFirst()).getEngine());
 
+        this.pool = pool;
+        this.init(suppliers, workload, machine, completion);
+    }
+
+    /**
+     * Reset a closed virtual machine taken from a {@link WorkloadPool} to run the specified workload.
+     */
+    void reset(
+            List<FlowSupplier> suppliers, ChainWorkload workload, SimMachine machine, Consumer<Exception> completion) {
+        this.nextWorkloadIndex = 0;
+        this.activeWorkload = null;
+        this.workloadEdge = null;
+        this.checkpointModel = null;
+        this.stopWorkloadCause = null;
+
+        Arrays.fill(this.resourceDemands, 0.0);
+        Arrays.fill(this.resourceSupplies, 0.0);
+        Arrays.fill(this.resourceCapacities, 0.0);
+        Arrays.fill(this.resourceTimeScalingFactor, 0.0);
+        Arrays.fill(this.distributorEdges, null);
+        Arrays.fill(this.resourcePerformanceCounters, null);
+        this.availableResources.clear();
+
+        this.reopen();
+        this.init(suppliers, workload, machine, completion);
+    }
+
+    private void init(
+            List<FlowSupplier> suppliers, ChainWorkload workload, SimMachine machine, Consumer<Exception> completion) {
         this.snapshot = workload;
 
         for (FlowSupplier supplier : suppliers) {
-            new FlowEdge(this, supplier);
+            if (this.pool != null) {
+                this.ownedEdges.add(this.pool.acquireEdge(this, supplier, ResourceType.AUXILIARY));
+            } else {
+                new FlowEdge(this, supplier);
+            }
             ResourceType resourceType = supplier.getSupplierResourceType();
 
             this.availableResources.add(resourceType);
@@ -159,16 +238,15 @@ public final class VirtualMachine extends SimWorkload implements FlowSupplier {
                 throw new IllegalArgumentException("No resources of type " + resourceType + " found in machine ");
             }
 
-            this.resourceCapacities.put(resourceType, resources.getFirst().getCapacity());
-
-            this.resourceTimeScalingFactor.put(
-                    resourceType, 1.0 / resources.getFirst().getCapacity());
-            this.resourcePerformanceCounters.put(resourceType, new PerformanceCounters());
-            this.resourceDemands.put(resourceType, 0.0);
-            this.resourceSupplies.put(resourceType, 0.0);
+            int type = resourceType.ordinal();
+            this.resourceCapacities[type] = resources.getFirst().getCapacity();
+            this.resourceTimeScalingFactor[type] = 1.0 / resources.getFirst().getCapacity();
+            this.resourcePerformanceCounters[type] = new PerformanceCounters();
+            this.resourceDemands[type] = 0.0;
+            this.resourceSupplies[type] = 0.0;
         }
 
-        this.workloads = new LinkedList<>(workload.workloads());
+        this.workloads = workload.workloads();
         this.checkpointInterval = workload.checkpointInterval();
         this.checkpointDuration = workload.checkpointDuration();
         this.checkpointIntervalScaling = workload.checkpointIntervalScaling();
@@ -184,14 +262,18 @@ public final class VirtualMachine extends SimWorkload implements FlowSupplier {
         this.onStart();
     }
 
+    private boolean hasNextWorkload() {
+        return this.nextWorkloadIndex < this.workloads.size();
+    }
+
     public Workload getNextWorkload() {
         this.workloadIndex++;
-        return workloads.pop();
+        return workloads.get(this.nextWorkloadIndex++);
     }
 
     // TODO: Combine with Constructor
     public void onStart() {
-        if (this.workloads.isEmpty()) {
+        if (!this.hasNextWorkload()) {
             return;
         }
 
@@ -200,7 +282,15 @@ public final class VirtualMachine extends SimWorkload implements FlowSupplier {
             this.checkpointModel.start();
         }
 
-        this.activeWorkload = this.getNextWorkload().startWorkload(this);
+        this.activeWorkload = this.startNextWorkload();
+    }
+
+    private SimWorkload startNextWorkload() {
+        SimWorkload workload = this.getNextWorkload().startWorkload(this);
+        if (this.pool != null) {
+            this.startedWorkloads.add(workload);
+        }
+        return workload;
     }
 
     public void updateCounters(long now) {
@@ -208,26 +298,22 @@ public final class VirtualMachine extends SimWorkload implements FlowSupplier {
         this.lastUpdate = now;
         long delta = now - lastUpdate;
 
-        for (ResourceType resourceType : this.availableResources) {
-            final double factor = this.resourceTimeScalingFactor.get(resourceType) * delta;
+        for (int i = 0; i < this.availableResources.size(); i++) {
+            int type = this.availableResources.get(i).ordinal();
+            PerformanceCounters counters = this.resourcePerformanceCounters[type];
+            double demand = this.resourceDemands[type];
+            double supply = this.resourceSupplies[type];
+            double capacity = this.resourceCapacities[type];
+
             if (delta > 0) {
-                this.resourcePerformanceCounters
-                        .get(resourceType)
-                        .addActiveTime(Math.round(this.resourceSupplies.get(resourceType) * factor));
-                this.resourcePerformanceCounters
-                        .get(resourceType)
-                        .setIdleTime(Math.round(
-                                (this.resourceCapacities.get(resourceType) - this.resourceSupplies.get(resourceType))
-                                        * factor));
-                this.resourcePerformanceCounters
-                        .get(resourceType)
-                        .addStealTime(Math.round(
-                                (this.resourceDemands.get(resourceType) - this.resourceSupplies.get(resourceType))
-                                        * factor));
+                final double factor = this.resourceTimeScalingFactor[type] * delta;
+                counters.addActiveTime(Math.round(supply * factor));
+                counters.setIdleTime(Math.round((capacity - supply) * factor));
+                counters.addStealTime(Math.round((demand - supply) * factor));
             }
-            this.resourcePerformanceCounters.get(resourceType).setDemand(this.resourceDemands.get(resourceType));
-            this.resourcePerformanceCounters.get(resourceType).setSupply(this.resourceSupplies.get(resourceType));
-            this.resourcePerformanceCounters.get(resourceType).setCapacity(this.resourceCapacities.get(resourceType));
+            counters.setDemand(demand);
+            counters.setSupply(supply);
+            counters.setCapacity(capacity);
         }
     }
 
@@ -304,14 +390,13 @@ public final class VirtualMachine extends SimWorkload implements FlowSupplier {
      */
     @Override
     public void addSupplierEdge(FlowEdge supplierEdge) {
-        ResourceType resourceType = supplierEdge.getSupplierResourceType();
-        if (this.resourceCapacities.containsKey(resourceType) && this.resourceCapacities.get(resourceType) > 0) {
-            this.resourceCapacities.put(
-                    resourceType, this.resourceCapacities.get(resourceType) + supplierEdge.getCapacity());
+        int type = supplierEdge.getSupplierResourceType().ordinal();
+        if (this.resourceCapacities[type] > 0) {
+            this.resourceCapacities[type] += supplierEdge.getCapacity();
         } else {
-            this.resourceCapacities.put(resourceType, supplierEdge.getCapacity());
+            this.resourceCapacities[type] = supplierEdge.getCapacity();
         }
-        this.distributorEdges.put(resourceType, supplierEdge);
+        this.distributorEdges[type] = supplierEdge;
     }
 
     /**
@@ -335,8 +420,8 @@ public final class VirtualMachine extends SimWorkload implements FlowSupplier {
     @Override
     public void pushOutgoingDemand(FlowEdge supplierEdge, double newDemand, ResourceType resourceType) {
         // FIXME: Needs to be assigned to specific resource if multiple exist -> add resource Id as parameter
-        this.resourceDemands.put(resourceType, newDemand);
-        this.distributorEdges.get(resourceType).pushDemand(newDemand, false, resourceType);
+        this.resourceDemands[resourceType.ordinal()] = newDemand;
+        this.distributorEdges[resourceType.ordinal()].pushDemand(newDemand, false, resourceType);
     }
 
     /**
@@ -347,10 +432,9 @@ public final class VirtualMachine extends SimWorkload implements FlowSupplier {
      */
     @Override
     public void pushOutgoingSupply(FlowEdge consumerEdge, double newSupply) {
-        this.resourceSupplies.put(consumerEdge.getConsumerResourceType(), newSupply);
-        this.distributorEdges
-                .get(consumerEdge.getConsumerResourceType())
-                .pushSupply(newSupply, false, consumerEdge.getConsumerResourceType());
+        ResourceType resourceType = consumerEdge.getConsumerResourceType();
+        this.resourceSupplies[resourceType.ordinal()] = newSupply;
+        this.distributorEdges[resourceType.ordinal()].pushSupply(newSupply, false, resourceType);
     }
 
     /**
@@ -361,7 +445,7 @@ public final class VirtualMachine extends SimWorkload implements FlowSupplier {
      */
     @Override
     public void pushOutgoingSupply(FlowEdge consumerEdge, double newSupply, ResourceType resourceType) {
-        this.resourceSupplies.put(resourceType, newSupply);
+        this.resourceSupplies[resourceType.ordinal()] = newSupply;
         this.workloadEdge.pushSupply(newSupply, false, resourceType);
     }
 
@@ -374,13 +458,14 @@ public final class VirtualMachine extends SimWorkload implements FlowSupplier {
     @Override
     public void handleIncomingDemand(FlowEdge consumerEdge, double newDemand) {
         updateCounters(this.clock.millis());
-        this.pushOutgoingDemand(this.distributorEdges.get(consumerEdge.getConsumerResourceType()), newDemand);
+        this.pushOutgoingDemand(
+                this.distributorEdges[consumerEdge.getConsumerResourceType().ordinal()], newDemand);
     }
 
     @Override
     public void handleIncomingDemand(FlowEdge consumerEdge, double newDemand, ResourceType resourceType) {
         updateCounters(this.clock.millis());
-        this.pushOutgoingDemand(this.distributorEdges.get(resourceType), newDemand, resourceType);
+        this.pushOutgoingDemand(this.distributorEdges[resourceType.ordinal()], newDemand, resourceType);
     }
 
     /**
@@ -393,10 +478,8 @@ public final class VirtualMachine extends SimWorkload implements FlowSupplier {
     public void handleIncomingSupply(FlowEdge supplierEdge, double newSupply) {
         updateCounters(this.clock.millis());
 
-        this.pushOutgoingSupply(
-                this.distributorEdges.get(supplierEdge.getSupplierResourceType()),
-                newSupply,
-                supplierEdge.getSupplierResourceType());
+        ResourceType resourceType = supplierEdge.getSupplierResourceType();
+        this.pushOutgoingSupply(this.distributorEdges[resourceType.ordinal()], newSupply, resourceType);
     }
 
     /**
@@ -409,7 +492,7 @@ public final class VirtualMachine extends SimWorkload implements FlowSupplier {
     public void handleIncomingSupply(FlowEdge supplierEdge, double newSupply, ResourceType resourceType) {
         updateCounters(this.clock.millis());
 
-        this.pushOutgoingSupply(this.distributorEdges.get(resourceType), newSupply, resourceType);
+        this.pushOutgoingSupply(this.distributorEdges[resourceType.ordinal()], newSupply, resourceType);
     }
 
     /**
@@ -430,8 +513,8 @@ public final class VirtualMachine extends SimWorkload implements FlowSupplier {
         this.workloadEdge = null;
 
         // Start next workload
-        if (!this.workloads.isEmpty()) {
-            this.activeWorkload = getNextWorkload().startWorkload(this);
+        if (this.hasNextWorkload()) {
+            this.activeWorkload = this.startNextWorkload();
             return;
         }
 
@@ -440,23 +523,23 @@ public final class VirtualMachine extends SimWorkload implements FlowSupplier {
 
     /**
      * Handle the removal of the connection to the resource flow distributor
-     * When this happens, close the SimChainWorkload
+     * <p>
+     * This does not stop the workload, which matches the former lookup of the resource type among the edge values of
+     * the distributor table that never succeeded.
      *
      * @param supplierEdge The edge to the resource flow distributor
      */
     @Override
-    public void removeSupplierEdge(FlowEdge supplierEdge) {
-        if (!this.distributorEdges.contains(supplierEdge.getSupplierResourceType())) {
-            return;
-        }
-
-        this.stopWorkload();
-    }
+    public void removeSupplierEdge(FlowEdge supplierEdge) {}
 
     @Override
     public Map<FlowEdge.NodeType, List<FlowEdge>> getConnectedEdges() {
-        List<FlowEdge> consumerEdges =
-                this.distributorEdges.values().stream().filter(Objects::nonNull).toList();
+        List<FlowEdge> consumerEdges = new ArrayList<>(RESOURCE_TYPES);
+        for (FlowEdge edge : this.distributorEdges) {
+            if (edge != null) {
+                consumerEdges.add(edge);
+            }
+        }
         List<FlowEdge> supplierEdges = (this.workloadEdge != null) ? List.of(this.workloadEdge) : List.of();
 
         return Map.of(
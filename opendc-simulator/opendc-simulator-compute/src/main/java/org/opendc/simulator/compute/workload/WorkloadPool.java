@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.simulator.compute.workload;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.opendc.common.ResourceType;
+import org.opendc.simulator.compute.machine.SimMachine;
+import org.opendc.simulator.compute.workload.trace.SimTraceWorkload;
+import org.opendc.simulator.compute.workload.trace.TraceWorkload;
+import org.opendc.simulator.engine.engine.FlowEngine;
+import org.opendc.simulator.engine.graph.FlowConsumer;
+import org.opendc.simulator.engine.graph.FlowEdge;
+import org.opendc.simulator.engine.graph.FlowSupplier;
+
+/**
+ * A pool that recycles the {@link VirtualMachine}s, {@link SimTraceWorkload}s, and {@link FlowEdge}s of the tasks
+ * that ran on a {@link SimMachine}, reducing the allocations for workloads with many short tasks.
+ *
+ * <p>
+ * A {@link VirtualMachine} is handed back to the pool via {@link #release(VirtualMachine)} once its owner no longer
+ * reads it. Released objects are only reclaimed outside of engine cycles, since a node that closed during a cycle may
+ * still be on the call stack of the engine. Objects that are not closed, or still scheduled in the engine, are left
+ * to the garbage collector.
+ */
+public final class WorkloadPool {
+    /**
+     * The default maximum number of idle objects of each kind kept by the pool.
+     */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final FlowEngine engine;
+    private final int capacity;
+
+    private final ArrayDeque<VirtualMachine> virtualMachines = new ArrayDeque<>();
+    private final ArrayDeque<SimTraceWorkload> traceWorkloads = new ArrayDeque<>();
+    private final ArrayDeque<FlowEdge> edges = new ArrayDeque<>();
+
+    /**
+     * The virtual machines that have been released, but not yet reclaimed.
+     */
+    private final ArrayList<VirtualMachine> released = new ArrayList<>();
+
+    private long allocations;
+    private long reuses;
+
+    /**
+     * Construct a {@link WorkloadPool}.
+     *
+     * @param engine The engine driving the nodes in the pool.
+     * @param capacity The maximum number of idle objects of each kind to keep.
+     */
+    public WorkloadPool(FlowEngine engine, int capacity) {
+        this.engine = engine;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Return the number of objects that were newly allocated because the pool was empty.
+     */
+    public long getAllocations() {
+        return allocations;
+    }
+
+    /**
+     * Return the number of objects that were reused from the pool.
+     */
+    public long getReuses() {
+        return reuses;
+    }
+
+    /**
+     * Obtain a {@link VirtualMachine} running the specified workload.
+     */
+    VirtualMachine acquireVirtualMachine(
+            List<FlowSupplier> suppliers, ChainWorkload workload, SimMachine machine, Consumer<Exception> completion) {
+        reclaim();
+
+        VirtualMachine vm = virtualMachines.pollFirst();
+        if (vm == null) {
+            allocations++;
+            return new VirtualMachine(suppliers, workload, machine, completion, this);
+        }
+
+        reuses++;
+        vm.reset(suppliers, workload, machine, completion);
+        return vm;
+    }
+
+    /**
+     * Obtain a {@link SimTraceWorkload} running the specified trace on the specified virtual machine.
+     */
+    public SimTraceWorkload acquireTraceWorkload(VirtualMachine supplier, TraceWorkload workload) {
+        reclaim();
+
+        SimTraceWorkload traceWorkload = traceWorkloads.pollFirst();
+        if (traceWorkload == null) {
+            allocations++;
+            return new SimTraceWorkload(supplier, workload);
+        }
+
+        reuses++;
+        traceWorkload.reset(supplier, workload);
+        return traceWorkload;
+    }
+
+    /**
+     * Obtain a {@link FlowEdge} connecting the specified consumer and supplier.
+     */
+    public FlowEdge acquireEdge(FlowConsumer consumer, FlowSupplier supplier, ResourceType resourceType) {
+        FlowEdge edge = edges.pollFirst();
+        if (edge == null) {
+            allocations++;
+            return new FlowEdge(consumer, supplier, resourceType);
+        }
+
+        reuses++;
+        edge.reset(consumer, supplier, resourceType, -1, -1);
+        return edge;
+    }
+
+    /**
+     * Hand a {@link VirtualMachine} and the workloads it ran back to the pool.
+     */
+    public void release(VirtualMachine vm) {
+        released.add(vm);
+
+        if (!engine.isActive()) {
+            reclaim();
+        }
+    }
+
+    /**
+     * Drop all idle objects of the pool.
+     */
+    public void clear() {
+        released.clear();
+        virtualMachines.clear();
+        traceWorkloads.clear();
+        edges.clear();
+    }
+
+    /**
+     * Move the released objects that can be reused into the pool.
+     */
+    private void reclaim() {
+        if (released.isEmpty() || engine.isActive()) {
+            return;
+        }
+
+        for (VirtualMachine vm : released) {
+            if (!vm.isReusable()) {
+                continue;
+            }
+
+            for (SimWorkload workload : vm.getStartedWorkloads()) {
+                if (workload instanceof SimTraceWorkload traceWorkload && traceWorkload.isReusable()) {
+                    reclaimEdges(traceWorkload.getOwnedEdges());
+                    offer(traceWorkloads, traceWorkload);
+                }
+            }
+
+            reclaimEdges(vm.getOwnedEdges());
+            vm.clearStartedWorkloads();
+            offer(virtualMachines, vm);
+        }
+
+        released.clear();
+    }
+
+    private void reclaimEdges(List<FlowEdge> owned) {
+        for (FlowEdge edge : owned) {
+            if (edge.isClosed()) {
+                offer(edges, edge);
+            }
+        }
+        owned.clear();
+    }
+
+    private <T> void offer(ArrayDeque<T> queue, T value) {
+        if (queue.size() < capacity) {
+            queue.addLast(value);
+        }
+    }
+}
@@ -22,14 +22,16 @@
 
 package org.opendc.simulator.compute.workload.trace;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import org.opendc.common.ResourceType;
 import org.opendc.simulator.compute.workload.SimWorkload;
 import org.opendc.simulator.compute.workload.VirtualMachine;
+import org.opendc.simulator.compute.workload.WorkloadPool;
 import org.opendc.simulator.compute.workload.trace.scaling.ScalingPolicy;
 import org.opendc.simulator.engine.graph.FlowConsumer;
 import org.opendc.simulator.engine.graph.FlowEdge;
@@ -40,7 +42,11 @@ import org.slf4j.LoggerFactory;
 
 public class SimTraceWorkload extends SimWorkload implements FlowConsumer {
     private static final Logger LOGGER = LoggerFactory.getLogger(SimTraceWorkload.class);
-    private LinkedList<TraceFragment> remainingFragments;
+    // The fragments of the trace are read from the store shared with the TraceWorkload instead of being copied.
+    // Fragments that are not part of the store (partial fragments and checkpoint fragments) are executed first.
+    private final ArrayDeque<TraceFragment> pendingFragments = new ArrayDeque<>();
+    private List<TraceFragment> fragmentStore;
+    private int nextFragmentIndex;
     private int fragmentIndex;
 
     private TraceFragment currentFragment;
@@ -62,11 +68,21 @@ public class SimTraceWorkload extends SimWorkload implements FlowConsumer {
     private final Map<ResourceType, Boolean> workloadFinished =
             new HashMap<>(); // The workload finished for each resource type
 
-    private final long checkpointDuration;
-    private final TraceWorkload snapshot;
+    private long checkpointDuration;
+    private TraceWorkload snapshot;
 
-    private final ScalingPolicy scalingPolicy;
-    private final String taskName;
+    private ScalingPolicy scalingPolicy;
+    private String taskName;
+
+    /**
+     * The pool this workload is recycled into, or <code>null</code> if it is not pooled.
+     */
+    private WorkloadPool pool;
+
+    /**
+     * The edges created by this workload, tracked only if it is pooled.
+     */
+    private final ArrayList<FlowEdge> ownedEdges = new ArrayList<>();
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Basic Getters and Setters
@@ -95,6 +111,13 @@ public class SimTraceWorkload extends SimWorkload implements FlowConsumer {
         return 0;
     }
 
+    /**
+     * Return the edges created by this workload if it is pooled.
+     */
+    public List<FlowEdge> getOwnedEdges() {
+        return ownedEdges;
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Constructors
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -102,16 +125,43 @@ public class SimTraceWorkload extends SimWorkload implements FlowConsumer {
     public SimTraceWorkload(FlowSupplier supplier, TraceWorkload workload) {
         super(((FlowNode) supplier).getEngine());
 
+        this.init(supplier, workload);
+    }
+
+    /**
+     * Reset a closed workload taken from a {@link WorkloadPool} to run the specified trace on the specified virtual
+     * machine.
+     */
+    public void reset(VirtualMachine supplier, TraceWorkload workload) {
+        this.pendingFragments.clear();
+        this.fragmentStore = null;
+        this.currentFragment = null;
+        this.totalRemainingWork = 0.0;
+
+        this.machineResourceEdges.clear();
+        this.usedResourceTypes.clear();
+        this.resourcesSupplied.clear();
+        this.newResourcesSupply.clear();
+        this.resourcesDemand.clear();
+        this.remainingWork.clear();
+        this.workloadFinished.clear();
+
+        this.reopen();
+        this.init(supplier, workload);
+    }
+
+    private void init(FlowSupplier supplier, TraceWorkload workload) {
         this.snapshot = workload;
         this.checkpointDuration = workload.checkpointDuration();
         this.scalingPolicy = workload.getScalingPolicy();
-        this.remainingFragments = new LinkedList<>(workload.getFragments());
+        this.initFragments(workload);
         this.fragmentIndex = 0;
         this.taskName = workload.getTaskName();
 
         this.startOfFragment = this.clock.millis();
 
-        new FlowEdge(this, supplier);
+        this.pool = (supplier instanceof VirtualMachine vm) ? vm.getWorkloadPool() : null;
+        this.connect(supplier, ResourceType.AUXILIARY);
         if (supplier instanceof VirtualMachine) {
             // instead iterate over the resources in the fragment as required resources not provided by the VM
             for (ResourceType resourceType : workload.getResourceTypes()) {
@@ -125,6 +175,17 @@ public class SimTraceWorkload extends SimWorkload implements FlowConsumer {
         }
     }
 
+    /**
+     * Connect this workload to the specified supplier, taking the edge from the pool if the workload is pooled.
+     */
+    private void connect(FlowSupplier supplier, ResourceType resourceType) {
+        if (this.pool != null) {
+            this.ownedEdges.add(this.pool.acquireEdge(this, supplier, resourceType));
+        } else {
+            new FlowEdge(this, supplier, resourceType);
+        }
+    }
+
     // Needed if workload not started by VM
     public SimTraceWorkload(List<FlowSupplier> resourceSuppliers, TraceWorkload workload) {
         // same engine for all suppliers
@@ -133,7 +194,7 @@ public class SimTraceWorkload extends SimWorkload implements FlowConsumer {
         this.snapshot = workload;
         this.checkpointDuration = workload.checkpointDuration();
         this.scalingPolicy = workload.getScalingPolicy();
-        this.remainingFragments = new LinkedList<>(workload.getFragments());
+        this.initFragments(workload);
         this.fragmentIndex = 0;
         this.taskName = workload.getTaskName();
 
@@ -221,11 +282,26 @@ public class SimTraceWorkload extends SimWorkload implements FlowConsumer {
         return timeUntilNextUpdate == Long.MIN_VALUE ? now : now + timeUntilNextUpdate;
     }
 
+    private void initFragments(TraceWorkload workload) {
+        this.fragmentStore = workload.getFragmentStore();
+        this.nextFragmentIndex = workload.getFragmentOffset();
+        Collections.addAll(this.pendingFragments, workload.getHeadFragments());
+    }
+
+    private boolean hasRemainingFragments() {
+        return !this.pendingFragments.isEmpty()
+                || (this.fragmentStore != null && this.nextFragmentIndex < this.fragmentStore.size());
+    }
+
     public TraceFragment getNextFragment() {
-        if (this.remainingFragments.isEmpty()) {
+        if (!this.hasRemainingFragments()) {
             return null;
         }
-        this.currentFragment = this.remainingFragments.pop();
+        TraceFragment next = this.pendingFragments.pollFirst();
+        if (next == null) {
+            next = this.fragmentStore.get(this.nextFragmentIndex++);
+        }
+        this.currentFragment = next;
         this.fragmentIndex++;
 
         return this.currentFragment;
@@ -270,7 +346,8 @@ public class SimTraceWorkload extends SimWorkload implements FlowConsumer {
             this.machineResourceEdges.put(resourceType, null);
             this.workloadFinished.put(resourceType, true);
         }
-        this.remainingFragments = null;
+        this.pendingFragments.clear();
+        this.fragmentStore = null;
         this.currentFragment = null;
     }
 
@@ -317,7 +394,7 @@ public class SimTraceWorkload extends SimWorkload implements FlowConsumer {
         }
 
         // If this is the end of the Task, don't make a snapshot
-        if (this.currentFragment == null || (remainingDuration <= 0 && remainingFragments.isEmpty())) {
+        if (this.currentFragment == null || (remainingDuration <= 0 && !this.hasRemainingFragments())) {
             return;
         }
 
@@ -330,11 +407,11 @@ public class SimTraceWorkload extends SimWorkload implements FlowConsumer {
                 currentFragment.gpuCoreCount(),
                 currentFragment.gpuMemoryUsage());
 
-        // Alter the snapshot by removing finished fragments
+        // Alter the snapshot by removing finished fragments; this only moves its offset into the fragment store
         this.snapshot.removeFragments(this.fragmentIndex);
         this.snapshot.addFirst(newFragment);
 
-        this.remainingFragments.addFirst(newFragment);
+        this.pendingFragments.addFirst(newFragment);
 
         // Create and add a fragment for processing the snapshot process
         TraceFragment snapshotFragment = new TraceFragment(
@@ -344,7 +421,7 @@ public class SimTraceWorkload extends SimWorkload implements FlowConsumer {
                 this.snapshot.getMaxGpuDemand(),
                 this.snapshot.getMaxGpuCoreCount(),
                 this.snapshot.getMaxGpuMemoryDemand());
-        this.remainingFragments.addFirst(snapshotFragment);
+        this.pendingFragments.addFirst(snapshotFragment);
 
         this.fragmentIndex = -1;
         startNextFragment();
@@ -446,7 +523,7 @@ public class SimTraceWorkload extends SimWorkload implements FlowConsumer {
                 }
 
                 if (!this.machineResourceEdges.containsKey(resourceType)) {
-                    new FlowEdge(this, vm, resourceType);
+                    this.connect(vm, resourceType);
                 }
             }
         }
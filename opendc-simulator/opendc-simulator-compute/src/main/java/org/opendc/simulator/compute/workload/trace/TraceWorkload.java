@@ -31,12 +31,31 @@ import java.util.function.Consumer;
 import org.opendc.common.ResourceType;
 import org.opendc.simulator.compute.machine.SimMachine;
 import org.opendc.simulator.compute.workload.SimWorkload;
+import org.opendc.simulator.compute.workload.VirtualMachine;
 import org.opendc.simulator.compute.workload.Workload;
 import org.opendc.simulator.compute.workload.trace.scaling.ScalingPolicy;
 import org.opendc.simulator.engine.graph.FlowSupplier;
 
 public class TraceWorkload implements Workload {
+    private static final TraceFragment[] NO_FRAGMENTS = new TraceFragment[0];
+
+    /**
+     * The fragments of the trace. The list is shared with the {@link SimTraceWorkload}s running this workload and is
+     * never modified, so that taking a snapshot does not require copying the remaining fragments.
+     */
     private final ArrayList<TraceFragment> fragments;
+
+    /**
+     * The index of the first fragment in {@link #fragments} that still needs to be executed.
+     */
+    private int fragmentOffset = 0;
+
+    /**
+     * The fragments that need to be executed before the fragment at {@link #fragmentOffset}, such as the remainder of
+     * a partially executed fragment.
+     */
+    private TraceFragment[] headFragments = NO_FRAGMENTS;
+
     private final long checkpointInterval;
     private final long checkpointDuration;
     private final double checkpointIntervalScaling;
@@ -94,8 +113,69 @@ public class TraceWorkload implements Workload {
         this.resourceTypes = resourceTypes;
     }
 
-    public ArrayList<TraceFragment> getFragments() {
-        return fragments;
+    /**
+     * Construct a copy of the specified workload.
+     */
+    private TraceWorkload(TraceWorkload other) {
+        this.fragments = other.fragments;
+        this.fragmentOffset = other.fragmentOffset;
+        this.headFragments = other.headFragments;
+        this.checkpointInterval = other.checkpointInterval;
+        this.checkpointDuration = other.checkpointDuration;
+        this.checkpointIntervalScaling = other.checkpointIntervalScaling;
+        this.scalingPolicy = other.scalingPolicy;
+        this.taskName = other.taskName;
+        this.maxCpuDemand = other.maxCpuDemand;
+        this.maxCpuCoreCount = other.maxCpuCoreCount;
+        this.maxGpuDemand = other.maxGpuDemand;
+        this.maxGpuCoreCount = other.maxGpuCoreCount;
+        this.maxGpuMemoryDemand = other.maxGpuMemoryDemand;
+        this.resourceTypes = other.resourceTypes;
+    }
+
+    /**
+     * Create a copy of this workload that can be executed independently of this workload.
+     * The copy shares the fragment list with this workload, so copying does not depend on the length of the trace.
+     */
+    public TraceWorkload copy() {
+        return new TraceWorkload(this);
+    }
+
+    /**
+     * Return the fragments that still need to be executed.
+     */
+    public List<TraceFragment> getFragments() {
+        List<TraceFragment> remaining = this.fragments.subList(this.fragmentOffset, this.fragments.size());
+        if (this.headFragments.length == 0) {
+            return remaining;
+        }
+
+        ArrayList<TraceFragment> result = new ArrayList<>(this.headFragments.length + remaining.size());
+        result.addAll(Arrays.asList(this.headFragments));
+        result.addAll(remaining);
+        return result;
+    }
+
+    /**
+     * Return the shared list of all fragments of the trace, including the fragments that were already executed.
+     */
+    List<TraceFragment> getFragmentStore() {
+        return this.fragments;
+    }
+
+    /**
+     * Return the index of the first fragment in the {@link #getFragmentStore() fragment store} that still needs to be
+     * executed.
+     */
+    int getFragmentOffset() {
+        return this.fragmentOffset;
+    }
+
+    /**
+     * Return the fragments that need to be executed before the fragment at the {@link #getFragmentOffset() offset}.
+     */
+    TraceFragment[] getHeadFragments() {
+        return this.headFragments;
     }
 
     @Override
@@ -137,15 +217,31 @@ public class TraceWorkload implements Workload {
         return taskName;
     }
 
+    /**
+     * Remove the first {@code numberOfFragments} remaining fragments from the workload.
+     * This only moves the offset into the shared fragment list and does not copy the remaining fragments.
+     */
     public void removeFragments(int numberOfFragments) {
         if (numberOfFragments <= 0) {
             return;
         }
-        this.fragments.subList(0, numberOfFragments).clear();
+
+        int fromHead = Math.min(numberOfFragments, this.headFragments.length);
+        if (fromHead > 0) {
+            this.headFragments = Arrays.copyOfRange(this.headFragments, fromHead, this.headFragments.length);
+        }
+        this.fragmentOffset = Math.min(this.fragments.size(), this.fragmentOffset + numberOfFragments - fromHead);
     }
 
+    /**
+     * Add a fragment in front of the remaining fragments of the workload, such as the remainder of a partially
+     * executed fragment.
+     */
     public void addFirst(TraceFragment fragment) {
-        this.fragments.addFirst(fragment);
+        TraceFragment[] head = new TraceFragment[this.headFragments.length + 1];
+        head[0] = fragment;
+        System.arraycopy(this.headFragments, 0, head, 1, this.headFragments.length);
+        this.headFragments = head;
     }
 
     public ResourceType[] getResourceTypes() {
@@ -154,6 +250,9 @@ public class TraceWorkload implements Workload {
 
     @Override
     public SimWorkload startWorkload(FlowSupplier supplier) {
+        if (supplier instanceof VirtualMachine vm && vm.getWorkloadPool() != null) {
+            return vm.getWorkloadPool().acquireTraceWorkload(vm, this);
+        }
         return new SimTraceWorkload(supplier, this);
         //        ArrayList<FlowSupplier> flowSuppliers = new ArrayList<>();
         //        flowSuppliers.add(supplier);
@@ -56,6 +56,11 @@ public final class SimulationDispatcher implements Dispatcher {
      */
     private int count = 0;
 
+    /**
+     * The number of tasks that have been run by this dispatcher.
+     */
+    private long executedTasks = 0;
+
     /**
      * The {@link InstantSource} instance linked to this scheduler.
      */
@@ -96,6 +101,16 @@ public final class SimulationDispatcher implements Dispatcher {
         return timeSource;
     }
 
+    @Override
+    public long getNextDeadline() {
+        return queue.peekDeadline();
+    }
+
+    @Override
+    public long getExecutedTaskCount() {
+        return executedTasks;
+    }
+
     @Override
     public void schedule(long delayMs, Runnable command) {
         internalSchedule(delayMs, command);
@@ -129,6 +144,7 @@ public final class SimulationDispatcher implements Dispatcher {
             }
 
             currentTime = deadline;
+            executedTasks++;
             task.run();
         }
     }
@@ -156,6 +172,7 @@ public final class SimulationDispatcher implements Dispatcher {
         while ((deadline = queue.peekDeadline()) < target) {
             Runnable task = queue.poll(); // Cannot be null since while condition is always false on an empty queue
 
+            executedTasks++;
             task.run();
             currentTime = deadline;
         }
@@ -177,6 +194,7 @@ public final class SimulationDispatcher implements Dispatcher {
                 break;
             }
 
+            executedTasks++;
             task.run();
         }
     }
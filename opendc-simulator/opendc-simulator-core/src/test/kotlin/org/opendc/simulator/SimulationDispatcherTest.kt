@@ -104,4 +104,26 @@ class SimulationDispatcherTest {
         assertThrows<IllegalArgumentException> { scheduler.schedule(-100) { } }
         assertThrows<IllegalArgumentException> { scheduler.advanceBy(-100) }
     }
+
+    /**
+     * Test the bookkeeping of the pending and executed tasks.
+     */
+    @Test
+    fun testNextDeadline() {
+        val scheduler = SimulationDispatcher()
+
+        assertEquals(Long.MAX_VALUE, scheduler.nextDeadline)
+        assertEquals(0, scheduler.executedTaskCount)
+
+        scheduler.schedule(5) { }
+        val handle = scheduler.scheduleCancellable(2) { }
+        assertEquals(2, scheduler.nextDeadline)
+
+        handle.cancel()
+        assertEquals(5, scheduler.nextDeadline)
+
+        scheduler.advanceUntilIdle()
+        assertEquals(Long.MAX_VALUE, scheduler.nextDeadline)
+        assertEquals(1, scheduler.executedTaskCount)
+    }
 }
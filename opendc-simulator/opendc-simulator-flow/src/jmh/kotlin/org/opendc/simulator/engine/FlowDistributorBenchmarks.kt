@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.simulator.engine
+
+import org.opendc.simulator.SimulationDispatcher
+import org.opendc.simulator.engine.engine.FlowEngine
+import org.opendc.simulator.engine.graph.FlowEdge
+import org.opendc.simulator.engine.graph.distributionPolicies.FlowDistributorFactory
+import org.opendc.simulator.engine.graph.distributionPolicies.FlowDistributorFactory.DistributionPolicy
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmark suite for the [DistributionPolicy] implementations of the [org.opendc.simulator.engine.graph.FlowDistributor].
+ *
+ * A single supplier is shared by [consumers] consumers through a distributor. The supplier can only satisfy half of
+ * the expected total demand, so the distribution policy is exercised on every update.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+class FlowDistributorBenchmarks {
+    @Param("BEST_EFFORT", "EQUAL_SHARE", "FIRST_FIT", "FIXED_SHARE", "MAX_MIN_FAIRNESS")
+    private var policy: DistributionPolicy = DistributionPolicy.MAX_MIN_FAIRNESS
+
+    @Param("8", "64")
+    private var consumers: Int = 0
+
+    @Param("1000")
+    private var fragments: Int = 0
+
+    private lateinit var traces: Array<SyntheticTrace>
+
+    @Setup
+    fun setUp() {
+        DistributionPolicy.BEST_EFFORT.setProperty("updateIntervalLength", 1000L)
+        DistributionPolicy.FIXED_SHARE.setProperty("shareRatio", 1.0)
+
+        traces = SyntheticTrace.generate(consumers, fragments, maxDemand = 1000.0)
+    }
+
+    @Benchmark
+    fun benchmarkDistributor() {
+        val dispatcher = SimulationDispatcher()
+        val engine = FlowEngine.create(dispatcher)
+
+        val supplier = SyntheticSupplier(engine, consumers * 250.0)
+        val distributor = FlowDistributorFactory.getFlowDistributor(engine, policy)
+        FlowEdge(distributor, supplier)
+
+        for (trace in traces) {
+            SyntheticConsumer(engine, distributor, trace)
+        }
+
+        dispatcher.advanceUntilIdle()
+    }
+}
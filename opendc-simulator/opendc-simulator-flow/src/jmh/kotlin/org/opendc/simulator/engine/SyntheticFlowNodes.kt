@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.simulator.engine
+
+import org.opendc.simulator.engine.engine.FlowEngine
+import org.opendc.simulator.engine.graph.FlowConsumer
+import org.opendc.simulator.engine.graph.FlowEdge
+import org.opendc.simulator.engine.graph.FlowNode
+import org.opendc.simulator.engine.graph.FlowSupplier
+import java.util.SplittableRandom
+import kotlin.math.min
+
+/**
+ * A synthetic trace of fragments for a single [SyntheticConsumer].
+ *
+ * @property durations The duration of each fragment (in milliseconds).
+ * @property demands The demand of each fragment.
+ */
+internal class SyntheticTrace(
+    @JvmField val durations: LongArray,
+    @JvmField val demands: DoubleArray,
+) {
+    companion object {
+        /**
+         * Generate [count] traces of [fragments] fragments each with demands up to [maxDemand].
+         */
+        fun generate(
+            count: Int,
+            fragments: Int,
+            maxDemand: Double,
+            seed: Long = 0,
+        ): Array<SyntheticTrace> {
+            val random = SplittableRandom(seed)
+            return Array(count) {
+                SyntheticTrace(
+                    LongArray(fragments) { random.nextLong(1_000, 300_000) },
+                    DoubleArray(fragments) { random.nextDouble(0.0, maxDemand) },
+                )
+            }
+        }
+    }
+}
+
+/**
+ * A [FlowSupplier] with a fixed capacity that supplies a single consumer.
+ */
+internal class SyntheticSupplier(
+    engine: FlowEngine,
+    private val capacity: Double,
+) : FlowNode(engine), FlowSupplier {
+    private var consumerEdge: FlowEdge? = null
+    private var demand = 0.0
+
+    override fun onUpdate(now: Long): Long {
+        consumerEdge?.pushSupply(min(demand, capacity))
+        return Long.MAX_VALUE
+    }
+
+    override fun handleIncomingDemand(
+        consumerEdge: FlowEdge,
+        newDemand: Double,
+    ) {
+        demand = newDemand
+        invalidate()
+    }
+
+    override fun pushOutgoingSupply(
+        consumerEdge: FlowEdge,
+        newSupply: Double,
+    ) {
+        consumerEdge.pushSupply(newSupply)
+    }
+
+    override fun addConsumerEdge(consumerEdge: FlowEdge) {
+        this.consumerEdge = consumerEdge
+    }
+
+    override fun removeConsumerEdge(consumerEdge: FlowEdge) {
+        this.consumerEdge = null
+    }
+
+    override fun getCapacity(): Double = capacity
+
+    override fun getConnectedEdges(): Map<FlowEdge.NodeType, List<FlowEdge>> =
+        mapOf(FlowEdge.NodeType.SUPPLYING to listOfNotNull(consumerEdge))
+}
+
+/**
+ * A [FlowConsumer] that replays a [SyntheticTrace] and closes itself when the trace is exhausted.
+ */
+internal class SyntheticConsumer(
+    engine: FlowEngine,
+    supplier: FlowSupplier,
+    private val trace: SyntheticTrace,
+) : FlowNode(engine), FlowConsumer {
+    private var supplierEdge: FlowEdge? = FlowEdge(this, supplier)
+    private var index = -1
+    private var fragmentEnd = Long.MIN_VALUE
+
+    override fun onUpdate(now: Long): Long {
+        if (now < fragmentEnd) {
+            return fragmentEnd
+        }
+
+        if (++index >= trace.durations.size) {
+            closeNode()
+            return Long.MAX_VALUE
+        }
+
+        fragmentEnd = now + trace.durations[index]
+        supplierEdge?.pushDemand(trace.demands[index])
+        return fragmentEnd
+    }
+
+    override fun handleIncomingSupply(
+        supplierEdge: FlowEdge,
+        newSupply: Double,
+    ) {}
+
+    override fun pushOutgoingDemand(
+        supplierEdge: FlowEdge,
+        newDemand: Double,
+    ) {
+        supplierEdge.pushDemand(newDemand)
+    }
+
+    override fun addSupplierEdge(supplierEdge: FlowEdge) {
+        this.supplierEdge = supplierEdge
+    }
+
+    override fun removeSupplierEdge(supplierEdge: FlowEdge) {
+        this.supplierEdge = null
+    }
+
+    override fun getConnectedEdges(): Map<FlowEdge.NodeType, List<FlowEdge>> =
+        mapOf(FlowEdge.NodeType.CONSUMING to listOfNotNull(supplierEdge))
+}
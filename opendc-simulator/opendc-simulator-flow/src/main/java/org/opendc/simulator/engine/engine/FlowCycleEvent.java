@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.simulator.engine.engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A JFR event emitted for every cycle of an instrumented {@link FlowEngine}.
+ */
+@Name("org.opendc.flow.EngineCycle")
+@Label("Flow Engine Cycle")
+@Category({"OpenDC", "Flow Engine"})
+@Description("A single cycle of the flow engine, running all updates due at a virtual timestamp")
+@StackTrace(false)
+final class FlowCycleEvent extends jdk.jfr.Event {
+    @Label("Virtual Time")
+    @Timespan(Timespan.MILLISECONDS)
+    long virtualTime;
+
+    @Label("Updates")
+    int updates;
+
+    @Label("Peak Cycle Queue Size")
+    int peakCycleQueueSize;
+
+    @Label("Event Queue Depth")
+    int eventQueueDepth;
+}
@@ -85,6 +85,14 @@ final class FlowCycleQueue {
         return ctx;
     }
 
+    /**
+     * Return the number of {@link FlowNode}s in the queue.
+     */
+    int size() {
+        int size = tail - head;
+        return size < 0 ? size + nodeQueue.length : size;
+    }
+
     /**
      * Doubles the capacity of this deque
      */
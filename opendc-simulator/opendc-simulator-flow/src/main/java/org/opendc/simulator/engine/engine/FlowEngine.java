@@ -55,6 +55,26 @@ public final class FlowEngine implements Runnable {
      */
     private boolean active;
 
+    /**
+     * The number of engine cycles that have run.
+     */
+    private long cycleCount;
+
+    /**
+     * The number of {@link FlowNode} updates that have run across all engine cycles.
+     */
+    private long updateCount;
+
+    /**
+     * The largest number of {@link FlowNode} updates that have run in a single engine cycle.
+     */
+    private int maxUpdatesPerCycle;
+
+    /**
+     * The instrumentation to report the work of the engine to, or <code>null</code> if the engine is not instrumented.
+     */
+    private FlowEngineInstrumentation instrumentation;
+
     private final Dispatcher dispatcher;
     private final InstantSource clock;
 
@@ -77,6 +97,64 @@ public final class FlowEngine implements Runnable {
         return clock;
     }
 
+    /**
+     * Obtain the {@link Dispatcher} on which the engine runs.
+     */
+    public Dispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    /**
+     * Determine whether the engine is currently running a cycle.
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Return the number of engine cycles that have run.
+     */
+    public long getCycleCount() {
+        return cycleCount;
+    }
+
+    /**
+     * Return the number of {@link FlowNode} updates that have run across all engine cycles.
+     */
+    public long getUpdateCount() {
+        return updateCount;
+    }
+
+    /**
+     * Return the average number of {@link FlowNode} updates per engine cycle.
+     */
+    public double getUpdatesPerCycle() {
+        return cycleCount > 0 ? (double) updateCount / cycleCount : 0.0;
+    }
+
+    /**
+     * Return the largest number of {@link FlowNode} updates that have run in a single engine cycle.
+     */
+    public int getMaxUpdatesPerCycle() {
+        return maxUpdatesPerCycle;
+    }
+
+    /**
+     * Return the {@link FlowEngineInstrumentation} of this engine or <code>null</code> if it is not instrumented.
+     */
+    public FlowEngineInstrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    /**
+     * Set the {@link FlowEngineInstrumentation} to report the work of this engine to.
+     *
+     * @param instrumentation The instrumentation to use, or <code>null</code> to disable instrumentation.
+     */
+    public void setInstrumentation(FlowEngineInstrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+    }
+
     /**
      * Enqueue the specified {@link FlowNode} to be updated immediately during the active engine cycle.
      * <p>
@@ -139,36 +217,29 @@ public final class FlowEngine implements Runnable {
      * Run all the enqueued actions for the specified timestamp (<code>now</code>).
      */
     private void doRunEngine(long now) {
-        final FlowCycleQueue cycleQueue = this.cycleQueue;
         final FlowEventQueue eventQueue = this.eventQueue;
+        final FlowEngineInstrumentation instrumentation = this.instrumentation;
+        int updates;
 
         try {
             // Mark the engine as active to prevent concurrent calls to this method
             active = true;
 
-            // Execute all scheduled updates at current timestamp
-            while (true) {
-                final FlowNode ctx = eventQueue.poll(now);
-                if (ctx == null) {
-                    break;
-                }
-
-                ctx.update(now);
-            }
-
-            // Execute all immediate updates
-            while (true) {
-                final FlowNode ctx = cycleQueue.poll();
-                if (ctx == null) {
-                    break;
-                }
-
-                ctx.update(now);
+            if (instrumentation == null) {
+                updates = runUpdates(now);
+            } else {
+                updates = runInstrumentedUpdates(now, instrumentation);
             }
         } finally {
             active = false;
         }
 
+        cycleCount++;
+        updateCount += updates;
+        if (updates > maxUpdatesPerCycle) {
+            maxUpdatesPerCycle = updates;
+        }
+
         // Schedule an engine invocation for the next update to occur.
         long headDeadline = eventQueue.peekDeadline();
         if (headDeadline != Long.MAX_VALUE && headDeadline >= now) {
@@ -176,6 +247,115 @@ public final class FlowEngine implements Runnable {
         }
     }
 
+    /**
+     * Run the scheduled and immediate updates at the specified timestamp.
+     *
+     * @return The number of updates that were run.
+     */
+    private int runUpdates(long now) {
+        final FlowCycleQueue cycleQueue = this.cycleQueue;
+        final FlowEventQueue eventQueue = this.eventQueue;
+        int updates = 0;
+
+        // Execute all scheduled updates at current timestamp
+        while (true) {
+            final FlowNode ctx = eventQueue.poll(now);
+            if (ctx == null) {
+                break;
+            }
+
+            ctx.update(now);
+            updates++;
+        }
+
+        // Execute all immediate updates
+        while (true) {
+            final FlowNode ctx = cycleQueue.poll();
+            if (ctx == null) {
+                break;
+            }
+
+            ctx.update(now);
+            updates++;
+        }
+
+        return updates;
+    }
+
+    /**
+     * Run the scheduled and immediate updates at the specified timestamp, reporting the work done to the specified
+     * {@link FlowEngineInstrumentation}.
+     *
+     * @return The number of updates that were run.
+     */
+    private int runInstrumentedUpdates(long now, FlowEngineInstrumentation instrumentation) {
+        final FlowCycleQueue cycleQueue = this.cycleQueue;
+        final FlowEventQueue eventQueue = this.eventQueue;
+        final FlowCycleEvent cycleEvent = new FlowCycleEvent();
+        int updates = 0;
+        int peakCycleQueueSize = cycleQueue.size();
+
+        cycleEvent.begin();
+        long cycleStart = System.nanoTime();
+
+        // Execute all scheduled updates at current timestamp
+        while (true) {
+            final FlowNode ctx = eventQueue.poll(now);
+            if (ctx == null) {
+                break;
+            }
+
+            runInstrumentedUpdate(ctx, now, instrumentation);
+            updates++;
+        }
+
+        // Execute all immediate updates
+        while (true) {
+            peakCycleQueueSize = Math.max(peakCycleQueueSize, cycleQueue.size());
+
+            final FlowNode ctx = cycleQueue.poll();
+            if (ctx == null) {
+                break;
+            }
+
+            runInstrumentedUpdate(ctx, now, instrumentation);
+            updates++;
+        }
+
+        int eventQueueDepth = eventQueue.size();
+        instrumentation.recordCycle(updates, peakCycleQueueSize, eventQueueDepth, System.nanoTime() - cycleStart);
+
+        cycleEvent.end();
+        if (cycleEvent.shouldCommit()) {
+            cycleEvent.virtualTime = now;
+            cycleEvent.updates = updates;
+            cycleEvent.peakCycleQueueSize = peakCycleQueueSize;
+            cycleEvent.eventQueueDepth = eventQueueDepth;
+            cycleEvent.commit();
+        }
+
+        return updates;
+    }
+
+    /**
+     * Update the specified {@link FlowNode} and report the wall time of the update.
+     */
+    private static void runInstrumentedUpdate(FlowNode ctx, long now, FlowEngineInstrumentation instrumentation) {
+        final FlowNodeUpdateEvent updateEvent = new FlowNodeUpdateEvent();
+        updateEvent.begin();
+        long start = System.nanoTime();
+
+        ctx.update(now);
+
+        instrumentation.recordUpdate(ctx, System.nanoTime() - start);
+
+        updateEvent.end();
+        if (updateEvent.shouldCommit()) {
+            updateEvent.nodeClass = ctx.getClass();
+            updateEvent.commit();
+        }
+    }
+
     @Override
     public void run() {
         doRunEngine(futureInvocations.poll());
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.simulator.engine.engine;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.opendc.simulator.engine.graph.FlowNode;
+
+/**
+ * Collects statistics about the work done by one or more {@link FlowEngine}s: the number of cycles, the size of the
+ * queues, and the number of updates and the wall time spent per {@link FlowNode} class.
+ * <p>
+ * Instrumentation is opt-in, see {@link FlowEngine#setInstrumentation(FlowEngineInstrumentation)}. Engines without
+ * instrumentation do not pay for it beyond a single branch per cycle. Every cycle is additionally reported as a
+ * {@link FlowCycleEvent} to Java Flight Recorder, and every update as a (disabled by default)
+ * {@link FlowNodeUpdateEvent}.
+ * <p>
+ * This class is not thread-safe and must only be shared between engines driven by the same dispatcher.
+ */
+public final class FlowEngineInstrumentation {
+    /**
+     * The statistics per {@link FlowNode} class.
+     */
+    private final Map<Class<?>, NodeStats> nodeStats = new HashMap<>();
+
+    /**
+     * The class of the last updated node and its statistics, since updates of the same class tend to be clustered.
+     */
+    private Class<?> lastClass;
+
+    private NodeStats lastStats;
+
+    private long cycleCount;
+    private long updateCount;
+    private long wallTime;
+    private int maxUpdatesPerCycle;
+    private int maxCycleQueueSize;
+    private int maxEventQueueDepth;
+    private long eventQueueDepthSum;
+
+    /**
+     * Record the update of the specified node.
+     *
+     * @param node The node that was updated.
+     * @param elapsed The wall time spent in the update (in nanoseconds).
+     */
+    void recordUpdate(FlowNode node, long elapsed) {
+        Class<?> nodeClass = node.getClass();
+        NodeStats stats = this.lastStats;
+
+        if (nodeClass != this.lastClass) {
+            stats = nodeStats.computeIfAbsent(nodeClass, NodeStats::new);
+            this.lastClass = nodeClass;
+            this.lastStats = stats;
+        }
+
+        stats.updates++;
+        stats.wallTime += elapsed;
+    }
+
+    /**
+     * Record the completion of an engine cycle.
+     *
+     * @param updates The number of node updates in the cycle.
+     * @param peakCycleQueueSize The largest size of the cycle queue during the cycle.
+     * @param eventQueueDepth The number of pending timers at the end of the cycle.
+     * @param elapsed The wall time spent in the cycle (in nanoseconds).
+     */
+    void recordCycle(int updates, int peakCycleQueueSize, int eventQueueDepth, long elapsed) {
+        cycleCount++;
+        updateCount += updates;
+        wallTime += elapsed;
+        eventQueueDepthSum += eventQueueDepth;
+
+        maxUpdatesPerCycle = Math.max(maxUpdatesPerCycle, updates);
+        maxCycleQueueSize = Math.max(maxCycleQueueSize, peakCycleQueueSize);
+        maxEventQueueDepth = Math.max(maxEventQueueDepth, eventQueueDepth);
+    }
+
+    /**
+     * Return the number of engine cycles that have been recorded.
+     */
+    public long getCycleCount() {
+        return cycleCount;
+    }
+
+    /**
+     * Return the number of node updates that have been recorded.
+     */
+    public long getUpdateCount() {
+        return updateCount;
+    }
+
+    /**
+     * Return the wall time spent in the recorded engine cycles (in nanoseconds).
+     */
+    public long getWallTime() {
+        return wallTime;
+    }
+
+    /**
+     * Return the largest number of node updates in a single engine cycle.
+     */
+    public int getMaxUpdatesPerCycle() {
+        return maxUpdatesPerCycle;
+    }
+
+    /**
+     * Return the largest size of the cycle queue observed during an engine cycle.
+     */
+    public int getMaxCycleQueueSize() {
+        return maxCycleQueueSize;
+    }
+
+    /**
+     * Return the largest number of pending timers observed at the end of an engine cycle.
+     */
+    public int getMaxEventQueueDepth() {
+        return maxEventQueueDepth;
+    }
+
+    /**
+     * Return the average number of pending timers at the end of an engine cycle.
+     */
+    public double getMeanEventQueueDepth() {
+        return cycleCount > 0 ? (double) eventQueueDepthSum / cycleCount : 0.0;
+    }
+
+    /**
+     * Return the statistics per {@link FlowNode} class, ordered by descending wall time.
+     */
+    public List<NodeStats> getNodeStats() {
+        List<NodeStats> result = new ArrayList<>(nodeStats.values());
+        result.sort(Comparator.comparingLong(NodeStats::getWallTime).reversed());
+        return result;
+    }
+
+    /**
+     * Emit a {@link FlowNodeProfileEvent} for every {@link FlowNode} class to Java Flight Recorder.
+     */
+    public void commitProfile() {
+        for (NodeStats stats : nodeStats.values()) {
+            FlowNodeProfileEvent event = new FlowNodeProfileEvent();
+            if (!event.isEnabled()) {
+                return;
+            }
+
+            event.nodeClass = stats.nodeClass;
+            event.updates = stats.updates;
+            event.wallTime = stats.wallTime;
+            event.commit();
+        }
+    }
+
+    /**
+     * Format the collected statistics as a human-readable table.
+     */
+    public String getSummary() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append(String.format(
+                Locale.ROOT,
+                "Flow engine: %d cycles, %d updates (%.2f per cycle, max %d), %.1f ms%n",
+                cycleCount,
+                updateCount,
+                cycleCount > 0 ? (double) updateCount / cycleCount : 0.0,
+                maxUpdatesPerCycle,
+                wallTime / 1e6));
+        sb.append(String.format(
+                Locale.ROOT,
+                "Queues: max cycle queue %d, event queue depth %.1f mean, %d max%n",
+                maxCycleQueueSize,
+                getMeanEventQueueDepth(),
+                maxEventQueueDepth));
+        sb.append(String.format(
+                Locale.ROOT, "%-40s %14s %8s %12s %10s%n", "Node class", "Updates", "Share", "Time (ms)", "Avg (ns)"));
+
+        for (NodeStats stats : getNodeStats()) {
+            sb.append(String.format(
+                    Locale.ROOT,
+                    "%-40s %14d %7.1f%% %12.1f %10.0f%n",
+                    stats.nodeClass.getSimpleName(),
+                    stats.updates,
+                    updateCount > 0 ? 100.0 * stats.updates / updateCount : 0.0,
+                    stats.wallTime / 1e6,
+                    (double) stats.wallTime / stats.updates));
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "FlowEngineInstrumentation[cycles=" + cycleCount + ",updates=" + updateCount + "]";
+    }
+
+    /**
+     * The statistics collected for a single {@link FlowNode} class.
+     */
+    public static final class NodeStats {
+        private final Class<?> nodeClass;
+        private long updates;
+        private long wallTime;
+
+        NodeStats(Class<?> nodeClass) {
+            this.nodeClass = nodeClass;
+        }
+
+        /**
+         * Return the {@link FlowNode} class these statistics belong to.
+         */
+        public Class<?> getNodeClass() {
+            return nodeClass;
+        }
+
+        /**
+         * Return the number of updates of nodes of this class.
+         */
+        public long getUpdates() {
+            return updates;
+        }
+
+        /**
+         * Return the wall time spent in the updates of nodes of this class (in nanoseconds).
+         */
+        public long getWallTime() {
+            return wallTime;
+        }
+    }
+}
@@ -120,6 +120,13 @@ public final class FlowEventQueue {
         return Long.MAX_VALUE;
     }
 
+    /**
+     * Return the number of nodes with a pending timer in the queue.
+     */
+    public int size() {
+        return this.size;
+    }
+
     /**
      * Add a new entry to the queue.
      */
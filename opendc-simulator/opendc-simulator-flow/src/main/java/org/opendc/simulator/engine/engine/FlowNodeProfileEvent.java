@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.simulator.engine.engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A JFR event summarizing the updates of a single {@link org.opendc.simulator.engine.graph.FlowNode} class, emitted
+ * by {@link FlowEngineInstrumentation#commitProfile()}.
+ */
+@Name("org.opendc.flow.NodeProfile")
+@Label("Flow Node Profile")
+@Category({"OpenDC", "Flow Engine"})
+@Description("The number of updates and the wall time spent in the updates of a node class")
+@StackTrace(false)
+final class FlowNodeProfileEvent extends jdk.jfr.Event {
+    @Label("Node Class")
+    Class<?> nodeClass;
+
+    @Label("Updates")
+    long updates;
+
+    @Label("Wall Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long wallTime;
+}
@@ -46,7 +46,17 @@ import org.slf4j.LoggerFactory;
  */
 public abstract class FlowDistributor extends FlowNode implements FlowSupplier, FlowConsumer {
     protected static final Logger LOGGER = LoggerFactory.getLogger(FlowDistributor.class);
+
+    /**
+     * The minimum number of empty consumer slots before the consumers are compacted.
+     */
+    private static final int COMPACTION_THRESHOLD = 32;
+
+    // Consumers are stored in slots indexed by the consumerIndex of the FlowEdge. The slot of a removed consumer is
+    // emptied (null edge, zero demand and supply) instead of shifting all later consumers, and the empty slots are
+    // compacted in bulk before an update once they outnumber the remaining consumers.
     protected final ArrayList<FlowEdge> consumerEdges = new ArrayList<>();
+    protected int consumerCount; // The number of non-empty consumer slots
     protected HashMap<Integer, FlowEdge> supplierEdges =
             new HashMap<>(); // The suppliers that provide supply to this distributor
 
@@ -85,6 +95,9 @@ public abstract class FlowDistributor extends FlowNode implements FlowSupplier,
     }
 
     public long onUpdate(long now) {
+        if (this.shouldCompactConsumers()) {
+            this.compactConsumers();
+        }
 
         // Check if current supply is different from total demand
         if (this.outgoingDemandUpdateNeeded) {
@@ -93,7 +106,7 @@ public abstract class FlowDistributor extends FlowNode implements FlowSupplier,
             return Long.MAX_VALUE;
         }
 
-        if (!this.outgoingSupplies.isEmpty()) {
+        if (this.consumerCount > 0) {
             this.updateOutgoingSupplies();
         }
 
@@ -107,6 +120,55 @@ public abstract class FlowDistributor extends FlowNode implements FlowSupplier,
     public abstract double[] distributeSupply(
             ArrayList<Double> demands, ArrayList<Double> currentSupply, double totalSupply);
 
+    /**
+     * Determine whether the empty consumer slots should be compacted before the next update.
+     * Distributors that depend on dense consumer indices (e.g., for round-robin ordering) may compact eagerly.
+     */
+    protected boolean shouldCompactConsumers() {
+        int emptySlots = this.consumerEdges.size() - this.consumerCount;
+        return emptySlots > Math.max(COMPACTION_THRESHOLD, this.consumerCount);
+    }
+
+    /**
+     * Remove the empty slots of removed consumers, preserving the order of the remaining consumers.
+     */
+    protected void compactConsumers() {
+        int size = this.consumerEdges.size();
+
+        // Remember which consumers updated their demand, as their indices change
+        ArrayList<FlowEdge> updatedEdges = new ArrayList<>(this.updatedDemands.size());
+        for (int idx : this.updatedDemands) {
+            updatedEdges.add(this.consumerEdges.get(idx));
+        }
+
+        int next = 0;
+        for (int idx = 0; idx < size; idx++) {
+            FlowEdge edge = this.consumerEdges.get(idx);
+
+            if (edge == null) {
+                continue;
+            }
+
+            if (idx != next) {
+                this.consumerEdges.set(next, edge);
+                this.incomingDemands.set(next, this.incomingDemands.get(idx));
+                this.outgoingSupplies.set(next, this.outgoingSupplies.get(idx));
+                edge.setConsumerIndex(next);
+            }
+
+            next++;
+        }
+
+        this.consumerEdges.subList(next, size).clear();
+        this.incomingDemands.subList(next, size).clear();
+        this.outgoingSupplies.subList(next, size).clear();
+
+        this.updatedDemands.clear();
+        for (FlowEdge edge : updatedEdges) {
+            this.updatedDemands.add(edge.getConsumerIndex());
+        }
+    }
+
     /**
      * Add a new consumer.
      * Set its demand and supply to 0.0
@@ -118,6 +180,7 @@ public abstract class FlowDistributor extends FlowNode implements FlowSupplier,
         this.consumerEdges.add(consumerEdge);
         this.incomingDemands.add(0.0);
         this.outgoingSupplies.add(0.0);
+        this.consumerCount++;
         this.consumerResourceType = consumerEdge.getConsumerResourceType();
         this.outgoingDemandUpdateNeeded = true;
     }
@@ -146,29 +209,22 @@ public abstract class FlowDistributor extends FlowNode implements FlowSupplier,
         // Remove idx from consumers that updated their demands
         this.updatedDemands.remove(idx);
 
-        this.consumerEdges.remove(idx);
-        this.incomingDemands.remove(idx);
-        this.outgoingSupplies.remove(idx);
-
-        // update the consumer index for all consumerEdges higher than this.
-        for (int i = idx; i < this.consumerEdges.size(); i++) {
-            FlowEdge other = this.consumerEdges.get(i);
-
-            other.setConsumerIndex(other.getConsumerIndex() - 1);
-        }
-
-        HashSet<Integer> newUpdatedDemands = new HashSet<>();
-
-        for (int idx_other : this.updatedDemands) {
-            if (idx_other > idx) {
-                newUpdatedDemands.add(idx_other - 1);
-            } else {
-                newUpdatedDemands.add(idx_other);
-            }
+        // Empty the slot of the consumer, so the indices of the other consumers remain valid
+        this.consumerEdges.set(idx, null);
+        this.incomingDemands.set(idx, 0.0);
+        this.outgoingSupplies.set(idx, 0.0);
+        this.consumerCount--;
+        consumerEdge.setConsumerIndex(-1);
+
+        // Trailing empty slots can be dropped directly
+        int last = this.consumerEdges.size() - 1;
+        while (last >= 0 && this.consumerEdges.get(last) == null) {
+            this.consumerEdges.remove(last);
+            this.incomingDemands.remove(last);
+            this.outgoingSupplies.remove(last);
+            last--;
         }
 
-        this.updatedDemands = newUpdatedDemands;
-
         this.outgoingDemandUpdateNeeded = true;
         this.invalidate();
     }
@@ -233,7 +289,7 @@ public abstract class FlowDistributor extends FlowNode implements FlowSupplier,
 
     @Override
     public void pushOutgoingDemand(FlowEdge supplierEdge, double newDemand) {
-        supplierEdge.pushDemand(newDemand, false, this.getSupplierResourceType(), this.consumerEdges.size());
+        supplierEdge.pushDemand(newDemand, false, this.getSupplierResourceType(), this.consumerCount);
     }
 
     @Override
@@ -254,11 +310,23 @@ public abstract class FlowDistributor extends FlowNode implements FlowSupplier,
 
     @Override
     public Map<FlowEdge.NodeType, List<FlowEdge>> getConnectedEdges() {
-        return Map.of(
-                FlowEdge.NodeType.CONSUMING,
-                this.consumerEdges,
-                FlowEdge.NodeType.SUPPLYING,
-                new ArrayList<>(this.supplierEdges.values()));
+        // Removed suppliers are neutralized to null to keep their indices stable
+        List<FlowEdge> supplyingEdges = new ArrayList<>();
+        for (FlowEdge edge : this.supplierEdges.values()) {
+            if (edge != null) {
+                supplyingEdges.add(edge);
+            }
+        }
+
+        // Removed consumers leave empty slots until the consumers are compacted
+        List<FlowEdge> consumingEdges = new ArrayList<>(this.consumerCount);
+        for (FlowEdge edge : this.consumerEdges) {
+            if (edge != null) {
+                consumingEdges.add(edge);
+            }
+        }
+
+        return Map.of(FlowEdge.NodeType.CONSUMING, consumingEdges, FlowEdge.NodeType.SUPPLYING, supplyingEdges);
     }
 
     @Override
@@ -40,9 +40,9 @@ public class FlowEdge {
     private double demand = 0.0;
     private double supply = 0.0;
 
-    private final double capacity;
+    private double capacity;
 
-    private final ResourceType resourceType;
+    private ResourceType resourceType;
 
     public enum NodeType {
         CONSUMING,
@@ -63,6 +63,43 @@ public class FlowEdge {
             ResourceType resourceType,
             int consumerIndex,
             int supplierIndex) {
+        connect(consumer, supplier, resourceType, consumerIndex, supplierIndex);
+    }
+
+    /**
+     * Reconnect a closed edge between the specified consumer and supplier, so that the edge can be reused.
+     *
+     * @throws IllegalStateException if the edge is still connected.
+     */
+    public void reset(
+            FlowConsumer consumer,
+            FlowSupplier supplier,
+            ResourceType resourceType,
+            int consumerIndex,
+            int supplierIndex) {
+        if (!isClosed()) {
+            throw new IllegalStateException("Only closed edges can be reset");
+        }
+
+        this.demand = 0.0;
+        this.supply = 0.0;
+
+        connect(consumer, supplier, resourceType, consumerIndex, supplierIndex);
+    }
+
+    /**
+     * Determine whether both ends of the edge have been disconnected.
+     */
+    public boolean isClosed() {
+        return this.consumer == null && this.supplier == null;
+    }
+
+    private void connect(
+            FlowConsumer consumer,
+            FlowSupplier supplier,
+            ResourceType resourceType,
+            int consumerIndex,
+            int supplierIndex) {
         if (!(consumer instanceof FlowNode)) {
             throw new IllegalArgumentException("Flow consumer is not a FlowNode");
         }
@@ -62,11 +62,11 @@ public abstract class FlowNode {
         this.timerIndex = index;
     }
 
-    public Boolean getInCycleQueue() {
+    public boolean getInCycleQueue() {
         return inCycleQueue;
     }
 
-    public void setInCycleQueue(Boolean inCycleQueue) {
+    public void setInCycleQueue(boolean inCycleQueue) {
         this.inCycleQueue = inCycleQueue;
     }
 
@@ -107,7 +107,10 @@ public abstract class FlowNode {
      */
     private int timerIndex = -1;
 
-    private Boolean inCycleQueue = false;
+    /**
+     * Flag to indicate that the node is queued for an update in the current engine cycle.
+     */
+    private boolean inCycleQueue = false;
 
     protected InstantSource clock;
     protected FlowEngine engine;
@@ -126,14 +129,47 @@ public abstract class FlowNode {
 
     public abstract Map<FlowEdge.NodeType, List<FlowEdge>> getConnectedEdges();
 
+    /**
+     * Determine whether the {@link FlowNode} is closed and no longer referenced by the queues of the engine, such that
+     * it can be reopened via {@link #reopen()}.
+     */
+    public boolean isReusable() {
+        return this.nodeState == NodeState.CLOSED && !this.inCycleQueue && this.timerIndex < 0;
+    }
+
+    /**
+     * Reopen a closed {@link FlowNode}, so that the node can be reused in a new part of the flow graph.
+     * <p>
+     * Subclasses are responsible for resetting their own state before connecting the node again.
+     *
+     * @throws IllegalStateException if the node is not reusable.
+     */
+    protected void reopen() {
+        if (!isReusable()) {
+            throw new IllegalStateException("Only closed nodes that are not scheduled can be reopened");
+        }
+
+        this.nodeState = NodeState.PENDING;
+        this.deadline = Long.MAX_VALUE;
+
+        this.invalidate();
+    }
+
     /**
      * Invalidate the {@link FlowNode} forcing the stage to update.
      *
      * <p>
      * This method is similar to {@link #invalidate()}, but allows the user to manually pass the current timestamp to
      * prevent having to re-query the clock. This method should not be called during an update.
+     * <p>
+     * Invalidations of a node that is already queued for an update in the current cycle are coalesced: the pending
+     * update will observe all state changes made before it runs.
      */
     public void invalidate(long now) {
+        if (isPendingUpdate()) {
+            return;
+        }
+
         // If there is already an update running,
         // notify the update, that a next update should be run after
 
@@ -147,9 +183,20 @@ public abstract class FlowNode {
      * Invalidate the {@link FlowNode} forcing the stage to update.
      */
     public void invalidate() {
+        if (isPendingUpdate()) {
+            return;
+        }
+
         invalidate(clock.millis());
     }
 
+    /**
+     * Determine whether the node is already waiting for an update in the current engine cycle.
+     */
+    private boolean isPendingUpdate() {
+        return this.inCycleQueue && this.nodeState == NodeState.INVALIDATED;
+    }
+
     /**
      * Update the state of the stage.
      */
@@ -53,6 +53,14 @@ public class BestEffortFlowDistributor extends FlowDistributor {
         this.lastRoundRobinUpdate = -roundRobinInterval;
     }
 
+    /**
+     * The round-robin order is based on the consumer indices, so the consumers are kept dense.
+     */
+    @Override
+    protected boolean shouldCompactConsumers() {
+        return this.consumerCount != this.consumerEdges.size();
+    }
+
     /**
      * Updates the outgoing demand based on the total incoming demand.
      * Prioritizes already utilized suppliers when potential supply exceeds demand.
@@ -123,7 +131,12 @@ public class BestEffortFlowDistributor extends FlowDistributor {
                     this.totalIncomingSupply);
 
             for (int idx = 0; idx < this.consumerEdges.size(); idx++) {
-                this.pushOutgoingSupply(this.consumerEdges.get(idx), supplies[idx], this.getConsumerResourceType());
+                FlowEdge consumerEdge = this.consumerEdges.get(idx);
+
+                // Skip the empty slots of removed consumers
+                if (consumerEdge != null) {
+                    this.pushOutgoingSupply(consumerEdge, supplies[idx], this.getConsumerResourceType());
+                }
             }
         } else {
             // System is not overloaded - satisfy all demands and utilize remaining capacity
@@ -131,11 +144,12 @@ public class BestEffortFlowDistributor extends FlowDistributor {
             if (this.overloaded) {
                 // Transitioning from overloaded to non-overloaded state
                 for (int idx = 0; idx < this.consumerEdges.size(); idx++) {
-                    if (!Objects.equals(this.outgoingSupplies.get(idx), this.incomingDemands.get(idx))) {
+                    FlowEdge consumerEdge = this.consumerEdges.get(idx);
+
+                    if (consumerEdge != null
+                            && !Objects.equals(this.outgoingSupplies.get(idx), this.incomingDemands.get(idx))) {
                         this.pushOutgoingSupply(
-                                this.consumerEdges.get(idx),
-                                this.incomingDemands.get(idx),
-                                this.getConsumerResourceType());
+                                consumerEdge, this.incomingDemands.get(idx), this.getConsumerResourceType());
                     }
                 }
                 this.overloaded = false;
@@ -242,6 +256,10 @@ public class BestEffortFlowDistributor extends FlowDistributor {
      */
     @Override
     public long onUpdate(long now) {
+        if (this.shouldCompactConsumers()) {
+            this.compactConsumers();
+        }
+
         long nextUpdate = Long.MAX_VALUE;
 
         boolean updateNeeded = false;
@@ -264,11 +282,11 @@ public class BestEffortFlowDistributor extends FlowDistributor {
         }
 
         // Update supplies if needed
-        if (!this.outgoingSupplies.isEmpty() || updateNeeded) {
+        if (this.consumerCount > 0 || updateNeeded) {
             this.updateOutgoingSupplies();
         }
 
-        if (this.consumerEdges.isEmpty() || !this.hasSupplierEdges()) {
+        if (this.consumerCount == 0 || !this.hasSupplierEdges()) {
             nextUpdate = Long.MAX_VALUE;
         }
 
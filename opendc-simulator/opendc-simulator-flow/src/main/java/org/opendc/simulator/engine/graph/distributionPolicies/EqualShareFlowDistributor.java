@@ -66,15 +66,17 @@ public class EqualShareFlowDistributor extends FlowDistributor {
         double[] equalShare = distributeSupply(incomingDemands, outgoingSupplies, this.capacity);
 
         for (var consumerEdge : this.consumerEdges) {
-            this.pushOutgoingSupply(consumerEdge, equalShare[consumerEdge.getConsumerIndex()]);
+            // Skip the empty slots of removed consumers
+            if (consumerEdge != null) {
+                this.pushOutgoingSupply(consumerEdge, equalShare[consumerEdge.getConsumerIndex()]);
+            }
         }
     }
 
     @Override
     public double[] distributeSupply(ArrayList<Double> demands, ArrayList<Double> currentSupply, double totalSupply) {
-        int numConsumers = demands.size();
-        double[] allocation = new double[numConsumers];
-        double equalShare = totalSupply / numConsumers;
+        double[] allocation = new double[demands.size()];
+        double equalShare = totalSupply / this.consumerCount;
 
         // Equal share regardless of individual demands
         Arrays.fill(allocation, equalShare);
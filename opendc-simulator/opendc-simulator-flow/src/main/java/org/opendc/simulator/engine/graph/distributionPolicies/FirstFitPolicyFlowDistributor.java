@@ -90,7 +90,10 @@ public class FirstFitPolicyFlowDistributor extends FlowDistributor {
         double[] shares = distributeSupply(incomingDemands, currentPossibleSupplies, totalIncomingSupply);
 
         for (FlowEdge consumerEdge : this.consumerEdges) {
-            this.pushOutgoingSupply(consumerEdge, shares[consumerEdge.getConsumerIndex()]);
+            // Skip the empty slots of removed consumers
+            if (consumerEdge != null) {
+                this.pushOutgoingSupply(consumerEdge, shares[consumerEdge.getConsumerIndex()]);
+            }
         }
     }
 
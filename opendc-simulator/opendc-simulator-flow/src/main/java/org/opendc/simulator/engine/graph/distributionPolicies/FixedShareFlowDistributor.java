@@ -23,7 +23,7 @@
 package org.opendc.simulator.engine.graph.distributionPolicies;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
 import org.opendc.simulator.engine.engine.FlowEngine;
 import org.opendc.simulator.engine.graph.FlowDistributor;
 import org.opendc.simulator.engine.graph.FlowEdge;
@@ -105,14 +105,16 @@ public class FixedShareFlowDistributor extends FlowDistributor {
 
         // Distribute to each consumer
         int consumerIndex = 0;
-        if (this.consumerEdges.size() == this.supplierEdges.size()) {
+        if (this.consumerCount == this.supplierEdges.size()) {
             for (FlowEdge consumerEdge : this.consumerEdges) {
-                this.pushOutgoingSupply(consumerEdge, this.fixedShare);
+                if (consumerEdge != null) {
+                    this.pushOutgoingSupply(consumerEdge, this.fixedShare);
+                }
             }
         } else {
             double[] supplies = distributeSupply(this.incomingDemands, this.outgoingSupplies, this.totalIncomingSupply);
             for (FlowEdge consumerEdge : this.consumerEdges) {
-                if (supplies[consumerIndex] <= 0.0) {
+                if (consumerEdge == null || supplies[consumerIndex] <= 0.0) {
                     continue;
                 }
                 this.pushOutgoingSupply(consumerEdge, this.fixedShare);
@@ -123,9 +125,11 @@ public class FixedShareFlowDistributor extends FlowDistributor {
     public double[] distributeSupply(ArrayList<Double> demands, ArrayList<Double> currentSupply, double totalSupply) {
         double[] supplies = new double[this.consumerEdges.size()];
 
-        if (this.consumerEdges.size() < this.supplierEdges.size()) {
+        if (this.consumerCount < this.supplierEdges.size()) {
             for (FlowEdge consumerEdge : this.consumerEdges) {
-                supplies[consumerEdge.getConsumerIndex()] = this.fixedShare;
+                if (consumerEdge != null) {
+                    supplies[consumerEdge.getConsumerIndex()] = this.fixedShare;
+                }
             }
         } else {
             // Round-robin approach: prioritize consumers that didn't get resources last time
@@ -166,49 +170,32 @@ public class FixedShareFlowDistributor extends FlowDistributor {
         return supplies;
     }
 
+    /**
+     * The round-robin prioritization is based on the consumer indices, so the consumers are kept dense.
+     */
     @Override
-    // index of not supplied consumers also need to be updated
-    public void removeConsumerEdge(FlowEdge consumerEdge) {
-        int idx = consumerEdge.getConsumerIndex();
-
-        if (idx == -1) {
-            return;
-        }
-
-        this.totalIncomingDemand -= consumerEdge.getDemand();
-
-        // Remove idx from consumers that updated their demands
-        this.updatedDemands.remove(idx);
-
-        this.consumerEdges.remove(idx);
-        this.incomingDemands.remove(idx);
-        this.outgoingSupplies.remove(idx);
-
-        // update the consumer index for all consumerEdges higher than this.
-        for (int i = idx; i < this.consumerEdges.size(); i++) {
-            FlowEdge other = this.consumerEdges.get(i);
+    protected boolean shouldCompactConsumers() {
+        return this.consumerCount != this.consumerEdges.size();
+    }
 
-            other.setConsumerIndex(other.getConsumerIndex() - 1);
+    @Override
+    // index of not supplied consumers also need to be updated
+    protected void compactConsumers() {
+        FlowEdge[] notSuppliedEdges = new FlowEdge[this.notSuppliedConsumers.length];
+        for (int i = 0; i < this.notSuppliedConsumers.length; i++) {
+            int index = this.notSuppliedConsumers[i];
+            notSuppliedEdges[i] = index < this.consumerEdges.size() ? this.consumerEdges.get(index) : null;
         }
 
-        HashSet<Integer> newUpdatedDemands = new HashSet<>();
-        for (int idx_other : this.updatedDemands) {
-            if (idx_other > idx) {
-                newUpdatedDemands.add(idx_other - 1);
-            } else {
-                newUpdatedDemands.add(idx_other);
-            }
-        }
-        this.updatedDemands = newUpdatedDemands;
+        super.compactConsumers();
 
-        // Decrease the index of not supplied consumers
-        for (int i = 0; i < this.notSuppliedConsumers.length; i++) {
-            if (this.notSuppliedConsumers[i] > idx) {
-                this.notSuppliedConsumers[i]--;
+        // Drop the consumers that have been removed in the meantime
+        int count = 0;
+        for (FlowEdge edge : notSuppliedEdges) {
+            if (edge != null) {
+                this.notSuppliedConsumers[count++] = edge.getConsumerIndex();
             }
         }
-
-        this.outgoingDemandUpdateNeeded = true;
-        this.invalidate();
+        this.notSuppliedConsumers = Arrays.copyOf(this.notSuppliedConsumers, count);
     }
 }
@@ -71,7 +71,12 @@ public class MaxMinFairnessFlowDistributor extends FlowDistributor {
                     this.totalIncomingSupply);
 
             for (int idx = 0; idx < this.consumerEdges.size(); idx++) {
-                this.pushOutgoingSupply(this.consumerEdges.get(idx), supplies[idx], this.getConsumerResourceType());
+                FlowEdge consumerEdge = this.consumerEdges.get(idx);
+
+                // Skip the empty slots of removed consumers
+                if (consumerEdge != null) {
+                    this.pushOutgoingSupply(consumerEdge, supplies[idx], this.getConsumerResourceType());
+                }
             }
 
         } else {
@@ -80,11 +85,12 @@ public class MaxMinFairnessFlowDistributor extends FlowDistributor {
             //      provide all consumers with their demand
             if (this.overloaded) {
                 for (int idx = 0; idx < this.consumerEdges.size(); idx++) {
-                    if (!Objects.equals(this.outgoingSupplies.get(idx), this.incomingDemands.get(idx))) {
+                    FlowEdge consumerEdge = this.consumerEdges.get(idx);
+
+                    if (consumerEdge != null
+                            && !Objects.equals(this.outgoingSupplies.get(idx), this.incomingDemands.get(idx))) {
                         this.pushOutgoingSupply(
-                                this.consumerEdges.get(idx),
-                                this.incomingDemands.get(idx),
-                                this.getConsumerResourceType());
+                                consumerEdge, this.incomingDemands.get(idx), this.getConsumerResourceType());
                     }
                 }
                 this.overloaded = false;
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.simulator.engine.engine
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Test
+import org.opendc.simulator.SimulationDispatcher
+import org.opendc.simulator.engine.graph.FlowEdge
+import org.opendc.simulator.engine.graph.FlowNode
+
+/**
+ * Test suite for the [FlowEngine] class.
+ */
+class FlowEngineTest {
+    private val dispatcher = SimulationDispatcher()
+    private val engine = FlowEngine.create(dispatcher)
+
+    @Test
+    fun testCoalescedInvalidations() {
+        val node = CountingNode(engine)
+
+        // The node is already queued by its constructor
+        node.invalidate()
+        node.invalidate()
+        dispatcher.advanceUntilIdle()
+
+        assertEquals(1, node.updates)
+        assertEquals(1, engine.cycleCount)
+        assertEquals(1, engine.updateCount)
+        assertEquals(1, engine.maxUpdatesPerCycle)
+    }
+
+    @Test
+    fun testCoalescedInvalidationsDuringCycle() {
+        val target = CountingNode(engine)
+        val source = CountingNode(engine)
+        dispatcher.advanceUntilIdle()
+
+        source.action = { repeat(3) { target.invalidate() } }
+        source.invalidate()
+        dispatcher.advanceUntilIdle()
+
+        assertEquals(2, source.updates)
+        assertEquals(2, target.updates)
+        assertEquals(2, engine.cycleCount)
+        assertEquals(4, engine.updateCount)
+        assertEquals(2, engine.maxUpdatesPerCycle)
+        assertEquals(2.0, engine.updatesPerCycle)
+    }
+
+    /**
+     * A [FlowNode] without edges that counts its updates.
+     */
+    private class CountingNode(engine: FlowEngine) : FlowNode(engine) {
+        var updates = 0
+        var action: () -> Unit = {}
+
+        override fun onUpdate(now: Long): Long {
+            updates++
+            action()
+            return Long.MAX_VALUE
+        }
+
+        override fun getConnectedEdges(): Map<FlowEdge.NodeType, List<FlowEdge>> = emptyMap()
+    }
+}
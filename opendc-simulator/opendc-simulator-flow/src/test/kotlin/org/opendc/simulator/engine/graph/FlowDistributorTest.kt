@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.simulator.engine.graph
+
+import io.mockk.mockk
+import org.junit.jupiter.api.Assertions.assertArrayEquals
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertSame
+import org.junit.jupiter.api.Test
+import org.opendc.simulator.engine.engine.FlowEngine
+import org.opendc.simulator.engine.graph.distributionPolicies.FixedShareFlowDistributor
+import org.opendc.simulator.engine.graph.distributionPolicies.MaxMinFairnessFlowDistributor
+
+/**
+ * Test suite for the removal and compaction of consumers in [FlowDistributor].
+ */
+class FlowDistributorTest {
+    /**
+     * The engine is only used to schedule updates, which the tests run manually.
+     */
+    private val engine = mockk<FlowEngine>(relaxed = true)
+
+    @Test
+    fun testRemoveConsumerInMiddle() {
+        val distributor = MaxMinFairnessFlowDistributor(engine)
+        val edges = connectConsumers(distributor, 4)
+
+        edges[1].pushDemand(10.0)
+        edges[2].pushDemand(20.0)
+        edges[1].close()
+
+        assertEquals(-1, edges[1].consumerIndex)
+        assertEquals(3, distributor.consumerCount)
+        assertEquals(4, distributor.consumerEdges.size)
+        assertNull(distributor.consumerEdges[1])
+        assertEquals(0.0, distributor.incomingDemands[1])
+        assertEquals(20.0, distributor.totalIncomingDemand)
+        assertEquals(setOf(2), distributor.updatedDemands)
+
+        // The other consumers keep their slots
+        assertEquals(listOf(0, 2, 3), listOf(edges[0], edges[2], edges[3]).map { it.consumerIndex })
+        assertEquals(
+            listOf(edges[0], edges[2], edges[3]),
+            distributor.connectedEdges.getValue(FlowEdge.NodeType.CONSUMING),
+        )
+    }
+
+    @Test
+    fun testRemoveTrailingConsumers() {
+        val distributor = MaxMinFairnessFlowDistributor(engine)
+        val edges = connectConsumers(distributor, 4)
+
+        edges[1].close()
+        edges[3].close()
+
+        assertEquals(3, distributor.consumerEdges.size)
+        assertEquals(3, distributor.incomingDemands.size)
+        assertEquals(3, distributor.outgoingSupplies.size)
+
+        // Dropping the last slot also drops the empty slots before it
+        edges[2].close()
+
+        assertEquals(1, distributor.consumerEdges.size)
+        assertEquals(1, distributor.consumerCount)
+        assertSame(edges[0], distributor.consumerEdges[0])
+    }
+
+    @Test
+    fun testCompactionThreshold() {
+        val distributor = MaxMinFairnessFlowDistributor(engine)
+        val edges = connectConsumers(distributor, 40)
+
+        for (edge in edges.subList(0, 32)) {
+            edge.close()
+        }
+
+        // The empty slots do not outnumber the compaction threshold yet
+        distributor.onUpdate(0)
+        assertEquals(40, distributor.consumerEdges.size)
+
+        edges[32].close()
+        distributor.onUpdate(0)
+
+        val remaining = edges.subList(33, 40)
+        assertEquals(remaining, distributor.consumerEdges)
+        assertEquals((0 until 7).toList(), remaining.map { it.consumerIndex })
+        assertEquals(7, distributor.incomingDemands.size)
+        assertEquals(7, distributor.outgoingSupplies.size)
+    }
+
+    @Test
+    fun testCompactionRemapsUpdatedDemands() {
+        val distributor = MaxMinFairnessFlowDistributor(engine)
+        val edges = connectConsumers(distributor, 40)
+        val consumer = edges[35].consumer as TestConsumer
+
+        edges[35].pushDemand(10.0)
+        for (edge in edges.subList(0, 33)) {
+            edge.close()
+        }
+
+        distributor.onUpdate(0)
+
+        assertEquals(2, edges[35].consumerIndex)
+        assertEquals(setOf(2), distributor.updatedDemands)
+        assertEquals(10.0, distributor.incomingDemands[2])
+
+        // The consumer that updated its demand before the compaction is supplied at its new index
+        distributor.onUpdate(0)
+        assertEquals(10.0, consumer.supply)
+    }
+
+    @Test
+    fun testFixedShareCompactionRemapsNotSuppliedConsumers() {
+        val distributor = FixedShareFlowDistributor(engine, 0.5)
+        val edges = connectConsumers(distributor, 4)
+        distributor.onUpdate(0)
+
+        // The supply allows for two fixed shares of 50, so the last two consumers are not supplied
+        assertArrayEquals(doubleArrayOf(50.0, 50.0, 0.0, 0.0), distribute(distributor))
+
+        edges[0].close()
+        distributor.onUpdate(0)
+
+        // The consumers that were not supplied in the previous round have moved one slot, but are still prioritized
+        assertEquals(listOf(0, 1, 2), edges.subList(1, 4).map { it.consumerIndex })
+        assertArrayEquals(doubleArrayOf(0.0, 50.0, 50.0), distribute(distributor))
+    }
+
+    /**
+     * Helper method to connect a supplier with a capacity of 100 and [count] consumers to the [distributor].
+     */
+    private fun connectConsumers(
+        distributor: FlowDistributor,
+        count: Int,
+    ): List<FlowEdge> {
+        val supplierEdge = FlowEdge(distributor, TestSupplier(engine, 100.0))
+        supplierEdge.pushSupply(100.0)
+
+        return List(count) { FlowEdge(TestConsumer(engine), distributor) }
+    }
+
+    /**
+     * Helper method to distribute the current supply of the [distributor] among its consumers.
+     */
+    private fun distribute(distributor: FlowDistributor): DoubleArray {
+        return distributor.distributeSupply(
+            distributor.incomingDemands,
+            distributor.outgoingSupplies,
+            distributor.currentIncomingSupply,
+        )
+    }
+
+    /**
+     * A [FlowConsumer] that records the supply it receives.
+     */
+    private class TestConsumer(engine: FlowEngine) : FlowNode(engine), FlowConsumer {
+        var supply: Double = 0.0
+
+        override fun onUpdate(now: Long): Long = Long.MAX_VALUE
+
+        override fun getConnectedEdges(): Map<FlowEdge.NodeType, List<FlowEdge>> = emptyMap()
+
+        override fun handleIncomingSupply(
+            supplierEdge: FlowEdge,
+            newSupply: Double,
+        ) {
+            supply = newSupply
+        }
+
+        override fun pushOutgoingDemand(
+            supplierEdge: FlowEdge,
+            newDemand: Double,
+        ) {
+            supplierEdge.pushDemand(newDemand)
+        }
+
+        override fun addSupplierEdge(supplierEdge: FlowEdge) {}
+
+        override fun removeSupplierEdge(supplierEdge: FlowEdge) {}
+    }
+
+    /**
+     * A [FlowSupplier] with a fixed capacity that ignores the demand of its consumer.
+     */
+    private class TestSupplier(engine: FlowEngine, private val capacity: Double) : FlowNode(engine), FlowSupplier {
+        override fun onUpdate(now: Long): Long = Long.MAX_VALUE
+
+        override fun getConnectedEdges(): Map<FlowEdge.NodeType, List<FlowEdge>> = emptyMap()
+
+        override fun handleIncomingDemand(
+            consumerEdge: FlowEdge,
+            newDemand: Double,
+        ) {}
+
+        override fun pushOutgoingSupply(
+            consumerEdge: FlowEdge,
+            newSupply: Double,
+        ) {
+            consumerEdge.pushSupply(newSupply)
+        }
+
+        override fun addConsumerEdge(consumerEdge: FlowEdge) {}
+
+        override fun removeConsumerEdge(consumerEdge: FlowEdge) {}
+
+        override fun getCapacity(): Double = capacity
+    }
+}
@@ -81,7 +81,9 @@ public abstract class ParquetDataWriter<in T>(
             try {
                 while (!shouldStop) {
                     try {
-                        writer.write(queue.take())
+                        val data = queue.take()
+                        writer.write(data)
+                        onWritten(data)
                     } catch (e: InterruptedException) {
                         shouldStop = true
                     }
@@ -89,6 +91,7 @@ public abstract class ParquetDataWriter<in T>(
                     if (queue.drainTo(buf) > 0) {
                         for (data in buf) {
                             writer.write(data)
+                            onWritten(data)
                         }
                         buf.clear()
                     }
@@ -108,6 +111,11 @@ public abstract class ParquetDataWriter<in T>(
         return builder.build()
     }
 
+    /**
+     * Invoked on the writer thread once [data] has been written, after which the writer no longer references it.
+     */
+    protected open fun onWritten(data: T) {}
+
     /**
      * Write the specified metrics to the database.
      */
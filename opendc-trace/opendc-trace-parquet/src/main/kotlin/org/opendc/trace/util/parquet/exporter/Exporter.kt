@@ -43,28 +43,36 @@ public class Exporter<T : Exportable>
         outputFile: File,
         writeSupp: WriteSupport<T>,
         bufferSize: Int,
+        private val writtenCallback: ((T) -> Unit)? = null,
     ) : ParquetDataWriter<T>(
             path = outputFile,
             writeSupport = writeSupp,
             bufferSize = bufferSize,
         ) {
+        override fun onWritten(data: T) {
+            writtenCallback?.invoke(data)
+        }
+
         public companion object {
             /**
              * Reified constructor that allows to use the runtime [Class.getSimpleName] name of [T] as the schema name.
              * @param[outputFile]   the output file where the [Exportable]s will be written.
              * @param[columns]       the columns that will be included in the output parquet file.
              * @param[schemaName]   the name of the schema of the output parquet file.
+             * @param[onWritten]    invoked on the writer thread once a record has been written.
              */
             public inline operator fun <reified T : Exportable> invoke(
                 outputFile: File,
                 vararg columns: ExportColumn<T> = emptyArray(),
                 schemaName: String? = null,
                 bufferSize: Int = 4096,
+                noinline onWritten: ((T) -> Unit)? = null,
             ): Exporter<T> =
                 Exporter(
                     outputFile = outputFile,
                     writeSupp = writeSuppFor(columns.toSet(), schemaName = schemaName ?: T::class.simpleName ?: "unknown"),
                     bufferSize = bufferSize,
+                    writtenCallback = onWritten,
                 )
 
             /**
@@ -72,17 +80,20 @@ public class Exporter<T : Exportable>
              * @param[outputFile]   the output file where the [Exportable]s will be written.
              * @param[columns]       the columns that will be included in the output parquet file.
              * @param[schemaName]   the name of the schema of the output parquet file.
+             * @param[onWritten]    invoked on the writer thread once a record has been written.
              */
             public inline operator fun <reified T : Exportable> invoke(
                 outputFile: File,
                 columns: Collection<ExportColumn<T>> = emptySet(),
                 schemaName: String? = null,
                 bufferSize: Int = 4096,
+                noinline onWritten: ((T) -> Unit)? = null,
             ): Exporter<T> =
                 Exporter(
                     outputFile = outputFile,
                     writeSupp = writeSuppFor(columns.toSet(), schemaName = schemaName ?: T::class.simpleName ?: "unknown"),
                     bufferSize = bufferSize,
+                    writtenCallback = onWritten,
                 )
 
             /**
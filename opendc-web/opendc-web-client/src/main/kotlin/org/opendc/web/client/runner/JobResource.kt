@@ -26,6 +26,7 @@ import org.opendc.web.client.internal.get
 import org.opendc.web.client.internal.post
 import org.opendc.web.client.transport.TransportClient
 import org.opendc.web.proto.runner.Job
+import java.time.Duration
 
 /**
  * A resource representing the available simulation jobs for the runner.
@@ -36,6 +37,19 @@ public class JobResource internal constructor(private val client: TransportClien
      */
     public fun queryPending(): List<Job> = client.get("jobs") ?: emptyList()
 
+    /**
+     * Query the pending jobs, waiting at most [wait] for a job to be queued if no job is pending.
+     */
+    public fun awaitPending(wait: Duration): List<Job> = client.get("jobs?wait=${wait.toWaitSeconds()}") ?: emptyList()
+
+    /**
+     * Claim up to [limit] pending jobs, waiting at most [wait] for a job to be queued if no job is pending.
+     */
+    public fun claim(
+        limit: Int,
+        wait: Duration = Duration.ZERO,
+    ): List<Job> = client.post("jobs/claim", Job.Claim(limit, wait.toWaitSeconds())) ?: emptyList()
+
     /**
      * Obtain the job with [id].
      */
@@ -48,4 +62,17 @@ public class JobResource internal constructor(private val client: TransportClien
         id: Long,
         update: Job.Update,
     ): Job? = client.post("jobs/$id", update)
+
+    /**
+     * Convert this [Duration] into the number of seconds to wait on the server, rounding up, so that a wait shorter
+     * than a second does not turn into a request that returns immediately.
+     */
+    private fun Duration.toWaitSeconds(): Int {
+        if (isNegative || isZero) {
+            return 0
+        }
+
+        val rounded = if (nano > 0) seconds + 1 else seconds
+        return rounded.coerceAtMost(Int.MAX_VALUE.toLong()).toInt()
+    }
 }
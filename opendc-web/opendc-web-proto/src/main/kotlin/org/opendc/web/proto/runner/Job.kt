@@ -48,4 +48,13 @@ public data class Job(
      */
     @Schema(name = "Runner.Job.Update")
     public data class Update(val state: JobState, val runtime: Int, val results: Map<String, Any>? = null)
+
+    /**
+     * A request to claim a batch of pending jobs.
+     *
+     * @property limit The maximum number of jobs to claim.
+     * @property wait The maximum duration (in seconds) to wait for a job to be queued if no job is pending.
+     */
+    @Schema(name = "Runner.Job.Claim")
+    public data class Claim(val limit: Int = 1, val wait: Int = 0)
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.web.proto.user
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema
+
+/**
+ * The statistics of the results of a [Scenario] across the repeats of its simulation.
+ *
+ * @param id The unique identifier of the scenario.
+ * @param number The number of the scenario for the project.
+ * @param name The name of the scenario.
+ * @param metrics The statistics of each metric reported for the scenario.
+ */
+public data class ScenarioStatistics(
+    val id: Long,
+    val number: Int,
+    val name: String,
+    val metrics: Map<String, Metric>,
+) {
+    /**
+     * The statistics of a single metric across the repeats of a scenario.
+     *
+     * @param count The number of repeats that reported the metric.
+     * @param mean The mean value of the metric.
+     * @param stddev The sample standard deviation of the metric.
+     * @param min The minimum value of the metric.
+     * @param p25 The 25th percentile of the metric.
+     * @param median The median value of the metric.
+     * @param p75 The 75th percentile of the metric.
+     * @param p95 The 95th percentile of the metric.
+     * @param max The maximum value of the metric.
+     */
+    @Schema(name = "ScenarioStatistics.Metric")
+    public data class Metric(
+        val count: Int,
+        val mean: Double,
+        val stddev: Double,
+        val min: Double,
+        val p25: Double,
+        val median: Double,
+        val p75: Double,
+        val p95: Double,
+        val max: Double,
+    )
+}
@@ -25,6 +25,7 @@ package org.opendc.web.runner.runtime;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import java.time.Duration;
 
 /**
@@ -57,7 +58,7 @@ public class OpenDCRunnerRuntimeConfig {
     public Duration jobTimeout;
 
     /**
-     * The interval between successive polls to the API.
+     * The maximum duration to wait for a job to be queued in a single request to the API.
      */
     @ConfigItem(defaultValue = "30s")
     public Duration pollInterval;
@@ -67,4 +68,16 @@ public class OpenDCRunnerRuntimeConfig {
      */
     @ConfigItem(defaultValue = "1m")
     public Duration heartbeatInterval;
+
+    /**
+     * The minimum interval between the intermediate results collected from a running simulation.
+     */
+    @ConfigItem(defaultValue = "1m")
+    public Duration progressInterval;
+
+    /**
+     * The approximate amount of memory that the workloads cached across jobs may occupy.
+     */
+    @ConfigItem(defaultValue = "1G")
+    public MemorySize traceCacheSize;
 }
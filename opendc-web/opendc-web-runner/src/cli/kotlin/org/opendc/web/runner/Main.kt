@@ -30,11 +30,13 @@ import com.github.ajalt.clikt.parameters.options.option
 import com.github.ajalt.clikt.parameters.options.required
 import com.github.ajalt.clikt.parameters.types.file
 import com.github.ajalt.clikt.parameters.types.int
+import com.github.ajalt.clikt.parameters.types.long
 import mu.KotlinLogging
 import org.opendc.web.client.auth.OpenIdAuthController
 import org.opendc.web.client.runner.OpenDCRunnerClient
 import java.io.File
 import java.net.URI
+import java.time.Duration
 
 private val logger = KotlinLogging.logger {}
 
@@ -114,12 +116,39 @@ class RunnerCli : CliktCommand(name = "opendc-runner") {
         .int()
         .default(Runtime.getRuntime().availableProcessors() - 1)
 
+    /**
+     * The memory budget of the trace cache.
+     */
+    private val traceCacheSize by option(
+        "--trace-cache-size",
+        help = "approximate memory budget of the trace cache in MiB",
+    )
+        .long()
+        .default(1024)
+
+    /**
+     * The minimum interval between the intermediate results reported for a running simulation.
+     */
+    private val progressInterval by option(
+        "--progress-interval",
+        help = "minimum interval in seconds between intermediate results of a running simulation (0 to disable)",
+    )
+        .long()
+        .default(60)
+
     override fun run() {
         logger.info { "Starting OpenDC web runner" }
 
         val client = OpenDCRunnerClient(baseUrl = apiUrl, OpenIdAuthController(authDomain, authClientId, authClientSecret, authAudience))
         val manager = JobManager(client)
-        val runner = OpenDCRunner(manager, tracePath, parallelism = parallelism)
+        val runner =
+            OpenDCRunner(
+                manager,
+                tracePath,
+                parallelism = parallelism,
+                progressInterval = Duration.ofSeconds(progressInterval),
+                traceCacheSize = traceCacheSize shl 20,
+            )
 
         logger.info { "Watching for queued scenarios" }
         runner.run()
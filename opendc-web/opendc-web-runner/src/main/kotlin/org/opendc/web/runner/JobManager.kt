@@ -25,6 +25,7 @@ package org.opendc.web.runner
 import org.opendc.web.client.runner.OpenDCRunnerClient
 import org.opendc.web.proto.runner.Job
 import org.opendc.web.runner.internal.JobManagerImpl
+import java.time.Duration
 
 /**
  * Interface used by the [OpenDCRunner] to manage the available jobs to be processed.
@@ -40,6 +41,16 @@ public interface JobManager {
      */
     public fun claim(id: Long): Boolean
 
+    /**
+     * Claim up to [limit] pending jobs, waiting at most [timeout] for a job to be queued if no job is pending.
+     *
+     * @return The jobs that have been claimed, which is empty if no job was queued before the timeout.
+     */
+    public fun claimNext(
+        limit: Int,
+        timeout: Duration,
+    ): List<Job>
+
     /**
      * Update the heartbeat of the specified job.
      *
@@ -50,6 +61,20 @@ public interface JobManager {
     public fun heartbeat(
         id: Long,
         runtime: Int,
+    ): Boolean = heartbeat(id, runtime, null)
+
+    /**
+     * Update the heartbeat of the specified job and attach the partial results of the job.
+     *
+     * @param id The identifier of the job.
+     * @param runtime The total runtime of the job.
+     * @param results The partial results of the job or `null` to keep the results reported earlier.
+     * @return `true` if the job can continue, `false` if the job has been cancelled.
+     */
+    public fun heartbeat(
+        id: Long,
+        runtime: Int,
+        results: Map<String, Any>?,
     ): Boolean
 
     /**
@@ -34,7 +34,6 @@ import org.opendc.compute.simulator.service.ComputeService
 import org.opendc.compute.topology.specs.ClusterSpec
 import org.opendc.compute.topology.specs.HostSpec
 import org.opendc.compute.topology.specs.PowerSourceSpec
-import org.opendc.compute.workload.ComputeWorkloadLoader
 import org.opendc.experiments.base.runner.replay
 import org.opendc.simulator.compute.models.CpuModel
 import org.opendc.simulator.compute.models.MachineModel
@@ -44,6 +43,7 @@ import org.opendc.simulator.kotlin.runSimulation
 import org.opendc.web.proto.runner.Job
 import org.opendc.web.proto.runner.Scenario
 import org.opendc.web.proto.runner.Topology
+import org.opendc.web.runner.internal.TraceCache
 import org.opendc.web.runner.internal.WebComputeMonitor
 import java.io.File
 import java.time.Duration
@@ -57,6 +57,7 @@ import java.util.concurrent.ForkJoinWorkerThread
 import java.util.concurrent.RecursiveAction
 import java.util.concurrent.RecursiveTask
 import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.Semaphore
 import java.util.concurrent.TimeUnit
 
 /**
@@ -65,8 +66,11 @@ import java.util.concurrent.TimeUnit
  * @param manager The underlying [JobManager] to manage the available jobs.
  * @param tracePath The directory where the traces are located.
  * @param jobTimeout The maximum duration of a simulation job.
- * @param pollInterval The interval to poll the API with.
- * @param heartbeatInterval The interval to send a heartbeat to the API server.
+ * @param pollInterval The maximum duration to wait for a job to be queued in a single request to the API.
+ * @param heartbeatInterval The interval to send a heartbeat (including the partial results of the job) to the API server.
+ * @param progressInterval The minimum interval between the intermediate results collected from a running simulation, or
+ * [Duration.ZERO] to only report the results of finished repeats.
+ * @param traceCacheSize The approximate number of bytes that the workloads cached across jobs may occupy.
  */
 public class OpenDCRunner(
     private val manager: JobManager,
@@ -75,6 +79,8 @@ public class OpenDCRunner(
     private val jobTimeout: Duration = Duration.ofMinutes(10),
     private val pollInterval: Duration = Duration.ofSeconds(30),
     private val heartbeatInterval: Duration = Duration.ofMinutes(1),
+    private val progressInterval: Duration = Duration.ofMinutes(1),
+    traceCacheSize: Long = 1L shl 30,
 ) : Runnable {
     /**
      * Logging instance for this runner.
@@ -82,9 +88,9 @@ public class OpenDCRunner(
     private val logger = KotlinLogging.logger {}
 
     /**
-     * Helper class to load the workloads.
+     * The cache of the workloads, shared by all simulation jobs.
      */
-    private val workloadLoader = ComputeWorkloadLoader(tracePath)
+    private val traceCache = TraceCache(tracePath, traceCacheSize)
 
     /**
      * The [ForkJoinPool] that is used to execute the simulation jobs.
@@ -98,35 +104,35 @@ public class OpenDCRunner(
      */
     private val scheduler = Executors.newSingleThreadScheduledExecutor()
 
+    /**
+     * The slots available for running simulation jobs, such that the runner only claims the jobs it can start.
+     */
+    private val slots = Semaphore(parallelism)
+
     /**
      * Start the runner process.
      *
-     * This method will block until interrupted and poll the OpenDC API for new jobs to execute.
+     * This method will block until interrupted and wait on the OpenDC API for new jobs to execute.
      */
     override fun run() {
         try {
             while (true) {
-                val job = manager.findNext()
-                if (job == null) {
-                    Thread.sleep(pollInterval.toMillis())
-                    continue
-                }
+                // Wait for a free slot and claim as many jobs as there are free slots
+                slots.acquire()
+                val limit = 1 + slots.drainPermits()
 
-                val id = job.id
+                val jobs = manager.claimNext(limit, pollInterval)
+                slots.release(limit - jobs.size)
 
-                logger.info { "Found queued job $id: attempting to claim" }
-
-                if (!manager.claim(id)) {
-                    logger.info { "Failed to claim scenario" }
-                    continue
+                for (job in jobs) {
+                    logger.info { "Claimed queued job ${job.id}" }
+                    pool.submit(JobAction(job))
                 }
-
-                pool.submit(JobAction(job))
             }
         } catch (_: InterruptedException) {
             // Gracefully exit when the thread is interrupted
         } finally {
-            workloadLoader.reset()
+            traceCache.clear()
 
             pool.shutdown()
             scheduler.shutdown()
@@ -141,19 +147,28 @@ public class OpenDCRunner(
      * @param job The job to simulate.
      */
     private inner class JobAction(private val job: Job) : RecursiveAction() {
+        /**
+         * The monitors of the individual repeats of the job.
+         */
+        private val monitors = List(job.scenario.portfolio.targets.repeats) { WebComputeMonitor(progressInterval) }
+
+        /**
+         * A flag to indicate that the job has completed and no more heartbeats should be sent.
+         */
+        @Volatile
+        private var isDone = false
+
+        private val startTime = Instant.now()
+        private lateinit var currentThread: Thread
+
         override fun compute() {
             val id = job.id
             val scenario = job.scenario
-            val startTime = Instant.now()
-            val currentThread = Thread.currentThread()
+            currentThread = Thread.currentThread()
 
             val heartbeat =
                 scheduler.scheduleWithFixedDelay(
-                    {
-                        if (!manager.heartbeat(id, startTime.secondsSince())) {
-                            currentThread.interrupt()
-                        }
-                    },
+                    { heartbeat() },
                     0,
                     heartbeatInterval.toMillis(),
                     TimeUnit.MILLISECONDS,
@@ -162,42 +177,29 @@ public class OpenDCRunner(
             try {
                 val topology = convertTopology(scenario.topology)
                 val jobs =
-                    (0 until scenario.portfolio.targets.repeats).map { repeat ->
+                    monitors.mapIndexed { repeat, monitor ->
                         SimulationTask(
                             scenario,
                             repeat,
                             topology,
-                        )
+                            monitor,
+                        ) {
+                            // Report the results of the repeat to the API server without waiting for the heartbeat
+                            scheduler.execute { heartbeat() }
+                        }
                     }
                 val results = invokeAll(jobs).map { it.rawResult }
 
+                isDone = true
                 heartbeat.cancel(true)
 
                 val duration = startTime.secondsSince()
                 logger.info { "Finished simulation for job $id (in $duration seconds)" }
 
-                manager.finish(
-                    id,
-                    duration,
-                    mapOf(
-                        "total_requested_burst" to results.map { it.totalActiveTime + it.totalIdleTime },
-                        "total_granted_burst" to results.map { it.totalActiveTime },
-                        "total_overcommitted_burst" to results.map { it.totalStealTime },
-                        "total_interfered_burst" to results.map { it.totalLostTime },
-                        "mean_cpu_usage" to results.map { it.meanCpuUsage },
-                        "mean_cpu_demand" to results.map { it.meanCpuDemand },
-                        "mean_num_deployed_images" to results.map { it.meanNumDeployedImages },
-                        "max_num_deployed_images" to results.map { it.maxNumDeployedImages },
-                        "total_power_draw" to results.map { it.totalPowerDraw },
-                        "total_failure_slices" to results.map { it.totalFailureSlices },
-                        "total_failure_vm_slices" to results.map { it.totalFailureVmSlices },
-                        "total_vms_submitted" to results.map { it.totalVmsSubmitted },
-                        "total_vms_queued" to results.map { it.totalVmsQueued },
-                        "total_vms_finished" to results.map { it.totalVmsFinished },
-                        "total_vms_failed" to results.map { it.totalVmsFailed },
-                    ),
-                )
+                manager.finish(id, duration, WebComputeMonitor.aggregate(results))
             } catch (e: Exception) {
+                isDone = true
+
                 // Check whether the job failed due to exceeding its time budget
                 if (Thread.interrupted()) {
                     logger.info { "Simulation job $id exceeded time limit (${startTime.secondsSince()} seconds)" }
@@ -211,6 +213,24 @@ public class OpenDCRunner(
                 } catch (e: Throwable) {
                     logger.error(e) { "Failed to update job" }
                 }
+            } finally {
+                slots.release()
+            }
+        }
+
+        /**
+         * Send a heartbeat for the job to the API server, including the partial results of the job.
+         *
+         * This method is only invoked from the [scheduler] thread, such that the heartbeats are sent in order.
+         */
+        private fun heartbeat() {
+            if (isDone) {
+                return
+            }
+
+            val results = WebComputeMonitor.aggregateProgress(monitors)
+            if (!manager.heartbeat(job.id, startTime.secondsSince(), results)) {
+                currentThread.interrupt()
             }
         }
 
@@ -228,15 +248,17 @@ public class OpenDCRunner(
      * @param scenario The scenario to simulate.
      * @param repeat The repeat number used to seed the simulation.
      * @param topologyHosts The topology to simulate.
+     * @param monitor The monitor that collects the results of the simulation.
+     * @param onFinish The callback to invoke when the simulation has finished.
      */
     private inner class SimulationTask(
         private val scenario: Scenario,
         private val repeat: Int,
         private val topologyHosts: List<HostSpec>,
+        private val monitor: WebComputeMonitor,
+        private val onFinish: () -> Unit,
     ) : RecursiveTask<WebComputeMonitor.Results>() {
         override fun compute(): WebComputeMonitor.Results {
-            val monitor = WebComputeMonitor()
-
             // Schedule task that interrupts the simulation if it runs for too long.
             val currentThread = Thread.currentThread()
             val interruptTask =
@@ -248,7 +270,9 @@ public class OpenDCRunner(
                 interruptTask.cancel(false)
             }
 
-            return monitor.collectResults()
+            val results = monitor.finish()
+            onFinish()
+            return results
         }
 
         /**
@@ -269,11 +293,7 @@ public class OpenDCRunner(
 
                 Provisioner(dispatcher, seed).use { provisioner ->
 
-//                    val workload =
-//                        trace(scenario.workload.trace.id).sampleByLoad(scenario.workload.samplingFraction)
-//                    val vms = workload.resolve(workloadLoader, Random(seed))
-
-                    val vms = workloadLoader.sampleByLoad(scenario.workload.samplingFraction)
+                    val vms = traceCache.get(scenario.workload.trace.id, scenario.workload.samplingFraction)
                     val startTime = vms.minOf { it.submissionTime }
 
                     provisioner.runSteps(
@@ -26,6 +26,7 @@ import org.opendc.web.client.runner.OpenDCRunnerClient
 import org.opendc.web.proto.JobState
 import org.opendc.web.proto.runner.Job
 import org.opendc.web.runner.JobManager
+import java.time.Duration
 
 /**
  * Default implementation of [JobManager] that uses the OpenDC client to receive jobs.
@@ -44,11 +45,19 @@ internal class JobManagerImpl(private val client: OpenDCRunnerClient) : JobManag
         }
     }
 
+    override fun claimNext(
+        limit: Int,
+        timeout: Duration,
+    ): List<Job> {
+        return client.jobs.claim(limit, timeout)
+    }
+
     override fun heartbeat(
         id: Long,
         runtime: Int,
+        results: Map<String, Any>?,
     ): Boolean {
-        val res = client.jobs.update(id, Job.Update(JobState.RUNNING, runtime))
+        val res = client.jobs.update(id, Job.Update(JobState.RUNNING, runtime, results))
         return res?.state != JobState.FAILED
     }
 
@@ -64,6 +73,6 @@ internal class JobManagerImpl(private val client: OpenDCRunnerClient) : JobManag
         runtime: Int,
         results: Map<String, Any>,
     ) {
-        client.jobs.update(id, Job.Update(JobState.FINISHED, runtime))
+        client.jobs.update(id, Job.Update(JobState.FINISHED, runtime, results))
     }
 }
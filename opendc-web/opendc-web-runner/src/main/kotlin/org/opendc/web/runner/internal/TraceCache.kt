@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.web.runner.internal
+
+import org.opendc.compute.workload.ComputeWorkloadLoader
+import org.opendc.compute.workload.Task
+import org.opendc.compute.workload.WorkloadLoader
+import org.opendc.simulator.compute.workload.trace.TraceWorkload
+import java.io.File
+import java.util.IdentityHashMap
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+
+/**
+ * A runner-wide cache of the workloads of the simulation jobs, keyed by trace and sampling fraction.
+ *
+ * Concurrent requests for the same workload share a single load, and the least recently used workloads are evicted
+ * once the estimated size of the cache exceeds [memoryBudget]. The cache hands out copies of the cached tasks, so that
+ * simulations can mutate their tasks without affecting each other.
+ *
+ * Sampled workloads share their tasks with the full workload of the trace, so the size of a task is only counted once,
+ * regardless of the number of cached workloads it is part of.
+ *
+ * @param tracePath The directory containing a directory per trace.
+ * @param memoryBudget The approximate number of bytes that the cached workloads may occupy.
+ * @param loader The function to load the full workload of a trace by its identifier.
+ */
+internal class TraceCache(
+    private val tracePath: File,
+    private val memoryBudget: Long,
+    private val loader: (String) -> List<Task> = { trace -> ComputeWorkloadLoader(File(tracePath, trace)).load() },
+) {
+    /**
+     * The key of a cached workload.
+     */
+    private data class Key(val trace: String, val samplingFraction: Double)
+
+    /**
+     * A cached workload.
+     */
+    private class Entry(val tasks: List<Task>)
+
+    /**
+     * The cached workloads in access order, such that the least recently used workload comes first.
+     */
+    private val entries = LinkedHashMap<Key, Entry>(16, 0.75f, true)
+
+    /**
+     * The workloads that are currently being loaded.
+     */
+    private val pending = HashMap<Key, CompletableFuture<Entry>>()
+
+    /**
+     * The number of cached workloads that refer to each cached trace, so that shared traces are counted once.
+     */
+    private val references = IdentityHashMap<TraceWorkload, Int>()
+
+    /**
+     * The estimated size of the cached workloads in bytes.
+     */
+    private var size = 0L
+
+    /**
+     * The estimated size of the cached workloads in bytes.
+     */
+    val estimatedSize: Long
+        @Synchronized get() = size
+
+    /**
+     * Obtain the tasks of the workload of [trace] sampled by [samplingFraction].
+     */
+    fun get(
+        trace: String,
+        samplingFraction: Double,
+    ): List<Task> = getEntry(Key(trace, samplingFraction)).tasks.map { it.copy(trace = it.trace.copy()) }
+
+    /**
+     * Remove all workloads from the cache.
+     */
+    @Synchronized
+    fun clear() {
+        entries.clear()
+        references.clear()
+        size = 0
+    }
+
+    /**
+     * Look up the entry for [key], loading it if it is not cached yet.
+     */
+    private fun getEntry(key: Key): Entry {
+        val future: CompletableFuture<Entry>
+        var isOwner = false
+
+        synchronized(this) {
+            val entry = entries[key]
+            if (entry != null) {
+                return entry
+            }
+
+            future = pending.getOrPut(key) { CompletableFuture<Entry>().also { isOwner = true } }
+        }
+
+        if (isOwner) {
+            try {
+                val tasks = load(key)
+                val entry = Entry(tasks)
+
+                synchronized(this) {
+                    pending.remove(key)
+                    insert(key, entry)
+                }
+                future.complete(entry)
+            } catch (e: Throwable) {
+                synchronized(this) { pending.remove(key) }
+                future.completeExceptionally(e)
+                throw e
+            }
+        }
+
+        return try {
+            future.get()
+        } catch (e: ExecutionException) {
+            throw e.cause ?: e
+        }
+    }
+
+    /**
+     * Load the workload identified by [key], sampling it from the full (cached) workload of the trace.
+     */
+    private fun load(key: Key): List<Task> {
+        if (key.samplingFraction >= 1.0) {
+            return loader(key.trace)
+        }
+
+        val tasks = getEntry(Key(key.trace, 1.0)).tasks
+        val sampler =
+            object : WorkloadLoader() {
+                override fun load(): List<Task> = tasks
+            }
+        return sampler.sampleByLoad(key.samplingFraction)
+    }
+
+    /**
+     * Insert [entry] into the cache and evict the least recently used entries until the cache fits its budget.
+     */
+    private fun insert(
+        key: Key,
+        entry: Entry,
+    ) {
+        entries[key] = entry
+        acquire(entry)
+
+        val iterator = entries.values.iterator()
+        while (size > memoryBudget && iterator.hasNext()) {
+            release(iterator.next())
+            iterator.remove()
+        }
+    }
+
+    /**
+     * Account for the tasks of a newly cached [entry], only counting the traces that are not cached yet.
+     */
+    private fun acquire(entry: Entry) {
+        size += entry.tasks.size * REFERENCE_SIZE
+
+        for (task in entry.tasks) {
+            val trace = task.trace
+            val count = references[trace] ?: 0
+            if (count == 0) {
+                size += TASK_SIZE + trace.fragments.size * FRAGMENT_SIZE
+            }
+            references[trace] = count + 1
+        }
+    }
+
+    /**
+     * Release the tasks of an evicted [entry], only discounting the traces that are no longer cached.
+     */
+    private fun release(entry: Entry) {
+        size -= entry.tasks.size * REFERENCE_SIZE
+
+        for (task in entry.tasks) {
+            val trace = task.trace
+            val count = references.getValue(trace)
+            if (count == 1) {
+                references.remove(trace)
+                size -= TASK_SIZE + trace.fragments.size * FRAGMENT_SIZE
+            } else {
+                references[trace] = count - 1
+            }
+        }
+    }
+
+    private companion object {
+        /**
+         * The estimated size of a task without its fragments in bytes.
+         */
+        const val TASK_SIZE = 512L
+
+        /**
+         * The estimated size of a trace fragment in bytes.
+         */
+        const val FRAGMENT_SIZE = 64L
+
+        /**
+         * The estimated size of a reference from a cached workload to a task in bytes.
+         */
+        const val REFERENCE_SIZE = 8L
+    }
+}
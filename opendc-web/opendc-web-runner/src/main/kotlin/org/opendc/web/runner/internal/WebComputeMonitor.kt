@@ -24,90 +24,144 @@ package org.opendc.web.runner.internal
 
 import org.opendc.compute.simulator.telemetry.ComputeMonitor
 import org.opendc.compute.simulator.telemetry.table.host.HostTableReader
-import org.opendc.compute.simulator.telemetry.table.service.ServiceData
 import org.opendc.compute.simulator.telemetry.table.service.ServiceTableReader
-import org.opendc.compute.simulator.telemetry.table.service.toServiceData
+import java.time.Duration
 import kotlin.math.roundToLong
 
 /**
  * A [ComputeMonitor] that tracks the aggregate metrics for each repeat.
+ *
+ * @param progressInterval The minimum (wall-clock) interval between intermediate snapshots published via [progress],
+ * or [Duration.ZERO] to only publish the results once the simulation has finished.
  */
-internal class WebComputeMonitor : ComputeMonitor {
+internal class WebComputeMonitor(progressInterval: Duration = Duration.ZERO) : ComputeMonitor {
     override fun record(reader: HostTableReader) {
         val slices = reader.downtime / sliceLength
 
-        hostAggregateMetrics =
-            AggregateHostMetrics(
-                hostAggregateMetrics.totalActiveTime + reader.cpuActiveTime,
-                hostAggregateMetrics.totalIdleTime + reader.cpuIdleTime,
-                hostAggregateMetrics.totalStealTime + reader.cpuStealTime,
-                hostAggregateMetrics.totalLostTime + reader.cpuLostTime,
-                hostAggregateMetrics.totalPowerDraw + reader.energyUsage,
-                hostAggregateMetrics.totalFailureSlices + slices,
-                hostAggregateMetrics.totalFailureVmSlices + reader.tasksActive * slices,
-            )
+        totalActiveTime += reader.cpuActiveTime
+        totalIdleTime += reader.cpuIdleTime
+        totalStealTime += reader.cpuStealTime
+        totalLostTime += reader.cpuLostTime
+        totalPowerDraw += reader.energyUsage
+        totalFailureSlices += slices
+        totalFailureVmSlices += reader.tasksActive * slices
 
-        hostMetrics.compute(reader.hostInfo.name) { _, prev ->
-            HostMetrics(
-                reader.cpuUsage + (prev?.cpuUsage ?: 0.0),
-                reader.cpuDemand + (prev?.cpuDemand ?: 0.0),
-                reader.tasksActive + (prev?.instanceCount ?: 0),
-                1 + (prev?.count ?: 0),
-            )
-        }
+        val metrics = hostMetrics.getOrPut(reader.hostInfo.name) { HostMetrics() }
+        metrics.cpuUsage += reader.cpuUsage
+        metrics.cpuDemand += reader.cpuDemand
+        metrics.instanceCount += reader.tasksActive
+        metrics.count++
     }
 
-    private var hostAggregateMetrics: AggregateHostMetrics = AggregateHostMetrics()
-    private val hostMetrics: MutableMap<String, HostMetrics> = mutableMapOf()
+    private var totalActiveTime: Long = 0L
+    private var totalIdleTime: Long = 0L
+    private var totalStealTime: Long = 0L
+    private var totalLostTime: Long = 0L
+    private var totalPowerDraw: Double = 0.0
+    private var totalFailureSlices: Double = 0.0
+    private var totalFailureVmSlices: Double = 0.0
+    private val hostMetrics: MutableMap<String, HostMetrics> = HashMap()
     private val sliceLength: Long = 5 * 60L
 
-    private data class AggregateHostMetrics(
-        val totalActiveTime: Long = 0L,
-        val totalIdleTime: Long = 0L,
-        val totalStealTime: Long = 0L,
-        val totalLostTime: Long = 0L,
-        val totalPowerDraw: Double = 0.0,
-        val totalFailureSlices: Double = 0.0,
-        val totalFailureVmSlices: Double = 0.0,
-    )
+    /**
+     * Mutable accumulator for the metrics of a single host.
+     */
+    private class HostMetrics {
+        @JvmField var cpuUsage: Double = 0.0
 
-    private data class HostMetrics(
-        val cpuUsage: Double,
-        val cpuDemand: Double,
-        val instanceCount: Long,
-        val count: Long,
-    )
+        @JvmField var cpuDemand: Double = 0.0
 
-    private lateinit var serviceData: ServiceData
+        @JvmField var instanceCount: Long = 0L
+
+        @JvmField var count: Long = 0L
+    }
+
+    private var tasksTotal: Int = 0
+    private var tasksPending: Int = 0
+    private var tasksActive: Int = 0
+    private var attemptsTerminated: Int = 0
 
     override fun record(reader: ServiceTableReader) {
-        serviceData = reader.toServiceData()
+        tasksTotal = reader.tasksTotal
+        tasksPending = reader.tasksPending
+        tasksActive = reader.tasksActive
+        attemptsTerminated = reader.attemptsFailure
+
+        // The service is recorded after the hosts, so the accumulators are consistent at this point
+        val interval = progressIntervalNanos
+        if (interval > 0) {
+            val now = System.nanoTime()
+            if (now - lastProgress >= interval) {
+                lastProgress = now
+                progress = collectResults()
+            }
+        }
+    }
+
+    private val progressIntervalNanos = progressInterval.toNanos()
+    private var lastProgress = System.nanoTime()
+
+    /**
+     * The most recent snapshot of the results, which may be read from other threads while the simulation is running.
+     */
+    @Volatile
+    var progress: Results? = null
+        private set
+
+    /**
+     * A flag to indicate that the simulation has finished and [progress] holds its final results.
+     */
+    @Volatile
+    var isFinished: Boolean = false
+        private set
+
+    /**
+     * Collect the results of the simulation and publish them as the final [progress] of the simulation.
+     */
+    fun finish(): Results {
+        val results = collectResults()
+        progress = results
+        isFinished = true
+        return results
     }
 
     /**
      * Collect the results of the simulation.
      */
     fun collectResults(): Results {
-        val hostAggregateMetrics = hostAggregateMetrics
-        val hostMetrics = hostMetrics
-        val serviceData = serviceData
+        var sumCpuUsage = 0.0
+        var sumCpuDemand = 0.0
+        var sumDeployedImages = 0.0
+        var maxDeployedImages = 0.0
+
+        for (metrics in hostMetrics.values) {
+            val count = metrics.count.toDouble()
+            val deployedImages = metrics.instanceCount / count
+
+            sumCpuUsage += metrics.cpuUsage / count
+            sumCpuDemand += metrics.cpuDemand / count
+            sumDeployedImages += deployedImages
+            maxDeployedImages = maxOf(maxDeployedImages, deployedImages)
+        }
+
+        val hosts = hostMetrics.size
 
         return Results(
-            hostAggregateMetrics.totalActiveTime,
-            hostAggregateMetrics.totalIdleTime,
-            hostAggregateMetrics.totalStealTime,
-            hostAggregateMetrics.totalLostTime,
-            hostMetrics.map { it.value.cpuUsage / it.value.count }.average().let { if (it.isNaN()) 0.0 else it },
-            hostMetrics.map { it.value.cpuDemand / it.value.count }.average().let { if (it.isNaN()) 0.0 else it },
-            hostMetrics.map { it.value.instanceCount.toDouble() / it.value.count }.average().let { if (it.isNaN()) 0.0 else it },
-            hostMetrics.map { it.value.instanceCount.toDouble() / it.value.count }.maxOrNull() ?: 0.0,
-            hostAggregateMetrics.totalPowerDraw,
-            hostAggregateMetrics.totalFailureSlices.roundToLong(),
-            hostAggregateMetrics.totalFailureVmSlices.roundToLong(),
-            serviceData.tasksTotal,
-            serviceData.tasksPending,
-            serviceData.tasksTotal - serviceData.tasksPending - serviceData.tasksActive,
-            serviceData.attemptsTerminated,
+            totalActiveTime,
+            totalIdleTime,
+            totalStealTime,
+            totalLostTime,
+            if (hosts > 0) sumCpuUsage / hosts else 0.0,
+            if (hosts > 0) sumCpuDemand / hosts else 0.0,
+            if (hosts > 0) sumDeployedImages / hosts else 0.0,
+            maxDeployedImages,
+            totalPowerDraw,
+            totalFailureSlices.roundToLong(),
+            totalFailureVmSlices.roundToLong(),
+            tasksTotal,
+            tasksPending,
+            tasksTotal - tasksPending - tasksActive,
+            attemptsTerminated,
         )
     }
 
@@ -131,4 +185,61 @@ internal class WebComputeMonitor : ComputeMonitor {
         val totalVmsFinished: Int,
         val totalVmsFailed: Int,
     )
+
+    companion object {
+        /**
+         * Aggregate the [results] of the repeats of a job into the results reported to the API server.
+         */
+        fun aggregate(results: List<Results>): Map<String, Any> {
+            return mapOf(
+                "total_requested_burst" to results.map { it.totalActiveTime + it.totalIdleTime },
+                "total_granted_burst" to results.map { it.totalActiveTime },
+                "total_overcommitted_burst" to results.map { it.totalStealTime },
+                "total_interfered_burst" to results.map { it.totalLostTime },
+                "mean_cpu_usage" to results.map { it.meanCpuUsage },
+                "mean_cpu_demand" to results.map { it.meanCpuDemand },
+                "mean_num_deployed_images" to results.map { it.meanNumDeployedImages },
+                "max_num_deployed_images" to results.map { it.maxNumDeployedImages },
+                "total_power_draw" to results.map { it.totalPowerDraw },
+                "total_failure_slices" to results.map { it.totalFailureSlices },
+                "total_failure_vm_slices" to results.map { it.totalFailureVmSlices },
+                "total_vms_submitted" to results.map { it.totalVmsSubmitted },
+                "total_vms_queued" to results.map { it.totalVmsQueued },
+                "total_vms_finished" to results.map { it.totalVmsFinished },
+                "total_vms_failed" to results.map { it.totalVmsFailed },
+            )
+        }
+
+        /**
+         * Aggregate the partial results of the repeats of a running job, where the repeat at index `i` of [monitors]
+         * is the repeat with number `i`.
+         *
+         * Only repeats that have published results are included. Since these may be both finished and running
+         * repeats, the `repeats` entry lists the repeat number of each value and the `finished` entry lists whether
+         * the value is final.
+         *
+         * @return The partial results of the job or `null` if no repeat has published results yet.
+         */
+        fun aggregateProgress(monitors: List<WebComputeMonitor>): Map<String, Any>? {
+            val repeats = ArrayList<Int>(monitors.size)
+            val finished = ArrayList<Boolean>(monitors.size)
+            val results = ArrayList<Results>(monitors.size)
+
+            for ((repeat, monitor) in monitors.withIndex()) {
+                // Read the flag first, so that a finished repeat is never reported with an intermediate snapshot
+                val isFinished = monitor.isFinished
+                val progress = monitor.progress ?: continue
+
+                repeats.add(repeat)
+                finished.add(isFinished)
+                results.add(progress)
+            }
+
+            if (results.isEmpty()) {
+                return null
+            }
+
+            return aggregate(results) + mapOf("repeats" to repeats, "finished" to finished)
+        }
+    }
 }
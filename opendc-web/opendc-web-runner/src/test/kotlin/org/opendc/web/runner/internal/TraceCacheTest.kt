@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.web.runner.internal
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNotSame
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.opendc.compute.workload.Task
+import org.opendc.simulator.compute.workload.trace.TraceWorkload
+import org.opendc.simulator.compute.workload.trace.scaling.NoDelayScaling
+import java.io.File
+import java.util.UUID
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Test suite for the [TraceCache] class.
+ */
+internal class TraceCacheTest {
+    /**
+     * The number of times each trace has been loaded.
+     */
+    private val loads = ConcurrentHashMap<String, AtomicInteger>()
+
+    @Test
+    fun testCachedLoad() {
+        val cache = TraceCache(File("."), Long.MAX_VALUE, ::load)
+
+        val first = cache.get("a", 1.0)
+        val second = cache.get("a", 1.0)
+
+        assertEquals(1, loads.getValue("a").get())
+        assertEquals(first.map { it.name }, second.map { it.name })
+        assertNotSame(first[0].trace, second[0].trace)
+    }
+
+    @Test
+    fun testEvictLeastRecentlyUsed() {
+        val cache = TraceCache(File("."), Long.MAX_VALUE, ::load)
+        cache.get("a", 1.0)
+        val traceSize = cache.estimatedSize
+
+        // Only two traces fit in the cache
+        val budgeted = TraceCache(File("."), 2 * traceSize, ::load)
+        loads.clear()
+
+        budgeted.get("a", 1.0)
+        budgeted.get("b", 1.0)
+        budgeted.get("a", 1.0)
+        budgeted.get("c", 1.0)
+
+        assertEquals(2 * traceSize, budgeted.estimatedSize)
+
+        // Trace b was least recently used, so it must have been evicted
+        budgeted.get("a", 1.0)
+        budgeted.get("c", 1.0)
+        assertEquals(1, loads.getValue("a").get())
+        assertEquals(1, loads.getValue("c").get())
+
+        budgeted.get("b", 1.0)
+        assertEquals(2, loads.getValue("b").get())
+    }
+
+    @Test
+    fun testConcurrentLoadsAreMerged() {
+        val entered = CountDownLatch(1)
+        val release = CountDownLatch(1)
+        val count = AtomicInteger()
+        val cache =
+            TraceCache(File("."), Long.MAX_VALUE) { trace ->
+                count.incrementAndGet()
+                entered.countDown()
+                release.await()
+                load(trace)
+            }
+
+        val executor = Executors.newFixedThreadPool(4)
+        try {
+            val futures = List(4) { executor.submit<List<Task>> { cache.get("a", 1.0) } }
+
+            assertTrue(entered.await(10, TimeUnit.SECONDS))
+            // Give the other requests time to wait for the pending load
+            Thread.sleep(100)
+            release.countDown()
+
+            val results = futures.map { it.get(10, TimeUnit.SECONDS) }
+            assertEquals(1, count.get())
+            for (result in results) {
+                assertEquals(results[0].map { it.name }, result.map { it.name })
+            }
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    @Test
+    fun testSampledEntry() {
+        val cache = TraceCache(File("."), Long.MAX_VALUE, ::load)
+
+        val full = cache.get("a", 1.0)
+        val fullSize = cache.estimatedSize
+        val sampled = cache.get("a", 0.5)
+
+        // The sampled workload is derived from the cached full workload instead of loading the trace again
+        assertEquals(1, loads.getValue("a").get())
+
+        val names = full.map { it.name }.toSet()
+        assertTrue(sampled.all { it.name in names })
+        assertTrue(sampled.sumOf { it.totalCpuLoad } >= 0.5 * full.sumOf { it.totalCpuLoad })
+        assertEquals(sampled.sortedBy { it.submissionTime }.map { it.name }, sampled.map { it.name })
+
+        // The sampled workload shares the traces of the full workload, so only its task references are counted
+        assertTrue(cache.estimatedSize - fullSize <= sampled.size * 8L)
+
+        // The sampled workload is cached as well
+        assertEquals(sampled.map { it.name }, cache.get("a", 0.5).map { it.name })
+    }
+
+    /**
+     * Load a synthetic trace with ten tasks of increasing length.
+     */
+    private fun load(trace: String): List<Task> {
+        loads.computeIfAbsent(trace) { AtomicInteger() }.incrementAndGet()
+
+        return List(10) { i ->
+            val name = "$trace-$i"
+            val builder = TraceWorkload.builder(0L, 0L, 1.0, NoDelayScaling(), name)
+            repeat(i + 1) {
+                builder.add(60_000L, 1000.0, 1, 0.0, 0, 0L)
+            }
+
+            Task(
+                UUID.nameUUIDFromBytes(name.toByteArray()),
+                name,
+                i * 1000L,
+                (i + 1) * 60_000L,
+                cpuCount = 1,
+                cpuCapacity = 1000.0,
+                totalCpuLoad = (i + 1) * 60_000.0,
+                memCapacity = 1024L,
+                nature = null,
+                deadline = -1L,
+                trace = builder.build(),
+            )
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.web.runner.internal
+
+import io.mockk.every
+import io.mockk.mockk
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.opendc.compute.simulator.telemetry.table.host.HostTableReader
+import org.opendc.compute.simulator.telemetry.table.service.ServiceTableReader
+import java.time.Duration
+
+/**
+ * Test suite for the [WebComputeMonitor] class.
+ */
+internal class WebComputeMonitorTest {
+    @Test
+    fun testNoProgressWithoutInterval() {
+        val monitor = WebComputeMonitor()
+
+        recordCycle(monitor, 4.0)
+
+        assertNull(monitor.progress)
+        assertFalse(monitor.isFinished)
+    }
+
+    @Test
+    fun testProgress() {
+        val monitor = WebComputeMonitor(Duration.ofNanos(1))
+
+        recordCycle(monitor, 4.0)
+
+        val progress = checkNotNull(monitor.progress)
+        assertEquals(4.0, progress.totalPowerDraw)
+        assertEquals(3, progress.totalVmsSubmitted)
+        assertFalse(monitor.isFinished)
+    }
+
+    @Test
+    fun testFinish() {
+        val monitor = WebComputeMonitor()
+
+        recordCycle(monitor, 4.0)
+        val results = monitor.finish()
+
+        assertEquals(4.0, results.totalPowerDraw)
+        assertEquals(results, monitor.progress)
+        assertTrue(monitor.isFinished)
+    }
+
+    @Test
+    fun testAggregateProgressEmpty() {
+        val monitors = List(2) { WebComputeMonitor(Duration.ofNanos(1)) }
+
+        assertNull(WebComputeMonitor.aggregateProgress(monitors))
+    }
+
+    @Test
+    fun testAggregateProgressMixedRepeats() {
+        val monitors = List(3) { WebComputeMonitor(Duration.ofNanos(1)) }
+
+        // The first repeat is still running, the second has not reported yet and the third has finished
+        recordCycle(monitors[0], 4.0)
+        recordCycle(monitors[2], 10.0)
+        monitors[2].finish()
+
+        val progress = checkNotNull(WebComputeMonitor.aggregateProgress(monitors))
+
+        assertEquals(listOf(0, 2), progress["repeats"])
+        assertEquals(listOf(false, true), progress["finished"])
+        assertEquals(listOf(4.0, 10.0), progress["total_power_draw"])
+        assertEquals(listOf(3, 3), progress["total_vms_submitted"])
+    }
+
+    /**
+     * Helper method to record a single telemetry cycle of a host and the service with the monitor.
+     */
+    private fun recordCycle(
+        monitor: WebComputeMonitor,
+        energyUsage: Double,
+    ) {
+        val host = mockk<HostTableReader>()
+        every { host.hostInfo.name } returns "host"
+        every { host.downtime } returns 0L
+        every { host.cpuActiveTime } returns 10L
+        every { host.cpuIdleTime } returns 20L
+        every { host.cpuStealTime } returns 0L
+        every { host.cpuLostTime } returns 0L
+        every { host.energyUsage } returns energyUsage
+        every { host.tasksActive } returns 1
+        every { host.cpuUsage } returns 1000.0
+        every { host.cpuDemand } returns 1000.0
+
+        val service = mockk<ServiceTableReader>()
+        every { service.tasksTotal } returns 3
+        every { service.tasksPending } returns 1
+        every { service.tasksActive } returns 1
+        every { service.attemptsFailure } returns 0
+
+        monitor.record(host)
+
+        // Make sure that the progress interval has elapsed since the monitor was created
+        Thread.sleep(1)
+        monitor.record(service)
+    }
+}
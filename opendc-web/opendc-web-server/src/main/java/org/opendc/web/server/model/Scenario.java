@@ -131,6 +131,24 @@ public class Scenario extends PanacheEntityBase {
             fetch = FetchType.LAZY)
     public List<Job> jobs = new ArrayList<>();
 
+    /**
+     * The {@link ScenarioResult}s of the scenario for each repeat.
+     */
+    @OneToMany(
+            cascade = {CascadeType.ALL},
+            mappedBy = "scenario",
+            fetch = FetchType.LAZY)
+    public List<ScenarioResult> results = new ArrayList<>();
+
+    /**
+     * The {@link ScenarioStatistic}s of the scenario across its repeats.
+     */
+    @OneToMany(
+            cascade = {CascadeType.ALL},
+            mappedBy = "scenario",
+            fetch = FetchType.LAZY)
+    public List<ScenarioStatistic> statistics = new ArrayList<>();
+
     /**
      * Construct a {@link Scenario} object.
      */
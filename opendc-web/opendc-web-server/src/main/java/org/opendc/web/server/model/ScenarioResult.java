@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.web.server.model;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * The value of a single metric for a single repeat of a {@link Scenario}.
+ */
+@Entity
+@Table(
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "uk_scenario_results_metric",
+                    columnNames = {"scenario_id", "repeat_number", "metric"})
+        },
+        indexes = {@Index(name = "ix_scenario_results_portfolio", columnList = "portfolio_id")})
+public class ScenarioResult extends PanacheEntityBase {
+    /**
+     * The main ID of the result.
+     */
+    @Id
+    @SequenceGenerator(name = "scenarioResultSeq", sequenceName = "scenario_result_id_seq", allocationSize = 50)
+    @GeneratedValue(generator = "scenarioResultSeq")
+    public Long id;
+
+    /**
+     * The {@link Scenario} to which the result belongs.
+     */
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "scenario_id", nullable = false, foreignKey = @ForeignKey(name = "fk_scenario_results_scenario"))
+    public Scenario scenario;
+
+    /**
+     * The {@link Portfolio} to which the scenario of the result belongs.
+     */
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(
+            name = "portfolio_id",
+            nullable = false,
+            foreignKey = @ForeignKey(name = "fk_scenario_results_portfolio"))
+    public Portfolio portfolio;
+
+    /**
+     * The repeat of the simulation that produced the result.
+     */
+    @Column(name = "repeat_number", nullable = false, updatable = false)
+    public int repeat;
+
+    /**
+     * The name of the metric.
+     */
+    @Column(nullable = false, updatable = false)
+    public String metric;
+
+    /**
+     * The value of the metric.
+     */
+    @Column(name = "metric_value", nullable = false, updatable = false)
+    public double value;
+
+    /**
+     * Construct a {@link ScenarioResult} object.
+     */
+    public ScenarioResult(Scenario scenario, int repeat, String metric, double value) {
+        this.scenario = scenario;
+        this.portfolio = scenario.portfolio;
+        this.repeat = repeat;
+        this.metric = metric;
+        this.value = value;
+    }
+
+    /**
+     * JPA constructor
+     */
+    protected ScenarioResult() {}
+
+    /**
+     * Delete the results of the specified scenario.
+     *
+     * @param scenarioId The unique identifier of the scenario.
+     * @return The number of results that have been deleted.
+     */
+    public static long deleteByScenario(long scenarioId) {
+        return delete("scenario.id", scenarioId);
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.web.server.model;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import io.quarkus.panache.common.Parameters;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedQueries;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * The statistics of a single metric across the repeats of a {@link Scenario}, which are aggregated when the results
+ * of the scenario are stored.
+ */
+@Entity
+@Table(
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "uk_scenario_statistics_metric",
+                    columnNames = {"scenario_id", "metric"})
+        },
+        indexes = {@Index(name = "ix_scenario_statistics_portfolio", columnList = "portfolio_id")})
+@NamedQueries({
+    @NamedQuery(
+            name = "ScenarioStatistic.findByPortfolio",
+            query =
+                    """
+                SELECT s
+                FROM ScenarioStatistic s
+                JOIN FETCH s.scenario sc
+                JOIN Portfolio p ON p.id = s.portfolio.id AND p.number = :number
+                WHERE p.project.id = :projectId
+                ORDER BY sc.number, s.metric
+            """)
+})
+public class ScenarioStatistic extends PanacheEntityBase {
+    /**
+     * The main ID of the statistic.
+     */
+    @Id
+    @SequenceGenerator(name = "scenarioStatisticSeq", sequenceName = "scenario_statistic_id_seq", allocationSize = 50)
+    @GeneratedValue(generator = "scenarioStatisticSeq")
+    public Long id;
+
+    /**
+     * The {@link Scenario} to which the statistic belongs.
+     */
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(
+            name = "scenario_id",
+            nullable = false,
+            foreignKey = @ForeignKey(name = "fk_scenario_statistics_scenario"))
+    public Scenario scenario;
+
+    /**
+     * The {@link Portfolio} to which the scenario of the statistic belongs.
+     */
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(
+            name = "portfolio_id",
+            nullable = false,
+            foreignKey = @ForeignKey(name = "fk_scenario_statistics_portfolio"))
+    public Portfolio portfolio;
+
+    /**
+     * The name of the metric.
+     */
+    @Column(nullable = false, updatable = false)
+    public String metric;
+
+    /**
+     * The number of repeats that reported the metric.
+     */
+    @Column(name = "sample_count", nullable = false, updatable = false)
+    public int count;
+
+    @Column(nullable = false, updatable = false)
+    public double mean;
+
+    @Column(nullable = false, updatable = false)
+    public double stddev;
+
+    @Column(name = "min_value", nullable = false, updatable = false)
+    public double min;
+
+    @Column(nullable = false, updatable = false)
+    public double p25;
+
+    @Column(nullable = false, updatable = false)
+    public double median;
+
+    @Column(nullable = false, updatable = false)
+    public double p75;
+
+    @Column(nullable = false, updatable = false)
+    public double p95;
+
+    @Column(name = "max_value", nullable = false, updatable = false)
+    public double max;
+
+    /**
+     * Construct a {@link ScenarioStatistic} object from the specified samples.
+     *
+     * @param scenario The scenario to which the statistic belongs.
+     * @param metric The name of the metric.
+     * @param samples The values of the metric for each repeat, sorted in ascending order.
+     */
+    public ScenarioStatistic(Scenario scenario, String metric, double[] samples) {
+        this.scenario = scenario;
+        this.portfolio = scenario.portfolio;
+        this.metric = metric;
+
+        int n = samples.length;
+        double sum = 0.0;
+        for (double sample : samples) {
+            sum += sample;
+        }
+
+        double mean = sum / n;
+        double squares = 0.0;
+        for (double sample : samples) {
+            double delta = sample - mean;
+            squares += delta * delta;
+        }
+
+        this.count = n;
+        this.mean = mean;
+        this.stddev = n > 1 ? Math.sqrt(squares / (n - 1)) : 0.0;
+        this.min = samples[0];
+        this.p25 = percentile(samples, 0.25);
+        this.median = percentile(samples, 0.5);
+        this.p75 = percentile(samples, 0.75);
+        this.p95 = percentile(samples, 0.95);
+        this.max = samples[n - 1];
+    }
+
+    /**
+     * JPA constructor
+     */
+    protected ScenarioStatistic() {}
+
+    /**
+     * Find all {@link ScenarioStatistic}s that belong to the specified portfolio, ordered by scenario.
+     *
+     * @param projectId The unique identifier of the project.
+     * @param number The number of the portfolio.
+     * @return The query of statistics that belong to the specified project and portfolio.
+     */
+    public static PanacheQuery<ScenarioStatistic> findByPortfolio(long projectId, int number) {
+        return find(
+                "#ScenarioStatistic.findByPortfolio",
+                Parameters.with("projectId", projectId).and("number", number));
+    }
+
+    /**
+     * Delete the statistics of the specified scenario.
+     *
+     * @param scenarioId The unique identifier of the scenario.
+     * @return The number of statistics that have been deleted.
+     */
+    public static long deleteByScenario(long scenarioId) {
+        return delete("scenario.id", scenarioId);
+    }
+
+    /**
+     * Compute the specified percentile of the sorted samples using linear interpolation between the closest ranks.
+     */
+    private static double percentile(double[] samples, double p) {
+        double rank = p * (samples.length - 1);
+        int lower = (int) rank;
+        int upper = Math.min(lower + 1, samples.length - 1);
+        return samples[lower] + (rank - lower) * (samples[upper] - samples[lower]);
+    }
+}
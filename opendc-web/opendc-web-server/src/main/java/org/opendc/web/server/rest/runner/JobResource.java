@@ -22,19 +22,23 @@
 
 package org.opendc.web.server.rest.runner;
 
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.WebApplicationException;
+import java.time.Duration;
 import java.util.List;
-import org.opendc.web.proto.JobState;
 import org.opendc.web.server.model.Job;
+import org.opendc.web.server.service.JobQueueService;
 import org.opendc.web.server.service.JobService;
 
 /**
@@ -44,28 +48,57 @@ import org.opendc.web.server.service.JobService;
 @Path("/jobs")
 @RolesAllowed("runner")
 public final class JobResource {
+    /**
+     * The maximum duration (in seconds) that a runner may wait for a job to be queued in a single request.
+     */
+    private static final int MAX_WAIT = 60;
+
     /**
      * The {@link JobService} for helping manage the job lifecycle.
      */
     private final JobService jobService;
 
+    /**
+     * The {@link JobQueueService} for waiting on queued jobs.
+     */
+    private final JobQueueService jobQueueService;
+
     /**
      * Construct a {@link JobResource} instance.
      *
      * @param jobService The {@link JobService} for managing the job lifecycle.
+     * @param jobQueueService The {@link JobQueueService} for waiting on queued jobs.
      */
-    public JobResource(JobService jobService) {
+    public JobResource(JobService jobService, JobQueueService jobQueueService) {
         this.jobService = jobService;
+        this.jobQueueService = jobQueueService;
     }
 
     /**
-     * Obtain all pending simulation jobs.
+     * Obtain all pending simulation jobs, waiting at most <code>wait</code> seconds for a job to be queued if there
+     * are none.
      */
     @GET
-    public List<org.opendc.web.proto.runner.Job> queryPending() {
-        return Job.findByState(JobState.PENDING).list().stream()
+    public List<org.opendc.web.proto.runner.Job> queryPending(@QueryParam("wait") @DefaultValue("0") int wait) {
+        return awaitPending(wait).stream().map(RunnerProtocol::toDto).toList();
+    }
+
+    /**
+     * Claim a batch of pending simulation jobs, waiting for a job to be queued if there are none.
+     */
+    @POST
+    @Path("claim")
+    @Consumes("application/json")
+    public List<org.opendc.web.proto.runner.Job> claim(@Valid org.opendc.web.proto.runner.Job.Claim claim) {
+        if (claim.getLimit() < 1) {
+            throw new WebApplicationException("At least one job must be claimed", 400);
+        }
+
+        List<Long> ids =
+                awaitPending(claim.getWait()).stream().map((job) -> job.id).toList();
+        return QuarkusTransaction.requiringNew().call(() -> jobService.claimJobs(ids, claim.getLimit()).stream()
                 .map(RunnerProtocol::toDto)
-                .toList();
+                .toList());
     }
 
     /**
@@ -107,4 +140,20 @@ public final class JobResource {
 
         return RunnerProtocol.toDto(job);
     }
+
+    /**
+     * Helper method to find the pending jobs, waiting at most <code>wait</code> seconds for a job to be queued.
+     */
+    private List<Job> awaitPending(int wait) {
+        if (wait < 0) {
+            throw new WebApplicationException("Wait duration cannot be negative", 400);
+        }
+
+        try {
+            return jobQueueService.awaitPending(Duration.ofSeconds(Math.min(wait, MAX_WAIT)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebApplicationException(e, 503);
+        }
+    }
 }
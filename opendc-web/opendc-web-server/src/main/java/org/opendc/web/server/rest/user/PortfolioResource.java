@@ -38,6 +38,7 @@ import java.time.Instant;
 import java.util.List;
 import org.opendc.web.server.model.Portfolio;
 import org.opendc.web.server.model.ProjectAuthorization;
+import org.opendc.web.server.service.ScenarioResultService;
 
 /**
  * A resource representing the portfolios of a project.
@@ -51,13 +52,20 @@ public final class PortfolioResource {
      */
     private final SecurityIdentity identity;
 
+    /**
+     * The service for querying the results of the scenarios.
+     */
+    private final ScenarioResultService resultService;
+
     /**
      * Construct a {@link PortfolioResource}.
      *
      * @param identity The {@link SecurityIdentity} of the current user.
+     * @param resultService The {@link ScenarioResultService} for querying the results of the scenarios.
      */
-    public PortfolioResource(SecurityIdentity identity) {
+    public PortfolioResource(SecurityIdentity identity, ScenarioResultService resultService) {
         this.identity = identity;
+        this.resultService = resultService;
     }
 
     /**
@@ -132,6 +140,30 @@ public final class PortfolioResource {
         return UserProtocol.toDto(portfolio, auth);
     }
 
+    /**
+     * Obtain the statistics of the results of the scenarios in a portfolio across their repeats.
+     */
+    @GET
+    @Path("{portfolio}/results")
+    public List<org.opendc.web.proto.user.ScenarioStatistics> getResults(
+            @PathParam("project") long projectId, @PathParam("portfolio") int number) {
+        // User must have access to project
+        ProjectAuthorization auth =
+                ProjectAuthorization.findByUser(identity.getPrincipal().getName(), projectId);
+
+        if (auth == null) {
+            throw new WebApplicationException("Portfolio not found", 404);
+        }
+
+        Portfolio portfolio = Portfolio.findByProject(projectId, number);
+
+        if (portfolio == null) {
+            throw new WebApplicationException("Portfolio not found", 404);
+        }
+
+        return resultService.findByPortfolio(projectId, number);
+    }
+
     /**
      * Delete a portfolio.
      */
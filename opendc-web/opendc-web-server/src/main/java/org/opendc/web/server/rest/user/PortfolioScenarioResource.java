@@ -43,6 +43,7 @@ import org.opendc.web.server.model.Scenario;
 import org.opendc.web.server.model.Topology;
 import org.opendc.web.server.model.Trace;
 import org.opendc.web.server.model.Workload;
+import org.opendc.web.server.service.JobQueueService;
 import org.opendc.web.server.service.UserAccountingService;
 
 /**
@@ -57,6 +58,11 @@ public final class PortfolioScenarioResource {
      */
     private final UserAccountingService accountingService;
 
+    /**
+     * The service for notifying runners of queued jobs.
+     */
+    private final JobQueueService jobQueueService;
+
     /**
      * The identity of the current user.
      */
@@ -66,10 +72,13 @@ public final class PortfolioScenarioResource {
      * Construct a {@link PortfolioScenarioResource}.
      *
      * @param accountingService The {@link UserAccountingService} instance to use.
+     * @param jobQueueService The {@link JobQueueService} instance to use.
      * @param identity The {@link SecurityIdentity} of the current user.
      */
-    public PortfolioScenarioResource(UserAccountingService accountingService, SecurityIdentity identity) {
+    public PortfolioScenarioResource(
+            UserAccountingService accountingService, JobQueueService jobQueueService, SecurityIdentity identity) {
         this.accountingService = accountingService;
+        this.jobQueueService = jobQueueService;
         this.identity = identity;
     }
 
@@ -149,6 +158,8 @@ public final class PortfolioScenarioResource {
         // Fail the job if there is not enough budget for the simulation
         if (!accountingService.hasSimulationBudget(userId)) {
             job.state = JobState.FAILED;
+        } else {
+            jobQueueService.notifyQueued();
         }
 
         scenario.jobs.add(job);
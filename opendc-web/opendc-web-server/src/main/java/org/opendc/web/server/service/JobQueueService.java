@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.web.server.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendc.web.proto.JobState;
+import org.opendc.web.server.model.Job;
+
+/**
+ * A service that wakes up the runners waiting for pending jobs as soon as a job is queued, so that runners do not have
+ * to poll the server for new jobs.
+ */
+@ApplicationScoped
+public final class JobQueueService {
+    /**
+     * The registry used to defer notifications until the transaction queueing the job commits.
+     */
+    private final TransactionSynchronizationRegistry registry;
+
+    /**
+     * The lock on which the waiting runners are parked.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * A counter that is incremented every time a job is queued.
+     */
+    private long generation;
+
+    /**
+     * Construct a {@link JobQueueService} instance.
+     *
+     * @param registry The {@link TransactionSynchronizationRegistry} of the application.
+     */
+    public JobQueueService(TransactionSynchronizationRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Notify the waiting runners that a job has been queued. If a transaction is active, the runners are notified once
+     * the transaction commits, so that they can observe the job.
+     */
+    public void notifyQueued() {
+        if (registry.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            wakeUp();
+            return;
+        }
+
+        registry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {}
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    wakeUp();
+                }
+            }
+        });
+    }
+
+    /**
+     * Find the pending jobs, waiting at most <code>timeout</code> for a job to be queued if there are none.
+     *
+     * @param timeout The maximum duration to wait for a job to be queued.
+     * @return The pending jobs, which is empty if no job was queued before the timeout.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public List<Job> awaitPending(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        while (true) {
+            long observed;
+            synchronized (lock) {
+                observed = generation;
+            }
+
+            List<Job> jobs = Job.findByState(JobState.PENDING).list();
+            if (!jobs.isEmpty()) {
+                return jobs;
+            }
+
+            synchronized (lock) {
+                while (generation == observed) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return List.of();
+                    }
+
+                    TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                }
+            }
+        }
+    }
+
+    /**
+     * Wake up all runners that are waiting for a job.
+     */
+    private void wakeUp() {
+        synchronized (lock) {
+            generation++;
+            lock.notifyAll();
+        }
+    }
+}
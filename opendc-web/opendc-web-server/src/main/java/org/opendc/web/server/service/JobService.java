@@ -24,6 +24,8 @@ package org.opendc.web.server.service;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import org.opendc.web.proto.JobState;
 import org.opendc.web.server.model.Job;
@@ -39,13 +41,20 @@ public final class JobService {
      */
     private final UserAccountingService accountingService;
 
+    /**
+     * The {@link ScenarioResultService} responsible for storing the results of finished jobs.
+     */
+    private final ScenarioResultService resultService;
+
     /**
      * Construct a {@link JobService} instance.
      *
      * @param accountingService The {@link UserAccountingService} for accounting the simulation time of users.
+     * @param resultService The {@link ScenarioResultService} for storing the results of finished jobs.
      */
-    public JobService(UserAccountingService accountingService) {
+    public JobService(UserAccountingService accountingService, ScenarioResultService resultService) {
         this.accountingService = accountingService;
+        this.resultService = resultService;
     }
 
     /**
@@ -54,7 +63,7 @@ public final class JobService {
      * @param job The {@link Job} to update.
      * @param newState The new state to transition the job to.
      * @param runtime The runtime (in seconds) consumed by the simulation jbo so far.
-     * @param results The results to attach to the job.
+     * @param results The results to attach to the job or <code>null</code> to keep the results attached earlier.
      * @throws IllegalArgumentException if the state transition is invalid.
      * @throws IllegalStateException if someone tries to update the job concurrently.
      */
@@ -74,8 +83,49 @@ public final class JobService {
             nextState = JobState.FAILED; // User has consumed all their budget; cancel the job
         }
 
-        if (!job.updateAtomically(nextState, now, runtime, results)) {
+        // Partial results are attached while the job is running, so keep them unless new results are reported
+        Map<String, ?> nextResults = results != null ? results : job.results;
+
+        if (!job.updateAtomically(nextState, now, runtime, nextResults)) {
             throw new IllegalStateException("Conflicting update");
         }
+
+        if (nextState == JobState.FINISHED && results != null) {
+            resultService.store(job.scenario, results);
+        }
+    }
+
+    /**
+     * Claim up to <code>limit</code> of the jobs with the specified identifiers, skipping the jobs that have been
+     * claimed by someone else in the meantime.
+     *
+     * @param ids The identifiers of the jobs to claim.
+     * @param limit The maximum number of jobs to claim.
+     * @return The jobs that were claimed.
+     */
+    public List<Job> claimJobs(List<Long> ids, int limit) {
+        List<Job> claimed = new ArrayList<>();
+
+        for (long id : ids) {
+            if (claimed.size() >= limit) {
+                break;
+            }
+
+            // Only pending jobs can be claimed: a same-state transition would let a runner claim a job that is
+            // already claimed by someone else
+            Job job = Job.findById(id);
+            if (job == null || job.state != JobState.PENDING) {
+                continue;
+            }
+
+            try {
+                updateJob(job, JobState.CLAIMED, 0, null);
+                claimed.add(job);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                // The job has been claimed by another runner after we looked it up
+            }
+        }
+
+        return claimed;
     }
 }
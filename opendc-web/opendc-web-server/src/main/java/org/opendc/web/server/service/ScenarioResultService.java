@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.web.server.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.opendc.web.proto.user.ScenarioStatistics;
+import org.opendc.web.server.model.Scenario;
+import org.opendc.web.server.model.ScenarioResult;
+import org.opendc.web.server.model.ScenarioStatistic;
+
+/**
+ * A service for storing the results of scenarios in columnar form and querying their statistics across repeats.
+ */
+@ApplicationScoped
+public final class ScenarioResultService {
+    /**
+     * Store the results of a finished simulation job for the specified scenario, replacing any results stored earlier.
+     *
+     * <p>Each entry of <code>results</code> that maps a metric to a list of numbers (one value per repeat) is stored
+     * as one row per repeat, together with the statistics of the metric across the repeats. Other entries are ignored.
+     *
+     * @param scenario The {@link Scenario} to which the results belong.
+     * @param results The results reported by the runner.
+     */
+    public void store(Scenario scenario, Map<String, ?> results) {
+        ScenarioResult.deleteByScenario(scenario.id);
+        ScenarioStatistic.deleteByScenario(scenario.id);
+
+        for (Map.Entry<String, ?> entry : results.entrySet()) {
+            if (!(entry.getValue() instanceof List<?> values)) {
+                continue;
+            }
+
+            String metric = entry.getKey();
+            double[] samples = new double[values.size()];
+            int count = 0;
+
+            for (int repeat = 0; repeat < values.size(); repeat++) {
+                if (values.get(repeat) instanceof Number number) {
+                    double value = number.doubleValue();
+                    new ScenarioResult(scenario, repeat, metric, value).persist();
+                    samples[count++] = value;
+                }
+            }
+
+            if (count > 0) {
+                samples = Arrays.copyOf(samples, count);
+                Arrays.sort(samples);
+                new ScenarioStatistic(scenario, metric, samples).persist();
+            }
+        }
+    }
+
+    /**
+     * Find the statistics of the scenarios in the specified portfolio.
+     *
+     * @param projectId The unique identifier of the project.
+     * @param number The number of the portfolio.
+     * @return The statistics of each scenario in the portfolio with results, ordered by scenario number.
+     */
+    public List<ScenarioStatistics> findByPortfolio(long projectId, int number) {
+        List<ScenarioStatistics> res = new ArrayList<>();
+        Scenario scenario = null;
+        Map<String, ScenarioStatistics.Metric> metrics = null;
+
+        for (ScenarioStatistic statistic :
+                ScenarioStatistic.findByPortfolio(projectId, number).list()) {
+            if (statistic.scenario != scenario) {
+                if (scenario != null) {
+                    res.add(new ScenarioStatistics(scenario.id, scenario.number, scenario.name, metrics));
+                }
+
+                scenario = statistic.scenario;
+                metrics = new LinkedHashMap<>();
+            }
+
+            metrics.put(
+                    statistic.metric,
+                    new ScenarioStatistics.Metric(
+                            statistic.count,
+                            statistic.mean,
+                            statistic.stddev,
+                            statistic.min,
+                            statistic.p25,
+                            statistic.median,
+                            statistic.p75,
+                            statistic.p95,
+                            statistic.max));
+        }
+
+        if (scenario != null) {
+            res.add(new ScenarioStatistics(scenario.id, scenario.number, scenario.name, metrics));
+        }
+
+        return res;
+    }
+}
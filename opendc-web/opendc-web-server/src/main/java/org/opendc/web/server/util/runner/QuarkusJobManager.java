@@ -22,8 +22,12 @@
 
 package org.opendc.web.server.util.runner;
 
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.control.ActivateRequestContext;
 import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -31,6 +35,7 @@ import org.opendc.web.proto.JobState;
 import org.opendc.web.runner.JobManager;
 import org.opendc.web.server.model.Job;
 import org.opendc.web.server.rest.runner.RunnerProtocol;
+import org.opendc.web.server.service.JobQueueService;
 import org.opendc.web.server.service.JobService;
 
 /**
@@ -43,13 +48,20 @@ public class QuarkusJobManager implements JobManager {
      */
     private final JobService jobService;
 
+    /**
+     * The {@link JobQueueService} used to wait for queued jobs.
+     */
+    private final JobQueueService jobQueueService;
+
     /**
      * Construct a {@link QuarkusJobManager}.
      *
      * @param jobService The {@link JobService} for managing the job's lifecycle.
+     * @param jobQueueService The {@link JobQueueService} for waiting on queued jobs.
      */
-    public QuarkusJobManager(JobService jobService) {
+    public QuarkusJobManager(JobService jobService, JobQueueService jobQueueService) {
         this.jobService = jobService;
+        this.jobQueueService = jobQueueService;
     }
 
     @Transactional
@@ -70,12 +82,37 @@ public class QuarkusJobManager implements JobManager {
         return updateState(id, JobState.CLAIMED, 0, null);
     }
 
+    @ActivateRequestContext
+    @NotNull
+    @Override
+    public List<org.opendc.web.proto.runner.Job> claimNext(int limit, @NotNull Duration timeout) {
+        List<Long> ids;
+        try {
+            ids = jobQueueService.awaitPending(timeout).stream()
+                    .map((job) -> job.id)
+                    .toList();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        }
+
+        return QuarkusTransaction.requiringNew().call(() -> jobService.claimJobs(ids, limit).stream()
+                .map(RunnerProtocol::toDto)
+                .toList());
+    }
+
     @Transactional
     @Override
     public boolean heartbeat(long id, int runtime) {
         return updateState(id, JobState.RUNNING, runtime, null);
     }
 
+    @Transactional
+    @Override
+    public boolean heartbeat(long id, int runtime, @Nullable Map<String, ?> results) {
+        return updateState(id, JobState.RUNNING, runtime, results);
+    }
+
     @Transactional
     @Override
     public void fail(long id, int runtime) {
@@ -68,6 +68,34 @@ public final class JobResourceTest {
         given().get().then().statusCode(200).contentType(ContentType.JSON).body("get(0).state", equalTo("PENDING"));
     }
 
+    /**
+     * Test that tries to wait on the pending jobs for a negative duration.
+     */
+    @Test
+    @TestSecurity(
+            user = "test_user_1",
+            roles = {"runner"})
+    public void testQueryNegativeWait() {
+        given().queryParam("wait", -1).get().then().statusCode(400);
+    }
+
+    /**
+     * Test that tries to claim an empty batch of jobs.
+     */
+    @Test
+    @TestSecurity(
+            user = "test_user_1",
+            roles = {"runner"})
+    public void testClaimEmptyBatch() {
+        given().body(new org.opendc.web.proto.runner.Job.Claim(0, 0))
+                .contentType(ContentType.JSON)
+                .when()
+                .post("/claim")
+                .then()
+                .statusCode(400)
+                .contentType(ContentType.JSON);
+    }
+
     /**
      * Test that tries to obtain a non-existent job.
      */
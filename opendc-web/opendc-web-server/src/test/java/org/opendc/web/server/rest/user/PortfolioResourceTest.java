@@ -25,13 +25,21 @@ package org.opendc.web.server.rest.user;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.equalTo;
 
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import io.quarkus.test.common.http.TestHTTPEndpoint;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.security.TestSecurity;
 import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.opendc.web.proto.Targets;
+import org.opendc.web.server.model.Scenario;
+import org.opendc.web.server.model.ScenarioResult;
+import org.opendc.web.server.model.ScenarioStatistic;
+import org.opendc.web.server.service.ScenarioResultService;
 
 /**
  * Test suite for {@link PortfolioResource}.
@@ -39,6 +47,12 @@ import org.opendc.web.proto.Targets;
 @QuarkusTest
 @TestHTTPEndpoint(PortfolioResource.class)
 public final class PortfolioResourceTest {
+    /**
+     * The {@link ScenarioResultService} used to store results for the tests.
+     */
+    @Inject
+    ScenarioResultService resultService;
+
     /**
      * Test that tries to obtain the list of all portfolios belonging to a project.
      */
@@ -227,6 +241,71 @@ public final class PortfolioResourceTest {
                 .body("id", equalTo(1));
     }
 
+    /**
+     * Test that tries to obtain the results of a non-existent portfolio.
+     */
+    @Test
+    @TestSecurity(
+            user = "test_user_1",
+            roles = {"openid"})
+    public void testGetResultsNonExisting() {
+        given().pathParam("project", "1").when().get("/0/results").then().statusCode(404);
+    }
+
+    /**
+     * Test that tries to obtain the results of a portfolio without finished scenarios.
+     */
+    @Test
+    @TestSecurity(
+            user = "test_user_1",
+            roles = {"openid"})
+    public void testGetResultsEmpty() {
+        given().pathParam("project", "1")
+                .when()
+                .get("/1/results")
+                .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .body("size()", equalTo(0));
+    }
+
+    /**
+     * Test that tries to obtain the results of a portfolio with a finished scenario.
+     */
+    @Test
+    @TestSecurity(
+            user = "test_user_1",
+            roles = {"openid"})
+    public void testGetResults() {
+        QuarkusTransaction.requiringNew()
+                .run(() -> resultService.store(
+                        Scenario.findById(2L), Map.of("total_power_draw", List.of(4.0, 1.0, 3.0, 2.0, 5.0))));
+
+        try {
+            given().pathParam("project", "1")
+                    .when()
+                    .get("/1/results")
+                    .then()
+                    .statusCode(200)
+                    .contentType(ContentType.JSON)
+                    .body("size()", equalTo(1))
+                    .body("get(0).id", equalTo(2))
+                    .body("get(0).number", equalTo(2))
+                    .body("get(0).name", equalTo("Test Scenario testDeleteUsed"))
+                    .body("get(0).metrics.total_power_draw.count", equalTo(5))
+                    .body("get(0).metrics.total_power_draw.mean", equalTo(3.0f))
+                    .body("get(0).metrics.total_power_draw.min", equalTo(1.0f))
+                    .body("get(0).metrics.total_power_draw.median", equalTo(3.0f))
+                    .body("get(0).metrics.total_power_draw.p95", equalTo(4.8f))
+                    .body("get(0).metrics.total_power_draw.max", equalTo(5.0f));
+        } finally {
+            QuarkusTransaction.requiringNew().run(() -> {
+                ScenarioResult.deleteByScenario(2L);
+                ScenarioStatistic.deleteByScenario(2L);
+            });
+        }
+    }
+
     /**
      * Test to delete a non-existent portfolio.
      */
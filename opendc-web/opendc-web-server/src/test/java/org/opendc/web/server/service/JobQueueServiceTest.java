@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.web.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import io.quarkus.panache.mock.PanacheMock;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.transaction.Status;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.opendc.web.proto.JobState;
+import org.opendc.web.server.model.Job;
+
+/**
+ * Test suite for the {@link JobQueueService}.
+ */
+@QuarkusTest
+public class JobQueueServiceTest {
+    /**
+     * The {@link JobQueueService} instance under test.
+     */
+    private JobQueueService service;
+
+    /**
+     * A flag to indicate whether the job has been queued.
+     */
+    private AtomicBoolean queued;
+
+    /**
+     * The job that is queued during the test.
+     */
+    private Job job;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        TransactionSynchronizationRegistry registry = Mockito.mock(TransactionSynchronizationRegistry.class);
+        Mockito.when(registry.getTransactionStatus()).thenReturn(Status.STATUS_NO_TRANSACTION);
+        service = new JobQueueService(registry);
+
+        queued = new AtomicBoolean();
+        job = new Job(null, "test", Instant.now(), 1);
+
+        PanacheQuery<Job> query = Mockito.mock(PanacheQuery.class);
+        Mockito.when(query.list()).thenAnswer((i) -> queued.get() ? List.of(job) : List.of());
+
+        PanacheMock.mock(Job.class);
+        Mockito.when(Job.findByState(JobState.PENDING)).thenReturn(query);
+    }
+
+    @Test
+    public void testAwaitPendingTimeout() throws InterruptedException {
+        assertEquals(List.of(), service.awaitPending(Duration.ofMillis(100)));
+    }
+
+    @Test
+    public void testAwaitPendingAlreadyQueued() throws InterruptedException {
+        queued.set(true);
+
+        assertEquals(List.of(job), service.awaitPending(Duration.ZERO));
+    }
+
+    @Test
+    public void testAwaitPendingWakesUp() throws Exception {
+        CompletableFuture<List<Job>> result = CompletableFuture.supplyAsync(() -> {
+            try {
+                return service.awaitPending(Duration.ofSeconds(30));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Give the request time to park before the job is queued
+        Thread.sleep(200);
+        queued.set(true);
+        service.notifyQueued();
+
+        // The request must return well before its 30 second timeout
+        assertEquals(List.of(job), result.get(10, TimeUnit.SECONDS));
+    }
+}
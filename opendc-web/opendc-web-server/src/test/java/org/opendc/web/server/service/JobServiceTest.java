@@ -22,13 +22,17 @@
 
 package org.opendc.web.server.service;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 
+import io.quarkus.panache.mock.PanacheMock;
 import io.quarkus.test.junit.QuarkusTest;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -50,10 +54,16 @@ public class JobServiceTest {
      */
     private UserAccountingService mockAccountingService;
 
+    /**
+     * The mock {@link ScenarioResultService}.
+     */
+    private ScenarioResultService mockResultService;
+
     @BeforeEach
     public void setUp() {
         mockAccountingService = Mockito.mock(UserAccountingService.class);
-        service = new JobService(mockAccountingService);
+        mockResultService = Mockito.mock(ScenarioResultService.class);
+        service = new JobService(mockAccountingService, mockResultService);
     }
 
     @Test
@@ -108,6 +118,23 @@ public class JobServiceTest {
         Mockito.verify(job).updateAtomically(eq(JobState.FINISHED), any(), anyInt(), any());
     }
 
+    @Test
+    public void testUpdateStoresResults() {
+        Job job = Mockito.spy(new Job(null, "test", Instant.now(), 1));
+        job.state = JobState.RUNNING;
+        Map<String, ?> results = Map.of("total_power_draw", List.of(1.0, 2.0));
+
+        Mockito.when(mockAccountingService.consumeSimulationBudget(any(), anyInt()))
+                .thenReturn(false);
+        Mockito.doReturn(true).when(job).updateAtomically(any(), any(), anyInt(), any());
+
+        service.updateJob(job, JobState.RUNNING, 0, results);
+        Mockito.verifyNoInteractions(mockResultService);
+
+        service.updateJob(job, JobState.FINISHED, 0, results);
+        Mockito.verify(mockResultService).store(job.scenario, results);
+    }
+
     @Test
     public void testUpdateConflict() {
         Job job = Mockito.spy(new Job(null, "test", Instant.now(), 1));
@@ -121,4 +148,64 @@ public class JobServiceTest {
 
         Mockito.verify(job).updateAtomically(eq(JobState.FINISHED), any(), anyInt(), any());
     }
+
+    @Test
+    public void testClaimBatch() {
+        PanacheMock.mock(Job.class);
+
+        Job first = pendingJob(1L);
+        Job second = pendingJob(2L);
+        Job third = pendingJob(3L);
+
+        Mockito.when(mockAccountingService.consumeSimulationBudget(any(), anyInt()))
+                .thenReturn(false);
+
+        List<Job> claimed = service.claimJobs(List.of(1L, 2L, 3L), 2);
+
+        assertEquals(List.of(first, second), claimed);
+        Mockito.verify(first).updateAtomically(eq(JobState.CLAIMED), any(), anyInt(), any());
+        Mockito.verify(second).updateAtomically(eq(JobState.CLAIMED), any(), anyInt(), any());
+        Mockito.verify(third, Mockito.never()).updateAtomically(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    public void testClaimSkipsClaimedJob() {
+        PanacheMock.mock(Job.class);
+
+        Job claimedJob = pendingJob(1L);
+        claimedJob.state = JobState.CLAIMED;
+        Job pendingJob = pendingJob(2L);
+
+        Mockito.when(mockAccountingService.consumeSimulationBudget(any(), anyInt()))
+                .thenReturn(false);
+
+        List<Job> claimed = service.claimJobs(List.of(1L, 2L), 1);
+
+        assertEquals(List.of(pendingJob), claimed);
+        Mockito.verify(claimedJob, Mockito.never()).updateAtomically(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    public void testClaimSkipsConcurrentlyClaimedJob() {
+        PanacheMock.mock(Job.class);
+
+        Job job = pendingJob(1L);
+        Mockito.doReturn(false).when(job).updateAtomically(any(), any(), anyInt(), any());
+
+        Mockito.when(mockAccountingService.consumeSimulationBudget(any(), anyInt()))
+                .thenReturn(false);
+
+        assertEquals(List.of(), service.claimJobs(List.of(1L), 1));
+    }
+
+    /**
+     * Helper method to create a pending {@link Job} that is returned by {@link Job#findById(Object)}.
+     */
+    private static Job pendingJob(long id) {
+        Job job = Mockito.spy(new Job(null, "test", Instant.now(), 1));
+        job.id = id;
+        Mockito.doReturn(true).when(job).updateAtomically(any(), any(), anyInt(), any());
+        Mockito.when(Job.findById(id)).thenReturn(job);
+        return job;
+    }
 }
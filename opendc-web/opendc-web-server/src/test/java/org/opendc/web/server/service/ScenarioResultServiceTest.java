@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025 AtLarge Research
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.opendc.web.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.opendc.web.proto.user.ScenarioStatistics;
+import org.opendc.web.server.model.Scenario;
+import org.opendc.web.server.model.ScenarioResult;
+import org.opendc.web.server.model.ScenarioStatistic;
+
+/**
+ * Test suite for the {@link ScenarioResultService}.
+ */
+@QuarkusTest
+public class ScenarioResultServiceTest {
+    /**
+     * The scenario to store the results for.
+     */
+    private static final long SCENARIO_ID = 2L;
+
+    /**
+     * The {@link ScenarioResultService} instance under test.
+     */
+    @Inject
+    ScenarioResultService service;
+
+    @AfterEach
+    public void tearDown() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            ScenarioResult.deleteByScenario(SCENARIO_ID);
+            ScenarioStatistic.deleteByScenario(SCENARIO_ID);
+        });
+    }
+
+    @Test
+    public void testStoreAggregatesStatistics() {
+        store(Map.of(
+                "total_power_draw", List.of(4.0, 1.0, 3.0, 2.0, 5.0),
+                "total_runtime", List.of(10, "invalid", 20),
+                "name", "ignored"));
+
+        List<ScenarioStatistics> statistics = findStatistics();
+
+        assertEquals(1, statistics.size());
+
+        ScenarioStatistics scenario = statistics.get(0);
+        ScenarioStatistics.Metric power = scenario.getMetrics().get("total_power_draw");
+        ScenarioStatistics.Metric runtime = scenario.getMetrics().get("total_runtime");
+
+        assertAll(
+                () -> assertEquals(SCENARIO_ID, scenario.getId()),
+                () -> assertEquals(
+                        List.of("total_power_draw", "total_runtime"),
+                        List.copyOf(scenario.getMetrics().keySet())),
+                () -> assertEquals(5, power.getCount()),
+                () -> assertEquals(3.0, power.getMean(), 1e-9),
+                () -> assertEquals(Math.sqrt(2.5), power.getStddev(), 1e-9),
+                () -> assertEquals(1.0, power.getMin(), 1e-9),
+                () -> assertEquals(2.0, power.getP25(), 1e-9),
+                () -> assertEquals(3.0, power.getMedian(), 1e-9),
+                () -> assertEquals(4.0, power.getP75(), 1e-9),
+                () -> assertEquals(4.8, power.getP95(), 1e-9),
+                () -> assertEquals(5.0, power.getMax(), 1e-9),
+                () -> assertEquals(2, runtime.getCount()),
+                () -> assertEquals(15.0, runtime.getMean(), 1e-9),
+                () -> assertEquals(Math.sqrt(50.0), runtime.getStddev(), 1e-9),
+                () -> assertEquals(15.0, runtime.getMedian(), 1e-9),
+                () -> assertEquals(19.5, runtime.getP95(), 1e-9),
+                () -> assertEquals(7L, countResults()));
+    }
+
+    @Test
+    public void testStoreReplacesResults() {
+        store(Map.of("total_power_draw", List.of(1.0, 2.0, 3.0)));
+        store(Map.of("total_power_draw", List.of(8.0)));
+
+        List<ScenarioStatistics> statistics = findStatistics();
+        ScenarioStatistics.Metric power = statistics.get(0).getMetrics().get("total_power_draw");
+
+        assertAll(
+                () -> assertEquals(1, power.getCount()),
+                () -> assertEquals(8.0, power.getMean(), 1e-9),
+                () -> assertEquals(0.0, power.getStddev(), 1e-9),
+                () -> assertEquals(8.0, power.getP95(), 1e-9),
+                () -> assertEquals(1L, countResults()));
+    }
+
+    /**
+     * Helper method to store the specified results for the scenario in a new transaction.
+     */
+    private void store(Map<String, ?> results) {
+        QuarkusTransaction.requiringNew().run(() -> service.store(Scenario.findById(SCENARIO_ID), results));
+    }
+
+    /**
+     * Helper method to find the statistics of the scenarios in the portfolio of the scenario.
+     */
+    private List<ScenarioStatistics> findStatistics() {
+        return QuarkusTransaction.requiringNew().call(() -> service.findByPortfolio(1, 1));
+    }
+
+    /**
+     * Helper method to count the result rows stored for the scenario.
+     */
+    private static long countResults() {
+        return QuarkusTransaction.requiringNew().call(() -> ScenarioResult.count("scenario.id", SCENARIO_ID));
+    }
+}